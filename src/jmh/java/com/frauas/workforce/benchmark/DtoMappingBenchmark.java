@@ -0,0 +1,72 @@
+package com.frauas.workforce.benchmark;
+
+import com.frauas.workforce.DTO.ApplicationResponseDTO;
+import com.frauas.workforce.DTO.ProjectResponseDto;
+import com.frauas.workforce.DTO.RoleRequirementDto;
+import com.frauas.workforce.DTO.SuggestedProjectResponseDTO;
+import com.frauas.workforce.model.Application;
+import com.frauas.workforce.model.Project;
+import com.frauas.workforce.service.ResponseMapping;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping of whole list responses, as the services build them:
+ * projects (ResponseMapping.projectResponse), applications with resolved
+ * usernames (ResponseMapping.applicationResponse), suggested projects
+ * (ResponseMapping.suggestedApplicationResponse + suggestedProjectResponse) and
+ * role requirements alone.
+ * Scores are per list of DtoPayload.size entities.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DtoMappingBenchmark {
+
+    @Benchmark
+    public List<ProjectResponseDto> projectResponses(DtoPayload payload) {
+        List<ProjectResponseDto> responses = new ArrayList<>(payload.projects.size());
+        for (Project project : payload.projects) {
+            responses.add(ResponseMapping.projectResponse(project));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public List<ApplicationResponseDTO> applicationResponses(DtoPayload payload) {
+        List<ApplicationResponseDTO> responses = new ArrayList<>(payload.applications.size());
+        for (Application application : payload.applications) {
+            responses.add(ResponseMapping.applicationResponse(application, payload.usernames));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public List<SuggestedProjectResponseDTO> suggestedProjectResponses(DtoPayload payload) {
+        List<SuggestedProjectResponseDTO> responses = new ArrayList<>(payload.applications.size());
+        for (Application application : payload.applications) {
+            Project project = payload.projectsById.get(application.getProjectId());
+            responses.add(new SuggestedProjectResponseDTO(
+                    ResponseMapping.suggestedApplicationResponse(application, project),
+                    ResponseMapping.suggestedProjectResponse(project)));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public List<List<RoleRequirementDto>> roleRequirements(DtoPayload payload) {
+        List<List<RoleRequirementDto>> responses = new ArrayList<>(payload.projects.size());
+        for (Project project : payload.projects) {
+            responses.add(ResponseMapping.roleRequirements(project.getRoles()));
+        }
+        return responses;
+    }
+}
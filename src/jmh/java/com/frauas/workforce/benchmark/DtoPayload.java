@@ -0,0 +1,72 @@
+package com.frauas.workforce.benchmark;
+
+import com.frauas.workforce.DTO.ApplicationResponseDTO;
+import com.frauas.workforce.DTO.ProjectResponseDto;
+import com.frauas.workforce.model.Application;
+import com.frauas.workforce.model.Employee;
+import com.frauas.workforce.model.Project;
+import com.frauas.workforce.service.ResponseMapping;
+import com.frauas.workforce.service.SyntheticDataset;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Fixed-size list payloads for the mapping and serialization benchmarks: the given
+ * number of projects and as many applications, generated deterministically by
+ * {@link SyntheticDataset} so every run measures the same documents.
+ */
+@State(Scope.Benchmark)
+public class DtoPayload {
+
+    static final long SEED = 42;
+    static final int EMPLOYEES = 1000;
+    static final Instant GENERATED_AT = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Param({"1", "100", "10000"})
+    public int size;
+
+    List<Project> projects;
+    List<Application> applications;
+    Map<String, Project> projectsById;
+    Map<Integer, String> usernames;
+
+    List<ProjectResponseDto> projectResponses;
+    List<ApplicationResponseDTO> applicationResponses;
+
+    @Setup
+    public void setUp() {
+        SyntheticDataset dataset = dataset(size, size);
+        projects = dataset.projectBatch(0);
+        applications = dataset.applicationBatch(0);
+        projectsById = projects.stream().collect(Collectors.toMap(Project::getProjectId, Function.identity()));
+        usernames = dataset.employeeBatch(0).stream()
+                .collect(Collectors.toMap(Employee::getEmployeeId, Employee::getUsername));
+
+        projectResponses = new ArrayList<>(projects.size());
+        for (Project project : projects) {
+            projectResponses.add(ResponseMapping.projectResponse(project));
+        }
+        applicationResponses = new ArrayList<>(applications.size());
+        for (Application application : applications) {
+            applicationResponses.add(ResponseMapping.applicationResponse(application, usernames));
+        }
+    }
+
+    /**
+     * Dataset with {@link #EMPLOYEES} employees, generated in one batch per entity type.
+     */
+    static SyntheticDataset dataset(int projects, int applications) {
+        int batchSize = Math.max(EMPLOYEES, Math.max(projects, applications));
+        return new SyntheticDataset(SEED, EMPLOYEES, projects, applications, batchSize, "{noop}benchmark",
+                GENERATED_AT);
+    }
+}
@@ -0,0 +1,65 @@
+package com.frauas.workforce.benchmark;
+
+import com.frauas.workforce.service.SnowflakeIdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the Snowflake ID generator with the generators it replaced:
+ * the SecureRandom based "PRJ-XXX000" project IDs and the truncated UUID application IDs.
+ * All benchmarks run with 4 threads to include contention on the shared state.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class IdGeneratorBenchmark {
+
+    private static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    private static final String NUMBERS = "0123456789";
+    private static final SecureRandom random = new SecureRandom();
+
+    private SnowflakeIdGenerator snowflake;
+
+    @Setup
+    public void setUp() {
+        snowflake = new SnowflakeIdGenerator(1);
+    }
+
+    @Benchmark
+    public String snowflakeProjectId() {
+        return "PRJ-" + snowflake.nextId();
+    }
+
+    @Benchmark
+    public String legacySecureRandomProjectId() {
+        StringBuilder sb = new StringBuilder("PRJ-");
+        for (int i = 0; i < 3; i++) {
+            sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        for (int i = 0; i < 3; i++) {
+            sb.append(NUMBERS.charAt(random.nextInt(NUMBERS.length())));
+        }
+        return sb.toString();
+    }
+
+    @Benchmark
+    public String snowflakeApplicationId() {
+        return "App_PRJ-1_" + snowflake.nextId();
+    }
+
+    @Benchmark
+    public String legacyTruncatedUuidApplicationId() {
+        return "App_PRJ-1_" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,35 @@
+package com.frauas.workforce.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of list responses of ProjectResponseDto and
+ * ApplicationResponseDTO, with an ObjectMapper configured like Spring Boot's
+ * (java.time support, ISO dates). Scores are per list of DtoPayload.size DTOs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Benchmark
+    public byte[] projectResponses(DtoPayload payload) throws Exception {
+        return objectMapper.writeValueAsBytes(payload.projectResponses);
+    }
+
+    @Benchmark
+    public byte[] applicationResponses(DtoPayload payload) throws Exception {
+        return objectMapper.writeValueAsBytes(payload.applicationResponses);
+    }
+}
@@ -0,0 +1,104 @@
+package com.frauas.workforce.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrent-request capacity of the request execution modes on the same heap (-Xmx512m).
+ *
+ * Each operation is a burst of {@code requests} simultaneous requests shaped like
+ * DepartmentHeadService.approveApplication: ROUND_TRIPS sequential blocking MongoDB
+ * round trips of ROUND_TRIP each, with a little CPU work before every one. The score
+ * is the time until the whole burst is answered (requests/s = requests / score):
+ * <ul>
+ *     <li>platform: Tomcat's default pool of 200 platform threads, so requests beyond 200 queue;</li>
+ *     <li>virtual: one virtual thread per request (profile "virtual-threads");</li>
+ *     <li>virtualPinned: virtual threads that block inside synchronized, i.e. pinned to one of
+ *     the few carrier threads - what the pinning monitor reports.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx512m")
+public class RequestThreadingBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int ROUND_TRIPS = 6;
+    private static final Duration ROUND_TRIP = Duration.ofMillis(2);
+    private static final long CPU_TOKENS_PER_ROUND_TRIP = 100;
+
+    @Param({"200", "2000", "10000"})
+    public int requests;
+
+    @Param({"platform", "virtual", "virtualPinned"})
+    public String threads;
+
+    // Published so the JIT cannot prove the per-request monitors thread-local and elide them
+    static volatile Object lastMonitor;
+
+    private ExecutorService executor;
+    private Runnable request;
+
+    @Setup
+    public void setUp() {
+        executor = threads.equals("platform")
+                ? Executors.newFixedThreadPool(TOMCAT_MAX_THREADS)
+                : Executors.newVirtualThreadPerTaskExecutor();
+        request = threads.equals("virtualPinned")
+                ? RequestThreadingBenchmark::handlePinned
+                : RequestThreadingBenchmark::handle;
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void burst() throws InterruptedException {
+        CountDownLatch answered = new CountDownLatch(requests);
+        for (int i = 0; i < requests; i++) {
+            executor.execute(() -> {
+                request.run();
+                answered.countDown();
+            });
+        }
+        answered.await();
+    }
+
+    private static void handle() {
+        try {
+            for (int i = 0; i < ROUND_TRIPS; i++) {
+                Blackhole.consumeCPU(CPU_TOKENS_PER_ROUND_TRIP);
+                Thread.sleep(ROUND_TRIP);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void handlePinned() {
+        // A per-request monitor: no contention, only the pinning
+        Object monitor = new Object();
+        lastMonitor = monitor;
+        synchronized (monitor) {
+            handle();
+        }
+    }
+}
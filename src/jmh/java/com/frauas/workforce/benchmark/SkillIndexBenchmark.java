@@ -0,0 +1,90 @@
+package com.frauas.workforce.benchmark;
+
+import com.frauas.workforce.model.Employee;
+import com.frauas.workforce.model.Project;
+import com.frauas.workforce.repository.InMemoryEmployeeRepository;
+import com.frauas.workforce.repository.InMemoryStore;
+import com.frauas.workforce.service.SkillDictionary;
+import com.frauas.workforce.service.SkillIndex;
+import com.frauas.workforce.service.SyntheticDataset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Top-10 candidates for a project role: the inverted {@link SkillIndex} against
+ * scanning every employee's skill list, as a client of GET /api/employees would.
+ * The query is the first role of a generated project plus the project's skills.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SkillIndexBenchmark {
+
+    private static final int LIMIT = 10;
+
+    @Param({"10000", "100000"})
+    public int employees;
+
+    private SkillIndex skillIndex;
+    private List<Employee> allEmployees;
+    private List<String> competencies;
+    private List<String> projectSkills;
+
+    @Setup
+    public void setUp() {
+        SyntheticDataset dataset = new SyntheticDataset(DtoPayload.SEED, employees, 1, 0, employees,
+                "{noop}benchmark", DtoPayload.GENERATED_AT);
+        InMemoryEmployeeRepository employeeRepository = new InMemoryEmployeeRepository(new InMemoryStore(""));
+        allEmployees = employeeRepository.insert(dataset.employeeBatch(0));
+
+        Project project = dataset.projectBatch(0).get(0);
+        competencies = project.getRoles().get(0).getRequiredCompetencies();
+        projectSkills = project.getSelectedSkills();
+
+        skillIndex = new SkillIndex(employeeRepository, new SkillDictionary(), Duration.ofDays(1));
+        skillIndex.topCandidates(competencies, projectSkills, LIMIT);
+    }
+
+    @Benchmark
+    public List<SkillIndex.Candidate> invertedIndex() {
+        return skillIndex.topCandidates(competencies, projectSkills, LIMIT);
+    }
+
+    @Benchmark
+    public List<Employee> linearScan() {
+        return allEmployees.stream()
+                .filter(employee -> overlap(employee) > 0)
+                .sorted(Comparator.comparingInt(this::overlap).reversed()
+                        .thenComparing(Employee::getEmployeeId))
+                .limit(LIMIT)
+                .toList();
+    }
+
+    private int overlap(Employee employee) {
+        int matched = 0;
+        for (String skill : employee.getSkills()) {
+            for (String competency : competencies) {
+                if (skill.equalsIgnoreCase(competency)) {
+                    matched += 2;
+                }
+            }
+            for (String selected : projectSkills) {
+                if (skill.equalsIgnoreCase(selected)) {
+                    matched++;
+                }
+            }
+        }
+        return matched;
+    }
+}
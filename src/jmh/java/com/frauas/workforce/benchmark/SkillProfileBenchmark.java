@@ -0,0 +1,132 @@
+package com.frauas.workforce.benchmark;
+
+import com.frauas.workforce.model.Employee;
+import com.frauas.workforce.model.Project;
+import com.frauas.workforce.repository.InMemoryEmployeeRepository;
+import com.frauas.workforce.repository.InMemoryStore;
+import com.frauas.workforce.service.SkillDictionary;
+import com.frauas.workforce.service.SkillIndex;
+import com.frauas.workforce.service.SyntheticDataset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jol.info.GraphLayout;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Skill profiles of all employees as lists of strings, the way they are decoded from
+ * MongoDB, against interned {@link SkillDictionary} IDs held as compressed bitmaps the
+ * way {@link SkillIndex} holds them (one bitmap of employees per skill): finding the
+ * employees with all of a set of skills, and counting every employee's matches for a role.
+ *
+ * The retained size of the string lists, of one bitmap per employee and of one bitmap
+ * per skill is measured with JOL in the setup and printed before the first iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SkillProfileBenchmark {
+
+    private static final List<String> ALL_OF = List.of("Java", "SQL");
+
+    @Param({"100000"})
+    public int employees;
+
+    private List<List<String>> skillLists;
+    private RoaringBitmap[] employeesBySkill;
+    private SkillIndex skillIndex;
+    private List<String> roleSkillList;
+    private int[] roleSkillIds;
+
+    @Setup
+    public void setUp() {
+        SyntheticDataset dataset = new SyntheticDataset(DtoPayload.SEED, employees, 1, 0, employees,
+                "{noop}benchmark", DtoPayload.GENERATED_AT);
+        List<Employee> generated = dataset.employeeBatch(0);
+        // Every decoded document has its own String instances
+        skillLists = generated.stream()
+                .map(employee -> employee.getSkills().stream().map(String::new).toList())
+                .toList();
+
+        SkillDictionary dictionary = new SkillDictionary();
+        RoaringBitmap[] profiles = skillLists.stream().map(dictionary::encode).toArray(RoaringBitmap[]::new);
+        employeesBySkill = new RoaringBitmap[dictionary.size()];
+        Arrays.setAll(employeesBySkill, skillId -> new RoaringBitmap());
+        for (int employee = 0; employee < profiles.length; employee++) {
+            int row = employee;
+            profiles[row].forEach((int skillId) -> employeesBySkill[skillId].add(row));
+        }
+        Arrays.stream(employeesBySkill).forEach(RoaringBitmap::runOptimize);
+        Project project = dataset.projectBatch(0).get(0);
+        roleSkillList = project.getRoles().get(0).getRequiredCompetencies();
+        roleSkillIds = roleSkillList.stream().mapToInt(dictionary::idOf).filter(id -> id >= 0).toArray();
+
+        InMemoryEmployeeRepository employeeRepository = new InMemoryEmployeeRepository(new InMemoryStore(""));
+        employeeRepository.insert(generated);
+        skillIndex = new SkillIndex(employeeRepository, new SkillDictionary(), Duration.ofDays(1));
+        skillIndex.employeesWithAllSkills(ALL_OF);
+
+        long lists = GraphLayout.parseInstance(skillLists).totalSize();
+        long byEmployee = GraphLayout.parseInstance(dictionary, profiles).totalSize();
+        long bySkill = GraphLayout.parseInstance(dictionary, employeesBySkill).totalSize();
+        System.out.printf("%nSkill profiles of %,d employees (%d distinct skills): string lists %,d bytes, "
+                        + "dictionary + bitmap per employee %,d bytes (%.1f%%), "
+                        + "dictionary + bitmap per skill %,d bytes (%.1f%%)%n",
+                employees, dictionary.size(), lists, byEmployee, 100.0 * byEmployee / lists,
+                bySkill, 100.0 * bySkill / lists);
+    }
+
+    @Benchmark
+    public int allOfStringLists() {
+        int matching = 0;
+        for (List<String> skills : skillLists) {
+            if (ALL_OF.stream().allMatch(required -> skills.stream().anyMatch(required::equalsIgnoreCase))) {
+                matching++;
+            }
+        }
+        return matching;
+    }
+
+    @Benchmark
+    public int allOfBitmaps() {
+        return skillIndex.employeesWithAllSkills(ALL_OF).length;
+    }
+
+    @Benchmark
+    public int[] roleMatchStringLists() {
+        int[] matched = new int[skillLists.size()];
+        for (int employee = 0; employee < matched.length; employee++) {
+            for (String skill : skillLists.get(employee)) {
+                for (String required : roleSkillList) {
+                    if (skill.equalsIgnoreCase(required)) {
+                        matched[employee]++;
+                    }
+                }
+            }
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public int[] roleMatchBitmaps() {
+        int[] matched = new int[skillLists.size()];
+        for (int skillId : roleSkillIds) {
+            PeekableIntIterator employeesWithSkill = employeesBySkill[skillId].getIntIterator();
+            while (employeesWithSkill.hasNext()) {
+                matched[employeesWithSkill.next()]++;
+            }
+        }
+        return matched;
+    }
+}
@@ -0,0 +1,141 @@
+package com.frauas.workforce.benchmark;
+
+import com.frauas.workforce.DTO.ApplicationResponseDTO;
+import com.frauas.workforce.DTO.CursorPageResponse;
+import com.frauas.workforce.DTO.ListQuery;
+import com.frauas.workforce.DTO.ProjectResponseDto;
+import com.frauas.workforce.DTO.SuggestedProjectResponseDTO;
+import com.frauas.workforce.model.Application;
+import com.frauas.workforce.repository.ApplicationRepository;
+import com.frauas.workforce.repository.EmployeeRepository;
+import com.frauas.workforce.repository.InMemoryApplicationRepository;
+import com.frauas.workforce.repository.InMemoryDatabaseSequenceRepository;
+import com.frauas.workforce.repository.InMemoryEmployeeRepository;
+import com.frauas.workforce.repository.InMemoryProjectManagerRepository;
+import com.frauas.workforce.repository.InMemoryStore;
+import com.frauas.workforce.repository.ProjectManagerRepository;
+import com.frauas.workforce.service.ApplicationService;
+import com.frauas.workforce.service.EmployeeCache;
+import com.frauas.workforce.service.ProjectCatalogCache;
+import com.frauas.workforce.service.ProjectManagerService;
+import com.frauas.workforce.service.RequestCoalescer;
+import com.frauas.workforce.service.SkillDictionary;
+import com.frauas.workforce.service.SkillIndex;
+import com.frauas.workforce.service.SnowflakeIdGenerator;
+import com.frauas.workforce.service.SyntheticDataset;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Workflow service calls end to end against the in-memory repositories, so the
+ * scores cover service logic, caches, storage and mapping but no network.
+ *
+ * The services run in a minimal Spring context (only the beans they need, with
+ * the "inmemory" profile) holding DtoPayload.EMPLOYEES employees, the given number
+ * of projects and five applications per project.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WorkflowBenchmark {
+
+    private static final int APPLICATIONS_PER_PROJECT = 5;
+
+    @Param({"1", "100", "10000"})
+    public int projects;
+
+    private AnnotationConfigApplicationContext context;
+    private ProjectManagerService projectManagerService;
+    private ApplicationService applicationService;
+    private ApplicationRepository applicationRepository;
+
+    private String projectId;
+    private Integer busiestEmployeeId;
+    private Integer applicantEmployeeId;
+    private final AtomicLong roleSequence = new AtomicLong();
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().setActiveProfiles("inmemory");
+        context.getBeanFactory().setConversionService(ApplicationConversionService.getSharedInstance());
+        context.registerBean(MeterRegistry.class, SimpleMeterRegistry::new);
+        context.register(InMemoryStore.class, InMemoryEmployeeRepository.class,
+                InMemoryProjectManagerRepository.class, InMemoryApplicationRepository.class,
+                InMemoryDatabaseSequenceRepository.class, SnowflakeIdGenerator.class, RequestCoalescer.class,
+                EmployeeCache.class, ProjectCatalogCache.class, SkillDictionary.class, SkillIndex.class, ProjectManagerService.class, ApplicationService.class);
+        context.refresh();
+
+        projectManagerService = context.getBean(ProjectManagerService.class);
+        applicationService = context.getBean(ApplicationService.class);
+        applicationRepository = context.getBean(ApplicationRepository.class);
+
+        SyntheticDataset dataset = DtoPayload.dataset(projects, projects * APPLICATIONS_PER_PROJECT);
+        context.getBean(EmployeeRepository.class).insert(dataset.employeeBatch(0));
+        context.getBean(ProjectManagerRepository.class).insert(dataset.projectBatch(0));
+        List<Application> applications = applicationRepository.insert(dataset.applicationBatch(0));
+
+        projectId = dataset.projectBatch(0).get(0).getProjectId();
+        Map<Integer, Long> applicationsPerEmployee = applications.stream()
+                .collect(Collectors.groupingBy(Application::getEmployeeId, Collectors.counting()));
+        busiestEmployeeId = applicationsPerEmployee.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElseThrow();
+        applicantEmployeeId = applications.stream()
+                .map(Application::getEmployeeId)
+                .min(Comparator.naturalOrder())
+                .orElseThrow();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CursorPageResponse<ProjectResponseDto> firstProjectPage() {
+        return projectManagerService.getAllProjects(new ListQuery(100, null, null, null));
+    }
+
+    @Benchmark
+    public ProjectResponseDto projectById() {
+        return projectManagerService.getProjectById(projectId);
+    }
+
+    @Benchmark
+    public List<SuggestedProjectResponseDTO> suggestedProjectsOfBusiestEmployee() {
+        return applicationService.getSuggestedProjectsForEmployee(busiestEmployeeId);
+    }
+
+    /**
+     * Apply to an open project and remove the application again, so the dataset
+     * does not grow over the run. Each call uses a new role to pass the duplicate check.
+     */
+    @Benchmark
+    public ApplicationResponseDTO applyToOpenProject() {
+        ApplicationResponseDTO applied = applicationService.applyToOpenProject(applicantEmployeeId, projectId,
+                "Benchmark-" + roleSequence.incrementAndGet());
+        applicationRepository.deleteById(applied.getId());
+        return applied;
+    }
+}
@@ -0,0 +1,60 @@
+package com.frauas.workforce.loadtest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rows of a CSV file (header line first, no quoting) handed out round robin; each
+ * column becomes a scenario variable.
+ */
+final class Feeder {
+
+    private final List<Map<String, String>> rows;
+
+    private Feeder(List<Map<String, String>> rows) {
+        this.rows = rows;
+    }
+
+    static Feeder load(String location) throws IOException {
+        List<Map<String, String>> rows = new ArrayList<>();
+        try (BufferedReader reader = Resources.open(location)) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new IllegalArgumentException(location + " is empty");
+            }
+            String[] columns = header.split(",", -1);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] values = line.split(",", -1);
+                if (values.length != columns.length) {
+                    throw new IllegalArgumentException(location + ": expected " + columns.length
+                            + " columns but got " + values.length + " in: " + line);
+                }
+                Map<String, String> row = new HashMap<>();
+                for (int i = 0; i < columns.length; i++) {
+                    row.put(columns[i].strip(), values[i].strip());
+                }
+                rows.add(Map.copyOf(row));
+            }
+        }
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException(location + " has no rows");
+        }
+        return new Feeder(List.copyOf(rows));
+    }
+
+    Map<String, String> row(long index) {
+        return rows.get((int) (index % rows.size()));
+    }
+
+    int size() {
+        return rows.size();
+    }
+}
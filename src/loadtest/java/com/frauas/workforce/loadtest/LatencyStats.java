@@ -0,0 +1,186 @@
+package com.frauas.workforce.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms (microseconds) and outcome counts per endpoint.
+ *
+ * Request threads record into an HdrHistogram {@link Recorder} per endpoint, which
+ * never blocks them. Once a second {@link #sample()} takes the interval histograms,
+ * writes them to latency.hlog (tagged with the endpoint) and adds them to the totals
+ * of the report. Nothing is recorded during the warmup.
+ */
+final class LatencyStats {
+
+    static final String ITERATION = "(iteration)";
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+    private final HistogramLogWriter log;
+    private final long baseTimeMillis;
+    private volatile boolean measuring;
+    private long measuringSinceNanos;
+    private long measuredNanos;
+
+    LatencyStats(List<String> endpointNames, Path outputDir) throws IOException {
+        for (String name : endpointNames) {
+            endpoints.put(name, new Endpoint());
+        }
+        endpoints.put(ITERATION, new Endpoint());
+
+        Files.createDirectories(outputDir);
+        this.baseTimeMillis = System.currentTimeMillis();
+        this.log = new HistogramLogWriter(outputDir.resolve("latency.hlog").toFile());
+        log.outputComment("Latency per endpoint in microseconds (max column in milliseconds), tagged with the endpoint");
+        log.outputLogFormatVersion();
+        log.setBaseTime(baseTimeMillis);
+        log.outputStartTime(baseTimeMillis);
+        log.outputLegend();
+    }
+
+    /**
+     * Record one request or iteration.
+     *
+     * @param failure Why it did not pass (unexpected status, timeout, ...), null if it did
+     */
+    void record(String endpoint, long latencyNanos, String failure) {
+        if (!measuring) {
+            return;
+        }
+        Endpoint stats = endpoints.get(endpoint);
+        if (latencyNanos >= 0) {
+            stats.recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        }
+        if (failure == null) {
+            stats.passed.increment();
+        } else {
+            stats.failures.computeIfAbsent(failure, key -> new LongAdder()).increment();
+        }
+    }
+
+    synchronized void startMeasuring() {
+        for (Endpoint stats : endpoints.values()) {
+            stats.recorder.reset();
+        }
+        measuringSinceNanos = System.nanoTime();
+        measuring = true;
+    }
+
+    synchronized void stopMeasuring() {
+        if (measuring) {
+            measuring = false;
+            measuredNanos = System.nanoTime() - measuringSinceNanos;
+        }
+        sample();
+    }
+
+    synchronized void sample() {
+        for (Map.Entry<String, Endpoint> entry : endpoints.entrySet()) {
+            Endpoint stats = entry.getValue();
+            stats.interval = stats.recorder.getIntervalHistogram(stats.interval);
+            if (stats.interval.getTotalCount() == 0) {
+                continue;
+            }
+            stats.interval.setTag(entry.getKey().replaceAll("[\\s,]", "_"));
+            log.outputIntervalHistogram((stats.interval.getStartTimeStamp() - baseTimeMillis) / 1000.0,
+                    (stats.interval.getEndTimeStamp() - baseTimeMillis) / 1000.0, stats.interval, MICROS_PER_MILLI);
+            stats.total.add(stats.interval);
+        }
+    }
+
+    /**
+     * Print p50/p95/p99/max and throughput per endpoint to the console and
+     * summary.txt, and write each endpoint's percentile distribution to {name}.hgrm.
+     */
+    synchronized void report(Path outputDir, String header) throws IOException {
+        log.close();
+        double seconds = measuredNanos / 1e9;
+        try (PrintStream summary = new PrintStream(outputDir.resolve("summary.txt").toFile(), StandardCharsets.UTF_8)) {
+            for (PrintStream out : List.of(System.out, summary)) {
+                out.println(header);
+                out.printf("Measured %.1f s%n%n", seconds);
+                out.printf("%-28s %9s %8s %9s %10s %10s %10s %10s%n",
+                        "endpoint", "requests", "failed", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+                for (Map.Entry<String, Endpoint> entry : endpoints.entrySet()) {
+                    Endpoint stats = entry.getValue();
+                    long passed = stats.passed.sum();
+                    long failed = stats.failed();
+                    out.printf("%-28s %9d %8d %9.1f %10.2f %10.2f %10.2f %10.2f%n", entry.getKey(),
+                            passed + failed, failed, seconds > 0 ? (passed + failed) / seconds : 0,
+                            millis(stats.total, 50), millis(stats.total, 95), millis(stats.total, 99),
+                            stats.total.getMaxValue() / MICROS_PER_MILLI);
+                }
+                printFailures(out);
+            }
+        }
+
+        for (Map.Entry<String, Endpoint> entry : endpoints.entrySet()) {
+            writeDistribution(outputDir.resolve(entry.getKey().replaceAll("[^A-Za-z0-9]+", "-")
+                    .replaceAll("^-|-$", "") + ".hgrm"), entry.getValue().total);
+        }
+    }
+
+    long failedIterations() {
+        return endpoints.get(ITERATION).failed();
+    }
+
+    private void printFailures(PrintStream out) {
+        boolean first = true;
+        for (Map.Entry<String, Endpoint> entry : endpoints.entrySet()) {
+            if (entry.getKey().equals(ITERATION)) {
+                continue;
+            }
+            for (Map.Entry<String, LongAdder> failure : entry.getValue().failures.entrySet().stream()
+                    .sorted(Map.Entry.comparingByValue(Comparator.comparingLong(LongAdder::sum).reversed()))
+                    .toList()) {
+                if (first) {
+                    out.printf("%nFailures%n");
+                    first = false;
+                }
+                out.printf("  %-26s %9d  %s%n", entry.getKey(), failure.getValue().sum(), failure.getKey());
+            }
+        }
+    }
+
+    private static void writeDistribution(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(file.toFile(), StandardCharsets.UTF_8)) {
+            if (histogram.getTotalCount() > 0) {
+                histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+
+    private static final class Endpoint {
+        final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        final Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        final LongAdder passed = new LongAdder();
+        final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+        Histogram interval;
+
+        long failed() {
+            return failures.values().stream().mapToLong(LongAdder::sum).sum();
+        }
+    }
+}
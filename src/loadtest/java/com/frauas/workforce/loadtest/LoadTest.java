@@ -0,0 +1,168 @@
+package com.frauas.workforce.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * HTTP load generator: replays a JSONL scenario ({@link Scenario}) against a running
+ * instance and reports latency percentiles and throughput per endpoint.
+ *
+ * Every iteration runs on its own virtual thread, so thousands of concurrent users
+ * cost no platform threads. Two workload models:
+ * <ul>
+ *     <li>closed: --concurrency users each run iterations back to back (plus --think-time),
+ *     so the load drops when the server slows down;</li>
+ *     <li>open: iterations start at a fixed --rate whatever the response times, with at
+ *     most --concurrency in flight; late starts count against the iteration latency.</li>
+ * </ul>
+ *
+ * With --server-metrics, actuator metrics of the instance (memory, threads, open
+ * connections) are sampled along, to compare the footprint of the servlet
+ * application and the reactive read module under the same load.
+ *
+ * Run with: ./gradlew loadTest -PloadTestArgs="--model=open --rate=20 --duration=2m"
+ * (see {@link LoadTestOptions#USAGE}). Exits with 1 if any iteration failed.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(LoadTestOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        Scenario scenario = Scenario.load(options.scenario(), objectMapper);
+        Feeder users = Feeder.load(options.users());
+        LatencyStats stats = new LatencyStats(scenario.endpointNames(), options.outputDir());
+        ServerMetrics serverMetrics;
+
+        try (ExecutorService httpExecutor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(options.requestTimeout())
+                     .executor(httpExecutor)
+                     .build()) {
+            ScenarioRunner runner = new ScenarioRunner(client, options.baseUrl(), scenario, options.requestTimeout(),
+                    objectMapper, stats);
+            serverMetrics = new ServerMetrics(client, options.baseUrl(), options.serverMetrics(), objectMapper);
+            run(options, users, runner, stats, serverMetrics);
+        }
+
+        stats.report(options.outputDir(), String.format("%s load test of %s: %s, %s",
+                options.model().name().toLowerCase(), options.baseUrl(), options.scenario(),
+                options.model() == LoadTestOptions.WorkloadModel.OPEN
+                        ? options.rate() + " iterations/s, at most " + options.concurrency() + " in flight"
+                        : options.concurrency() + " users, think time " + options.thinkTime().toMillis() + " ms"));
+        serverMetrics.report(options.outputDir());
+        System.out.println();
+        System.out.println("HdrHistogram files written to " + options.outputDir().toAbsolutePath());
+        System.exit(stats.failedIterations() > 0 ? 1 : 0);
+    }
+
+    private static void run(LoadTestOptions options, Feeder users, ScenarioRunner runner, LatencyStats stats,
+                            ServerMetrics serverMetrics) throws InterruptedException {
+        if (users.size() < options.concurrency()) {
+            // Approving one application auto-rejects the employee's other open ones
+            System.err.printf("Warning: %d concurrent iterations share %d feeder rows and may interfere%n",
+                    options.concurrency(), users.size());
+        }
+        long start = System.nanoTime();
+        long end = start + options.warmup().plus(options.duration()).toNanos();
+
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.schedule(() -> {
+            stats.startMeasuring();
+            serverMetrics.startMeasuring();
+        }, options.warmup().toNanos(), TimeUnit.NANOSECONDS);
+        sampler.scheduleAtFixedRate(() -> {
+            stats.sample();
+            serverMetrics.sample();
+        }, 1, 1, TimeUnit.SECONDS);
+        try (ExecutorService iterations = Executors.newVirtualThreadPerTaskExecutor()) {
+            if (options.model() == LoadTestOptions.WorkloadModel.OPEN) {
+                open(options, users, runner, iterations, start, end);
+            } else {
+                closed(options, users, runner, iterations, end);
+            }
+            // Closing waits for the iterations still running
+        } finally {
+            sampler.shutdownNow();
+            sampler.awaitTermination(1, TimeUnit.SECONDS);
+            stats.stopMeasuring();
+        }
+    }
+
+    /**
+     * Start iterations on a fixed schedule. Feeder rows are taken round robin by arrival.
+     */
+    private static void open(LoadTestOptions options, Feeder users, ScenarioRunner runner,
+                             ExecutorService iterations, long start, long end) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(options.concurrency());
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        for (long arrival = 0; ; arrival++) {
+            long intendedStart = start + (long) (arrival * intervalNanos);
+            if (intendedStart >= end) {
+                return;
+            }
+            sleepUntil(intendedStart);
+            // When saturated the schedule slips; the wait is part of the iteration latency
+            inFlight.acquire();
+            long iteration = arrival;
+            iterations.submit(() -> {
+                try {
+                    runner.run(users.row(iteration), iteration, intendedStart);
+                } finally {
+                    inFlight.release();
+                }
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Run each user's iterations back to back until the end. User n always takes
+     * feeder row n, so users do not share accounts when there are enough rows.
+     */
+    private static void closed(LoadTestOptions options, Feeder users, ScenarioRunner runner,
+                               ExecutorService iterations, long end) {
+        AtomicLong iterationCounter = new AtomicLong();
+        Duration thinkTime = options.thinkTime();
+        for (int user = 0; user < options.concurrency(); user++) {
+            int userNumber = user;
+            iterations.submit(() -> {
+                while (System.nanoTime() < end) {
+                    runner.run(users.row(userNumber), iterationCounter.getAndIncrement(), System.nanoTime());
+                    if (!thinkTime.isZero()) {
+                        Thread.sleep(thinkTime);
+                    }
+                }
+                return null;
+            });
+        }
+    }
+
+    private static void sleepUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
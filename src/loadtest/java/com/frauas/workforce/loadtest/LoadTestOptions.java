@@ -0,0 +1,114 @@
+package com.frauas.workforce.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command line options of {@link LoadTest}, all given as --name=value.
+ *
+ * @param baseUrl Instance under test
+ * @param scenario JSONL scenario, a file or classpath:... resource
+ * @param users CSV feeder whose columns become scenario variables
+ * @param model OPEN (arrivals at a fixed rate) or CLOSED (a fixed number of looping users)
+ * @param concurrency CLOSED: number of virtual users; OPEN: cap on iterations in flight
+ * @param rate OPEN: scenario iterations started per second
+ * @param duration Measured run time, after the warmup
+ * @param warmup Run time before measuring starts
+ * @param thinkTime CLOSED: pause between the iterations of a user
+ * @param requestTimeout Timeout of a single request
+ * @param outputDir Where the summary and HdrHistogram files are written
+ * @param serverMetrics Actuator metrics of the instance to sample while measuring (see {@link ServerMetrics})
+ */
+record LoadTestOptions(URI baseUrl,
+                       String scenario,
+                       String users,
+                       WorkloadModel model,
+                       int concurrency,
+                       double rate,
+                       Duration duration,
+                       Duration warmup,
+                       Duration thinkTime,
+                       Duration requestTimeout,
+                       Path outputDir,
+                       List<String> serverMetrics) {
+
+    enum WorkloadModel { OPEN, CLOSED }
+
+    static final String USAGE = """
+            Usage: LoadTest [--name=value ...]
+              --base-url=http://localhost:8080
+              --scenario=classpath:scenarios/staffing-workflow.jsonl   JSONL scenario file or classpath resource
+              --users=classpath:scenarios/users.csv                    CSV feeder, one row per virtual user / arrival
+              --model=closed|open                                      closed: looping users, open: fixed arrival rate
+              --concurrency=16                                         closed: users; open: max iterations in flight
+              --rate=10                                                open: iterations started per second
+              --duration=60s --warmup=10s --think-time=0ms --request-timeout=10s
+              --output=build/loadtest                                  summary.txt, *.hgrm and latency.hlog
+              --server-metrics=jvm.memory.used,jvm.threads.live        actuator metrics of the instance to sample
+            """;
+
+    private static final Set<String> NAMES = Set.of("base-url", "scenario", "users", "model", "concurrency", "rate",
+            "duration", "warmup", "think-time", "request-timeout", "output", "server-metrics");
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            String name = arg.substring(2, separator);
+            if (!NAMES.contains(name)) {
+                throw new IllegalArgumentException("Unknown option: --" + name);
+            }
+            values.put(name, arg.substring(separator + 1));
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+                URI.create(values.getOrDefault("base-url", "http://localhost:8080")),
+                values.getOrDefault("scenario", "classpath:scenarios/staffing-workflow.jsonl"),
+                values.getOrDefault("users", "classpath:scenarios/users.csv"),
+                WorkloadModel.valueOf(values.getOrDefault("model", "closed").toUpperCase()),
+                Integer.parseInt(values.getOrDefault("concurrency", "16")),
+                Double.parseDouble(values.getOrDefault("rate", "10")),
+                duration(values.getOrDefault("duration", "60s")),
+                duration(values.getOrDefault("warmup", "10s")),
+                duration(values.getOrDefault("think-time", "0ms")),
+                duration(values.getOrDefault("request-timeout", "10s")),
+                Path.of(values.getOrDefault("output", "build/loadtest")),
+                Arrays.stream(values.getOrDefault("server-metrics", "").split(","))
+                        .map(String::trim)
+                        .filter(name -> !name.isEmpty())
+                        .toList());
+
+        if (options.concurrency < 1) {
+            throw new IllegalArgumentException("--concurrency must be at least 1");
+        }
+        if (options.model == WorkloadModel.OPEN && options.rate <= 0) {
+            throw new IllegalArgumentException("--rate must be positive");
+        }
+        return options;
+    }
+
+    /**
+     * Parse a duration like 500ms, 30s or 5m.
+     */
+    static Duration duration(String text) {
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        long amount = Long.parseLong(text.substring(0, text.length() - 1));
+        return switch (text.charAt(text.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            default -> throw new IllegalArgumentException("Expected a duration like 500ms, 30s or 5m but got: " + text);
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package com.frauas.workforce.loadtest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+final class Resources {
+
+    private static final String CLASSPATH = "classpath:";
+
+    private Resources() {
+    }
+
+    /**
+     * Open a file, or a resource of the load test itself when the location starts with classpath:.
+     */
+    static BufferedReader open(String location) throws IOException {
+        if (location.startsWith(CLASSPATH)) {
+            String name = location.substring(CLASSPATH.length());
+            InputStream resource = Resources.class.getClassLoader().getResourceAsStream(name);
+            if (resource == null) {
+                throw new NoSuchFileException(location);
+            }
+            return new BufferedReader(new InputStreamReader(resource, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(Path.of(location), StandardCharsets.UTF_8);
+    }
+}
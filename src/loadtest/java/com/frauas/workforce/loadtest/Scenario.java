@@ -0,0 +1,115 @@
+package com.frauas.workforce.loadtest;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * A request script replayed once per iteration: one JSON step per line, in order.
+ * Blank lines and lines starting with # are skipped.
+ *
+ * <pre>
+ * {"name": "apply", "method": "POST", "path": "/api/applications/apply/applyToOpenProject",
+ *  "headers": {"Authorization": "Bearer ${token}"},
+ *  "body": {"employeeId": "${employeeId}", "projectId": "${projectId}", "projectRole": "Developer"},
+ *  "expect": [201], "extract": {"applicationId": "/applicationId"}}
+ * </pre>
+ *
+ * path, header values and body may use ${variables}: the feeder columns, the
+ * values extracted by earlier steps (JSON pointer into the response body) and the
+ * built-ins ${iteration} and ${uniqueId}. Without "expect" any 2xx status passes.
+ * Steps with the same name share one latency histogram.
+ */
+record Scenario(List<Step> steps) {
+
+    record Step(String name,
+                String method,
+                Template path,
+                Map<String, Template> headers,
+                Template body,
+                Set<Integer> expect,
+                Map<String, JsonPointer> extract) {
+
+        boolean accepts(int status) {
+            return expect.isEmpty() ? status / 100 == 2 : expect.contains(status);
+        }
+    }
+
+    static Scenario load(String location, ObjectMapper objectMapper) throws IOException {
+        List<Step> steps = new ArrayList<>();
+        try (BufferedReader reader = Resources.open(location)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || line.stripLeading().startsWith("#")) {
+                    continue;
+                }
+                try {
+                    steps.add(step(objectMapper.readTree(line), objectMapper));
+                } catch (IOException | RuntimeException e) {
+                    throw new IllegalArgumentException(location + " line " + lineNumber + ": " + e.getMessage(), e);
+                }
+            }
+        }
+        if (steps.isEmpty()) {
+            throw new IllegalArgumentException(location + " has no steps");
+        }
+        return new Scenario(List.copyOf(steps));
+    }
+
+    /**
+     * Step names in scenario order, without duplicates.
+     */
+    List<String> endpointNames() {
+        return steps.stream().map(Step::name).distinct().toList();
+    }
+
+    private static Step step(JsonNode node, ObjectMapper objectMapper) throws IOException {
+        String method = required(node, "method").toUpperCase();
+        String path = required(node, "path");
+
+        Map<String, Template> headers = new LinkedHashMap<>();
+        node.path("headers").fields().forEachRemaining(header ->
+                headers.put(header.getKey(), Template.compile(header.getValue().asText())));
+
+        Template body = null;
+        JsonNode bodyNode = node.get("body");
+        if (bodyNode != null && !bodyNode.isNull()) {
+            body = Template.compile(bodyNode.isTextual() ? bodyNode.asText() : objectMapper.writeValueAsString(bodyNode));
+            headers.putIfAbsent("Content-Type", Template.compile("application/json"));
+        }
+
+        Set<Integer> expect = new TreeSet<>();
+        JsonNode expectNode = node.path("expect");
+        if (expectNode.isArray()) {
+            expectNode.forEach(status -> expect.add(status.asInt()));
+        } else if (expectNode.isInt()) {
+            expect.add(expectNode.asInt());
+        }
+
+        Map<String, JsonPointer> extract = new LinkedHashMap<>();
+        node.path("extract").fields().forEachRemaining(variable ->
+                extract.put(variable.getKey(), JsonPointer.compile(variable.getValue().asText())));
+
+        return new Step(node.path("name").asText(method + " " + path), method, Template.compile(path),
+                Map.copyOf(headers), body, Set.copyOf(expect), Map.copyOf(extract));
+    }
+
+    private static String required(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        if (value == null || !value.isTextual() || value.asText().isBlank()) {
+            throw new IllegalArgumentException("\"" + field + "\" is required");
+        }
+        return value.asText();
+    }
+}
@@ -0,0 +1,140 @@
+package com.frauas.workforce.loadtest;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Runs scenario iterations on the calling (virtual) thread, one blocking request
+ * after the other, and records each step and the whole iteration in {@link LatencyStats}.
+ *
+ * Step latency is the service time of that request. Iteration latency is measured
+ * from the intended start, so in the open model it includes any wait for a free
+ * slot and is not hidden by a slow server (coordinated omission).
+ */
+final class ScenarioRunner {
+
+    private static final UnaryOperator<String> AS_IS = UnaryOperator.identity();
+    private static final UnaryOperator<String> JSON_STRING =
+            value -> new String(JsonStringEncoder.getInstance().quoteAsString(value));
+
+    private final HttpClient client;
+    private final URI baseUrl;
+    private final Scenario scenario;
+    private final Duration requestTimeout;
+    private final ObjectMapper objectMapper;
+    private final LatencyStats stats;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    ScenarioRunner(HttpClient client, URI baseUrl, Scenario scenario, Duration requestTimeout,
+                   ObjectMapper objectMapper, LatencyStats stats) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.scenario = scenario;
+        this.requestTimeout = requestTimeout;
+        this.objectMapper = objectMapper;
+        this.stats = stats;
+    }
+
+    /**
+     * Run all steps once, stopping at the first failed step (later steps usually
+     * depend on its extracted values).
+     *
+     * @param row Feeder row of this iteration
+     * @param iteration Number of the iteration within the run
+     * @param intendedStartNanos When the iteration should have started (System.nanoTime)
+     */
+    void run(Map<String, String> row, long iteration, long intendedStartNanos) throws InterruptedException {
+        Map<String, String> variables = new HashMap<>(row);
+        variables.put("iteration", Long.toString(iteration));
+        variables.put("uniqueId", runId + "-" + iteration);
+
+        String failure = null;
+        for (Scenario.Step step : scenario.steps()) {
+            failure = execute(step, variables);
+            if (failure != null) {
+                failure = step.name() + ": " + failure;
+                break;
+            }
+        }
+        stats.record(LatencyStats.ITERATION, System.nanoTime() - intendedStartNanos, failure);
+    }
+
+    private String execute(Scenario.Step step, Map<String, String> variables) throws InterruptedException {
+        HttpRequest request;
+        try {
+            request = request(step, variables);
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            stats.record(step.name(), -1, e.getMessage());
+            return e.getMessage();
+        }
+
+        long started = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (HttpTimeoutException e) {
+            stats.record(step.name(), System.nanoTime() - started, "timeout");
+            return "timeout";
+        } catch (IOException e) {
+            String failure = e.getClass().getSimpleName();
+            stats.record(step.name(), -1, failure);
+            return failure;
+        }
+        long latency = System.nanoTime() - started;
+
+        String failure = step.accepts(response.statusCode())
+                ? extract(step, response.body(), variables)
+                : "status " + response.statusCode();
+        stats.record(step.name(), latency, failure);
+        return failure;
+    }
+
+    private HttpRequest request(Scenario.Step step, Map<String, String> variables) {
+        HttpRequest.BodyPublisher body = step.body() != null
+                ? HttpRequest.BodyPublishers.ofString(step.body().render(variables, JSON_STRING))
+                : HttpRequest.BodyPublishers.noBody();
+        HttpRequest.Builder request = HttpRequest.newBuilder(baseUrl.resolve(step.path().render(variables, AS_IS)))
+                .timeout(requestTimeout)
+                .method(step.method(), body);
+        step.headers().forEach((name, value) -> request.header(name, value.render(variables, AS_IS)));
+        return request.build();
+    }
+
+    /**
+     * Store the step's extracted values in the iteration's variables.
+     *
+     * @return Failure description, null if every value was found
+     */
+    private String extract(Scenario.Step step, byte[] body, Map<String, String> variables) {
+        if (step.extract().isEmpty()) {
+            return null;
+        }
+        JsonNode document;
+        try {
+            document = objectMapper.readTree(body);
+        } catch (IOException e) {
+            return "response is not JSON";
+        }
+        for (Map.Entry<String, JsonPointer> variable : step.extract().entrySet()) {
+            JsonNode value = document.at(variable.getValue());
+            if (value.isMissingNode() || value.isNull()) {
+                return "no " + variable.getValue() + " in response";
+            }
+            variables.put(variable.getKey(), value.isValueNode() ? value.asText() : value.toString());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,125 @@
+package com.frauas.workforce.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Samples metrics of the instance under test from its /actuator/metrics endpoint
+ * once per measured interval (e.g. jvm.memory.used, jvm.threads.live and
+ * tomcat.connections.current or reactor.netty.http.server.connections.active),
+ * to compare the footprint of the servlet and the reactive application under
+ * the same load.
+ *
+ * Each sample takes the first measurement of the metric, summed over all its tags.
+ */
+final class ServerMetrics {
+
+    private final HttpClient client;
+    private final URI baseUrl;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Series> series = new LinkedHashMap<>();
+    private volatile boolean measuring;
+
+    ServerMetrics(HttpClient client, URI baseUrl, List<String> names, ObjectMapper objectMapper) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        names.forEach(name -> series.put(name, new Series()));
+    }
+
+    void startMeasuring() {
+        measuring = true;
+    }
+
+    /**
+     * Take one sample of every metric; metrics that cannot be read are counted as missed.
+     */
+    void sample() {
+        if (!measuring) {
+            return;
+        }
+        for (Map.Entry<String, Series> entry : series.entrySet()) {
+            try {
+                entry.getValue().add(read(entry.getKey()));
+            } catch (IOException | RuntimeException e) {
+                entry.getValue().missed++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Print min / mean / max of every metric to the console and append them to summary.txt.
+     */
+    void report(Path outputDir) throws IOException {
+        if (series.isEmpty()) {
+            return;
+        }
+        try (PrintStream summary = new PrintStream(Files.newOutputStream(outputDir.resolve("summary.txt"),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND), false, StandardCharsets.UTF_8)) {
+            for (PrintStream out : List.of(System.out, summary)) {
+                out.println();
+                out.printf("%-48s %8s %14s %14s %14s%n", "server metric", "samples", "min", "mean", "max");
+                for (Map.Entry<String, Series> entry : series.entrySet()) {
+                    Series values = entry.getValue();
+                    if (values.count == 0) {
+                        out.printf("%-48s %8d %14s %14s %14s   (not available, %d misses)%n",
+                                entry.getKey(), 0, "-", "-", "-", values.missed);
+                    } else {
+                        out.printf("%-48s %8d %14.1f %14.1f %14.1f%n", entry.getKey(), values.count,
+                                values.min, values.sum / values.count, values.max);
+                    }
+                }
+            }
+        }
+    }
+
+    private double read(String name) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUrl.resolve("/actuator/metrics/" + name))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException(name + ": HTTP " + response.statusCode());
+        }
+        JsonNode measurements = objectMapper.readTree(response.body()).path("measurements");
+        if (measurements.isEmpty()) {
+            throw new IOException(name + ": no measurements");
+        }
+        return measurements.get(0).path("value").asDouble();
+    }
+
+    /** Only touched by the sampling thread, then read after it stopped */
+    private static final class Series {
+        private long count;
+        private long missed;
+        private double min = Double.MAX_VALUE;
+        private double max = -Double.MAX_VALUE;
+        private double sum;
+
+        void add(double value) {
+            count++;
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+    }
+}
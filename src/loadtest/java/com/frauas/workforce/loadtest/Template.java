@@ -0,0 +1,61 @@
+package com.frauas.workforce.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Text with ${name} placeholders, split once at load time so rendering is a plain
+ * concatenation.
+ */
+final class Template {
+
+    private static final Pattern VARIABLE = Pattern.compile("\\$\\{([A-Za-z0-9_]+)}");
+
+    private final List<String> literals;
+    private final List<String> variables;
+
+    private Template(List<String> literals, List<String> variables) {
+        this.literals = literals;
+        this.variables = variables;
+    }
+
+    static Template compile(String text) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        Matcher matcher = VARIABLE.matcher(text);
+        int position = 0;
+        while (matcher.find()) {
+            literals.add(text.substring(position, matcher.start()));
+            variables.add(matcher.group(1));
+            position = matcher.end();
+        }
+        literals.add(text.substring(position));
+        return new Template(List.copyOf(literals), List.copyOf(variables));
+    }
+
+    /**
+     * Fill in the placeholders.
+     *
+     * @param values Variables of the running iteration
+     * @param encoder Applied to each value, e.g. JSON string escaping for bodies
+     * @throws IllegalStateException If a placeholder has no value
+     */
+    String render(Map<String, String> values, UnaryOperator<String> encoder) {
+        if (variables.isEmpty()) {
+            return literals.get(0);
+        }
+        StringBuilder text = new StringBuilder(literals.get(0));
+        for (int i = 0; i < variables.size(); i++) {
+            String value = values.get(variables.get(i));
+            if (value == null) {
+                throw new IllegalStateException("No value for ${" + variables.get(i) + "}");
+            }
+            text.append(encoder.apply(value)).append(literals.get(i + 1));
+        }
+        return text.toString();
+    }
+}
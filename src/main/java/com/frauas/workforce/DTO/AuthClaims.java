@@ -0,0 +1,33 @@
+package com.frauas.workforce.DTO;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Claims carried by a signed access token (see AuthTokenService).
+ *
+ * Holds everything the request filter and /api/auth/current-user need,
+ * so an authenticated request never has to load the employee from MongoDB.
+ * Times are epoch seconds.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AuthClaims {
+    private String tokenId;
+    private String id;
+    private Integer employeeId;
+    private String userId;
+    private String username;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String department;
+    private String position;
+    private String role;
+    private long issuedAt;
+    private long expiresAt;
+}
@@ -0,0 +1,20 @@
+package com.frauas.workforce.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Summary and per-row results of a bulk import, rows in request order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResult {
+    private int total;
+    private int created;
+    private int failed;
+    private List<BulkImportRowResult> rows;
+}
@@ -0,0 +1,31 @@
+package com.frauas.workforce.DTO;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one row of a bulk import. index is the 0-based position of the
+ * row in the request body; error is only set for failed rows.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkImportRowResult {
+    private int index;
+    private boolean created;
+    private String id;
+    private Integer employeeId;
+    private String username;
+    private String error;
+
+    public static BulkImportRowResult created(int index, String id, Integer employeeId, String username) {
+        return new BulkImportRowResult(index, true, id, employeeId, username, null);
+    }
+
+    public static BulkImportRowResult failed(int index, String username, String error) {
+        return new BulkImportRowResult(index, false, null, null, username, error);
+    }
+}
@@ -0,0 +1,40 @@
+package com.frauas.workforce.DTO;
+
+import com.frauas.workforce.model.AvailabilityStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * An employee ranked as a candidate for a project role.
+ *
+ * score is the weighted share of the role's competencies and the project's skills
+ * the employee has (0 to 1); required competencies weigh more than project skills,
+ * rare skills more than common ones.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateResponseDto {
+
+    private Integer employeeId;
+
+    private String firstName;
+
+    private String lastName;
+
+    private String department;
+
+    private String position;
+
+    private AvailabilityStatus availabilityStatus;
+
+    private double score;
+
+    // As spelled on the project
+    private List<String> matchedSkills;
+
+    private List<String> missingSkills;
+}
@@ -0,0 +1,31 @@
+package com.frauas.workforce.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One slice of a cursor-paginated list.
+ * Pass nextCursor back as the cursor parameter to fetch the following slice;
+ * it is null when there are no more results.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    /**
+     * Convert the content of this slice, keeping the paging metadata.
+     */
+    public <R> CursorPageResponse<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream().<R>map(mapper).toList();
+        return new CursorPageResponse<>(mapped, size, hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,27 @@
+package com.frauas.workforce.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Common query parameters of the list endpoints.
+ *
+ * <ul>
+ *   <li>limit  - maximum number of items per page (default 50, at most 500)</li>
+ *   <li>cursor - nextCursor of the previous page; omit for the first page</li>
+ *   <li>sort   - "field" or "field,asc|desc"; the sortable fields depend on the endpoint</li>
+ *   <li>fields - comma-separated top-level fields to return, e.g. "employeeId,username"</li>
+ * </ul>
+ *
+ * A cursor is only valid together with the sort it was issued for.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ListQuery {
+    private Integer limit;
+    private String cursor;
+    private String sort;
+    private String fields;
+}
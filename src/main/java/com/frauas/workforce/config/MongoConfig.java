@@ -1,10 +1,13 @@
 package com.frauas.workforce.config;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
 
 @Configuration
+// The "inmemory" profile replaces MongoDB with the InMemory* repositories
+@Profile("!inmemory")
 @EnableMongoRepositories(basePackages = "com.frauas.workforce.repository")
 @EnableMongoAuditing
 public class MongoConfig {
@@ -1,10 +1,14 @@
 package com.frauas.workforce.config;
 
+import com.frauas.workforce.DTO.AuthClaims;
+import com.frauas.workforce.service.AuthTokenService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -15,32 +19,91 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
+/**
+ * Authenticates requests from a signed access token or, for clients that
+ * logged in with workforce.auth.mode=session, from the HTTP session.
+ *
+ * The token is read from the "Authorization: Bearer" header or from the
+ * WF_TOKEN cookie and verified locally (no MongoDB lookup). Its claims are
+ * exposed to controllers as the AUTH_CLAIMS_ATTRIBUTE request attribute.
+ */
 @Component
 public class SessionAuthenticationFilter extends OncePerRequestFilter {
 
+    public static final String TOKEN_COOKIE = "WF_TOKEN";
+    public static final String AUTH_CLAIMS_ATTRIBUTE = AuthClaims.class.getName();
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AuthTokenService authTokenService;
+
+    public SessionAuthenticationFilter(AuthTokenService authTokenService) {
+        this.authTokenService = authTokenService;
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        HttpSession session = request.getSession(false);
+        boolean authenticated = false;
+        Optional<AuthClaims> claims = authTokenService.verify(resolveToken(request));
 
-        if (session != null) {
-            String userId = (String) session.getAttribute("userId");
-            String username = (String) session.getAttribute("username");
-            String role = (String) session.getAttribute("role");
+        if (claims.isPresent()) {
+            request.setAttribute(AUTH_CLAIMS_ATTRIBUTE, claims.get());
+            authenticate(claims.get().getUsername(), claims.get().getRole());
+            authenticated = true;
+        } else {
+            HttpSession session = request.getSession(false);
 
-            if (userId != null && username != null && role != null) {
-                List<GrantedAuthority> authorities = new ArrayList<>();
-                authorities.add(new SimpleGrantedAuthority("ROLE_" + role));
+            if (session != null) {
+                String userId = (String) session.getAttribute("userId");
+                String username = (String) session.getAttribute("username");
+                String role = (String) session.getAttribute("role");
+
+                if (userId != null && username != null && role != null) {
+                    authenticate(username, role);
+                    authenticated = true;
+                }
+            }
+        }
 
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(username, null, authorities);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // Request threads are pooled: never leave this request's identity behind
+            if (authenticated) {
+                SecurityContextHolder.clearContext();
+            }
+        }
+    }
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+    /**
+     * Token from the Authorization header, falling back to the WF_TOKEN cookie.
+     */
+    static String resolveToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            return header.substring(BEARER_PREFIX.length()).trim();
+        }
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (TOKEN_COOKIE.equals(cookie.getName())) {
+                    return cookie.getValue();
+                }
             }
         }
+        return null;
+    }
+
+    private static void authenticate(String username, String role) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        authorities.add(new SimpleGrantedAuthority("ROLE_" + role));
+
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(username, null, authorities);
 
-        filterChain.doFilter(request, response);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 }
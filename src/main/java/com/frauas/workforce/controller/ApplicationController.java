@@ -4,6 +4,8 @@ import com.frauas.workforce.DTO.*;
 import com.frauas.workforce.model.Application;
 import com.frauas.workforce.model.Employee;
 import com.frauas.workforce.service.ApplicationService;
+import com.frauas.workforce.service.FieldProjector;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +21,9 @@ public class ApplicationController {
     @Autowired
     private ApplicationService applicationService;
 
+    @Autowired
+    private FieldProjector fieldProjector;
+
 //    public ApplicationController(ApplicationService applicationService) {
 //        this.applicationService = applicationService;
 //    }
@@ -77,8 +82,8 @@ public class ApplicationController {
     }
 
     @GetMapping("/all")
-    public List<Application> getAllApplications() {
-        return applicationService.getAllApplications();
+    public CursorPageResponse<?> getAllApplications(@ParameterObject ListQuery query) {
+        return fieldProjector.project(applicationService.getAllApplications(query), query.getFields());
     }
 
     @GetMapping("/grouped-by-project")
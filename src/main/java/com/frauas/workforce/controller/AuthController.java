@@ -1,18 +1,32 @@
 package com.frauas.workforce.controller;
 
+import com.frauas.workforce.DTO.AuthClaims;
+import com.frauas.workforce.config.SessionAuthenticationFilter;
 import com.frauas.workforce.model.Employee;
 import com.frauas.workforce.repository.EmployeeRepository;
+import com.frauas.workforce.service.AuthTokenService;
+import com.frauas.workforce.service.LoginThrottle;
+import com.frauas.workforce.service.PasswordHashingExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -24,68 +38,103 @@ public class AuthController {
     private EmployeeRepository employeeRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @Autowired
+    private LoginThrottle loginThrottle;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private AuthTokenService authTokenService;
+
+    /**
+     * "token": login returns a signed token, no server-side session.
+     * "session" (default): legacy node-local HttpSession (requires sticky sessions when scaled out).
+     */
+    @Value("${workforce.auth.mode:session}")
+    private String authMode;
 
     @PostMapping("/login")
-    @Operation(summary = "Login with username and password", description = "Login with username and password. Returns employee details and role.")
-    public ResponseEntity<Map<String, Object>> login(@RequestBody Map<String, String> loginRequest, HttpSession session) {
+    @Operation(summary = "Login with username and password", description = "Login with username and password. Returns employee details and role, and in token mode a signed access token (also set as the WF_TOKEN cookie). Answers 429 after repeated failures and 503 when the server is too busy to check passwords.")
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> login(@RequestBody Map<String, String> loginRequest, HttpServletRequest request) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         String username = loginRequest.get("username");
         String password = loginRequest.get("password");
 
         if (username == null || username.trim().isEmpty()) {
-            return ResponseEntity.badRequest().body(Map.of("error", "Username is required"));
+            return completed(sample, "invalid_request", ResponseEntity.badRequest().body(Map.of("error", "Username is required")));
         }
 
         if (password == null || password.trim().isEmpty()) {
-            return ResponseEntity.badRequest().body(Map.of("error", "Password is required"));
+            return completed(sample, "invalid_request", ResponseEntity.badRequest().body(Map.of("error", "Password is required")));
         }
 
+        // 1. Refuse throttled usernames/IPs before doing any work
+        String clientIp = request.getRemoteAddr();
+        Optional<Duration> retryAfter = loginThrottle.retryAfter(username, clientIp);
+        if (retryAfter.isPresent()) {
+            return completed(sample, "throttled", ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfter.get().toSeconds())))
+                    .body(Map.of("error", "Too many failed login attempts, try again later")));
+        }
+
+        // 2. Look up the employee
         Employee employee = employeeRepository.findByUsername(username)
                 .orElse(null);
 
         if (employee == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body(Map.of("error", "Invalid username or password"));
+            loginThrottle.recordFailure(username, clientIp);
+            return completed(sample, "failed", ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", "Invalid username or password")));
         }
 
-        // Validate password
-        if (!passwordEncoder.matches(password, employee.getPassword())) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body(Map.of("error", "Invalid username or password"));
+        // 3. Validate password on the hashing pool, never on the request thread
+        CompletableFuture<Boolean> matches;
+        try {
+            matches = passwordHashingExecutor.matches(password, employee.getPassword());
+        } catch (RejectedExecutionException e) {
+            return completed(sample, "rejected", ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(Map.of("error", "Login service is busy, try again shortly")));
         }
 
-        // Store user in session
-        session.setAttribute("userId", employee.getId());
-        session.setAttribute("username", employee.getUsername());
-        session.setAttribute("role", employee.getRole().name());
-
-        Map<String, Object> response = new HashMap<>();
-        response.put("id", employee.getId());
-        response.put("employeeId", employee.getEmployeeId());
-        response.put("userId", employee.getUserId());
-        response.put("username", employee.getUsername());
-        response.put("firstName", employee.getFirstName());
-        response.put("lastName", employee.getLastName());
-        response.put("email", employee.getEmail());
-        response.put("department", employee.getDepartment());
-        response.put("position", employee.getPosition());
-        response.put("role", employee.getRole());
-        response.put("message", "Login successful");
-
-        return ResponseEntity.ok(response);
+        // The session must be created on the request thread (the response is not committed yet);
+        // its attributes are set once the password check completes, so no request thread waits for it
+        HttpSession session = isSessionMode() ? request.getSession() : null;
+        boolean sessionCreated = session != null && session.isNew();
+        return matches.thenApply(matched -> completeLogin(employee, matched, clientIp, sample, session, sessionCreated));
     }
 
     @PostMapping("/logout")
-    @Operation(summary = "Logout", description = "Logout and invalidate session")
-    public ResponseEntity<Map<String, String>> logout(HttpSession session) {
-        session.invalidate();
-        return ResponseEntity.ok(Map.of("message", "Logout successful"));
+    @Operation(summary = "Logout", description = "Logout: revokes the access token and invalidates the session, if any")
+    public ResponseEntity<Map<String, String>> logout(HttpServletRequest request) {
+        AuthClaims claims = currentClaims(request);
+        if (claims != null) {
+            authTokenService.revoke(claims);
+        }
+
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.invalidate();
+        }
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, tokenCookie("", Duration.ZERO).toString())
+                .body(Map.of("message", "Logout successful"));
     }
 
     @GetMapping("/current-user")
-    @Operation(summary = "Get current logged-in user", description = "Returns the current user's details from session")
-    public ResponseEntity<Map<String, Object>> getCurrentUser(HttpSession session) {
-        String userId = (String) session.getAttribute("userId");
+    @Operation(summary = "Get current logged-in user", description = "Returns the current user's details from the access token (or the session in session mode)")
+    public ResponseEntity<Map<String, Object>> getCurrentUser(HttpServletRequest request) {
+        AuthClaims claims = currentClaims(request);
+        if (claims != null) {
+            return ResponseEntity.ok(toUserResponse(claims));
+        }
+
+        HttpSession session = request.getSession(false);
+        String userId = session != null ? (String) session.getAttribute("userId") : null;
 
         if (userId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -100,6 +149,83 @@ public class AuthController {
                     .body(Map.of("error", "User not found"));
         }
 
+        return ResponseEntity.ok(toUserResponse(employee));
+    }
+
+    /**
+     * Build the login response once the password check is done.
+     *
+     * @param session The session of the request in session mode, null in token mode
+     * @param sessionCreated Whether the session was created for this login (and is dropped if it fails)
+     */
+    private ResponseEntity<Map<String, Object>> completeLogin(Employee employee, boolean matched, String clientIp,
+                                                              Timer.Sample sample, HttpSession session,
+                                                              boolean sessionCreated) {
+        if (!matched) {
+            if (sessionCreated) {
+                session.invalidate();
+            }
+            loginThrottle.recordFailure(employee.getUsername(), clientIp);
+            return record(sample, "failed", ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", "Invalid username or password")));
+        }
+        loginThrottle.recordSuccess(employee.getUsername());
+
+        Map<String, Object> response = toUserResponse(employee);
+        response.put("message", "Login successful");
+
+        if (session != null) {
+            // Store user in session
+            session.setAttribute("userId", employee.getId());
+            session.setAttribute("username", employee.getUsername());
+            session.setAttribute("role", employee.getRole().name());
+            return record(sample, "success", ResponseEntity.ok(response));
+        }
+
+        String token = authTokenService.issue(employee);
+        response.put("token", token);
+        response.put("tokenType", "Bearer");
+        response.put("expiresIn", authTokenService.getTtl().toSeconds());
+
+        return record(sample, "success", ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, tokenCookie(token, authTokenService.getTtl()).toString())
+                .body(response));
+    }
+
+    private <T> CompletableFuture<ResponseEntity<T>> completed(Timer.Sample sample, String outcome, ResponseEntity<T> response) {
+        return CompletableFuture.completedFuture(record(sample, outcome, response));
+    }
+
+    /**
+     * Record login latency as workforce.auth.login{outcome}.
+     */
+    private <T> ResponseEntity<T> record(Timer.Sample sample, String outcome, ResponseEntity<T> response) {
+        sample.stop(Timer.builder("workforce.auth.login")
+                .description("Login latency including queueing for the hashing pool")
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry));
+        return response;
+    }
+
+    private boolean isSessionMode() {
+        return "session".equalsIgnoreCase(authMode);
+    }
+
+    private static AuthClaims currentClaims(HttpServletRequest request) {
+        return (AuthClaims) request.getAttribute(SessionAuthenticationFilter.AUTH_CLAIMS_ATTRIBUTE);
+    }
+
+    private static ResponseCookie tokenCookie(String value, Duration maxAge) {
+        return ResponseCookie.from(SessionAuthenticationFilter.TOKEN_COOKIE, value)
+                .httpOnly(true)
+                .path("/")
+                .sameSite("Lax")
+                .maxAge(maxAge)
+                .build();
+    }
+
+    private static Map<String, Object> toUserResponse(Employee employee) {
         Map<String, Object> response = new HashMap<>();
         response.put("id", employee.getId());
         response.put("employeeId", employee.getEmployeeId());
@@ -111,7 +237,21 @@ public class AuthController {
         response.put("department", employee.getDepartment());
         response.put("position", employee.getPosition());
         response.put("role", employee.getRole());
+        return response;
+    }
 
-        return ResponseEntity.ok(response);
+    private static Map<String, Object> toUserResponse(AuthClaims claims) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("id", claims.getId());
+        response.put("employeeId", claims.getEmployeeId());
+        response.put("userId", claims.getUserId());
+        response.put("username", claims.getUsername());
+        response.put("firstName", claims.getFirstName());
+        response.put("lastName", claims.getLastName());
+        response.put("email", claims.getEmail());
+        response.put("department", claims.getDepartment());
+        response.put("position", claims.getPosition());
+        response.put("role", claims.getRole());
+        return response;
     }
 }
@@ -1,6 +1,7 @@
 package com.frauas.workforce.controller;
 
 import com.frauas.workforce.DTO.ApproveApplicationRequest;
+import com.frauas.workforce.DTO.CursorPageResponse;
 import com.frauas.workforce.DTO.ErrorResponse;
 import com.frauas.workforce.DTO.RejectApplicationRequest;
 import com.frauas.workforce.model.Application;
@@ -18,8 +19,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/department-head")
 @Tag(name = "Department Head", description = "Department Head management APIs for approving/rejecting employee applications")
@@ -135,11 +134,14 @@ public class DepartmentHeadController {
     @Operation(
             summary = "Get all applications for department",
             description = "Department Head views all applications for employees in their department. " +
-                    "By default returns ALL applications. Can optionally filter by status (APPLIED, APPROVED, REJECTED, etc.)."
+                    "By default returns ALL applications. Can optionally filter by status (APPLIED, APPROVED, REJECTED, etc.). " +
+                    "Results are paginated: pass nextCursor from the response as cursor to fetch the next page."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved applications",
-                    content = @Content(schema = @Schema(implementation = Application.class))),
+                    content = @Content(schema = @Schema(implementation = CursorPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or limit",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "403", description = "Forbidden - user is not a Department Head",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "Department Head not found",
@@ -150,12 +152,18 @@ public class DepartmentHeadController {
             @Parameter(description = "Department Head employee ID", required = true)
             @RequestParam Integer departmentHeadId,
             @Parameter(description = "Optional status filter (APPLIED, SUGGESTED, APPROVED, REJECTED, etc.). If not provided, returns ALL applications.")
-            @RequestParam(required = false) ApplicationStatus status
+            @RequestParam(required = false) ApplicationStatus status,
+            @Parameter(description = "Cursor (nextCursor of the previous response). Omit for the first page.")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of applications per page (1-" + DepartmentHeadService.MAX_DEPARTMENT_PAGE_SIZE + ")")
+            @RequestParam(defaultValue = "50") int limit
     ) {
         try {
-            List<Application> applications = departmentHeadService.getApplicationsForDepartment(
+            CursorPageResponse<Application> applications = departmentHeadService.getApplicationsForDepartment(
                     departmentHeadId,
-                    status
+                    status,
+                    cursor,
+                    limit
             );
             return ResponseEntity.ok(applications);
 
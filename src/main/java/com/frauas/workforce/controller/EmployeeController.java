@@ -1,6 +1,11 @@
 package com.frauas.workforce.controller;
+import com.frauas.workforce.DTO.BulkImportResult;
+import com.frauas.workforce.DTO.CursorPageResponse;
+import com.frauas.workforce.DTO.ListQuery;
 import com.frauas.workforce.model.Employee;
+import com.frauas.workforce.service.EmployeeImportService;
 import com.frauas.workforce.service.EmployeeService;
+import com.frauas.workforce.service.FieldProjector;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -8,12 +13,16 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -23,9 +32,14 @@ import java.util.List;
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final EmployeeImportService employeeImportService;
+    private final FieldProjector fieldProjector;
 
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService, EmployeeImportService employeeImportService,
+                              FieldProjector fieldProjector) {
         this.employeeService = employeeService;
+        this.employeeImportService = employeeImportService;
+        this.fieldProjector = fieldProjector;
     }
 
     @Operation(
@@ -40,16 +54,42 @@ public class EmployeeController {
 
     @Operation(
             summary = "Get all employees",
-            description = "Retrieves a list of all employees in the system. Accessible to all authenticated users."
+            description = "Retrieves one page of employees, ordered by employeeId unless sort is given. " +
+                    "Pass nextCursor back as cursor for the following page. Accessible to all authenticated users."
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Successfully retrieved list",
-                    content = @Content(schema = @Schema(implementation = Employee.class)))
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved page",
+                    content = @Content(schema = @Schema(implementation = CursorPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid limit, sort, cursor or fields")
     })
     @GetMapping
 //    @PreAuthorize("hasAnyRole('SYSTEM_ADMIN', 'PROJECT_MANAGER', 'DEPARTMENT_HEAD', 'RESOURCE_PLANNER', 'EMPLOYEE')")
-    public ResponseEntity<List<Employee>> getAllEmployees() {
-        return ResponseEntity.ok(employeeService.getAllEmployees());
+    public ResponseEntity<CursorPageResponse<?>> getAllEmployees(@ParameterObject ListQuery query) {
+        return ResponseEntity.ok(fieldProjector.project(employeeService.getEmployees(query), query.getFields()));
+    }
+
+    @Operation(
+            summary = "Find employees with all of the given skills",
+            description = "Retrieves one page of the employees who have every one of the given skills " +
+                    "(case-insensitive), ordered by employeeId. Pass nextCursor back as cursor for the following page."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved page",
+                    content = @Content(schema = @Schema(implementation = CursorPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "No skills, or invalid limit, cursor or fields")
+    })
+    @GetMapping("/with-skills")
+    public ResponseEntity<CursorPageResponse<?>> getEmployeesWithAllSkills(
+            @Parameter(description = "Required skills, comma-separated or repeated")
+            @RequestParam List<String> skills,
+            @Parameter(description = "nextCursor of the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (default 50, max 500)")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Comma-separated top-level fields to return")
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(fieldProjector.project(
+                employeeService.getEmployeesWithAllSkills(skills, cursor, limit), fields));
     }
 
     @Operation(
@@ -102,6 +142,24 @@ public class EmployeeController {
         }
     }
 
+    @Operation(
+            summary = "Bulk import employees",
+            description = "Creates many employees in one request. The body is a JSON array of employees " +
+                    "(application/json) or one employee object per line (application/x-ndjson). " +
+                    "Username and email are required and must be unique; employeeId is assigned if missing. " +
+                    "Failed rows are reported individually and do not abort the import."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import processed; see the per-row results",
+                    content = @Content(schema = @Schema(implementation = BulkImportResult.class))),
+            @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, "application/x-ndjson"})
+//    @PreAuthorize("hasAnyRole('SYSTEM_ADMIN', 'DEPARTMENT_HEAD')")
+    public ResponseEntity<BulkImportResult> importEmployees(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(employeeImportService.importEmployees(request.getInputStream()));
+    }
+
     @Operation(
             summary = "Update an employee",
             description = "Updates an existing employee's information. SYSTEM_ADMIN, DEPARTMENT_HEAD, PROJECT_MANAGER, and RESOURCE_PLANNER can update employees."
@@ -0,0 +1,77 @@
+package com.frauas.workforce.controller;
+
+import com.frauas.workforce.model.ApplicationStatus;
+import com.frauas.workforce.service.ExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Instant;
+
+/**
+ * ExportController
+ *
+ * Streaming exports for reporting / ETL jobs. Responses are application/x-ndjson:
+ * one JSON document per line, written while the database cursor is read.
+ *
+ * For incremental pulls, pass the largest lastModifiedAt seen so far as updatedSince;
+ * filtered exports are ordered by lastModifiedAt.
+ */
+@RestController
+@RequestMapping("/api/export")
+@Tag(name = "Export", description = "Streaming NDJSON exports for reporting")
+@CrossOrigin(origins = "*")
+public class ExportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    @Autowired
+    private ExportService exportService;
+
+    @Operation(
+            summary = "Export applications",
+            description = "Streams all applications matching the optional filters as NDJSON."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export stream"),
+            @ApiResponse(responseCode = "400", description = "Invalid status or updatedSince")
+    })
+    @GetMapping("/applications")
+    public ResponseEntity<StreamingResponseBody> exportApplications(
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(required = false) String projectId,
+            @Parameter(description = "Only applications of employees in this department")
+            @RequestParam(required = false) String department,
+            @Parameter(description = "ISO-8601 instant, e.g. 2025-01-31T00:00:00Z")
+            @RequestParam(required = false) Instant updatedSince
+    ) {
+        StreamingResponseBody body = out ->
+                exportService.exportApplications(status, projectId, department, updatedSince, out);
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+
+    @Operation(
+            summary = "Export employees",
+            description = "Streams all employees matching the optional filters as NDJSON. Passwords are never included."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export stream"),
+            @ApiResponse(responseCode = "400", description = "Invalid updatedSince")
+    })
+    @GetMapping("/employees")
+    public ResponseEntity<StreamingResponseBody> exportEmployees(
+            @RequestParam(required = false) String department,
+            @Parameter(description = "ISO-8601 instant, e.g. 2025-01-31T00:00:00Z")
+            @RequestParam(required = false) Instant updatedSince
+    ) {
+        StreamingResponseBody body = out -> exportService.exportEmployees(department, updatedSince, out);
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+}
@@ -11,6 +11,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -48,7 +51,8 @@ public class ProjectHistoryController {
     @Operation(
             summary = "Get employee project history",
             description = "Retrieves all past/completed projects for an employee. " +
-                    "Returns applications with status COMPLETED where projectEnd < today, sorted by end date (most recent first)."
+                    "Returns applications with status COMPLETED where projectEnd < today, sorted by end date (most recent first). " +
+                    "Supports an optional end-date range and paging; the total count is returned in the X-Total-Count header."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved project history",
@@ -57,10 +61,19 @@ public class ProjectHistoryController {
     @GetMapping("/employee/{employeeId}")
     public ResponseEntity<List<Application>> getEmployeeProjectHistory(
             @Parameter(description = "Employee ID", required = true)
-            @PathVariable Integer employeeId
+            @PathVariable Integer employeeId,
+            @Parameter(description = "Only include projects that ended on or after this date (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Only include projects that ended on or before this date (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Zero-based page index (only used together with size)")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size. If not provided, the full history is returned.")
+            @RequestParam(required = false) Integer size
     ) {
-        List<Application> history = projectHistoryService.getEmployeeProjectHistory(employeeId);
-        return ResponseEntity.ok(history);
+        Page<Application> history = projectHistoryService.getEmployeeProjectHistory(
+                employeeId, from, to, toPageable(page, size));
+        return toPagedResponse(history);
     }
 
     /**
@@ -69,7 +82,8 @@ public class ProjectHistoryController {
     @Operation(
             summary = "Get project employee history",
             description = "Retrieves all employees who have worked on a specific project (past projects only). " +
-                    "Returns applications with status COMPLETED where projectEnd < today for the given project."
+                    "Returns applications with status COMPLETED where projectEnd < today for the given project. " +
+                    "Supports an optional end-date range and paging; the total count is returned in the X-Total-Count header."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved employee history for project",
@@ -78,10 +92,19 @@ public class ProjectHistoryController {
     @GetMapping("/project/{projectId}")
     public ResponseEntity<List<Application>> getProjectEmployeeHistory(
             @Parameter(description = "Project ID", required = true)
-            @PathVariable String projectId
+            @PathVariable String projectId,
+            @Parameter(description = "Only include assignments that ended on or after this date (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Only include assignments that ended on or before this date (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Zero-based page index (only used together with size)")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size. If not provided, the full history is returned.")
+            @RequestParam(required = false) Integer size
     ) {
-        List<Application> history = projectHistoryService.getProjectEmployeeHistory(projectId);
-        return ResponseEntity.ok(history);
+        Page<Application> history = projectHistoryService.getProjectEmployeeHistory(
+                projectId, from, to, toPageable(page, size));
+        return toPagedResponse(history);
     }
 
     /**
@@ -121,4 +144,24 @@ public class ProjectHistoryController {
                     .body(new ErrorResponse(e.getMessage(), HttpStatus.NOT_FOUND.value()));
         }
     }
+
+    private Pageable toPageable(int page, Integer size) {
+        if (size == null) {
+            return Pageable.unpaged();
+        }
+        if (page < 0 || size < 1) {
+            throw new IllegalArgumentException("page must be >= 0 and size must be >= 1");
+        }
+        return PageRequest.of(page, size);
+    }
+
+    /**
+     * Keeps the response body a plain list (as before) and reports the total
+     * number of matching records in the X-Total-Count header.
+     */
+    private ResponseEntity<List<Application>> toPagedResponse(Page<Application> history) {
+        return ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(history.getTotalElements()))
+                .body(history.getContent());
+    }
 }
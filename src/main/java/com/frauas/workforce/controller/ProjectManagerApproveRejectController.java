@@ -1,16 +1,20 @@
 package com.frauas.workforce.controller;
 
+import com.frauas.workforce.DTO.CursorPageResponse;
 import com.frauas.workforce.DTO.ErrorResponse;
+import com.frauas.workforce.DTO.ListQuery;
 import com.frauas.workforce.DTO.ProjectResponseDto;
 import com.frauas.workforce.DTO.RejectByProjectManagerRequest;
 import com.frauas.workforce.DTO.RequestDepartmentHeadApprovalRequest;
 import com.frauas.workforce.DTO.TriggerExternalSearchRequest;
 import com.frauas.workforce.model.Application;
+import com.frauas.workforce.service.FieldProjector;
 import com.frauas.workforce.service.ProjectManagerService;
 import io.swagger.v3.oas.annotations.*;
 import io.swagger.v3.oas.annotations.responses.*;
 import io.swagger.v3.oas.annotations.media.*;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
 
@@ -23,9 +27,12 @@ import java.util.List;
 public class ProjectManagerApproveRejectController {
 
     private final ProjectManagerService projectManagerService;
+    private final FieldProjector fieldProjector;
 
-    public ProjectManagerApproveRejectController(ProjectManagerService projectManagerService) {
+    public ProjectManagerApproveRejectController(ProjectManagerService projectManagerService,
+                                                 FieldProjector fieldProjector) {
         this.projectManagerService = projectManagerService;
+        this.fieldProjector = fieldProjector;
     }
 
     /**
@@ -41,9 +48,9 @@ public class ProjectManagerApproveRejectController {
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping("/applications/suggested")
-    public ResponseEntity<List<Application>> getAllSuggestedApplications() {
+    public ResponseEntity<CursorPageResponse<?>> getAllSuggestedApplications(@ParameterObject ListQuery query) {
         return ResponseEntity.ok(
-                projectManagerService.getAllSuggestedApplications()
+                fieldProjector.project(projectManagerService.getAllSuggestedApplications(query), query.getFields())
         );
     }
 
@@ -129,9 +136,9 @@ public class ProjectManagerApproveRejectController {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved applied applications")
     })
     @GetMapping("/applications/applied")
-    public ResponseEntity<List<Application>> getAppliedApplications() {
+    public ResponseEntity<CursorPageResponse<?>> getAppliedApplications(@ParameterObject ListQuery query) {
         return ResponseEntity.ok(
-                projectManagerService.getAppliedApplications()
+                fieldProjector.project(projectManagerService.getAppliedApplications(query), query.getFields())
         );
     }
 
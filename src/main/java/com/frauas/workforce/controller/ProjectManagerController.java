@@ -1,22 +1,36 @@
 package com.frauas.workforce.controller;
 
+import com.frauas.workforce.DTO.CandidateResponseDto;
 import com.frauas.workforce.DTO.CreateProjectRequestDto;
+import com.frauas.workforce.DTO.CursorPageResponse;
+import com.frauas.workforce.DTO.ListQuery;
 import com.frauas.workforce.DTO.ProjectResponseDto;
 import com.frauas.workforce.DTO.UpdateProjectRequestDto;
+import com.frauas.workforce.ExceptionHandling.ResourceNotFoundException;
 import com.frauas.workforce.model.ProjectStatus;
 import com.frauas.workforce.service.ApiResponse;
+import com.frauas.workforce.service.FieldProjector;
 import com.frauas.workforce.service.ProjectManagerService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * ProjectManagerController
@@ -41,15 +55,18 @@ public class ProjectManagerController {
 
     private static final Logger log = LoggerFactory.getLogger(ProjectManagerController.class);
     private  final  ProjectManagerService projectService;
+    private final FieldProjector fieldProjector;
 
     /**
      * Constructor for ProjectManagerController.
      * Dependency injection of ProjectManagerService.
      *
      * @param projectService Service layer for project operations
+     * @param fieldProjector Applies the fields= parameter of list endpoints
      */
-    public ProjectManagerController(ProjectManagerService projectService) {
+    public ProjectManagerController(ProjectManagerService projectService, FieldProjector fieldProjector) {
         this.projectService = projectService;
+        this.fieldProjector = fieldProjector;
     }
 
     /**
@@ -141,6 +158,43 @@ public class ProjectManagerController {
         }
     }
 
+    /**
+     * Rank employees as candidates for one role of a project.
+     *
+     * Endpoint: GET /api/projects/{projectId}/roles/{role}/candidates?limit=10
+     *
+     * Matches the role's required competencies and the project's selected skills
+     * against the skills of all employees, using an in-memory skill index.
+     *
+     * @param projectId Path variable - business project ID
+     * @param role Path variable - required role of the project (case-insensitive)
+     * @param limit Maximum number of candidates (1-100, default 10)
+     * @return ResponseEntity with HTTP 200 (OK) and the candidates, best first, on success
+     *         HTTP 400 (BAD_REQUEST) for an invalid limit
+     *         HTTP 404 (NOT_FOUND) if the project or the role doesn't exist
+     *         HTTP 500 (INTERNAL_SERVER_ERROR) for unexpected errors
+     */
+    @GetMapping("/{projectId}/roles/{role}/candidates")
+    public ResponseEntity<ApiResponse<List<CandidateResponseDto>>> getCandidatesForRole(
+            @PathVariable String projectId,
+            @PathVariable String role,
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            List<CandidateResponseDto> candidates = projectService.getCandidatesForRole(projectId, role, limit);
+            return ResponseEntity.ok(ApiResponse.success(candidates, "Candidates fetched successfully"));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error("Project or role not found", e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("Invalid candidate parameters", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error ranking candidates: ", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to fetch candidates", e.getMessage()));
+        }
+    }
+
     @GetMapping("/by-creator/{createdBy}")
     public ResponseEntity<ApiResponse<List<ProjectResponseDto>>> getProjectsByUserId(@PathVariable String createdBy) {
         try {
@@ -153,15 +207,51 @@ public class ProjectManagerController {
         }
     }
 
+    /**
+     * Retrieve projects by publication status.
+     *
+     * Endpoint: GET /api/projects/published/{isPublished}?status=OPEN&page=0&size=20
+     *
+     * Filters and pages in the database. The response carries an ETag derived
+     * from the returned page; pollers that send it back in If-None-Match get
+     * HTTP 304 (NOT_MODIFIED) with no body while the listing is unchanged.
+     *
+     * @param isPublished Path variable - publication flag to filter on
+     * @param status Optional project status to narrow the listing
+     * @param page Zero-based page index (only used together with size)
+     * @param size Page size; if omitted, all matching projects are returned
+     * @return ResponseEntity with HTTP 200 (OK) and the projects, total in X-Total-Count
+     *         HTTP 304 (NOT_MODIFIED) if the client's ETag still matches
+     *         HTTP 400 (BAD_REQUEST) for invalid paging parameters
+     */
     @GetMapping("/published/{isPublished}")
-    public ResponseEntity<ApiResponse<List<ProjectResponseDto>>> getProjectsByPublishedStatus(@PathVariable Boolean isPublished) {
+    public ResponseEntity<ApiResponse<List<ProjectResponseDto>>> getProjectsByPublishedStatus(
+            @PathVariable Boolean isPublished,
+            @RequestParam(required = false) ProjectStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest) {
         try {
-            List<ProjectResponseDto> projects = projectService.getAllProjects()
-                    .stream()
-                    .filter(p -> p.getIsPublished().equals(isPublished))
-                    .collect(Collectors.toList());
+            Page<ProjectResponseDto> projects = projectService.getProjectsByPublished(
+                    isPublished, status, toPageable(page, size));
+
+            String etag = listingEtag(projects);
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(etag)
+                        .cacheControl(CacheControl.noCache())
+                        .build();
+            }
 
-            return ResponseEntity.ok(ApiResponse.success(projects, "Projects fetched successfully for isPublished=" + isPublished));
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .header("X-Total-Count", String.valueOf(projects.getTotalElements()))
+                    .body(ApiResponse.success(projects.getContent(),
+                            "Projects fetched successfully for isPublished=" + isPublished));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("Invalid paging parameters", e.getMessage()));
         } catch (Exception e) {
             log.error("Error fetching projects by isPublished: {}", isPublished, e);
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -169,23 +259,60 @@ public class ProjectManagerController {
         }
     }
 
+    private Pageable toPageable(int page, Integer size) {
+        if (size == null) {
+            return Pageable.unpaged();
+        }
+        if (page < 0 || size < 1) {
+            throw new IllegalArgumentException("page must be >= 0 and size must be >= 1");
+        }
+        return PageRequest.of(page, size);
+    }
+
+    /**
+     * Strong ETag: SHA-256 over the paging metadata and every field of every DTO on
+     * the page (their toString), so a 304 never requires serializing the body and an
+     * unchanged tag means unchanged content. updatedAt alone is only a date and would
+     * miss changes within a day.
+     */
+    private String listingEtag(Page<ProjectResponseDto> projects) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+        digest.update((projects.getTotalElements() + "/" + projects.getNumber() + "/" + projects.getSize())
+                .getBytes(StandardCharsets.UTF_8));
+        for (ProjectResponseDto project : projects.getContent()) {
+            digest.update((byte) '\n');
+            digest.update(String.valueOf(project).getBytes(StandardCharsets.UTF_8));
+        }
+        return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest()) + "\"";
+    }
+
 
     /**
      * Retrieve all projects in the system.
      *
-     * Endpoint: GET /api/projects
+     * Endpoint: GET /api/projects?limit=50&cursor=...&sort=projectId,asc&fields=projectId,status
      *
-     * Fetches all projects regardless of status or publication state.
+     * Fetches projects regardless of status or publication state, one page at a time.
      * Useful for admin dashboards and comprehensive project listings.
      *
-     * @return ResponseEntity with HTTP 200 (OK) and list of all projects on success
+     * @param query Paging parameters: limit, cursor, sort (id or projectId) and fields
+     * @return ResponseEntity with HTTP 200 (OK) and one page of projects on success
+     *         HTTP 400 (BAD_REQUEST) for invalid paging parameters
      *         HTTP 500 (INTERNAL_SERVER_ERROR) for unexpected errors
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<ProjectResponseDto>>> getAllProjects() {
+    public ResponseEntity<ApiResponse<CursorPageResponse<?>>> getAllProjects(@ParameterObject ListQuery query) {
         try {
-            List<ProjectResponseDto> response = projectService.getAllProjects();
+            CursorPageResponse<?> response = fieldProjector.project(projectService.getAllProjects(query), query.getFields());
             return ResponseEntity.ok(ApiResponse.success(response, "Projects fetched successfully"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("Invalid list parameters", e.getMessage()));
         } catch (Exception e) {
             log.error("Error fetching projects: ", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -5,10 +5,23 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Document(collection = "applications")
+@CompoundIndexes({
+        // Project history: employee's completed assignments ordered by end date
+        @CompoundIndex(name = "employee_status_end_idx",
+                def = "{'employeeId': 1, 'currentStatus': 1, 'employeeProjectEndDate': -1}"),
+        // Project history: everyone who completed work on a project, ordered by end date
+        @CompoundIndex(name = "project_status_end_idx",
+                def = "{'projectId': 1, 'currentStatus': 1, 'employeeProjectEndDate': -1}"),
+        // Keyset-paginated listings filtered by status (PM suggested/applied views)
+        @CompoundIndex(name = "status_id_idx", def = "{'currentStatus': 1, '_id': 1}")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -44,5 +57,10 @@ public class Application {
     private java.time.LocalDate employeeProjectStartDate;  // When employee started working on this project
     private java.time.LocalDate employeeProjectEndDate;    // When employee finished working on this project
 
+    // Set on every save (and by bulk updates); used for incremental exports
+    @Indexed
+    @LastModifiedDate
+    private java.time.Instant lastModifiedAt;
+
     // Getters and Setters
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.frauas.workforce.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Named counter in the "counters" collection.
+ * seq is the highest value that has been handed out (to any node) so far.
+ */
+@Document(collection = "counters")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DatabaseSequence {
+
+    @Id
+    private String id;
+
+    private long seq;
+}
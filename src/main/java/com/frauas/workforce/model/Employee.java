@@ -3,10 +3,12 @@ package com.frauas.workforce.model;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
+import java.time.Instant;
 import java.util.List;
 
 @Document(collection = "employees")
@@ -46,6 +48,7 @@ public class Employee {
     @Field("email")
     private String email;
 
+    @Indexed
     @Field("department")
     private String department;
 
@@ -93,4 +96,9 @@ public class Employee {
 
     @Field("assignedProjectId")
     private String assignedProjectId;  // References a project's projectId
+
+    @Indexed
+    @LastModifiedDate
+    @Field("lastModifiedAt")
+    private Instant lastModifiedAt;  // Set on every save; used for incremental exports
 }
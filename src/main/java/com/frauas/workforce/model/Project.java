@@ -7,6 +7,8 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
@@ -27,6 +29,8 @@ import java.util.List;
  * @since 2025-11-16
  */
 @Document(collection = "projects")
+// Published-project listing, optionally narrowed to one lifecycle status
+@CompoundIndex(name = "published_status_idx", def = "{'isPublished': 1, 'status': 1}")
 @Data
 @AllArgsConstructor
 @EqualsAndHashCode
@@ -39,6 +43,7 @@ public class Project {
     @Id
     private String id;
 
+    @Indexed(unique = true)
     @Field("projectId")
     private String projectId;//make combination of integer and alpha
 
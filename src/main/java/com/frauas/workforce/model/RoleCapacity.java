@@ -0,0 +1,36 @@
+package com.frauas.workforce.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Number of employees already assigned (COMPLETED applications) to one role of a project.
+ *
+ * The counter is claimed atomically before a Department Head approval is stored,
+ * so concurrent approvals can never assign more employees than the role requires.
+ * The required number itself is always taken from the current project document.
+ */
+@Document(collection = "role_capacity")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoleCapacity {
+
+    /**
+     * projectId + "::" + projectRole
+     */
+    @Id
+    private String id;
+
+    private String projectId;
+    private String projectRole;
+
+    private int filled;
+
+    public static String idOf(String projectId, String projectRole) {
+        return projectId + "::" + projectRole;
+    }
+}
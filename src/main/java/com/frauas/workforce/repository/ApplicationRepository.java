@@ -2,14 +2,18 @@ package com.frauas.workforce.repository;
 
 import com.frauas.workforce.model.Application;
 import com.frauas.workforce.model.ApplicationStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Range;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ApplicationRepository extends MongoRepository<Application, String> {
+public interface ApplicationRepository extends MongoRepository<Application, String>, ApplicationRepositoryCustom {
     List<Application> findByEmployeeId(Integer employeeId);
 //    List<Application> findByEmployeeIdAndCurrentStatus(
 //            Integer employeeId,
@@ -79,4 +83,48 @@ public interface ApplicationRepository extends MongoRepository<Application, Stri
             String projectRole,
             ApplicationStatus status
     );
+
+    /**
+     * Count applications by project, role, and status
+     * Used to initialize the role capacity counter of a project role
+     */
+    long countByProjectIdAndProjectRoleAndCurrentStatus(
+            String projectId,
+            String projectRole,
+            ApplicationStatus status
+    );
+
+    /**
+     * Project history for an employee: applications in the given status whose
+     * employeeProjectEndDate falls within the range. Sorting and paging are
+     * applied by MongoDB (backed by employee_status_end_idx).
+     */
+    Page<Application> findByEmployeeIdAndCurrentStatusAndEmployeeProjectEndDateBetween(
+            Integer employeeId,
+            ApplicationStatus status,
+            Range<LocalDate> endDateRange,
+            Pageable pageable
+    );
+
+    /**
+     * Project history for a project: applications in the given status whose
+     * employeeProjectEndDate falls within the range (backed by project_status_end_idx).
+     */
+    Page<Application> findByProjectIdAndCurrentStatusAndEmployeeProjectEndDateBetween(
+            String projectId,
+            ApplicationStatus status,
+            Range<LocalDate> endDateRange,
+            Pageable pageable
+    );
+
+    /**
+     * Current assignment of an employee: the application for the given project
+     * that is still running on (or after) the given date
+     */
+    Optional<Application> findFirstByEmployeeIdAndProjectIdAndCurrentStatusAndEmployeeProjectEndDateGreaterThanEqual(
+            Integer employeeId,
+            String projectId,
+            ApplicationStatus status,
+            LocalDate date
+    );
 }
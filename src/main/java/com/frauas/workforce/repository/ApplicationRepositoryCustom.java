@@ -0,0 +1,96 @@
+package com.frauas.workforce.repository;
+
+import com.frauas.workforce.DTO.CursorPageResponse;
+import com.frauas.workforce.model.Application;
+import com.frauas.workforce.model.ApplicationStatus;
+import com.frauas.workforce.model.UserAction;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Custom application queries that cannot be expressed as derived query methods.
+ * Implemented by {@link ApplicationRepositoryCustomImpl} and exposed through
+ * {@link ApplicationRepository}.
+ */
+public interface ApplicationRepositoryCustom {
+
+    /**
+     * DH: Get applications of all employees in a department in a single round trip,
+     * ordered by _id and starting after the given cursor (keyset pagination).
+     *
+     * @param department Department of the employees
+     * @param status Optional status filter (null for all statuses)
+     * @param afterId Return only applications with an _id greater than this one (null for the first page)
+     * @param limit Maximum number of applications to return
+     * @return Applications ordered by _id ascending
+     */
+    List<Application> findDepartmentApplications(String department, ApplicationStatus status, String afterId, int limit);
+
+    /**
+     * Reject, in a single multi-document update, every application of an employee
+     * that is still in one of the given statuses, except the excluded one.
+     *
+     * @param employeeId Employee whose applications are rejected
+     * @param excludedId _id of the application that must not be touched
+     * @param statuses Statuses that are considered still open
+     * @param rejectedStatus Status to set on the matching applications
+     * @param rejectionReason Rejection reason to set
+     * @param rejectedBy User recorded as the rejecter
+     * @return Number of applications that were rejected
+     */
+    long rejectOpenApplicationsOfEmployee(Integer employeeId,
+                                          String excludedId,
+                                          Collection<ApplicationStatus> statuses,
+                                          ApplicationStatus rejectedStatus,
+                                          String rejectionReason,
+                                          UserAction rejectedBy);
+
+    /**
+     * Save an application only if the stored one is still in the expected status, in a
+     * single findAndReplace, so that two concurrent transitions of the same application
+     * cannot both succeed.
+     *
+     * @param application The changed application (must have an _id)
+     * @param expectedStatus Status the stored application must still have
+     * @return The saved application, or empty if the stored status has changed (or the application is gone)
+     */
+    Optional<Application> saveIfStatus(Application application, ApplicationStatus expectedStatus);
+
+    /**
+     * Count the applications of a project in the given status, grouped by projectRole,
+     * with one aggregation.
+     *
+     * @param projectId The business project ID
+     * @param status Status to count
+     * @return Number of applications per projectRole (roles without applications are absent)
+     */
+    Map<String, Long> countByProjectRole(String projectId, ApplicationStatus status);
+
+    /**
+     * Load one keyset-paginated page of applications.
+     *
+     * @param status Optional status filter (null for all statuses)
+     * @param request Validated sort, cursor, limit and fields
+     * @return Page of applications with a cursor for the next page
+     */
+    CursorPageResponse<Application> scrollApplications(ApplicationStatus status, ScrollRequest request);
+
+    /**
+     * Stream applications from a server-side cursor for export, without loading
+     * the result set into memory. The caller must close the stream.
+     *
+     * @param status Optional status filter
+     * @param projectId Optional business project ID filter
+     * @param employeeIds Optional filter on the applicants' employee IDs
+     * @param updatedSince Optional lower bound (inclusive) on lastModifiedAt; when set,
+     *                     applications are streamed in lastModifiedAt order
+     * @return Open stream over the matching applications
+     */
+    Stream<Application> streamApplications(ApplicationStatus status, String projectId,
+                                           Collection<Integer> employeeIds, Instant updatedSince);
+}
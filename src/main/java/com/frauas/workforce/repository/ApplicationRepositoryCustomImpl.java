@@ -0,0 +1,155 @@
+package com.frauas.workforce.repository;
+
+import com.frauas.workforce.DTO.CursorPageResponse;
+import com.frauas.workforce.model.Application;
+import com.frauas.workforce.model.ApplicationStatus;
+import com.frauas.workforce.model.UserAction;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * MongoTemplate based implementation of {@link ApplicationRepositoryCustom}.
+ */
+public class ApplicationRepositoryCustomImpl implements ApplicationRepositoryCustom {
+
+    private static final String EMPLOYEES = "employees";
+    private static final String APPLICATIONS = "applications";
+    private static final int EXPORT_BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final KeysetScroller scroller;
+
+    public ApplicationRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        this.scroller = new KeysetScroller(mongoTemplate);
+    }
+
+    @Override
+    public List<Application> findDepartmentApplications(String department, ApplicationStatus status, String afterId, int limit) {
+        // Filter the joined applications inside the $lookup so that only one page
+        // per employee is ever pulled into the pipeline
+        Criteria applicationFilter = new Criteria();
+        if (status != null) {
+            applicationFilter.and("currentStatus").is(status.name());
+        }
+        if (afterId != null) {
+            applicationFilter.and("_id").gt(new ObjectId(afterId));
+        }
+
+        List<AggregationOperation> pipeline = new ArrayList<>();
+        pipeline.add(Aggregation.match(Criteria.where("department").is(department)));
+        pipeline.add(Aggregation.project("employeeId").andExclude("_id"));
+        pipeline.add(Aggregation.lookup()
+                .from(APPLICATIONS)
+                .localField("employeeId")
+                .foreignField("employeeId")
+                .pipeline(
+                        Aggregation.match(applicationFilter),
+                        Aggregation.sort(Sort.Direction.ASC, "_id"),
+                        Aggregation.limit(limit)
+                )
+                .as("application"));
+        pipeline.add(Aggregation.unwind("application"));
+        pipeline.add(Aggregation.replaceRoot("application"));
+        pipeline.add(Aggregation.sort(Sort.Direction.ASC, "_id"));
+        pipeline.add(Aggregation.limit(limit));
+
+        return mongoTemplate.aggregate(Aggregation.newAggregation(pipeline), EMPLOYEES, Application.class)
+                .getMappedResults();
+    }
+
+    @Override
+    public long rejectOpenApplicationsOfEmployee(Integer employeeId,
+                                                 String excludedId,
+                                                 Collection<ApplicationStatus> statuses,
+                                                 ApplicationStatus rejectedStatus,
+                                                 String rejectionReason,
+                                                 UserAction rejectedBy) {
+        Query query = new Query(Criteria.where("employeeId").is(employeeId)
+                .and("currentStatus").in(statuses)
+                .and("id").ne(excludedId));
+
+        Update update = new Update()
+                .set("currentStatus", rejectedStatus)
+                .set("rejectionReason", rejectionReason)
+                .set("rejectedBy", rejectedBy)
+                // updateMulti bypasses auditing, so keep lastModifiedAt in step by hand
+                .set("lastModifiedAt", Instant.now());
+
+        return mongoTemplate.updateMulti(query, update, Application.class).getModifiedCount();
+    }
+
+    @Override
+    public Optional<Application> saveIfStatus(Application application, ApplicationStatus expectedStatus) {
+        Query query = new Query(Criteria.where("id").is(application.getId())
+                .and("currentStatus").is(expectedStatus));
+
+        // Runs the auditing callbacks like save, so lastModifiedAt is kept up to date
+        return Optional.ofNullable(mongoTemplate.findAndReplace(
+                query, application, FindAndReplaceOptions.options().returnNew()));
+    }
+
+    @Override
+    public Map<String, Long> countByProjectRole(String projectId, ApplicationStatus status) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("projectId").is(projectId)
+                        .and("currentStatus").is(status.name())),
+                Aggregation.group("projectRole").count().as("count")
+        );
+
+        Map<String, Long> counts = new HashMap<>();
+        for (Document group : mongoTemplate.aggregate(aggregation, APPLICATIONS, Document.class)) {
+            counts.put(group.getString("_id"), ((Number) group.get("count")).longValue());
+        }
+        return counts;
+    }
+
+    @Override
+    public CursorPageResponse<Application> scrollApplications(ApplicationStatus status, ScrollRequest request) {
+        Criteria filter = status != null
+                ? Criteria.where("currentStatus").is(status)
+                : new Criteria();
+        return scroller.scroll(Application.class, filter, request);
+    }
+
+    @Override
+    public Stream<Application> streamApplications(ApplicationStatus status, String projectId,
+                                                  Collection<Integer> employeeIds, Instant updatedSince) {
+        Criteria criteria = new Criteria();
+        if (status != null) {
+            criteria.and("currentStatus").is(status);
+        }
+        if (projectId != null) {
+            criteria.and("projectId").is(projectId);
+        }
+        if (employeeIds != null) {
+            criteria.and("employeeId").in(employeeIds);
+        }
+        if (updatedSince != null) {
+            criteria.and("lastModifiedAt").gte(updatedSince);
+        }
+
+        Query query = new Query(criteria).cursorBatchSize(EXPORT_BATCH_SIZE);
+        if (updatedSince != null) {
+            query.with(Sort.by(Sort.Direction.ASC, "lastModifiedAt"));
+        }
+        return mongoTemplate.stream(query, Application.class);
+    }
+}
@@ -0,0 +1,9 @@
+package com.frauas.workforce.repository;
+
+import com.frauas.workforce.model.DatabaseSequence;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DatabaseSequenceRepository extends MongoRepository<DatabaseSequence, String>, DatabaseSequenceRepositoryCustom {
+}
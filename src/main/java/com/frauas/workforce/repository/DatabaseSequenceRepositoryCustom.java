@@ -0,0 +1,33 @@
+package com.frauas.workforce.repository;
+
+/**
+ * Atomic allocation of values from named counters.
+ */
+public interface DatabaseSequenceRepositoryCustom {
+
+    /**
+     * Create the counter with the given start value unless it already exists.
+     *
+     * @param name Counter name
+     * @param start Value the counter starts from (the next allocated value is start + 1)
+     */
+    void initializeIfAbsent(String name, long start);
+
+    /**
+     * Reserve a block of consecutive values with a single findAndModify $inc.
+     *
+     * @param name Counter name
+     * @param blockSize Number of values to reserve
+     * @return The highest value of the reserved block; the block is (result - blockSize, result]
+     */
+    long allocateBlock(String name, int blockSize);
+
+    /**
+     * Raise the counter to at least the given value with a single $max update, so that
+     * values up to it (e.g. explicitly assigned IDs) are never allocated.
+     *
+     * @param name Counter name
+     * @param value Highest value that is already in use
+     */
+    void advanceTo(String name, long value);
+}
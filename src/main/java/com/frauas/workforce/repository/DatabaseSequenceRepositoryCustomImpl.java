@@ -0,0 +1,59 @@
+package com.frauas.workforce.repository;
+
+import com.frauas.workforce.model.DatabaseSequence;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * MongoTemplate based implementation of {@link DatabaseSequenceRepositoryCustom}.
+ */
+public class DatabaseSequenceRepositoryCustomImpl implements DatabaseSequenceRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    public DatabaseSequenceRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void initializeIfAbsent(String name, long start) {
+        try {
+            mongoTemplate.upsert(
+                    new Query(Criteria.where("id").is(name)),
+                    new Update().setOnInsert("seq", start),
+                    DatabaseSequence.class);
+        } catch (DuplicateKeyException e) {
+            // Created concurrently by another node
+        }
+    }
+
+    @Override
+    public long allocateBlock(String name, int blockSize) {
+        DatabaseSequence sequence = mongoTemplate.findAndModify(
+                new Query(Criteria.where("id").is(name)),
+                new Update().inc("seq", blockSize),
+                FindAndModifyOptions.options().returnNew(true).upsert(true),
+                DatabaseSequence.class);
+        return sequence.getSeq();
+    }
+
+    @Override
+    public void advanceTo(String name, long value) {
+        try {
+            mongoTemplate.upsert(
+                    new Query(Criteria.where("id").is(name)),
+                    new Update().max("seq", value),
+                    DatabaseSequence.class);
+        } catch (DuplicateKeyException e) {
+            // Created concurrently by another node; retry as a plain update
+            mongoTemplate.updateFirst(
+                    new Query(Criteria.where("id").is(name)),
+                    new Update().max("seq", value),
+                    DatabaseSequence.class);
+        }
+    }
+}
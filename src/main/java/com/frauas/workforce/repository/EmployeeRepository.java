@@ -2,17 +2,47 @@ package com.frauas.workforce.repository;
 
 import com.frauas.workforce.model.Employee;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface EmployeeRepository extends MongoRepository<Employee, String> {
+public interface EmployeeRepository extends MongoRepository<Employee, String>, EmployeeRepositoryCustom {
     Optional<Employee> findByUsername(String username);
     Optional<Employee> findByEmail(String email);
     Optional<Employee> findTopByOrderByEmployeeIdDesc();
     Optional<Employee> findByEmployeeId(Integer employeeId);
     List<Employee> findByDepartment(String department);
-}
 
+    /**
+     * Batch lookup of usernames for response mapping.
+     * Only employeeId and username are loaded; all other fields are null.
+     */
+    @Query(value = "{ 'employeeId': { $in: ?0 } }", fields = "{ 'employeeId': 1, 'username': 1 }")
+    List<Employee> findUsernamesByEmployeeIdIn(Collection<Integer> employeeIds);
+
+    /**
+     * Batch lookup of employees by employeeId. Password hashes are not loaded.
+     */
+    @Query(value = "{ 'employeeId': { $in: ?0 } }", fields = "{ 'password': 0 }")
+    List<Employee> findByEmployeeIdIn(Collection<Integer> employeeIds);
+
+    /**
+     * Employee IDs of a department, for filtering other collections by department.
+     * Only employeeId is loaded; all other fields are null.
+     */
+    @Query(value = "{ 'department': ?0 }", fields = "{ 'employeeId': 1 }")
+    List<Employee> findEmployeeIdsByDepartment(String department);
+
+    /**
+     * Existing employees that share a username, email or employeeId with an import batch.
+     * Only employeeId, username and email are loaded; all other fields are null.
+     */
+    @Query(value = "{ $or: [ { 'username': { $in: ?0 } }, { 'email': { $in: ?1 } }, { 'employeeId': { $in: ?2 } } ] }",
+            fields = "{ 'employeeId': 1, 'username': 1, 'email': 1 }")
+    List<Employee> findIdentityConflicts(Collection<String> usernames, Collection<String> emails,
+                                         Collection<Integer> employeeIds);
+}
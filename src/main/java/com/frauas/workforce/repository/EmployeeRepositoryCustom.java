@@ -0,0 +1,55 @@
+package com.frauas.workforce.repository;
+
+import com.frauas.workforce.DTO.CursorPageResponse;
+import com.frauas.workforce.model.Employee;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Custom employee queries that cannot be expressed as derived query methods.
+ * Implemented by {@link EmployeeRepositoryCustomImpl} and exposed through
+ * {@link EmployeeRepository}.
+ */
+public interface EmployeeRepositoryCustom {
+
+    /**
+     * Load one keyset-paginated page of employees.
+     *
+     * @param request Validated sort, cursor, limit and fields
+     * @return Page of employees with a cursor for the next page
+     */
+    CursorPageResponse<Employee> scrollEmployees(ScrollRequest request);
+
+    /**
+     * Stream employees from a server-side cursor for export, without loading
+     * the result set into memory. Passwords are not loaded. The caller must close the stream.
+     *
+     * @param department Optional department filter
+     * @param updatedSince Optional lower bound (inclusive) on lastModifiedAt; when set,
+     *                     employees are streamed in lastModifiedAt order
+     * @return Open stream over the matching employees
+     */
+    Stream<Employee> streamEmployees(String department, Instant updatedSince);
+
+    /**
+     * Stream the skill profiles of all employees from a server-side cursor, for building
+     * in-memory skill indexes. Only employeeId and skills are loaded; all other fields are null.
+     * The caller must close the stream.
+     *
+     * @return Open stream over all employees
+     */
+    Stream<Employee> streamSkillProfiles();
+
+    /**
+     * Insert new employees with one unordered bulk write. A failing document
+     * (e.g. a unique index violation) does not stop the others from being inserted.
+     * Every employee must already have its id assigned.
+     *
+     * @param employees Employees to insert
+     * @return Error message per failed position in the list; empty if all were inserted
+     */
+    Map<Integer, String> insertUnordered(List<Employee> employees);
+}
@@ -0,0 +1,85 @@
+package com.frauas.workforce.repository;
+
+import com.frauas.workforce.DTO.CursorPageResponse;
+import com.frauas.workforce.model.Employee;
+import com.mongodb.bulk.BulkWriteError;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * MongoTemplate based implementation of {@link EmployeeRepositoryCustom}.
+ */
+public class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
+
+    private static final int EXPORT_BATCH_SIZE = 500;
+    private static final int DUPLICATE_KEY_ERROR = 11000;
+
+    private final MongoTemplate mongoTemplate;
+    private final KeysetScroller scroller;
+
+    public EmployeeRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        this.scroller = new KeysetScroller(mongoTemplate);
+    }
+
+    @Override
+    public CursorPageResponse<Employee> scrollEmployees(ScrollRequest request) {
+        return scroller.scroll(Employee.class, new Criteria(), request);
+    }
+
+    @Override
+    public Stream<Employee> streamEmployees(String department, Instant updatedSince) {
+        Criteria criteria = new Criteria();
+        if (department != null) {
+            criteria.and("department").is(department);
+        }
+        if (updatedSince != null) {
+            criteria.and("lastModifiedAt").gte(updatedSince);
+        }
+
+        Query query = new Query(criteria).cursorBatchSize(EXPORT_BATCH_SIZE);
+        query.fields().exclude("password");
+        if (updatedSince != null) {
+            query.with(Sort.by(Sort.Direction.ASC, "lastModifiedAt"));
+        }
+        return mongoTemplate.stream(query, Employee.class);
+    }
+
+    @Override
+    public Stream<Employee> streamSkillProfiles() {
+        Query query = new Query().cursorBatchSize(EXPORT_BATCH_SIZE);
+        query.fields().include("employeeId", "skills");
+        return mongoTemplate.stream(query, Employee.class);
+    }
+
+    @Override
+    public Map<Integer, String> insertUnordered(List<Employee> employees) {
+        if (employees.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Employee.class)
+                    .insert(employees)
+                    .execute();
+            return Map.of();
+        } catch (BulkOperationException e) {
+            Map<Integer, String> errors = new HashMap<>();
+            for (BulkWriteError error : e.getErrors()) {
+                errors.put(error.getIndex(), error.getCode() == DUPLICATE_KEY_ERROR
+                        ? "Duplicate username, email or employeeId"
+                        : error.getMessage());
+            }
+            return errors;
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.frauas.workforce.repository;
+
+import com.frauas.workforce.DTO.CursorPageResponse;
+import com.frauas.workforce.model.Application;
+import com.frauas.workforce.model.ApplicationStatus;
+import com.frauas.workforce.model.Employee;
+import com.frauas.workforce.model.UserAction;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * In-memory {@link ApplicationRepository} (profile "inmemory").
+ *
+ * Hash indexes: applicationId (unique, as in MongoDB), employeeId, projectId,
+ * currentStatus and (projectId, projectRole, currentStatus) for the role capacity checks.
+ */
+@Repository
+@Profile("inmemory")
+public class InMemoryApplicationRepository extends InMemoryRepository<Application> implements ApplicationRepository {
+
+    private static final String APPLICATION_ID = "applicationId";
+    private static final String EMPLOYEE_ID = "employeeId";
+    private static final String PROJECT_ID = "projectId";
+    private static final String STATUS = "currentStatus";
+    private static final String PROJECT_ROLE_STATUS = "projectId_projectRole_currentStatus";
+
+    private final EmployeeRepository employeeRepository;
+
+    public InMemoryApplicationRepository(InMemoryStore store, EmployeeRepository employeeRepository) {
+        super(store, Application.class, List.of(
+                InMemoryCollection.uniqueIndex(APPLICATION_ID, Application::getApplicationId),
+                InMemoryCollection.index(EMPLOYEE_ID, Application::getEmployeeId),
+                InMemoryCollection.index(PROJECT_ID, Application::getProjectId),
+                InMemoryCollection.index(STATUS, Application::getCurrentStatus),
+                InMemoryCollection.index(PROJECT_ROLE_STATUS, application -> Arrays.asList(
+                        application.getProjectId(), application.getProjectRole(), application.getCurrentStatus()))));
+        this.employeeRepository = employeeRepository;
+    }
+
+    @Override
+    public List<Application> findByEmployeeId(Integer employeeId) {
+        return collection.findBy(EMPLOYEE_ID, employeeId);
+    }
+
+    @Override
+    public Optional<Application> findByApplicationId(String applicationId) {
+        return collection.findBy(APPLICATION_ID, applicationId).stream().findFirst();
+    }
+
+    @Override
+    public Optional<Application> findByEmployeeIdAndProjectIdAndProjectRole(Integer employeeId, String projectId,
+                                                                            String projectRole) {
+        return findByEmployeeId(employeeId).stream()
+                .filter(application -> Objects.equals(projectId, application.getProjectId())
+                        && Objects.equals(projectRole, application.getProjectRole()))
+                .findFirst();
+    }
+
+    @Override
+    public List<Application> findByCurrentStatus(ApplicationStatus status) {
+        return collection.findBy(STATUS, status);
+    }
+
+    @Override
+    public List<Application> findByProjectIdAndCurrentStatus(String projectId, ApplicationStatus status) {
+        return collection.findBy(PROJECT_ID, projectId).stream()
+                .filter(application -> application.getCurrentStatus() == status)
+                .toList();
+    }
+
+    @Override
+    public List<Application> findByProjectIdAndCurrentStatusIn(String projectId, List<ApplicationStatus> statuses) {
+        return collection.findBy(PROJECT_ID, projectId).stream()
+                .filter(application -> statuses.contains(application.getCurrentStatus()))
+                .toList();
+    }
+
+    @Override
+    public List<Application> findByEmployeeIdIn(List<Integer> employeeIds) {
+        return collection.findByIn(EMPLOYEE_ID, employeeIds);
+    }
+
+    @Override
+    public List<Application> findByEmployeeIdInAndCurrentStatus(List<Integer> employeeIds, ApplicationStatus status) {
+        return collection.findByIn(EMPLOYEE_ID, employeeIds).stream()
+                .filter(application -> application.getCurrentStatus() == status)
+                .toList();
+    }
+
+    @Override
+    public List<Application> findByEmployeeIdInAndCurrentStatusIn(List<Integer> employeeIds,
+                                                                  List<ApplicationStatus> statuses) {
+        return collection.findByIn(EMPLOYEE_ID, employeeIds).stream()
+                .filter(application -> statuses.contains(application.getCurrentStatus()))
+                .toList();
+    }
+
+    @Override
+    public List<Application> findByProjectId(String projectId) {
+        return collection.findBy(PROJECT_ID, projectId);
+    }
+
+    @Override
+    public List<Application> findByProjectIdAndProjectRoleAndCurrentStatus(String projectId, String projectRole,
+                                                                          ApplicationStatus status) {
+        return collection.findBy(PROJECT_ROLE_STATUS, Arrays.asList(projectId, projectRole, status));
+    }
+
+    @Override
+    public long countByProjectIdAndProjectRoleAndCurrentStatus(String projectId, String projectRole,
+                                                              ApplicationStatus status) {
+        return findByProjectIdAndProjectRoleAndCurrentStatus(projectId, projectRole, status).size();
+    }
+
+    @Override
+    public Page<Application> findByEmployeeIdAndCurrentStatusAndEmployeeProjectEndDateBetween(
+            Integer employeeId, ApplicationStatus status, Range<LocalDate> endDateRange, Pageable pageable) {
+        return page(endingWithin(findByEmployeeId(employeeId).stream(), status, endDateRange), pageable);
+    }
+
+    @Override
+    public Page<Application> findByProjectIdAndCurrentStatusAndEmployeeProjectEndDateBetween(
+            String projectId, ApplicationStatus status, Range<LocalDate> endDateRange, Pageable pageable) {
+        return page(endingWithin(findByProjectId(projectId).stream(), status, endDateRange), pageable);
+    }
+
+    @Override
+    public Optional<Application> findFirstByEmployeeIdAndProjectIdAndCurrentStatusAndEmployeeProjectEndDateGreaterThanEqual(
+            Integer employeeId, String projectId, ApplicationStatus status, LocalDate date) {
+        return findByEmployeeId(employeeId).stream()
+                .filter(application -> Objects.equals(projectId, application.getProjectId())
+                        && application.getCurrentStatus() == status
+                        && application.getEmployeeProjectEndDate() != null
+                        && !application.getEmployeeProjectEndDate().isBefore(date))
+                .findFirst();
+    }
+
+    @Override
+    public List<Application> findDepartmentApplications(String department, ApplicationStatus status, String afterId,
+                                                        int limit) {
+        List<Integer> employeeIds = employeeRepository.findEmployeeIdsByDepartment(department).stream()
+                .map(Employee::getEmployeeId)
+                .toList();
+        return collection.findByIn(EMPLOYEE_ID, employeeIds).stream()
+                .filter(application -> status == null || application.getCurrentStatus() == status)
+                .filter(application -> afterId == null || application.getId().compareTo(afterId) > 0)
+                .sorted(Comparator.comparing(Application::getId))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public long rejectOpenApplicationsOfEmployee(Integer employeeId,
+                                                 String excludedId,
+                                                 Collection<ApplicationStatus> statuses,
+                                                 ApplicationStatus rejectedStatus,
+                                                 String rejectionReason,
+                                                 UserAction rejectedBy) {
+        Instant now = Instant.now();
+        long rejected = 0;
+        for (Application open : findByEmployeeId(employeeId)) {
+            Application updated = collection.compute(open.getId(), current -> {
+                // Re-check under the write lock: the application may have changed since the lookup
+                if (current == null || current.getId().equals(excludedId)
+                        || !Objects.equals(employeeId, current.getEmployeeId())
+                        || !statuses.contains(current.getCurrentStatus())) {
+                    return null;
+                }
+                current.setCurrentStatus(rejectedStatus);
+                current.setRejectionReason(rejectionReason);
+                current.setRejectedBy(rejectedBy);
+                // Like updateMulti, this bypasses auditing
+                current.setLastModifiedAt(now);
+                return current;
+            });
+            if (updated != null) {
+                rejected++;
+            }
+        }
+        return rejected;
+    }
+
+    @Override
+    public Optional<Application> saveIfStatus(Application application, ApplicationStatus expectedStatus) {
+        Application saved = collection.compute(application.getId(), current ->
+                current != null && current.getCurrentStatus() == expectedStatus
+                        ? store.audit(application)
+                        : null);
+        return Optional.ofNullable(saved);
+    }
+
+    @Override
+    public Map<String, Long> countByProjectRole(String projectId, ApplicationStatus status) {
+        Map<String, Long> counts = new HashMap<>();
+        for (Application application : findByProjectIdAndCurrentStatus(projectId, status)) {
+            counts.merge(application.getProjectRole(), 1L, Long::sum);
+        }
+        return counts;
+    }
+
+    @Override
+    public CursorPageResponse<Application> scrollApplications(ApplicationStatus status, ScrollRequest request) {
+        Stream<Application> candidates = status != null
+                ? collection.findBy(STATUS, status).stream()
+                : collection.stream();
+        return collection.scroll(candidates, request);
+    }
+
+    @Override
+    public Stream<Application> streamApplications(ApplicationStatus status, String projectId,
+                                                  Collection<Integer> employeeIds, Instant updatedSince) {
+        Stream<Application> applications;
+        if (projectId != null) {
+            applications = collection.findBy(PROJECT_ID, projectId).stream();
+        } else if (employeeIds != null) {
+            applications = collection.findByIn(EMPLOYEE_ID, employeeIds).stream();
+        } else if (status != null) {
+            applications = collection.findBy(STATUS, status).stream();
+        } else {
+            applications = collection.stream();
+        }
+
+        applications = applications
+                .filter(application -> status == null || application.getCurrentStatus() == status)
+                .filter(application -> projectId == null || Objects.equals(projectId, application.getProjectId()))
+                .filter(application -> employeeIds == null || employeeIds.contains(application.getEmployeeId()));
+        if (updatedSince != null) {
+            List<Application> changed = applications
+                    .filter(application -> application.getLastModifiedAt() != null
+                            && !application.getLastModifiedAt().isBefore(updatedSince))
+                    .toList();
+            applications = collection.sort(changed, Sort.by(Sort.Direction.ASC, "lastModifiedAt")).stream();
+        }
+        return applications;
+    }
+
+    private static List<Application> endingWithin(Stream<Application> applications, ApplicationStatus status,
+                                                  Range<LocalDate> range) {
+        return applications
+                .filter(application -> application.getCurrentStatus() == status
+                        && application.getEmployeeProjectEndDate() != null
+                        && range.contains(application.getEmployeeProjectEndDate(), Comparator.naturalOrder()))
+                .toList();
+    }
+}
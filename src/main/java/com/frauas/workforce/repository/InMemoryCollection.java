@@ -0,0 +1,573 @@
+package com.frauas.workforce.repository;
+
+import com.frauas.workforce.DTO.CursorPageResponse;
+import org.bson.Document;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Thread-safe in-memory collection of one entity type, the storage behind the
+ * in-memory repositories.
+ *
+ * Entities are kept in their MongoDB document form, so every read returns a fresh
+ * copy (as a database would) and snapshots are plain extended JSON. Hash indexes map
+ * a key - one property, or a list of properties for a compound index - to the ids
+ * of the entities that have it.
+ *
+ * Reads take no lock. Writes are serialized per collection, which keeps unique
+ * indexes exact; a reader racing a write may find an id under a stale key, so
+ * index lookups re-check the key of every document they return.
+ */
+class InMemoryCollection<T> {
+
+    private static final String ID = "id";
+    private static final Object NULL_KEY = new Object();
+    private static final JsonWriterSettings SNAPSHOT_JSON = JsonWriterSettings.builder()
+            .outputMode(JsonMode.EXTENDED)
+            .build();
+
+    private final String name;
+    private final Class<T> type;
+    private final MongoConverter converter;
+    private final MongoPersistentEntity<?> entity;
+    private final List<Index<T>> indexes;
+    private final Map<String, Integer> indexPositions = new HashMap<>();
+    private final ConcurrentHashMap<String, Stored> documents = new ConcurrentHashMap<>();
+    // A lock rather than a monitor: a virtual thread waiting for a monitor pins its carrier thread
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    InMemoryCollection(String name, Class<T> type, MongoConverter converter, List<Index<T>> indexes) {
+        this.name = name;
+        this.type = type;
+        this.converter = converter;
+        this.entity = converter.getMappingContext().getRequiredPersistentEntity(type);
+        this.indexes = List.copyOf(indexes);
+        for (int i = 0; i < indexes.size(); i++) {
+            indexPositions.put(indexes.get(i).name, i);
+        }
+    }
+
+    /**
+     * Hash index on a key derived from the entity.
+     *
+     * @param name Index name used for lookups
+     * @param key Key of an entity; use Arrays.asList(...) for compound keys
+     */
+    static <T> Index<T> index(String name, Function<T, ?> key) {
+        return new Index<>(name, key, false);
+    }
+
+    /**
+     * Hash index that rejects a second entity with the same key. Entities without
+     * a key (null) are not checked, like a sparse unique index.
+     */
+    static <T> Index<T> uniqueIndex(String name, Function<T, ?> key) {
+        return new Index<>(name, key, true);
+    }
+
+    String getName() {
+        return name;
+    }
+
+    long count() {
+        return documents.size();
+    }
+
+    boolean exists(String id) {
+        return documents.containsKey(id);
+    }
+
+    Optional<T> findById(String id) {
+        Stored stored = documents.get(id);
+        return stored != null ? Optional.of(read(stored.document)) : Optional.empty();
+    }
+
+    /**
+     * All entities whose index key equals the given key.
+     */
+    List<T> findBy(String index, Object key) {
+        int position = position(index);
+        Object normalized = normalize(key);
+        List<T> found = new ArrayList<>();
+        addMatches(indexes.get(position).entries.get(normalized), position, normalized, found);
+        return found;
+    }
+
+    /**
+     * All entities whose index key equals one of the given keys.
+     */
+    List<T> findByIn(String index, Collection<?> keys) {
+        int position = position(index);
+        List<T> found = new ArrayList<>();
+        for (Object key : new LinkedHashSet<>(keys)) {
+            Object normalized = normalize(key);
+            addMatches(indexes.get(position).entries.get(normalized), position, normalized, found);
+        }
+        return found;
+    }
+
+    /**
+     * Distinct non-null keys of an index.
+     */
+    Set<Object> keys(String index) {
+        Set<Object> keys = new LinkedHashSet<>(indexes.get(position(index)).entries.keySet());
+        keys.remove(NULL_KEY);
+        return keys;
+    }
+
+    /**
+     * All entities, converted lazily (a full scan).
+     */
+    Stream<T> stream() {
+        return documents.values().stream().map(stored -> read(stored.document));
+    }
+
+    /**
+     * Insert a new entity, assigning an ObjectId when it has no id yet.
+     *
+     * @throws DuplicateKeyException if the id or a unique key is taken
+     */
+    T insert(T value) {
+        put(assignId(value), value, toDocument(value), true);
+        return value;
+    }
+
+    /**
+     * Insert or replace an entity, assigning an ObjectId when it has no id yet.
+     *
+     * @throws DuplicateKeyException if a unique key is taken by another entity
+     */
+    T save(T value) {
+        put(assignId(value), value, toDocument(value), false);
+        return value;
+    }
+
+    /**
+     * Atomically update one entity, like findAndModify.
+     *
+     * @param id Entity id
+     * @param change Gets a copy of the current entity (null if absent) and returns the
+     *               version to store, or null to leave the entity unchanged
+     * @return The stored version, or null if nothing was written
+     */
+    T compute(String id, UnaryOperator<T> change) {
+        writeLock.lock();
+        try {
+            Stored stored = documents.get(id);
+            T updated = change.apply(stored != null ? read(stored.document) : null);
+            if (updated == null) {
+                return null;
+            }
+            entity.getPropertyAccessor(updated).setProperty(entity.getRequiredIdProperty(), id);
+            put(id, updated, toDocument(updated), false);
+            return updated;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * @return The removed entity, or null if there was none
+     */
+    T delete(String id) {
+        writeLock.lock();
+        try {
+            Stored removed = documents.remove(id);
+            if (removed == null) {
+                return null;
+            }
+            for (int i = 0; i < indexes.size(); i++) {
+                indexes.get(i).remove(removed.keys[i], id);
+            }
+            return read(removed.document);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    void clear() {
+        writeLock.lock();
+        try {
+            documents.clear();
+            indexes.forEach(index -> index.entries.clear());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Sort entities like MongoDB: values compare in their stored form and missing
+     * values sort lowest.
+     */
+    List<T> sort(List<T> rows, Sort sort) {
+        if (sort.isUnsorted() || rows.size() < 2) {
+            return rows;
+        }
+        List<Sort.Order> orders = sort.toList();
+        List<Object[]> keyed = new ArrayList<>(rows.size());
+        for (T row : rows) {
+            PersistentPropertyAccessor<T> accessor = entity.getPropertyAccessor(row);
+            Object[] keys = new Object[orders.size() + 1];
+            for (int i = 0; i < orders.size(); i++) {
+                MongoPersistentProperty property = entity.getPersistentProperty(orders.get(i).getProperty());
+                keys[i] = property != null ? storedValue(accessor.getProperty(property)) : null;
+            }
+            keys[orders.size()] = row;
+            keyed.add(keys);
+        }
+        keyed.sort((left, right) -> {
+            for (int i = 0; i < orders.size(); i++) {
+                int result = compareValues(left[i], right[i]);
+                if (result != 0) {
+                    return orders.get(i).isAscending() ? result : -result;
+                }
+            }
+            return 0;
+        });
+        @SuppressWarnings("unchecked")
+        List<T> sorted = keyed.stream().map(keys -> (T) keys[orders.size()]).toList();
+        return new ArrayList<>(sorted);
+    }
+
+    /**
+     * Load one keyset-paginated page, with the same ordering and cursor format as
+     * {@link KeysetScroller}. Only limit + 1 rows are held while scanning.
+     *
+     * @param candidates Entities matching the endpoint filter
+     * @param request Validated scroll request
+     * @throws IllegalArgumentException for unknown fields or a cursor that is invalid for this sort
+     */
+    CursorPageResponse<T> scroll(Stream<T> candidates, ScrollRequest request) {
+        MongoPersistentProperty sortProperty = requireProperty(request.getSortProperty());
+        request.getFields().forEach(this::requireProperty);
+        boolean byId = ID.equals(sortProperty.getName());
+
+        Comparator<Row<T>> order = byId
+                ? (left, right) -> compareValues(left.id, right.id)
+                : (left, right) -> {
+                    int result = compareValues(left.value, right.value);
+                    return result != 0 ? result : compareValues(left.id, right.id);
+                };
+        if (!request.getDirection().isAscending()) {
+            order = order.reversed();
+        }
+
+        Row<T> after = null;
+        if (request.getCursor() != null && !request.getCursor().isBlank()) {
+            Document cursor = KeysetScroller.decodeCursor(request);
+            after = new Row<>(cursor.get("v"), cursor.get("id"), null);
+        }
+
+        // Keep the first limit + 1 rows in a max-heap instead of sorting the whole collection
+        int wanted = request.getLimit() + 1;
+        PriorityQueue<Row<T>> page = new PriorityQueue<>(wanted + 1, order.reversed());
+        Row<T> cursorRow = after;
+        Comparator<Row<T>> rowOrder = order;
+        candidates.forEach(candidate -> {
+            PersistentPropertyAccessor<T> accessor = entity.getPropertyAccessor(candidate);
+            Row<T> row = new Row<>(byId ? null : storedValue(accessor.getProperty(sortProperty)),
+                    accessor.getProperty(entity.getRequiredIdProperty()), candidate);
+            if (cursorRow == null || rowOrder.compare(row, cursorRow) > 0) {
+                page.add(row);
+                if (page.size() > wanted) {
+                    page.poll();
+                }
+            }
+        });
+
+        List<Row<T>> rows = new ArrayList<>(page);
+        rows.sort(order);
+        boolean hasNext = rows.size() > request.getLimit();
+        if (hasNext) {
+            rows = rows.subList(0, request.getLimit());
+        }
+        String nextCursor = hasNext
+                ? KeysetScroller.encodeCursor(request, rows.get(rows.size() - 1).id, rows.get(rows.size() - 1).value)
+                : null;
+
+        List<T> content = new ArrayList<>(rows.size());
+        for (Row<T> row : rows) {
+            if (request.getFields().isEmpty()) {
+                content.add(row.entity);
+            } else {
+                Set<String> fields = new LinkedHashSet<>(request.getFields());
+                fields.add(sortProperty.getName());
+                content.add(project(row.entity, fields));
+            }
+        }
+        return new CursorPageResponse<>(content, content.size(), hasNext, nextCursor);
+    }
+
+    /**
+     * Copy of an entity with only the given properties (and the id) loaded,
+     * like a MongoDB field projection.
+     */
+    T project(T value, Set<String> properties) {
+        Document full = toDocument(value);
+        Document projected = new Document("_id", full.get("_id"));
+        for (String property : properties) {
+            String field = requireProperty(property).getFieldName();
+            if (full.containsKey(field)) {
+                projected.put(field, full.get(field));
+            }
+        }
+        return read(projected);
+    }
+
+    /**
+     * Write every document as one line of MongoDB extended JSON (the mongoexport format).
+     */
+    void writeSnapshot(Writer writer) throws IOException {
+        for (Stored stored : documents.values()) {
+            writer.write(stored.document.toJson(SNAPSHOT_JSON));
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * Add the documents of a snapshot, one extended JSON document per line.
+     *
+     * @return Number of documents loaded
+     */
+    long readSnapshot(BufferedReader reader) throws IOException {
+        long loaded = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            Document document = Document.parse(line);
+            Object id = document.get("_id");
+            if (id == null) {
+                throw new IllegalStateException("Snapshot document without _id in " + name);
+            }
+            put(id instanceof ObjectId objectId ? objectId.toHexString() : id.toString(),
+                    read(document), document, true);
+            loaded++;
+        }
+        return loaded;
+    }
+
+    private void put(String id, T value, Document document, boolean insert) {
+        Object[] keys = new Object[indexes.size()];
+        for (int i = 0; i < indexes.size(); i++) {
+            keys[i] = normalize(indexes.get(i).key.apply(value));
+        }
+
+        writeLock.lock();
+        try {
+            Stored previous = documents.get(id);
+            if (insert && previous != null) {
+                throw new DuplicateKeyException("Duplicate key in " + name + ": _id " + id);
+            }
+            for (int i = 0; i < indexes.size(); i++) {
+                Index<T> index = indexes.get(i);
+                if (index.unique && keys[i] != NULL_KEY && index.isTakenByOther(keys[i], id)) {
+                    throw new DuplicateKeyException("Duplicate key in " + name + ": " + index.name + " " + keys[i]);
+                }
+            }
+
+            // Index the new keys before publishing the document, and drop stale keys after
+            for (int i = 0; i < indexes.size(); i++) {
+                indexes.get(i).add(keys[i], id);
+            }
+            documents.put(id, new Stored(document, keys));
+            if (previous != null) {
+                for (int i = 0; i < indexes.size(); i++) {
+                    if (!Objects.equals(previous.keys[i], keys[i])) {
+                        indexes.get(i).remove(previous.keys[i], id);
+                    }
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void addMatches(Set<String> ids, int position, Object key, List<T> found) {
+        if (ids == null) {
+            return;
+        }
+        for (String id : ids) {
+            Stored stored = documents.get(id);
+            if (stored != null && Objects.equals(stored.keys[position], key)) {
+                found.add(read(stored.document));
+            }
+        }
+    }
+
+    /**
+     * @return The id of an entity, or null if it has none yet
+     */
+    String idOf(T value) {
+        Object id = entity.getPropertyAccessor(value).getProperty(entity.getRequiredIdProperty());
+        return id != null ? id.toString() : null;
+    }
+
+    private String assignId(T value) {
+        PersistentPropertyAccessor<T> accessor = entity.getPropertyAccessor(value);
+        Object id = accessor.getProperty(entity.getRequiredIdProperty());
+        if (id == null) {
+            id = new ObjectId().toHexString();
+            accessor.setProperty(entity.getRequiredIdProperty(), id);
+        }
+        return id.toString();
+    }
+
+    private Document toDocument(T value) {
+        Document document = new Document();
+        converter.write(value, document);
+        return document;
+    }
+
+    private T read(Document document) {
+        return converter.read(type, document);
+    }
+
+    private Object storedValue(Object value) {
+        return value != null ? converter.convertToMongoType(value) : null;
+    }
+
+    private int position(String index) {
+        Integer position = indexPositions.get(index);
+        if (position == null) {
+            throw new IllegalArgumentException("No index '" + index + "' on " + name);
+        }
+        return position;
+    }
+
+    private MongoPersistentProperty requireProperty(String property) {
+        MongoPersistentProperty persistentProperty = entity.getPersistentProperty(property);
+        if (persistentProperty == null) {
+            throw new IllegalArgumentException("Unknown field '" + property + "'");
+        }
+        return persistentProperty;
+    }
+
+    private static Object normalize(Object key) {
+        return key != null ? key : NULL_KEY;
+    }
+
+    /**
+     * Compare two values in their stored form in MongoDB's sort order: null first,
+     * then numbers, strings, objects, arrays, ObjectIds, booleans and dates.
+     */
+    static int compareValues(Object left, Object right) {
+        int leftRank = typeRank(left);
+        int rightRank = typeRank(right);
+        if (leftRank != rightRank) {
+            return Integer.compare(leftRank, rightRank);
+        }
+        if (left == null) {
+            return 0;
+        }
+        if (left instanceof Number leftNumber && right instanceof Number rightNumber) {
+            return isIntegral(leftNumber) && isIntegral(rightNumber)
+                    ? Long.compare(leftNumber.longValue(), rightNumber.longValue())
+                    : Double.compare(leftNumber.doubleValue(), rightNumber.doubleValue());
+        }
+        if (left.getClass() == right.getClass() && left instanceof Comparable) {
+            @SuppressWarnings("unchecked")
+            Comparable<Object> comparable = (Comparable<Object>) left;
+            return comparable.compareTo(right);
+        }
+        return left.toString().compareTo(right.toString());
+    }
+
+    private static int typeRank(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Number) {
+            return 1;
+        }
+        if (value instanceof String) {
+            return 2;
+        }
+        if (value instanceof Map) {
+            return 3;
+        }
+        if (value instanceof Collection) {
+            return 4;
+        }
+        if (value instanceof ObjectId) {
+            return 5;
+        }
+        if (value instanceof Boolean) {
+            return 6;
+        }
+        if (value instanceof Date) {
+            return 7;
+        }
+        return 8;
+    }
+
+    private static boolean isIntegral(Number number) {
+        return number instanceof Integer || number instanceof Long
+                || number instanceof Short || number instanceof Byte;
+    }
+
+    private record Stored(Document document, Object[] keys) {
+    }
+
+    private record Row<T>(Object value, Object id, T entity) {
+    }
+
+    static final class Index<T> {
+        private final String name;
+        private final Function<T, ?> key;
+        private final boolean unique;
+        private final ConcurrentHashMap<Object, Set<String>> entries = new ConcurrentHashMap<>();
+
+        private Index(String name, Function<T, ?> key, boolean unique) {
+            this.name = name;
+            this.key = key;
+            this.unique = unique;
+        }
+
+        private boolean isTakenByOther(Object key, String id) {
+            Set<String> ids = entries.get(key);
+            return ids != null && ids.stream().anyMatch(other -> !other.equals(id));
+        }
+
+        // Only called under the collection's write lock
+        private void add(Object key, String id) {
+            entries.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+
+        private void remove(Object key, String id) {
+            entries.computeIfPresent(key, (k, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.frauas.workforce.repository;
+
+import com.frauas.workforce.model.DatabaseSequence;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * In-memory {@link DatabaseSequenceRepository} (profile "inmemory"). Block
+ * allocation is atomic, like the findAndModify $inc it replaces.
+ */
+@Repository
+@Profile("inmemory")
+public class InMemoryDatabaseSequenceRepository extends InMemoryRepository<DatabaseSequence>
+        implements DatabaseSequenceRepository {
+
+    public InMemoryDatabaseSequenceRepository(InMemoryStore store) {
+        super(store, DatabaseSequence.class, List.of());
+    }
+
+    @Override
+    public void initializeIfAbsent(String name, long start) {
+        collection.compute(name, current -> current == null ? new DatabaseSequence(name, start) : null);
+    }
+
+    @Override
+    public long allocateBlock(String name, int blockSize) {
+        return collection.compute(name, current -> {
+            DatabaseSequence sequence = current != null ? current : new DatabaseSequence(name, 0);
+            sequence.setSeq(sequence.getSeq() + blockSize);
+            return sequence;
+        }).getSeq();
+    }
+
+    @Override
+    public void advanceTo(String name, long value) {
+        collection.compute(name, current -> {
+            DatabaseSequence sequence = current != null ? current : new DatabaseSequence(name, 0);
+            if (current != null && sequence.getSeq() >= value) {
+                return null;
+            }
+            sequence.setSeq(value);
+            return sequence;
+        });
+    }
+}
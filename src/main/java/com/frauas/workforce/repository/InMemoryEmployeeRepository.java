@@ -0,0 +1,148 @@
+package com.frauas.workforce.repository;
+
+import com.frauas.workforce.DTO.CursorPageResponse;
+import com.frauas.workforce.model.Employee;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * In-memory {@link EmployeeRepository} (profile "inmemory").
+ *
+ * Hash indexes: employeeId, username and email (unique, as in MongoDB) and department.
+ */
+@Repository
+@Profile("inmemory")
+public class InMemoryEmployeeRepository extends InMemoryRepository<Employee> implements EmployeeRepository {
+
+    private static final String EMPLOYEE_ID = "employeeId";
+    private static final String USERNAME = "username";
+    private static final String EMAIL = "email";
+    private static final String DEPARTMENT = "department";
+    private static final String SKILLS = "skills";
+
+    public InMemoryEmployeeRepository(InMemoryStore store) {
+        super(store, Employee.class, List.of(
+                InMemoryCollection.uniqueIndex(EMPLOYEE_ID, Employee::getEmployeeId),
+                InMemoryCollection.uniqueIndex(USERNAME, Employee::getUsername),
+                InMemoryCollection.uniqueIndex(EMAIL, Employee::getEmail),
+                InMemoryCollection.index(DEPARTMENT, Employee::getDepartment)));
+    }
+
+    @Override
+    public Optional<Employee> findByUsername(String username) {
+        return first(collection.findBy(USERNAME, username));
+    }
+
+    @Override
+    public Optional<Employee> findByEmail(String email) {
+        return first(collection.findBy(EMAIL, email));
+    }
+
+    @Override
+    public Optional<Employee> findTopByOrderByEmployeeIdDesc() {
+        return collection.keys(EMPLOYEE_ID).stream()
+                .map(Integer.class::cast)
+                .max(Comparator.naturalOrder())
+                .flatMap(this::findByEmployeeId);
+    }
+
+    @Override
+    public Optional<Employee> findByEmployeeId(Integer employeeId) {
+        return first(collection.findBy(EMPLOYEE_ID, employeeId));
+    }
+
+    @Override
+    public List<Employee> findByDepartment(String department) {
+        return collection.findBy(DEPARTMENT, department);
+    }
+
+    @Override
+    public List<Employee> findUsernamesByEmployeeIdIn(Collection<Integer> employeeIds) {
+        return project(collection.findByIn(EMPLOYEE_ID, employeeIds), EMPLOYEE_ID, USERNAME);
+    }
+
+    @Override
+    public List<Employee> findByEmployeeIdIn(Collection<Integer> employeeIds) {
+        List<Employee> employees = collection.findByIn(EMPLOYEE_ID, employeeIds);
+        employees.forEach(employee -> employee.setPassword(null));
+        return employees;
+    }
+
+    @Override
+    public List<Employee> findEmployeeIdsByDepartment(String department) {
+        return project(collection.findBy(DEPARTMENT, department), EMPLOYEE_ID);
+    }
+
+    @Override
+    public List<Employee> findIdentityConflicts(Collection<String> usernames, Collection<String> emails,
+                                                Collection<Integer> employeeIds) {
+        Map<String, Employee> conflicts = new LinkedHashMap<>();
+        Stream.of(collection.findByIn(USERNAME, usernames),
+                        collection.findByIn(EMAIL, emails),
+                        collection.findByIn(EMPLOYEE_ID, employeeIds))
+                .flatMap(List::stream)
+                .forEach(employee -> conflicts.putIfAbsent(employee.getId(), employee));
+        return project(List.copyOf(conflicts.values()), EMPLOYEE_ID, USERNAME, EMAIL);
+    }
+
+    @Override
+    public CursorPageResponse<Employee> scrollEmployees(ScrollRequest request) {
+        return collection.scroll(collection.stream(), request);
+    }
+
+    @Override
+    public Stream<Employee> streamEmployees(String department, Instant updatedSince) {
+        Stream<Employee> employees = department != null
+                ? collection.findBy(DEPARTMENT, department).stream()
+                : collection.stream();
+        if (updatedSince != null) {
+            List<Employee> changed = employees
+                    .filter(employee -> employee.getLastModifiedAt() != null
+                            && !employee.getLastModifiedAt().isBefore(updatedSince))
+                    .toList();
+            employees = collection.sort(changed, Sort.by(Sort.Direction.ASC, "lastModifiedAt")).stream();
+        }
+        return employees.peek(employee -> employee.setPassword(null));
+    }
+
+    @Override
+    public Stream<Employee> streamSkillProfiles() {
+        Set<String> fields = Set.of(EMPLOYEE_ID, SKILLS);
+        return collection.stream().map(employee -> collection.project(employee, fields));
+    }
+
+    @Override
+    public Map<Integer, String> insertUnordered(List<Employee> employees) {
+        Map<Integer, String> errors = new HashMap<>();
+        for (int i = 0; i < employees.size(); i++) {
+            try {
+                insert(employees.get(i));
+            } catch (DuplicateKeyException e) {
+                errors.put(i, "Duplicate username, email or employeeId");
+            }
+        }
+        return errors;
+    }
+
+    private List<Employee> project(List<Employee> employees, String... properties) {
+        Set<String> fields = Set.of(properties);
+        return employees.stream().map(employee -> collection.project(employee, fields)).toList();
+    }
+
+    private static Optional<Employee> first(List<Employee> employees) {
+        return employees.stream().findFirst();
+    }
+}
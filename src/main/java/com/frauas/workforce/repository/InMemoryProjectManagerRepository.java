@@ -0,0 +1,133 @@
+package com.frauas.workforce.repository;
+
+import com.frauas.workforce.DTO.CursorPageResponse;
+import com.frauas.workforce.model.Project;
+import com.frauas.workforce.model.ProjectStatus;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * In-memory {@link ProjectManagerRepository} (profile "inmemory").
+ *
+ * Hash index: projectId. The other project queries scan the collection, which is
+ * small compared to employees and applications.
+ *
+ * Also the {@link ProjectChangeSource} of the profile: this repository sees every
+ * write, so it reports each one to the listener synchronously and is always live.
+ */
+@Repository
+@Profile("inmemory")
+public class InMemoryProjectManagerRepository extends InMemoryRepository<Project>
+        implements ProjectManagerRepository, ProjectChangeSource {
+
+    private static final String PROJECT_ID = "projectId";
+
+    private volatile Listener listener;
+
+    public InMemoryProjectManagerRepository(InMemoryStore store) {
+        super(store, Project.class, List.of(InMemoryCollection.uniqueIndex(PROJECT_ID, Project::getProjectId)));
+    }
+
+    @Override
+    public synchronized void subscribe(Listener listener) {
+        if (this.listener != null) {
+            throw new IllegalStateException("Project changes already have a subscriber");
+        }
+        this.listener = listener;
+        listener.liveStateChanged(true);
+    }
+
+    @Override
+    protected void changed(Project project) {
+        Listener current = listener;
+        if (current != null) {
+            current.projectChanged(project != null ? project.getProjectId() : null);
+        }
+    }
+
+    @Override
+    public List<Project> findByIsPublished(Boolean isPublished) {
+        return scan(project -> Objects.equals(project.getIsPublished(), isPublished));
+    }
+
+    @Override
+    public Page<Project> findByIsPublished(Boolean isPublished, Pageable pageable) {
+        return page(findByIsPublished(isPublished), pageable);
+    }
+
+    @Override
+    public List<Project> findByStatus(ProjectStatus status) {
+        return scan(project -> project.getStatus() == status);
+    }
+
+    @Override
+    public List<Project> findByCreatedBy(String createdBy) {
+        return scan(project -> Objects.equals(project.getCreatedBy(), createdBy));
+    }
+
+    @Override
+    public List<Project> findByIsPublishedAndStatus(Boolean isPublished, ProjectStatus status) {
+        return scan(project -> Objects.equals(project.getIsPublished(), isPublished) && project.getStatus() == status);
+    }
+
+    @Override
+    public Page<Project> findByIsPublishedAndStatus(Boolean isPublished, ProjectStatus status, Pageable pageable) {
+        return page(findByIsPublishedAndStatus(isPublished, status), pageable);
+    }
+
+    @Override
+    public List<Project> findByLocationContainingIgnoreCase(String location) {
+        // Projects have no location field, so the MongoDB query never matches either
+        return List.of();
+    }
+
+    @Override
+    public List<Project> findByAssignedEmployeesContaining(String employeeId) {
+        // Projects have no assignedEmployees field, so the MongoDB query never matches either
+        return List.of();
+    }
+
+    @Override
+    public List<Project> findProjectsByEmployeeId(String employeeId) {
+        return scan(project -> Objects.equals(project.getCreatedBy(), employeeId)
+                || Objects.equals(project.getUpdatedBy(), employeeId));
+    }
+
+    @Override
+    public Optional<Project> findByProjectId(String projectId) {
+        return collection.findBy(PROJECT_ID, projectId).stream().findFirst();
+    }
+
+    @Override
+    public List<Project> findByProjectIdIn(Collection<String> projectIds) {
+        return collection.findByIn(PROJECT_ID, projectIds);
+    }
+
+    @Override
+    public boolean existsByProjectId(String projectId) {
+        return !collection.findBy(PROJECT_ID, projectId).isEmpty();
+    }
+
+    @Override
+    public List<Project> findByIsPublishedAndIsExternalSearch(Boolean isPublished, Boolean isExternalSearch) {
+        return scan(project -> Objects.equals(project.getIsPublished(), isPublished)
+                && Objects.equals(project.getIsExternalSearch(), isExternalSearch));
+    }
+
+    @Override
+    public CursorPageResponse<Project> scrollProjects(ScrollRequest request) {
+        return collection.scroll(collection.stream(), request);
+    }
+
+    private List<Project> scan(Predicate<Project> filter) {
+        return collection.stream().filter(filter).toList();
+    }
+}
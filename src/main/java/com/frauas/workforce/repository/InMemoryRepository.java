@@ -0,0 +1,189 @@
+package com.frauas.workforce.repository;
+
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.repository.query.FluentQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Base class of the in-memory repositories: the {@link MongoRepository} contract on
+ * top of an {@link InMemoryCollection}, with MongoDB's save, insert and auditing
+ * semantics. Subclasses add the derived and custom queries of their interface.
+ *
+ * Query by example is not supported.
+ */
+abstract class InMemoryRepository<T> implements MongoRepository<T, String> {
+
+    protected final InMemoryStore store;
+    protected final InMemoryCollection<T> collection;
+
+    protected InMemoryRepository(InMemoryStore store, Class<T> type, List<InMemoryCollection.Index<T>> indexes) {
+        this.store = store;
+        this.collection = store.collection(type, indexes);
+    }
+
+    /**
+     * Called after an entity was written or deleted.
+     *
+     * @param entity The written entity, or null when several entities may have changed
+     */
+    protected void changed(T entity) {
+    }
+
+    /**
+     * Apply the sort and the page of a Pageable to a complete result list.
+     */
+    protected Page<T> page(List<T> rows, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(collection.sort(rows, pageable.getSort()), pageable, rows.size());
+        }
+        List<T> sorted = collection.sort(rows, pageable.getSort());
+        int from = (int) Math.min(pageable.getOffset(), sorted.size());
+        int to = Math.min(from + pageable.getPageSize(), sorted.size());
+        return new PageImpl<>(new ArrayList<>(sorted.subList(from, to)), pageable, sorted.size());
+    }
+
+    @Override
+    public <S extends T> S save(S entity) {
+        collection.save(store.audit(entity));
+        changed(entity);
+        return entity;
+    }
+
+    @Override
+    public <S extends T> List<S> saveAll(Iterable<S> entities) {
+        List<S> saved = new ArrayList<>();
+        entities.forEach(entity -> saved.add(save(entity)));
+        return saved;
+    }
+
+    @Override
+    public <S extends T> S insert(S entity) {
+        collection.insert(store.audit(entity));
+        changed(entity);
+        return entity;
+    }
+
+    @Override
+    public <S extends T> List<S> insert(Iterable<S> entities) {
+        List<S> inserted = new ArrayList<>();
+        entities.forEach(entity -> inserted.add(insert(entity)));
+        return inserted;
+    }
+
+    @Override
+    public Optional<T> findById(String id) {
+        return collection.findById(id);
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return collection.exists(id);
+    }
+
+    @Override
+    public List<T> findAll() {
+        return collection.stream().toList();
+    }
+
+    @Override
+    public List<T> findAll(Sort sort) {
+        return collection.sort(findAll(), sort);
+    }
+
+    @Override
+    public Page<T> findAll(Pageable pageable) {
+        return page(findAll(), pageable);
+    }
+
+    @Override
+    public List<T> findAllById(Iterable<String> ids) {
+        List<T> found = new ArrayList<>();
+        ids.forEach(id -> collection.findById(id).ifPresent(found::add));
+        return found;
+    }
+
+    @Override
+    public long count() {
+        return collection.count();
+    }
+
+    @Override
+    public void deleteById(String id) {
+        T removed = collection.delete(id);
+        if (removed != null) {
+            changed(removed);
+        }
+    }
+
+    @Override
+    public void delete(T entity) {
+        String id = collection.idOf(entity);
+        if (id != null) {
+            deleteById(id);
+        }
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends String> ids) {
+        ids.forEach(this::deleteById);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends T> entities) {
+        entities.forEach(this::delete);
+    }
+
+    @Override
+    public void deleteAll() {
+        collection.clear();
+        changed(null);
+    }
+
+    @Override
+    public <S extends T> Optional<S> findOne(Example<S> example) {
+        throw exampleNotSupported();
+    }
+
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example) {
+        throw exampleNotSupported();
+    }
+
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example, Sort sort) {
+        throw exampleNotSupported();
+    }
+
+    @Override
+    public <S extends T> Page<S> findAll(Example<S> example, Pageable pageable) {
+        throw exampleNotSupported();
+    }
+
+    @Override
+    public <S extends T> long count(Example<S> example) {
+        throw exampleNotSupported();
+    }
+
+    @Override
+    public <S extends T> boolean exists(Example<S> example) {
+        throw exampleNotSupported();
+    }
+
+    @Override
+    public <S extends T, R> R findBy(Example<S> example, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        throw exampleNotSupported();
+    }
+
+    private static UnsupportedOperationException exampleNotSupported() {
+        return new UnsupportedOperationException("Query by example is not supported by the in-memory backend");
+    }
+}
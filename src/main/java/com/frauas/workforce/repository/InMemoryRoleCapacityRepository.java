@@ -0,0 +1,48 @@
+package com.frauas.workforce.repository;
+
+import com.frauas.workforce.model.RoleCapacity;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * In-memory {@link RoleCapacityRepository} (profile "inmemory"). The counter
+ * operations are atomic, like their findAndModify counterparts.
+ */
+@Repository
+@Profile("inmemory")
+public class InMemoryRoleCapacityRepository extends InMemoryRepository<RoleCapacity> implements RoleCapacityRepository {
+
+    public InMemoryRoleCapacityRepository(InMemoryStore store) {
+        super(store, RoleCapacity.class, List.of());
+    }
+
+    @Override
+    public boolean tryReserve(String id, int required) {
+        RoleCapacity reserved = collection.compute(id, current -> {
+            if (current == null || current.getFilled() >= required) {
+                return null;
+            }
+            current.setFilled(current.getFilled() + 1);
+            return current;
+        });
+        return reserved != null;
+    }
+
+    @Override
+    public void release(String id) {
+        collection.compute(id, current -> {
+            if (current == null || current.getFilled() <= 0) {
+                return null;
+            }
+            current.setFilled(current.getFilled() - 1);
+            return current;
+        });
+    }
+
+    @Override
+    public void insertIfAbsent(RoleCapacity capacity) {
+        collection.compute(capacity.getId(), current -> current == null ? capacity : null);
+    }
+}
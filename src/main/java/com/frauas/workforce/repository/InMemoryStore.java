@@ -0,0 +1,141 @@
+package com.frauas.workforce.repository;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.auditing.IsNewAwareAuditingHandler;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Storage of the in-memory backend (profile "inmemory"), which replaces MongoDB
+ * for offline runs and load tests.
+ *
+ * Holds the collections of the in-memory repositories, a MongoDB converter that
+ * needs no database (documents look exactly as they would in MongoDB) and the
+ * auditing that @EnableMongoAuditing would otherwise apply.
+ *
+ * When workforce.inmemory.snapshot-dir is set, each collection is loaded from
+ * {collection}.json in that directory at startup and written back on shutdown,
+ * one extended JSON document per line. That is the mongoexport format, so a
+ * snapshot can also be taken from a real database.
+ */
+@Component
+@Profile("inmemory")
+public class InMemoryStore {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryStore.class);
+
+    private final MappingMongoConverter converter;
+    private final IsNewAwareAuditingHandler auditingHandler;
+    private final Path snapshotDir;
+    private final List<InMemoryCollection<?>> collections = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    public InMemoryStore(@Value("${workforce.inmemory.snapshot-dir:}") String snapshotDir) {
+        this(snapshotDir.isBlank() ? null : Path.of(snapshotDir));
+    }
+
+    InMemoryStore(Path snapshotDir) {
+        this.snapshotDir = snapshotDir;
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        this.converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        this.auditingHandler = new IsNewAwareAuditingHandler(PersistentEntities.of(mappingContext));
+    }
+
+    /**
+     * Create the collection of an entity type, loading its snapshot if there is one.
+     *
+     * @param type Entity type (its @Document collection name is used)
+     * @param indexes Hash indexes to maintain
+     */
+    <T> InMemoryCollection<T> collection(Class<T> type, List<InMemoryCollection.Index<T>> indexes) {
+        String name = converter.getMappingContext().getRequiredPersistentEntity(type).getCollection();
+        InMemoryCollection<T> collection = new InMemoryCollection<>(name, type, converter, indexes);
+        if (snapshotDir != null) {
+            load(collection);
+        }
+        collections.add(collection);
+        return collection;
+    }
+
+    /**
+     * Set @CreatedDate / @LastModifiedDate as MongoDB auditing does before a save.
+     */
+    <T> T audit(T entity) {
+        auditingHandler.markAudited(entity);
+        return entity;
+    }
+
+    /**
+     * Write all collections to the snapshot directory. Each file is written to a
+     * temporary file first and then moved into place, so a crash never leaves a
+     * half-written snapshot. Writes made during the snapshot may or may not be included.
+     */
+    @PreDestroy
+    public void snapshot() {
+        if (snapshotDir == null) {
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            Files.createDirectories(snapshotDir);
+            for (InMemoryCollection<?> collection : collections) {
+                Path file = snapshotFile(collection);
+                Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+                try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                    collection.writeSnapshot(writer);
+                }
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write in-memory snapshot to " + snapshotDir, e);
+        }
+        log.info("In-memory snapshot of {} collections written to {} in {} ms", collections.size(), snapshotDir,
+                Duration.ofNanos(System.nanoTime() - started).toMillis());
+    }
+
+    private void load(InMemoryCollection<?> collection) {
+        Path file = snapshotFile(collection);
+        if (!Files.exists(file)) {
+            log.info("No snapshot for {} in {}; starting empty", collection.getName(), snapshotDir);
+            return;
+        }
+        long started = System.nanoTime();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            long loaded = collection.readSnapshot(reader);
+            log.info("Loaded {} {} from {} in {} ms", loaded, collection.getName(), file,
+                    Duration.ofNanos(System.nanoTime() - started).toMillis());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read snapshot " + file, e);
+        }
+    }
+
+    private Path snapshotFile(InMemoryCollection<?> collection) {
+        return snapshotDir.resolve(collection.getName() + ".json");
+    }
+}
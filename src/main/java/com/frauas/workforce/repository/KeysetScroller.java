@@ -0,0 +1,192 @@
+package com.frauas.workforce.repository;
+
+import com.frauas.workforce.DTO.CursorPageResponse;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Keyset (cursor) pagination over one entity type, shared by the repository
+ * custom implementations.
+ *
+ * Results are ordered by (sort property, _id) and each page starts strictly after
+ * the last row of the previous one, so deep pages cost the same as the first.
+ * The cursor is the Base64url encoded extended JSON of that last row's keys.
+ *
+ * Public for the reactive read module, which runs {@link #query} itself and
+ * assembles the page with {@link #page}; blocking callers just use scroll().
+ */
+public class KeysetScroller {
+
+    private static final String ID = "id";
+
+    private final MongoConverter converter;
+    private final MongoTemplate mongoTemplate;
+
+    KeysetScroller(MongoTemplate mongoTemplate) {
+        this.converter = mongoTemplate.getConverter();
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Scroller without a template, for callers that execute the queries themselves.
+     */
+    public KeysetScroller(MongoConverter converter) {
+        this.converter = converter;
+        this.mongoTemplate = null;
+    }
+
+    /**
+     * Load one page of entities.
+     *
+     * @param type Entity type
+     * @param filter Endpoint specific filter (use an empty Criteria for none)
+     * @param request Validated scroll request
+     * @return The page, with a cursor for the next one if more rows exist
+     * @throws IllegalArgumentException for unknown fields or a cursor that is invalid for this sort
+     */
+    <T> CursorPageResponse<T> scroll(Class<T> type, Criteria filter, ScrollRequest request) {
+        return page(type, mongoTemplate.find(query(type, filter, request), type), request);
+    }
+
+    /**
+     * The query of one page: filter, keyset condition, sort, projection and a
+     * limit of one more row than the page size (to detect a next page).
+     *
+     * @throws IllegalArgumentException for unknown fields or a cursor that is invalid for this sort
+     */
+    public Query query(Class<?> type, Criteria filter, ScrollRequest request) {
+        MongoPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(type);
+        MongoPersistentProperty sortProperty = requireProperty(entity, request.getSortProperty());
+
+        Query query = new Query();
+        if (request.getCursor() != null && !request.getCursor().isBlank()) {
+            query.addCriteria(new Criteria().andOperator(filter, after(decodeCursor(request), request)));
+        } else {
+            query.addCriteria(filter);
+        }
+
+        Sort sort = ID.equals(sortProperty.getName())
+                ? Sort.by(request.getDirection(), ID)
+                : Sort.by(request.getDirection(), sortProperty.getName(), ID);
+        query.with(sort).limit(request.getLimit() + 1);
+
+        if (!request.getFields().isEmpty()) {
+            for (String field : request.getFields()) {
+                requireProperty(entity, field);
+                query.fields().include(field);
+            }
+            query.fields().include(sortProperty.getName());
+        }
+        return query;
+    }
+
+    /**
+     * Turn the rows returned by {@link #query} into a page.
+     */
+    public <T> CursorPageResponse<T> page(Class<T> type, List<T> rows, ScrollRequest request) {
+        boolean hasNext = rows.size() > request.getLimit();
+        if (hasNext) {
+            rows = rows.subList(0, request.getLimit());
+        }
+        String nextCursor = null;
+        if (hasNext) {
+            MongoPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(type);
+            nextCursor = encodeCursor(entity, requireProperty(entity, request.getSortProperty()),
+                    rows.get(rows.size() - 1), request);
+        }
+        return new CursorPageResponse<>(rows, rows.size(), hasNext, nextCursor);
+    }
+
+    /**
+     * Rows that come strictly after (value, id) in (sort property, _id) order.
+     * Missing or null values sort lowest, as MongoDB orders them.
+     */
+    static Criteria after(Document cursor, ScrollRequest request) {
+        String property = request.getSortProperty();
+        Object id = cursor.get("id");
+        Object value = cursor.get("v");
+        boolean ascending = request.getDirection().isAscending();
+
+        if (ID.equals(property)) {
+            return ascending ? Criteria.where(ID).gt(id) : Criteria.where(ID).lt(id);
+        }
+        Criteria tie = ascending
+                ? Criteria.where(property).is(value).and(ID).gt(id)
+                : Criteria.where(property).is(value).and(ID).lt(id);
+        if (value == null) {
+            return ascending
+                    ? new Criteria().orOperator(tie, Criteria.where(property).ne(null))
+                    : tie;
+        }
+        return ascending
+                ? new Criteria().orOperator(Criteria.where(property).gt(value), tie)
+                : new Criteria().orOperator(Criteria.where(property).lt(value), tie,
+                        Criteria.where(property).is(null));
+    }
+
+    private String encodeCursor(MongoPersistentEntity<?> entity, MongoPersistentProperty sortProperty,
+                                Object last, ScrollRequest request) {
+        PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(last);
+        return encodeCursor(request, accessor.getProperty(entity.getRequiredIdProperty()),
+                converter.convertToMongoType(accessor.getProperty(sortProperty)));
+    }
+
+    /**
+     * Cursor pointing just after a row. Also used by pages that are not read with a
+     * keyset query, so that every paged endpoint hands out the same kind of cursor.
+     *
+     * @param id The row's id
+     * @param value The row's sort property value in its MongoDB form (ignored when sorting by id)
+     */
+    public static String encodeCursor(ScrollRequest request, Object id, Object value) {
+        Document keys = new Document("s", request.getSortProperty())
+                .append("d", request.getDirection().name())
+                .append("id", id);
+        if (!ID.equals(request.getSortProperty())) {
+            keys.append("v", value);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(keys.toJson().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Keys of the request's cursor: "id" and, unless sorting by id, the sort value "v".
+     *
+     * @throws IllegalArgumentException if the cursor is malformed or was issued for another sort
+     */
+    public static Document decodeCursor(ScrollRequest request) {
+        Document keys;
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(request.getCursor());
+            keys = Document.parse(new String(json, StandardCharsets.UTF_8));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + request.getCursor());
+        }
+        if (!request.getSortProperty().equals(keys.getString("s"))
+                || !request.getDirection().name().equals(keys.getString("d"))
+                || keys.get("id") == null) {
+            throw new IllegalArgumentException("Cursor does not match sort '"
+                    + request.getSortProperty() + "," + request.getDirection().name().toLowerCase() + "'");
+        }
+        return keys;
+    }
+
+    private static MongoPersistentProperty requireProperty(MongoPersistentEntity<?> entity, String name) {
+        MongoPersistentProperty property = entity.getPersistentProperty(name);
+        if (property == null) {
+            throw new IllegalArgumentException("Unknown field '" + name + "'");
+        }
+        return property;
+    }
+}
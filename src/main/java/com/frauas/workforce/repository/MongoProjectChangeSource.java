@@ -0,0 +1,109 @@
+package com.frauas.workforce.repository;
+
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import jakarta.annotation.PreDestroy;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ProjectChangeSource} backed by a MongoDB change stream on the projects collection.
+ *
+ * A single daemon thread tails the stream. If the stream cannot be opened (standalone
+ * server, missing privileges) or breaks, the listener is told the source is no longer
+ * live and the stream is re-opened after the retry interval. Events missed while not
+ * live are not replayed; listeners are expected to flush on becoming live again.
+ */
+@Component
+@Profile("!inmemory")
+public class MongoProjectChangeSource implements ProjectChangeSource {
+
+    private static final Logger log = LoggerFactory.getLogger(MongoProjectChangeSource.class);
+    private static final String PROJECTS = "projects";
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final Duration retryInterval;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public MongoProjectChangeSource(MongoTemplate mongoTemplate,
+                                    @Value("${workforce.cache.projects.change-stream.enabled:true}") boolean enabled,
+                                    @Value("${workforce.cache.projects.change-stream.retry-interval:30s}") Duration retryInterval) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        this.retryInterval = retryInterval;
+    }
+
+    @Override
+    public synchronized void subscribe(Listener listener) {
+        if (!enabled) {
+            log.info("Project change stream disabled; project cache relies on TTL expiry");
+            listener.liveStateChanged(false);
+            return;
+        }
+        if (worker != null) {
+            throw new IllegalStateException("Project change stream already has a subscriber");
+        }
+        running = true;
+        worker = Thread.ofPlatform()
+                .name("project-change-stream")
+                .daemon()
+                .start(() -> tail(listener));
+    }
+
+    private void tail(Listener listener) {
+        while (running) {
+            try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = mongoTemplate
+                    .getCollection(PROJECTS)
+                    .watch()
+                    .fullDocument(FullDocument.UPDATE_LOOKUP)
+                    .maxAwaitTime(1, TimeUnit.SECONDS)
+                    .cursor()) {
+                log.info("Project change stream opened");
+                listener.liveStateChanged(true);
+                while (running) {
+                    ChangeStreamDocument<Document> change = cursor.tryNext();
+                    if (change != null) {
+                        Document project = change.getFullDocument();
+                        listener.projectChanged(project != null ? project.getString("projectId") : null);
+                    }
+                }
+            } catch (RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Project change stream unavailable, retrying in {}: {}", retryInterval, e.getMessage());
+                listener.liveStateChanged(false);
+                sleepBeforeRetry();
+            }
+        }
+    }
+
+    private void sleepBeforeRetry() {
+        try {
+            Thread.sleep(retryInterval);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.frauas.workforce.repository;
+
+/**
+ * Source of "project document changed" notifications from any node of the cluster.
+ * Used to keep per-node project caches coherent.
+ */
+public interface ProjectChangeSource {
+
+    /**
+     * Start delivering notifications to the listener. Called once at startup.
+     */
+    void subscribe(Listener listener);
+
+    interface Listener {
+
+        /**
+         * A project document was inserted, updated, replaced or deleted.
+         *
+         * @param projectId Business projectId of the document, or null when it cannot be
+         *                  determined (deletes, collection drops); treat null as "anything may have changed"
+         */
+        void projectChanged(String projectId);
+
+        /**
+         * The source started (live = true) or stopped (live = false) delivering notifications.
+         * While not live, changes made on other nodes are not reported.
+         */
+        void liveStateChanged(boolean live);
+    }
+}
@@ -2,10 +2,13 @@ package com.frauas.workforce.repository;
 
 import com.frauas.workforce.model.Project;
 import com.frauas.workforce.model.ProjectStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,7 +25,7 @@ import java.util.Optional;
  * @since 2025-11-16
  */
 @Repository
-public interface ProjectManagerRepository extends MongoRepository<Project, String>{
+public interface ProjectManagerRepository extends MongoRepository<Project, String>, ProjectManagerRepositoryCustom {
 
     /**
      * Find all projects filtered by publication status.
@@ -32,6 +35,16 @@ public interface ProjectManagerRepository extends MongoRepository<Project, Strin
      */
     List<Project> findByIsPublished(Boolean isPublished);
 
+    /**
+     * Find one page of projects filtered by publication status.
+     * Served by the {isPublished, status} compound index.
+     *
+     * @param isPublished Boolean flag - true for published projects, false for draft projects
+     * @param pageable Page request including sort order
+     * @return Page of projects matching the publication status
+     */
+    Page<Project> findByIsPublished(Boolean isPublished, Pageable pageable);
+
     /**
      * Find all projects by their current status.
      *
@@ -59,6 +72,17 @@ public interface ProjectManagerRepository extends MongoRepository<Project, Strin
      */
     List<Project> findByIsPublishedAndStatus(Boolean isPublished, ProjectStatus status);
 
+    /**
+     * Find one page of projects matching both publication status and project status.
+     * Served by the {isPublished, status} compound index.
+     *
+     * @param isPublished Boolean flag for publication status
+     * @param status The project status to filter by
+     * @param pageable Page request including sort order
+     * @return Page of projects matching both criteria
+     */
+    Page<Project> findByIsPublishedAndStatus(Boolean isPublished, ProjectStatus status, Pageable pageable);
+
     /**
      * Find projects by location using case-insensitive pattern matching.
      * Uses MongoDB regex query to perform partial, case-insensitive matching.
@@ -106,6 +130,14 @@ public interface ProjectManagerRepository extends MongoRepository<Project, Strin
      */
     Optional<Project> findByProjectId(String projectId);
 
+    /**
+     * Find all projects with one of the given business projectIds in a single query.
+     *
+     * @param projectIds The business project IDs
+     * @return Projects that exist for the given IDs (in no particular order)
+     */
+    List<Project> findByProjectIdIn(Collection<String> projectIds);
+
     /**
      * Check if a project exists by its business projectId field.
      *
@@ -0,0 +1,20 @@
+package com.frauas.workforce.repository;
+
+import com.frauas.workforce.DTO.CursorPageResponse;
+import com.frauas.workforce.model.Project;
+
+/**
+ * Custom project queries that cannot be expressed as derived query methods.
+ * Implemented by {@link ProjectManagerRepositoryCustomImpl} and exposed through
+ * {@link ProjectManagerRepository}.
+ */
+public interface ProjectManagerRepositoryCustom {
+
+    /**
+     * Load one keyset-paginated page of projects.
+     *
+     * @param request Validated sort, cursor, limit and fields
+     * @return Page of projects with a cursor for the next page
+     */
+    CursorPageResponse<Project> scrollProjects(ScrollRequest request);
+}
@@ -0,0 +1,23 @@
+package com.frauas.workforce.repository;
+
+import com.frauas.workforce.DTO.CursorPageResponse;
+import com.frauas.workforce.model.Project;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+/**
+ * MongoTemplate based implementation of {@link ProjectManagerRepositoryCustom}.
+ */
+public class ProjectManagerRepositoryCustomImpl implements ProjectManagerRepositoryCustom {
+
+    private final KeysetScroller scroller;
+
+    public ProjectManagerRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.scroller = new KeysetScroller(mongoTemplate);
+    }
+
+    @Override
+    public CursorPageResponse<Project> scrollProjects(ScrollRequest request) {
+        return scroller.scroll(Project.class, new Criteria(), request);
+    }
+}
@@ -0,0 +1,9 @@
+package com.frauas.workforce.repository;
+
+import com.frauas.workforce.model.RoleCapacity;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RoleCapacityRepository extends MongoRepository<RoleCapacity, String>, RoleCapacityRepositoryCustom {
+}
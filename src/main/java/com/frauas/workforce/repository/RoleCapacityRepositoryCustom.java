@@ -0,0 +1,33 @@
+package com.frauas.workforce.repository;
+
+import com.frauas.workforce.model.RoleCapacity;
+
+/**
+ * Atomic counter operations on {@link RoleCapacity} documents.
+ */
+public interface RoleCapacityRepositoryCustom {
+
+    /**
+     * Increment the filled counter by one, but only while it is below the required number.
+     * Executed as a single conditional findAndModify.
+     *
+     * @param id RoleCapacity ID
+     * @param required Number of employees the role requires
+     * @return true if a slot was claimed, false if the role is full or the counter does not exist
+     */
+    boolean tryReserve(String id, int required);
+
+    /**
+     * Give back a slot claimed with {@link #tryReserve(String, int)}.
+     *
+     * @param id RoleCapacity ID
+     */
+    void release(String id);
+
+    /**
+     * Insert the counter unless it already exists (a concurrent insert wins silently).
+     *
+     * @param capacity Counter with its initial filled value
+     */
+    void insertIfAbsent(RoleCapacity capacity);
+}
@@ -0,0 +1,46 @@
+package com.frauas.workforce.repository;
+
+import com.frauas.workforce.model.RoleCapacity;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * MongoTemplate based implementation of {@link RoleCapacityRepositoryCustom}.
+ */
+public class RoleCapacityRepositoryCustomImpl implements RoleCapacityRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    public RoleCapacityRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public boolean tryReserve(String id, int required) {
+        Query query = new Query(Criteria.where("id").is(id).and("filled").lt(required));
+        Update update = new Update().inc("filled", 1);
+
+        RoleCapacity reserved = mongoTemplate.findAndModify(
+                query, update, FindAndModifyOptions.options().returnNew(true), RoleCapacity.class);
+        return reserved != null;
+    }
+
+    @Override
+    public void release(String id) {
+        Query query = new Query(Criteria.where("id").is(id).and("filled").gt(0));
+        mongoTemplate.updateFirst(query, new Update().inc("filled", -1), RoleCapacity.class);
+    }
+
+    @Override
+    public void insertIfAbsent(RoleCapacity capacity) {
+        try {
+            mongoTemplate.insert(capacity);
+        } catch (DuplicateKeyException e) {
+            // Another approval created the counter first
+        }
+    }
+}
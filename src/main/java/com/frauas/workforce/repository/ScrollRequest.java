@@ -0,0 +1,86 @@
+package com.frauas.workforce.repository;
+
+import com.frauas.workforce.DTO.ListQuery;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Validated keyset pagination request: one sort property (with _id as tie-breaker),
+ * an optional cursor, a page size and an optional set of fields to load.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScrollRequest {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    private String sortProperty;
+    private Sort.Direction direction;
+    private String cursor;
+    private int limit;
+
+    /** Entity properties to load; empty means the whole document. */
+    private Set<String> fields;
+
+    /**
+     * Validate the list query parameters of an endpoint.
+     *
+     * @param query Raw request parameters
+     * @param sortable Properties the endpoint allows sorting on (all of them indexed)
+     * @param defaultSort Sort property used when the request has none
+     * @return The validated scroll request
+     * @throws IllegalArgumentException if limit, sort or fields are invalid
+     */
+    public static ScrollRequest of(ListQuery query, Set<String> sortable, String defaultSort) {
+        int limit = query.getLimit() != null ? query.getLimit() : DEFAULT_LIMIT;
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        String sortProperty = defaultSort;
+        Sort.Direction direction = Sort.Direction.ASC;
+        if (query.getSort() != null && !query.getSort().isBlank()) {
+            String[] parts = query.getSort().split(",");
+            sortProperty = parts[0].trim();
+            if (parts.length > 2) {
+                throw new IllegalArgumentException("sort must be 'field' or 'field,asc|desc'");
+            }
+            if (parts.length == 2) {
+                direction = Sort.Direction.fromOptionalString(parts[1].trim().toUpperCase(Locale.ROOT))
+                        .orElseThrow(() -> new IllegalArgumentException("sort direction must be asc or desc"));
+            }
+        }
+        if (!sortable.contains(sortProperty)) {
+            throw new IllegalArgumentException("Cannot sort by '" + sortProperty + "'. Sortable fields: " + sortable);
+        }
+
+        return new ScrollRequest(sortProperty, direction, query.getCursor(), limit, parseFields(query.getFields()));
+    }
+
+    /**
+     * Parse a comma-separated fields parameter, keeping the requested order.
+     *
+     * @param fields Raw fields parameter, may be null
+     * @return Requested field names; empty if none were requested
+     */
+    public static Set<String> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return Collections.emptySet();
+        }
+        return Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
@@ -4,18 +4,25 @@ import com.frauas.workforce.DTO.*;
 import com.frauas.workforce.model.*;
 import com.frauas.workforce.repository.ApplicationRepository;
 import com.frauas.workforce.repository.EmployeeRepository;
-import com.frauas.workforce.repository.ProjectManagerRepository;
 import com.frauas.workforce.repository.ProjectRepository;
+import com.frauas.workforce.repository.ScrollRequest;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @NoArgsConstructor
@@ -29,19 +36,36 @@ public class ApplicationService {
     private EmployeeRepository employeeRepository; // fetch employee names
 
     @Autowired
-    private ProjectManagerRepository projectRepo;
+    private IdGenerator idGenerator;
+
+    @Autowired
+    private EmployeeCache employeeCache; // read-only lookups of actors shown by name
+
+    @Autowired
+    private ProjectCatalogCache projectCatalogCache;
 
     public ApplicationResponseDTO suggestProjectToEmployee(SuggestProjectRequest request) {
 
-        // Validate: Check if employee has already been suggested or applied for this project and role
-        Optional<Application> existingApplication = applicationRepository
-                .findByEmployeeIdAndProjectIdAndProjectRole(
-                        request.getEmployeeId(),
-                        request.getProjectId(),
-                        request.getProjectRole()
-                );
+        Integer plannerUserId = Integer.valueOf(request.getPlannerUserId());
+
+        // Validate: Check if employee has already been suggested or applied for this project and role,
+        // and look up the planner at the same time (independent reads)
+        Optional<Application> existingApplication;
+        Optional<Employee> planner;
+        try (LookupScope scope = new LookupScope()) {
+            Supplier<Optional<Application>> existingFork = scope.fork(() -> applicationRepository
+                    .findByEmployeeIdAndProjectIdAndProjectRole(
+                            request.getEmployeeId(),
+                            request.getProjectId(),
+                            request.getProjectRole()
+                    ));
+            Supplier<Optional<Employee>> plannerFork = scope.fork(() -> employeeCache.findByEmployeeId(plannerUserId));
+            scope.join();
+            existingApplication = existingFork.get();
+            planner = plannerFork.get();
+        }
 
-        Employee employee = employeeRepository.findByEmployeeId(Integer.valueOf(request.getPlannerUserId()))
+        Employee employee = planner
                 .orElseThrow(() -> new RuntimeException("Department Head not found"));
 
         if (existingApplication.isPresent()) {
@@ -49,9 +73,8 @@ public class ApplicationService {
         }
 
         Application application = new Application();
-        // Generate unique application ID using UUID to prevent duplicates
-        String uniqueId = UUID.randomUUID().toString().substring(0, 8);
-        application.setApplicationId("App_" + request.getProjectId() + "_" + uniqueId);
+        // Generate unique application ID (unique across nodes with distinct node IDs)
+        application.setApplicationId("App_" + request.getProjectId() + "_" + idGenerator.nextId());
         application.setProjectId(request.getProjectId());
         application.setEmployeeId(request.getEmployeeId());
         application.setCurrentStatus(ApplicationStatus.SUGGESTED);
@@ -77,38 +100,39 @@ public class ApplicationService {
     }
 
     private ApplicationResponseDTO mapToResponseDTO(Application app) {
-        ApplicationResponseDTO dto = new ApplicationResponseDTO();
-        dto.setId(app.getId());
-        dto.setApplicationId(app.getApplicationId());
-        dto.setProjectId(app.getProjectId());
-        dto.setEmployeeId(app.getEmployeeId());
-        dto.setProjectRole(app.getProjectRole());
-        dto.setCurrentStatus(app.getCurrentStatus());
-        dto.setTimestamps(app.getTimestamps());
-
-        dto.setInitiatedBy(mapUserAction(app.getInitiatedBy()));
-        dto.setSuggestedBy(mapUserAction(app.getSuggestedBy()));
-        dto.setApprovedByDepartmentHead(mapUserAction(app.getApprovedByDepartmentHead()));
-        dto.setApprovedByProjectManager(mapUserAction(app.getApprovedByProjectManager()));
-        dto.setRejectedBy(mapUserAction(app.getRejectedBy()));
-
-        return dto;
+        return ResponseMapping.applicationResponse(app, resolveUsernames(List.of(app)));
     }
 
-    private ApplicationResponseDTO.UserActionDTO mapUserAction(UserAction action) {
-        if (action == null) return null;
+    /**
+     * Resolve the usernames of every user referenced by the given applications
+     * with a single query, so mapping cost does not grow with the number of
+     * applications or UserAction fields.
+     */
+    private Map<Integer, String> resolveUsernames(Collection<Application> applications) {
+        Set<Integer> userIds = new HashSet<>();
+        for (Application app : applications) {
+            for (UserAction action : Arrays.asList(
+                    app.getInitiatedBy(),
+                    app.getSuggestedBy(),
+                    app.getApprovedByDepartmentHead(),
+                    app.getApprovedByProjectManager(),
+                    app.getRejectedBy())) {
+                Integer userId = ResponseMapping.userId(action);
+                if (userId != null) {
+                    userIds.add(userId);
+                }
+            }
+        }
 
-        String username = "Unknown User";
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
 
-        try {
-            int userId = Integer.parseInt(action.getUserId());
-            username = employeeRepository.findByEmployeeId(userId)
-                    .map(Employee::getUsername) // adjust to your getter
-                    .orElse("Unknown User");
-        } catch (NumberFormatException e) {
-            // log warning if needed
+        Map<Integer, String> usernames = new HashMap<>();
+        for (Employee employee : employeeRepository.findUsernamesByEmployeeIdIn(userIds)) {
+            usernames.put(employee.getEmployeeId(), employee.getUsername());
         }
-        return new ApplicationResponseDTO.UserActionDTO(action.getUserId(), username, action.getRole());
+        return usernames;
     }
 
 //    public List<Application> getSuggestedProjectsForEmployee(Integer employeeId) {
@@ -123,7 +147,7 @@ public class ApplicationService {
         Application application = applicationRepository.findByApplicationId(applicationId)
                 .orElseThrow(() -> new RuntimeException("Application not found"));
 
-        Employee employee = employeeRepository.findByEmployeeId(application.getEmployeeId())
+        Employee employee = employeeCache.findByEmployeeId(application.getEmployeeId())
                 .orElseThrow(() -> new RuntimeException("Employee not found"));
 
         // Ownership check
@@ -164,7 +188,7 @@ public class ApplicationService {
         Optional<Application> existingApplication = applicationRepository
                 .findByEmployeeIdAndProjectIdAndProjectRole(employeeId, projectId, projectRole);
 
-        Employee employee = employeeRepository.findByEmployeeId(employeeId)
+        Employee employee = employeeCache.findByEmployeeId(employeeId)
                 .orElseThrow(() -> new RuntimeException("Employee not found"));
 
         if (existingApplication.isPresent()) {
@@ -174,9 +198,8 @@ public class ApplicationService {
         // Create a new application
         Application application = new Application();
 
-        // Generate unique application ID using UUID to prevent duplicates
-        String uniqueId = UUID.randomUUID().toString().substring(0, 8);
-        application.setApplicationId("App_" + projectId + "_" + uniqueId);
+        // Generate unique application ID (unique across nodes with distinct node IDs)
+        application.setApplicationId("App_" + projectId + "_" + idGenerator.nextId());
 
         // Set basic fields
         application.setEmployeeId(employeeId);
@@ -206,8 +229,9 @@ public class ApplicationService {
         return mapToResponseDTO(saved);
     }
 
-    public List<Application> getAllApplications() {
-        return applicationRepository.findAll();
+    public CursorPageResponse<Application> getAllApplications(ListQuery query) {
+        return applicationRepository.scrollApplications(null,
+                ScrollRequest.of(query, Set.of("id", "applicationId"), "id"));
     }
 
     public java.util.Map<String, List<Application>> getApplicationsGroupedByProject(String statusFilter) {
@@ -239,133 +263,28 @@ public class ApplicationService {
                         employeeId
                 );
 
-        // 2. Map each application -> project
-        return applications.stream().map(application -> {
-
-            Project project = projectRepo.findByProjectId(application.getProjectId())
-                    .orElseThrow(() -> new RuntimeException(
-                            "Project not found for projectId: " + application.getProjectId()
-                    ));
-
-            return new SuggestedProjectResponseDTO(
-                    mapToApplicationResponse(application, project),
-                    mapToProjectResponse(project)
-            );
-
-        }).toList();
-    }
-
-    // ------------------ MAPPERS ------------------
-
-    private ApplicationResponseDTO mapToApplicationResponse(Application app, Project project) {
-
-        ApplicationResponseDTO dto = new ApplicationResponseDTO();
-
-        dto.setId(app.getId());
-        dto.setApplicationId(app.getApplicationId());
-        dto.setProjectId(app.getProjectId());
-        dto.setEmployeeId(app.getEmployeeId());
-        dto.setProjectRole(app.getProjectRole());
-        dto.setCurrentStatus(app.getCurrentStatus());
-
-        // Map requestedCapacity from Project.roles
-        if (project.getRoles() != null && app.getProjectRole() != null) {
-            for (Project.RoleRequirement roleRequirement : project.getRoles()) {
-                if (app.getProjectRole().equalsIgnoreCase(roleRequirement.getRequiredRole())) {
-                    dto.setRequestedCapacity(Integer.valueOf(roleRequirement.getNumberOfEmployees()));
-                    break;
-                }
-            }
+        if (applications.isEmpty()) {
+            return List.of();
         }
 
+        // 2. Load all referenced projects, cache misses with one query
+        Set<String> projectIds = applications.stream()
+                .map(Application::getProjectId)
+                .collect(Collectors.toSet());
+        Map<String, Project> projectsById = projectCatalogCache.findAllByProjectId(projectIds);
 
-        // Map UserActions → UserActionDTO
-        dto.setInitiatedBy(mapUserActionToDto(app.getInitiatedBy()));
-        dto.setSuggestedBy(mapUserActionToDto(app.getSuggestedBy()));
-        dto.setApprovedByDepartmentHead(mapUserActionToDto(app.getApprovedByDepartmentHead()));
-        dto.setApprovedByProjectManager(mapUserActionToDto(app.getApprovedByProjectManager()));
-        dto.setRejectedBy(mapUserActionToDto(app.getRejectedBy()));
-
-        dto.setTimestamps(app.getTimestamps());
-
-        return dto;
-    }
-
-    private ApplicationResponseDTO.UserActionDTO mapUserActionToDto(UserAction action) {
-        if (action == null) return null;
-
-        return new ApplicationResponseDTO.UserActionDTO(
-                action.getUserId(),
-                action.getUserName(),
-                action.getRole()
-        );
-    }
-
-
-
-    private ProjectResponseDto mapToProjectResponse(Project project) {
-
-        ProjectResponseDto dto = new ProjectResponseDto();
-        RoleRequirementDto responseDto  = new RoleRequirementDto();
-
-        dto.setId(project.getId());
-        dto.setProjectId(project.getProjectId());
-        dto.setProjectDescription(project.getProjectDescription());
-        dto.setProjectStart(project.getProjectStart());
-        dto.setProjectEnd(project.getProjectEnd());
-        dto.setTaskDescription(project.getTaskDescription());
-        dto.setRequiredEmployees(project.getRequiredEmployees());
-
-        // If you later map managers / owners, do it here
-//        dto.setProjectManager(null);
-
-        dto.setLinks(project.getLinks());
-        dto.setSelectedSkills(project.getSelectedSkills());
-        dto.setSelectedLocations(project.getSelectedLocations());
-
-        // Role mapping (custom because inner class differs)
-        dto.setRoles(mapRoleRequirements(project.getRoles()));
-
-
-        dto.setStatus(project.getStatus());
-        dto.setIsPublished(project.getIsPublished());
-        dto.setCreatedBy(project.getCreatedBy());
-        dto.setCreatedAt(project.getCreatedAt());
-        dto.setUpdatedAt(project.getUpdatedAt());
-        dto.setUpdatedBy(project.getUpdatedBy());
-
-        return dto;
-    }
-
-    private List<RoleRequirementDto> mapRoleRequirements(
-            List<Project.RoleRequirement> roles
-    ) {
-        if (roles == null) return null;
-
-        return roles.stream()
-                .map(role -> {
-                    RoleRequirementDto dto = new RoleRequirementDto();
-
-                    // Core fields
-                    dto.setRequiredRole(role.getRequiredRole());
-                    dto.setRequiredCompetencies(role.getRequiredCompetencies());
-
-                    // Capacity & count
-                    dto.setCapacity(role.getCapacity());
-                    dto.setNumberOfEmployees(role.getNumberOfEmployees());
+        // 3. Map each application -> project
+        return applications.stream().map(application -> {
 
-                    // Optional UI-only fields (not persisted)
-                    dto.setRoleInput(null);
-                    dto.setCompetencyInput(null);
+            Project project = projectsById.get(application.getProjectId());
+            if (project == null) {
+                throw new RuntimeException(
+                        "Project not found for projectId: " + application.getProjectId()
+                );
+            }
 
-                    // UI flags (safe defaults)
-                    dto.setShowRoleDropdown(false);
-                    dto.setShowCompetencyDropdown(false);
+            return ResponseMapping.suggestedProject(application, project);
 
-                    return dto;
-                })
-                .toList();
+        }).toList();
     }
-
-
 }
@@ -0,0 +1,190 @@
+package com.frauas.workforce.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.frauas.workforce.DTO.AuthClaims;
+import com.frauas.workforce.model.Employee;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Issues and verifies compact signed access tokens.
+ *
+ * Format: base64url(JSON claims) + "." + base64url(HMAC-SHA256 over the first part).
+ * Verification needs only the local key, so any node can authenticate a request
+ * without a session or a MongoDB lookup. All nodes must share the same
+ * workforce.auth.token.secret. With workforce.auth.mode=token, startup fails without
+ * one unless a dev, test or inmemory profile is active; then (and in session mode,
+ * where tokens are not used) a random key is generated and tokens are only valid on
+ * this node until it restarts.
+ *
+ * Logout revokes a token by its tokenId. The revocation list is kept in memory
+ * on the node that handled the logout, and entries are dropped once the token
+ * would have expired anyway, so the token lifetime bounds both the list size
+ * and how long a revoked token can still be used on other nodes.
+ */
+@Component
+public class AuthTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthTokenService.class);
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    /** Profiles that may run token mode with a random per-process key */
+    private static final Profiles RANDOM_SECRET_PROFILES = Profiles.of("dev | test | inmemory");
+
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Clock clock;
+    private final ThreadLocal<Mac> macs;
+    private final ConcurrentHashMap<String, Long> revokedUntil = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AuthTokenService(ObjectMapper objectMapper,
+                            @Value("${workforce.auth.token.secret:}") String secret,
+                            @Value("${workforce.auth.token.ttl:8h}") Duration ttl,
+                            @Value("${workforce.auth.mode:session}") String authMode,
+                            Environment environment) {
+        this(objectMapper, decodeSecret(secret,
+                !"token".equals(authMode) || environment.acceptsProfiles(RANDOM_SECRET_PROFILES)),
+                ttl, Clock.systemUTC());
+    }
+
+    AuthTokenService(ObjectMapper objectMapper, byte[] secret, Duration ttl, Clock clock) {
+        if (secret.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("workforce.auth.token.secret must be at least "
+                    + MIN_SECRET_BYTES + " bytes (base64-encoded)");
+        }
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.clock = clock;
+        SecretKeySpec key = new SecretKeySpec(secret, HMAC_ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HMAC-SHA256 is not available", e);
+            }
+        });
+    }
+
+    /**
+     * Issue a token for an authenticated employee.
+     *
+     * @param employee The employee whose credentials were just verified
+     * @return The signed token
+     */
+    public String issue(Employee employee) {
+        long now = clock.instant().getEpochSecond();
+        AuthClaims claims = new AuthClaims(
+                UUID.randomUUID().toString(),
+                employee.getId(),
+                employee.getEmployeeId(),
+                employee.getUserId(),
+                employee.getUsername(),
+                employee.getFirstName(),
+                employee.getLastName(),
+                employee.getEmail(),
+                employee.getDepartment(),
+                employee.getPosition(),
+                employee.getRole() != null ? employee.getRole().name() : null,
+                now,
+                now + ttl.toSeconds());
+        try {
+            String payload = ENCODER.encodeToString(objectMapper.writeValueAsBytes(claims));
+            return payload + "." + ENCODER.encodeToString(sign(payload));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not serialize token claims", e);
+        }
+    }
+
+    /**
+     * Verify a token's signature, expiry and revocation state.
+     *
+     * @param token The token as sent by the client
+     * @return The claims, or empty if the token is malformed, forged, expired or revoked
+     */
+    public Optional<AuthClaims> verify(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot != token.lastIndexOf('.')) {
+            return Optional.empty();
+        }
+        String payload = token.substring(0, dot);
+        try {
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+                return Optional.empty();
+            }
+            AuthClaims claims = objectMapper.readValue(DECODER.decode(payload), AuthClaims.class);
+            if (claims.getExpiresAt() <= clock.instant().getEpochSecond()
+                    || revokedUntil.containsKey(claims.getTokenId())) {
+                return Optional.empty();
+            }
+            return Optional.of(claims);
+        } catch (IllegalArgumentException | IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Revoke a token on this node until it expires.
+     *
+     * @param claims Claims of a token that passed verification
+     */
+    public void revoke(AuthClaims claims) {
+        long now = clock.instant().getEpochSecond();
+        revokedUntil.values().removeIf(expiresAt -> expiresAt <= now);
+        revokedUntil.put(claims.getTokenId(), claims.getExpiresAt());
+    }
+
+    /**
+     * Token lifetime, used for the cookie max-age.
+     */
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    private byte[] sign(String payload) {
+        return macs.get().doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static byte[] decodeSecret(String secret, boolean randomAllowed) {
+        if (secret == null || secret.isBlank()) {
+            if (!randomAllowed) {
+                throw new IllegalStateException("workforce.auth.token.secret (WORKFORCE_AUTH_TOKEN_SECRET) must be set "
+                        + "in token mode, identical on every node; a random key is only used with a dev, test "
+                        + "or inmemory profile");
+            }
+            log.warn("workforce.auth.token.secret is not set; using a random key. "
+                    + "Tokens will not be accepted by other nodes or after a restart.");
+            byte[] random = new byte[MIN_SECRET_BYTES];
+            new SecureRandom().nextBytes(random);
+            return random;
+        }
+        return Base64.getDecoder().decode(secret.trim());
+    }
+}
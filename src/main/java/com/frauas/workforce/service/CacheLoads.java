@@ -0,0 +1,68 @@
+package com.frauas.workforce.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Cache-aside lookups that run the load outside Caffeine's map locks.
+ *
+ * Cache.get(key, loader) calls the loader inside ConcurrentHashMap.compute, i.e.
+ * while holding a bin monitor; a virtual thread doing a MongoDB query there pins
+ * its carrier thread for the whole round trip. Here only an empty future is put
+ * into the cache under the lock; the caller that created it runs the load on its
+ * own thread and completes it, and concurrent callers for the same key wait on it.
+ *
+ * Caffeine drops futures that complete with null or exceptionally, and does not
+ * re-insert a value whose entry was invalidated while it was loading.
+ */
+final class CacheLoads {
+
+    private CacheLoads() {
+    }
+
+    static <K, V> V get(AsyncCache<K, V> cache, K key, Function<? super K, ? extends V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(key, (k, executor) -> created);
+        if (future == created) {
+            try {
+                created.complete(loader.apply(key));
+            } catch (RuntimeException | Error e) {
+                created.completeExceptionally(e);
+                throw e;
+            }
+        }
+        return join(future);
+    }
+
+    /**
+     * Bulk variant: all misses are loaded with one call of the loader, on the caller's
+     * thread (the synchronous view of an AsyncCache would hand it to another thread).
+     */
+    static <K, V> Map<K, V> getAll(AsyncCache<K, V> cache, Collection<? extends K> keys,
+                                   Function<? super Set<? extends K>, ? extends Map<? extends K, ? extends V>> loader) {
+        return join(cache.getAll(keys, (missing, executor) -> {
+            try {
+                return CompletableFuture.completedFuture(loader.apply(missing));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }));
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -1,26 +1,40 @@
 package com.frauas.workforce.service;
 
+import com.frauas.workforce.DTO.CursorPageResponse;
 import com.frauas.workforce.model.*;
 import com.frauas.workforce.repository.ApplicationRepository;
 import com.frauas.workforce.repository.EmployeeRepository;
 import com.frauas.workforce.repository.ProjectManagerRepository;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 @Service
 @NoArgsConstructor
 @AllArgsConstructor
 public class DepartmentHeadService {
 
+    public static final int MAX_DEPARTMENT_PAGE_SIZE = 200;
+
+    /**
+     * Statuses of applications that are still open and get auto-rejected
+     * once the employee is assigned to another project
+     */
+    private static final List<ApplicationStatus> AUTO_REJECTED_STATUSES = List.of(
+            ApplicationStatus.APPLIED,
+            ApplicationStatus.REQUEST_DH_APPROVAL,
+            ApplicationStatus.SUGGESTED
+    );
+
     @Autowired
     private ApplicationRepository applicationRepository;
 
@@ -30,6 +44,15 @@ public class DepartmentHeadService {
     @Autowired
     private ProjectManagerRepository projectRepository;
 
+    @Autowired
+    private RoleCapacityService roleCapacityService;
+
+    @Autowired
+    private EmployeeCache employeeCache; // read-only lookups; the applicant is always loaded fresh
+
+    @Autowired
+    private ProjectCatalogCache projectCatalogCache;
+
     /**
      * Approve an employee's application for a project
      *
@@ -41,8 +64,19 @@ public class DepartmentHeadService {
      */
     public Application approveApplication(String applicationId, Integer departmentHeadId, String comments) {
 
-        // 1. Find the application
-        Application application = applicationRepository.findByApplicationId(applicationId)
+        // 1. Find the application and the department head's details (independent reads, run concurrently)
+        Optional<Application> applicationLookup;
+        Optional<Employee> departmentHeadLookup;
+        try (LookupScope scope = new LookupScope()) {
+            Supplier<Optional<Application>> applicationFork =
+                    scope.fork(() -> applicationRepository.findByApplicationId(applicationId));
+            Supplier<Optional<Employee>> departmentHeadFork =
+                    scope.fork(() -> employeeCache.findByEmployeeId(departmentHeadId));
+            scope.join();
+            applicationLookup = applicationFork.get();
+            departmentHeadLookup = departmentHeadFork.get();
+        }
+        Application application = applicationLookup
                 .orElseThrow(() -> new RuntimeException("Application not found"));
 
         // 2. Validate application status
@@ -50,12 +84,25 @@ public class DepartmentHeadService {
             throw new RuntimeException("Only applications with REQUEST_DH_APPROVAL status can be approved");
         }
 
-        // 3. Get the employee's department
-        Employee employee = employeeRepository.findByEmployeeId(application.getEmployeeId())
+        // 3. Get the employee's department, and the project with its supervisor (run concurrently)
+        Optional<Employee> employeeLookup;
+        Optional<ProjectAndSupervisor> projectLookup;
+        try (LookupScope scope = new LookupScope()) {
+            Supplier<Optional<Employee>> employeeFork =
+                    scope.fork(() -> employeeRepository.findByEmployeeId(application.getEmployeeId()));
+            Supplier<Optional<ProjectAndSupervisor>> projectFork =
+                    scope.fork(() -> projectRepository.findByProjectId(application.getProjectId())
+                            .map(project -> new ProjectAndSupervisor(project,
+                                    employeeCache.findByUsername(project.getCreatedBy()).orElse(null))));
+            scope.join();
+            employeeLookup = employeeFork.get();
+            projectLookup = projectFork.get();
+        }
+        Employee employee = employeeLookup
                 .orElseThrow(() -> new RuntimeException("Employee not found"));
 
-        // 4. Get the department head's details
-        Employee departmentHead = employeeRepository.findByEmployeeId(departmentHeadId)
+        // 4. Validate the department head was found
+        Employee departmentHead = departmentHeadLookup
                 .orElseThrow(() -> new RuntimeException("Department Head not found"));
 
         // 5. Validate that the department head can approve this employee (same department)
@@ -90,7 +137,7 @@ public class DepartmentHeadService {
         application.getTimestamps().setApprovedAt(Date.from(Instant.now()));
 
         // 11. Get project details to set employee project dates
-        Project project = projectRepository.findByProjectId(application.getProjectId())
+        Project project = projectLookup.map(ProjectAndSupervisor::project)
                 .orElseThrow(() -> new RuntimeException("Project not found"));
 
         // 11.1 VALIDATION: Check role capacity before approving
@@ -110,64 +157,54 @@ public class DepartmentHeadService {
             }
         }
 
-        // Count already COMPLETED applications for this project + role
-        List<Application> completedForRole = applicationRepository
-                .findByProjectIdAndProjectRoleAndCurrentStatus(
-                    application.getProjectId(),
-                    applicationRole,
-                    ApplicationStatus.COMPLETED
-                );
-
-        if (completedForRole.size() >= requiredForRole) {
+        // Atomically claim a slot of this role (concurrent approvals can never overfill it)
+        if (!roleCapacityService.reserve(application.getProjectId(), applicationRole, requiredForRole)) {
             throw new RuntimeException(
-                "Cannot approve: Role '" + applicationRole + "' already has " +
-                completedForRole.size() + " of " + requiredForRole + " required employees assigned"
+                "Cannot approve: Role '" + applicationRole + "' already has all " +
+                requiredForRole + " required employees assigned"
             );
         }
 
-        // 11.5. Update employee's assignedProjectId
-        employee.setAssignedProjectId(application.getProjectId());
-        employee.setAvailabilityStatus(AvailabilityStatus.NOT_AVAILABLE);
-        Employee employeesupervisor = employeeRepository.findByUsername(project.getCreatedBy())
-                .orElse(null);
-        assert employeesupervisor != null;
-        employee.setSupervisor(employeesupervisor.getFirstName() + " "+ employeesupervisor.getLastName());
-        employeeRepository.save(employee);
-
-        // 11.6. Set employee project dates from project dates (not today's date)
-        application.setEmployeeProjectStartDate(project.getProjectStart());
-        application.setEmployeeProjectEndDate(project.getProjectEnd());
-
-        // 12. Auto-reject all other pending applications by this employee
-        List<Application> allEmployeeApplications = applicationRepository.findByEmployeeId(application.getEmployeeId());
-
-        for (Application otherApp : allEmployeeApplications) {
-            // Skip the current application and already completed/rejected ones
-            if (!otherApp.getId().equals(application.getId())
-                && (otherApp.getCurrentStatus() == ApplicationStatus.APPLIED
-                    || otherApp.getCurrentStatus() == ApplicationStatus.REQUEST_DH_APPROVAL
-                    || otherApp.getCurrentStatus() == ApplicationStatus.SUGGESTED)) {
-
-                // Reject this application
-                otherApp.setCurrentStatus(ApplicationStatus.REJECTED_BY_DH);
-
-                // Set rejection reason
-                otherApp.setRejectionReason("Employee has been assigned to project: " + application.getProjectId());
-
-                // Set rejectedBy to the same DH who approved
-                UserAction autoRejectedBy = new UserAction();
-                autoRejectedBy.setUserId(departmentHeadId.toString());
-                autoRejectedBy.setUserName(employee.getFirstName() + " " + employee.getLastName());
-                autoRejectedBy.setRole(Role.DEPARTMENT_HEAD.name());
-                otherApp.setRejectedBy(autoRejectedBy);
-
-                // Save the rejected application
-                applicationRepository.save(otherApp);
-            }
-        }
+        Application savedApplication;
+        try {
+            // 11.5. Update employee's assignedProjectId
+            employee.setAssignedProjectId(application.getProjectId());
+            employee.setAvailabilityStatus(AvailabilityStatus.NOT_AVAILABLE);
+            Employee employeesupervisor = projectLookup.get().supervisor();
+            assert employeesupervisor != null;
+            employee.setSupervisor(employeesupervisor.getFirstName() + " "+ employeesupervisor.getLastName());
+            employeeRepository.save(employee);
+            employeeCache.invalidate(employee);
+
+            // 11.6. Set employee project dates from project dates (not today's date)
+            application.setEmployeeProjectStartDate(project.getProjectStart());
+            application.setEmployeeProjectEndDate(project.getProjectEnd());
+
+            // 12. Auto-reject all other pending applications by this employee (one multi-document update)
+            UserAction autoRejectedBy = new UserAction();
+            autoRejectedBy.setUserId(departmentHeadId.toString());
+            autoRejectedBy.setUserName(employee.getFirstName() + " " + employee.getLastName());
+            autoRejectedBy.setRole(Role.DEPARTMENT_HEAD.name());
+
+            applicationRepository.rejectOpenApplicationsOfEmployee(
+                    application.getEmployeeId(),
+                    application.getId(),
+                    AUTO_REJECTED_STATUSES,
+                    ApplicationStatus.REJECTED_BY_DH,
+                    "Employee has been assigned to project: " + application.getProjectId(),
+                    autoRejectedBy
+            );
 
-        // 13. Save the approved application
-        Application savedApplication = applicationRepository.save(application);
+            // 13. Save the approved application, unless a concurrent approval or rejection
+            // (e.g. a double submit) has already moved it out of REQUEST_DH_APPROVAL
+            savedApplication = applicationRepository.saveIfStatus(application, ApplicationStatus.REQUEST_DH_APPROVAL)
+                    .orElseThrow(() -> new RuntimeException(
+                            "Only applications with REQUEST_DH_APPROVAL status can be approved"));
+        } catch (RuntimeException e) {
+            // The approval was not stored - give the claimed slot back
+            roleCapacityService.release(application.getProjectId(), applicationRole);
+            throw e;
+        }
 
         // 14. Check if all roles are now filled - disable further applications if so
         checkAndDisableApplicationsIfAllRolesFilled(project);
@@ -188,6 +225,12 @@ public class DepartmentHeadService {
 
         boolean allRolesFilled = true;
 
+        // Count COMPLETED applications of every role with one aggregation
+        Map<String, Long> filledByRole = applicationRepository.countByProjectRole(
+                project.getProjectId(),
+                ApplicationStatus.COMPLETED
+        );
+
         for (Project.RoleRequirement roleReq : project.getRoles()) {
             int required = 0;
             if (roleReq.getNumberOfEmployees() != null && !roleReq.getNumberOfEmployees().isEmpty()) {
@@ -203,15 +246,7 @@ public class DepartmentHeadService {
                 continue;
             }
 
-            // Count COMPLETED applications for this role
-            List<Application> filledForRole = applicationRepository
-                    .findByProjectIdAndProjectRoleAndCurrentStatus(
-                            project.getProjectId(),
-                            roleReq.getRequiredRole(),
-                            ApplicationStatus.COMPLETED
-                    );
-
-            if (filledForRole.size() < required) {
+            if (filledByRole.getOrDefault(roleReq.getRequiredRole(), 0L) < required) {
                 allRolesFilled = false;
                 break;
             }
@@ -221,6 +256,7 @@ public class DepartmentHeadService {
         if (allRolesFilled) {
             project.setIsApplicationsAllowed(false);
             projectRepository.save(project);
+            projectCatalogCache.invalidate(project.getProjectId());
         }
     }
 
@@ -250,11 +286,11 @@ public class DepartmentHeadService {
         }
 
         // 4. Get the employee's department
-        Employee employee = employeeRepository.findByEmployeeId(application.getEmployeeId())
+        Employee employee = employeeCache.findByEmployeeId(application.getEmployeeId())
                 .orElseThrow(() -> new RuntimeException("Employee not found"));
 
         // 5. Get the department head's details
-        Employee departmentHead = employeeRepository.findByEmployeeId(departmentHeadId)
+        Employee departmentHead = employeeCache.findByEmployeeId(departmentHeadId)
                 .orElseThrow(() -> new RuntimeException("Department Head not found"));
 
         // 6. Validate that the department head can reject this employee (same department)
@@ -292,44 +328,53 @@ public class DepartmentHeadService {
     }
 
     /**
-     * Get all applications for employees in the Department Head's department
+     * Get one slice of the applications for employees in the Department Head's department.
+     * Filtering happens in MongoDB (a single aggregation joining employees and applications);
+     * slices are ordered by application _id and chained with an opaque cursor.
      *
      * @param departmentHeadId The employee ID of the department head
      * @param status Optional status filter (if null, returns ALL applications)
-     * @return List of applications for employees in the same department
+     * @param cursor Cursor returned with the previous slice, or null for the first slice
+     * @param limit Maximum number of applications in the slice
+     * @return Slice of applications for employees in the same department
      * @throws RuntimeException if Department Head not found
      */
-    public List<Application> getApplicationsForDepartment(Integer departmentHeadId, ApplicationStatus status) {
+    public CursorPageResponse<Application> getApplicationsForDepartment(Integer departmentHeadId,
+                                                                        ApplicationStatus status,
+                                                                        String cursor,
+                                                                        int limit) {
+
+        // 1. Validate paging parameters
+        if (limit < 1 || limit > MAX_DEPARTMENT_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_DEPARTMENT_PAGE_SIZE);
+        }
+        if (cursor != null && !ObjectId.isValid(cursor)) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
 
-        // 1. Get the department head's details
-        Employee departmentHead = employeeRepository.findByEmployeeId(departmentHeadId)
+        // 2. Get the department head's details
+        Employee departmentHead = employeeCache.findByEmployeeId(departmentHeadId)
                 .orElseThrow(() -> new RuntimeException("Department Head not found"));
 
-        // 2. Validate that the user is actually a Department Head
+        // 3. Validate that the user is actually a Department Head
         if (departmentHead.getRole() != Role.DEPARTMENT_HEAD) {
             throw new RuntimeException("Only Department Heads can view department applications");
         }
 
-        // 3. Get all employees in the same department
-        List<Employee> departmentEmployees = employeeRepository.findByDepartment(departmentHead.getDepartment());
-
-        // 4. Extract employee IDs
-        List<Integer> employeeIds = departmentEmployees.stream()
-                .map(Employee::getEmployeeId)
-                .collect(Collectors.toList());
+        // 4. Fetch one extra application to find out whether another slice exists
+        List<Application> applications = applicationRepository.findDepartmentApplications(
+                departmentHead.getDepartment(), status, cursor, limit + 1);
 
-        // 5. If no employees, return empty list
-        if (employeeIds.isEmpty()) {
-            return new ArrayList<>();
+        boolean hasNext = applications.size() > limit;
+        if (hasNext) {
+            applications = applications.subList(0, limit);
         }
+        String nextCursor = hasNext ? applications.get(applications.size() - 1).getId() : null;
 
-        // 6. Get all applications for these employees
-        List<Application> allApplications = applicationRepository.findAll();
+        return new CursorPageResponse<>(applications, applications.size(), hasNext, nextCursor);
+    }
 
-        // 7. Filter by employee IDs and optionally by status
-        return allApplications.stream()
-                .filter(app -> employeeIds.contains(app.getEmployeeId()))
-                .filter(app -> status == null || app.getCurrentStatus() == status)
-                .collect(Collectors.toList());
+    /** The project of an application and the employee who created it (its supervisor) */
+    private record ProjectAndSupervisor(Project project, Employee supervisor) {
     }
 }
@@ -0,0 +1,135 @@
+package com.frauas.workforce.service;
+
+import com.frauas.workforce.model.Employee;
+import com.frauas.workforce.model.Experience;
+import com.frauas.workforce.repository.EmployeeRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Bounded in-process cache of employees for read-only lookups
+ * (approvers, planners, project managers shown by name on workflow records).
+ *
+ * Entries are keyed by employeeId and by username, evicted by size and by age,
+ * and invalidated by EmployeeService (and any other writer) after each write.
+ * Cached copies never hold the password hash, and every lookup returns a fresh
+ * copy (lists and work experience included), so callers cannot change the cached state.
+ *
+ * Do not save an employee obtained from this cache: it has no password.
+ * Load it from EmployeeRepository when it is going to be modified.
+ *
+ * Misses are loaded outside the cache's locks (see {@link CacheLoads}).
+ *
+ * Hit/miss/eviction statistics are published as cache.* metrics
+ * (cache=employees.byEmployeeId / employees.byUsername).
+ */
+@Component
+public class EmployeeCache {
+
+    private final EmployeeRepository employeeRepository;
+    private final AsyncCache<Integer, Employee> byEmployeeId;
+    private final AsyncCache<String, Employee> byUsername;
+
+    public EmployeeCache(EmployeeRepository employeeRepository,
+                         MeterRegistry meterRegistry,
+                         @Value("${workforce.cache.employees.max-size:1000}") long maxSize,
+                         @Value("${workforce.cache.employees.ttl:10m}") Duration ttl) {
+        this.employeeRepository = employeeRepository;
+        this.byEmployeeId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        this.byUsername = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, byEmployeeId.synchronous(), "employees.byEmployeeId");
+        CaffeineCacheMetrics.monitor(meterRegistry, byUsername.synchronous(), "employees.byUsername");
+    }
+
+    /**
+     * Read-only lookup by employeeId. Unknown employees are not cached.
+     */
+    public Optional<Employee> findByEmployeeId(Integer employeeId) {
+        if (employeeId == null) {
+            return Optional.empty();
+        }
+        Employee cached = CacheLoads.get(byEmployeeId, employeeId,
+                id -> employeeRepository.findByEmployeeId(id).map(EmployeeCache::withoutPassword).orElse(null));
+        return Optional.ofNullable(cached).map(EmployeeCache::withoutPassword);
+    }
+
+    /**
+     * Read-only lookup by username. Unknown usernames are not cached.
+     */
+    public Optional<Employee> findByUsername(String username) {
+        if (username == null) {
+            return Optional.empty();
+        }
+        Employee cached = CacheLoads.get(byUsername, username,
+                name -> employeeRepository.findByUsername(name).map(EmployeeCache::withoutPassword).orElse(null));
+        return Optional.ofNullable(cached).map(EmployeeCache::withoutPassword);
+    }
+
+    /**
+     * Drop every cached entry of the given employee. Call after the write has been
+     * persisted, with the state before the write if its employeeId or username changed.
+     */
+    public void invalidate(Employee employee) {
+        if (employee != null) {
+            invalidate(employee.getEmployeeId(), employee.getUsername());
+        }
+    }
+
+    /**
+     * Drop the cached entries under the given keys (either may be null).
+     */
+    public void invalidate(Integer employeeId, String username) {
+        if (employeeId != null) {
+            byEmployeeId.synchronous().invalidate(employeeId);
+        }
+        if (username != null) {
+            byUsername.synchronous().invalidate(username);
+        }
+    }
+
+    public void invalidateAll() {
+        byEmployeeId.synchronous().invalidateAll();
+        byUsername.synchronous().invalidateAll();
+    }
+
+    private static Employee withoutPassword(Employee employee) {
+        Employee copy = new Employee();
+        BeanUtils.copyProperties(employee, copy, "password");
+        // copyProperties is shallow: give the copy its own lists
+        copy.setSkills(copyOf(employee.getSkills()));
+        copy.setInterests(copyOf(employee.getInterests()));
+        copy.setPreferredLocations(copyOf(employee.getPreferredLocations()));
+        if (employee.getWorkExperience() != null) {
+            List<Experience> workExperience = new ArrayList<>(employee.getWorkExperience().size());
+            for (Experience experience : employee.getWorkExperience()) {
+                workExperience.add(experience == null ? null : new Experience(experience.getRole(),
+                        experience.getCompany(), experience.getStartDate(), experience.getEndDate(),
+                        experience.getDescription()));
+            }
+            copy.setWorkExperience(workExperience);
+        }
+        return copy;
+    }
+
+    private static List<String> copyOf(List<String> values) {
+        return values != null ? new ArrayList<>(values) : null;
+    }
+}
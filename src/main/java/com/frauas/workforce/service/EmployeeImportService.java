@@ -0,0 +1,270 @@
+package com.frauas.workforce.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.frauas.workforce.DTO.BulkImportResult;
+import com.frauas.workforce.DTO.BulkImportRowResult;
+import com.frauas.workforce.model.Employee;
+import com.frauas.workforce.repository.EmployeeRepository;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Bulk onboarding of employees from a JSON array or NDJSON request body.
+ *
+ * Rows are read one at a time and imported in batches. Each batch costs one
+ * conflict query, at most one employeeId reservation and one unordered bulk
+ * insert, and its passwords are hashed in parallel on the bounded bulk pool of
+ * {@link PasswordHashingExecutor}. Invalid or conflicting rows are reported
+ * individually and never abort the import.
+ */
+@Service
+public class EmployeeImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeImportService.class);
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @Autowired
+    private EmployeeCache employeeCache;
+
+    @Autowired
+    private SkillIndex skillIndex;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${workforce.import.employees.batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * Import employees from a request body.
+     *
+     * A row that cannot be bound to an Employee is reported and skipped. Malformed
+     * JSON ends the import at that row, because the rest of the body cannot be read
+     * reliably; rows before it are still imported.
+     *
+     * @param body JSON array of employees, or one employee JSON object per line
+     * @return Per-row results in request order
+     */
+    public BulkImportResult importEmployees(InputStream body) throws IOException {
+        List<BulkImportRowResult> results = new ArrayList<>();
+        Identities seen = new Identities();
+        List<Row> batch = new ArrayList<>(batchSize);
+        int index = 0;
+
+        try (MappingIterator<Employee> rows = objectMapper.readerFor(Employee.class).readValues(body)) {
+            while (true) {
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    batch.add(new Row(index, rows.nextValue()));
+                } catch (JsonMappingException e) {
+                    results.add(BulkImportRowResult.failed(index, null, "Invalid row: " + e.getOriginalMessage()));
+                } catch (JsonProcessingException e) {
+                    results.add(BulkImportRowResult.failed(index, null, "Malformed JSON: " + e.getOriginalMessage()));
+                    break;
+                }
+                index++;
+
+                if (batch.size() == batchSize) {
+                    results.addAll(importBatch(batch, seen));
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            results.addAll(importBatch(batch, seen));
+        }
+
+        results.sort(Comparator.comparingInt(BulkImportRowResult::getIndex));
+        int created = (int) results.stream().filter(BulkImportRowResult::isCreated).count();
+        log.info("Bulk employee import: {} rows, {} created, {} failed", results.size(), created, results.size() - created);
+        return new BulkImportResult(results.size(), created, results.size() - created, results);
+    }
+
+    private List<BulkImportRowResult> importBatch(List<Row> batch, Identities seen) {
+        List<BulkImportRowResult> results = new ArrayList<>(batch.size());
+
+        // 1. Validate rows and reject duplicates within the import
+        List<Row> candidates = new ArrayList<>(batch.size());
+        for (Row row : batch) {
+            String error = seen.claim(row.employee);
+            if (error != null) {
+                results.add(BulkImportRowResult.failed(row.index, row.employee.getUsername(), error));
+            } else {
+                candidates.add(row);
+            }
+        }
+
+        // 2. Reject rows that clash with existing employees (one query per batch)
+        Identities existing = existingIdentities(candidates);
+        List<Row> accepted = new ArrayList<>(candidates.size());
+        for (Row row : candidates) {
+            String error = existing.conflict(row.employee);
+            if (error != null) {
+                results.add(BulkImportRowResult.failed(row.index, row.employee.getUsername(), error));
+            } else {
+                accepted.add(row);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return results;
+        }
+
+        // 3. Assign ids, reserving all missing employeeIds with one counter round trip, and move
+        // the counter past the explicit employeeIds so that it never hands one of them out
+        int missingEmployeeIds = (int) accepted.stream().filter(row -> !hasEmployeeId(row.employee)).count();
+        int nextEmployeeId = missingEmployeeIds > 0 ? employeeService.reserveEmployeeIds(missingEmployeeIds) : 0;
+        accepted.stream()
+                .map(row -> row.employee)
+                .filter(EmployeeImportService::hasEmployeeId)
+                .mapToInt(Employee::getEmployeeId)
+                .max()
+                .ifPresent(employeeService::advanceEmployeeIdsTo);
+        Instant now = Instant.now();
+        for (Row row : accepted) {
+            Employee employee = row.employee;
+            employee.setId(new ObjectId().toHexString());
+            if (!hasEmployeeId(employee)) {
+                employee.setEmployeeId(nextEmployeeId++);
+            }
+            if (employee.getUserId() == null || employee.getUserId().isEmpty()) {
+                employee.setUserId(UUID.randomUUID().toString());
+            }
+            employee.setLastModifiedAt(now);
+        }
+
+        // 4. Hash passwords on the bounded bulk hashing pool: BCrypt dominates the cost of an import
+        List<Employee> withPassword = accepted.stream()
+                .map(row -> row.employee)
+                .filter(employee -> employee.getPassword() != null && !employee.getPassword().isEmpty())
+                .toList();
+        List<String> hashes = passwordHashingExecutor.encodeAll(
+                withPassword.stream().map(Employee::getPassword).toList());
+        for (int i = 0; i < withPassword.size(); i++) {
+            withPassword.get(i).setPassword(hashes.get(i));
+        }
+
+        // 5. Insert with one unordered bulk write; failures are reported per row
+        List<Employee> employees = accepted.stream().map(row -> row.employee).toList();
+        Map<Integer, String> insertErrors = employeeRepository.insertUnordered(employees);
+        for (int i = 0; i < accepted.size(); i++) {
+            Employee employee = employees.get(i);
+            String error = insertErrors.get(i);
+            if (error != null) {
+                results.add(BulkImportRowResult.failed(accepted.get(i).index, employee.getUsername(), error));
+            } else {
+                employeeCache.invalidate(employee);
+                skillIndex.update(employee);
+                results.add(BulkImportRowResult.created(accepted.get(i).index, employee.getId(),
+                        employee.getEmployeeId(), employee.getUsername()));
+            }
+        }
+        return results;
+    }
+
+    private Identities existingIdentities(List<Row> rows) {
+        Identities batchIdentities = new Identities();
+        rows.forEach(row -> batchIdentities.add(row.employee));
+
+        Identities existing = new Identities();
+        if (!rows.isEmpty()) {
+            employeeRepository.findIdentityConflicts(batchIdentities.usernames, batchIdentities.emails,
+                    batchIdentities.employeeIds).forEach(existing::add);
+        }
+        return existing;
+    }
+
+    private static boolean hasEmployeeId(Employee employee) {
+        return employee.getEmployeeId() != null && employee.getEmployeeId() != 0;
+    }
+
+    private record Row(int index, Employee employee) {
+    }
+
+    /**
+     * Usernames, emails and employeeIds of a set of employees.
+     */
+    private static final class Identities {
+        private final Set<String> usernames = new HashSet<>();
+        private final Set<String> emails = new HashSet<>();
+        private final Set<Integer> employeeIds = new HashSet<>();
+
+        void add(Employee employee) {
+            if (employee.getUsername() != null) {
+                usernames.add(employee.getUsername());
+            }
+            if (employee.getEmail() != null) {
+                emails.add(employee.getEmail());
+            }
+            if (hasEmployeeId(employee)) {
+                employeeIds.add(employee.getEmployeeId());
+            }
+        }
+
+        /**
+         * Validate a row and record its identity, unless it is already taken.
+         *
+         * @return Error message, or null if the row may be imported
+         */
+        String claim(Employee employee) {
+            if (employee == null) {
+                return "Row is empty";
+            }
+            if (employee.getUsername() == null || employee.getUsername().isBlank()) {
+                return "Username is required";
+            }
+            if (employee.getEmail() == null || employee.getEmail().isBlank()) {
+                return "Email is required";
+            }
+            String error = conflict(employee);
+            if (error != null) {
+                return error + " in this import";
+            }
+            add(employee);
+            return null;
+        }
+
+        /**
+         * @return Error message if the employee clashes with these identities, otherwise null
+         */
+        String conflict(Employee employee) {
+            if (usernames.contains(employee.getUsername())) {
+                return "Username already exists: " + employee.getUsername();
+            }
+            if (emails.contains(employee.getEmail())) {
+                return "Email already exists: " + employee.getEmail();
+            }
+            if (hasEmployeeId(employee) && employeeIds.contains(employee.getEmployeeId())) {
+                return "Employee ID already exists: " + employee.getEmployeeId();
+            }
+            return null;
+        }
+    }
+}
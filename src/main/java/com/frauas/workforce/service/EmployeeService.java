@@ -1,29 +1,43 @@
 package com.frauas.workforce.service;
 
+import com.frauas.workforce.DTO.CursorPageResponse;
+import com.frauas.workforce.DTO.ListQuery;
 import com.frauas.workforce.model.AvailabilityStatus;
 import com.frauas.workforce.model.ContractType;
 import com.frauas.workforce.model.Employee;
 import com.frauas.workforce.model.Experience;
 import com.frauas.workforce.model.Role;
 import com.frauas.workforce.repository.EmployeeRepository;
+import com.frauas.workforce.repository.KeysetScroller;
 import com.frauas.workforce.repository.ProjectManagerRepository;
+import com.frauas.workforce.repository.ScrollRequest;
 import jakarta.annotation.PostConstruct;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @NoArgsConstructor
 @AllArgsConstructor
 public class EmployeeService {
 
+    public static final String EMPLOYEE_ID_SEQUENCE = "employeeId";
+    // Unique-indexed fields only, so every page is an index range scan
+    private static final Set<String> SORTABLE_FIELDS = Set.of("id", "employeeId", "username", "email");
+
     @Autowired
     private EmployeeRepository employeeRepository;
 
@@ -33,11 +47,24 @@ public class EmployeeService {
     @Autowired
     private ProjectManagerRepository projectManagerRepository;
 
+    @Autowired
+    private SequenceGeneratorService sequenceGeneratorService;
+
+    @Autowired
+    private EmployeeCache employeeCache;
+
+    @Autowired
+    private SkillIndex skillIndex;
+
+    // Disabled by the datagen profile, which loads its own synthetic dataset
+    @Value("${workforce.seed.sample-data:true}")
+    private boolean seedSampleData;
+
 
     @PostConstruct
     public void init() {
         // Add sample data with different roles if database is empty
-        if (employeeRepository.count() == 0) {
+        if (seedSampleData && employeeRepository.count() == 0) {
             // System Admins (password: admin123)
             Employee admin = new Employee(null, null, java.util.UUID.randomUUID().toString(), false,
                     "admin", "admin123",
@@ -53,7 +80,7 @@ public class EmployeeService {
                     Arrays.asList(
                             new Experience("Senior System Admin", "Tech Corp", LocalDate.of(2018, 1, 1), LocalDate.of(2023, 12, 31), "Managed enterprise IT infrastructure"),
                             new Experience("IT Administrator", "StartUp GmbH", LocalDate.of(2015, 6, 1), LocalDate.of(2017, 12, 31), "Handled network and security operations")
-                    ), null, null, null);
+                    ), null, null, null, null);
             createEmployee(admin);
 
             // Project Managers (password: pm123)
@@ -71,7 +98,7 @@ public class EmployeeService {
                     Arrays.asList(
                             new Experience("Project Manager", "Digital Solutions AG", LocalDate.of(2020, 3, 1), null, "Leading multiple software development projects"),
                             new Experience("Scrum Master", "Innovation Labs", LocalDate.of(2017, 9, 1), LocalDate.of(2020, 2, 28), "Facilitated agile teams")
-                    ), null, null, null);
+                    ), null, null, null, null);
             createEmployee(projectManager1);
 
             Employee projectManager2 = new Employee(null, null, java.util.UUID.randomUUID().toString(), false,
@@ -88,7 +115,7 @@ public class EmployeeService {
                     Arrays.asList(
                             new Experience("Senior Project Manager", "Engineering Firm", LocalDate.of(2019, 1, 1), null, "Managing large-scale engineering projects"),
                             new Experience("Team Lead", "Tech Innovations", LocalDate.of(2016, 4, 1), LocalDate.of(2018, 12, 31), "Led cross-functional teams")
-                    ), null, null, null);
+                    ), null, null, null, null);
             createEmployee(projectManager2);
 
             // Department Heads (password: dh123)
@@ -106,7 +133,7 @@ public class EmployeeService {
                     Arrays.asList(
                             new Experience("HR Department Head", "Global Enterprise", LocalDate.of(2021, 1, 1), null, "Leading HR strategy and operations"),
                             new Experience("HR Manager", "Corporate Solutions", LocalDate.of(2018, 3, 1), LocalDate.of(2020, 12, 31), "Managed recruitment and employee development")
-                    ), null, null, null);
+                    ), null, null, null, null);
             createEmployee(deptHead1);
 
             Employee deptHead2 = new Employee(null, null, java.util.UUID.randomUUID().toString(), false,
@@ -123,7 +150,7 @@ public class EmployeeService {
                     Arrays.asList(
                             new Experience("Finance Department Head", "Financial Services Inc", LocalDate.of(2020, 6, 1), null, "Overseeing financial planning and analysis"),
                             new Experience("Senior Financial Analyst", "Investment Bank", LocalDate.of(2016, 1, 1), LocalDate.of(2020, 5, 31), "Financial modeling and forecasting")
-                    ), null, null, null);
+                    ), null, null, null, null);
             createEmployee(deptHead2);
 
             // Resource Planners (password: rp123)
@@ -141,7 +168,7 @@ public class EmployeeService {
                     Arrays.asList(
                             new Experience("Resource Planner", "Operations Hub", LocalDate.of(2019, 7, 1), null, "Managing resource allocation and capacity planning"),
                             new Experience("Operations Coordinator", "Logistics Pro", LocalDate.of(2017, 2, 1), LocalDate.of(2019, 6, 30), "Coordinated scheduling and resources")
-                    ), null, null, null);
+                    ), null, null, null, null);
             createEmployee(planner1);
 
             Employee planner2 = new Employee(null, null, java.util.UUID.randomUUID().toString(), false,
@@ -158,7 +185,7 @@ public class EmployeeService {
                     Arrays.asList(
                             new Experience("HR Resource Planner", "Tech Company", LocalDate.of(2020, 9, 1), null, "Workforce planning and analytics"),
                             new Experience("HR Analyst", "Consulting Firm", LocalDate.of(2018, 5, 1), LocalDate.of(2020, 8, 31), "Analyzed workforce trends and capacity")
-                    ), null, null, null);
+                    ), null, null, null, null);
             createEmployee(planner2);
 
             // Regular Employees (password: emp123)
@@ -176,7 +203,7 @@ public class EmployeeService {
                     Arrays.asList(
                             new Experience("Software Engineer", "Tech Solutions GmbH", LocalDate.of(2021, 4, 1), null, "Developing microservices and web applications"),
                             new Experience("Junior Developer", "Code Factory", LocalDate.of(2019, 8, 1), LocalDate.of(2021, 3, 31), "Full-stack development with React and Java")
-                    ), null, null, null);
+                    ), null, null, null, null);
             createEmployee(employee1);
 
             Employee employee2 = new Employee(null, null, java.util.UUID.randomUUID().toString(), false,
@@ -193,7 +220,7 @@ public class EmployeeService {
                     Arrays.asList(
                             new Experience("Backend Developer", "Digital Platform AG", LocalDate.of(2020, 10, 1), null, "Building scalable backend systems with Python"),
                             new Experience("Python Developer", "Startup Inc", LocalDate.of(2018, 6, 1), LocalDate.of(2020, 9, 30), "API development and database design")
-                    ), null, null, null);
+                    ), null, null, null, null);
             createEmployee(employee2);
 
             Employee employee3 = new Employee(null, null, java.util.UUID.randomUUID().toString(), false,
@@ -210,7 +237,7 @@ public class EmployeeService {
                     Arrays.asList(
                             new Experience("Marketing Specialist", "Brand Agency", LocalDate.of(2022, 1, 1), null, "Digital marketing campaigns and SEO optimization"),
                             new Experience("Content Manager", "Media House", LocalDate.of(2020, 3, 1), LocalDate.of(2021, 12, 31), "Content strategy and social media management")
-                    ), null, null, null);
+                    ), null, null, null, null);
             createEmployee(employee3);
 
             Employee employee4 = new Employee(null, null, java.util.UUID.randomUUID().toString(), false,
@@ -227,7 +254,7 @@ public class EmployeeService {
                     Arrays.asList(
                             new Experience("Financial Analyst", "Finance Corp", LocalDate.of(2021, 11, 1), LocalDate.of(2024, 12, 31), "Financial modeling and forecasting for projects"),
                             new Experience("Junior Analyst", "Investment Firm", LocalDate.of(2020, 2, 1), LocalDate.of(2021, 10, 31), "Data analysis and reporting")
-                    ), null, null, null);
+                    ), null, null, null, null);
             createEmployee(employee4);
 
             Employee employee5 = new Employee(null, null, java.util.UUID.randomUUID().toString(), false, "emp_sophia", "emp123",
@@ -243,7 +270,7 @@ public class EmployeeService {
                     Arrays.asList(
                             new Experience("HR Specialist - Working Student", "Corporate HR", LocalDate.of(2023, 9, 1), null, "Supporting recruitment and onboarding processes"),
                             new Experience("HR Intern", "Business Services", LocalDate.of(2023, 3, 1), LocalDate.of(2023, 8, 31), "Assisted with employee engagement initiatives")
-                    ), null, null, null);
+                    ), null, null, null, null);
             createEmployee(employee5);
         }
     }
@@ -252,6 +279,57 @@ public class EmployeeService {
         return employeeRepository.findAll();
     }
 
+    public CursorPageResponse<Employee> getEmployees(ListQuery query) {
+        return employeeRepository.scrollEmployees(ScrollRequest.of(query, SORTABLE_FIELDS, "employeeId"));
+    }
+
+    /**
+     * One page of the employees who have all of the given skills, in employeeId order.
+     * Matching uses the in-memory {@link SkillIndex}, so writes on other nodes show up
+     * after its next refresh.
+     *
+     * @param skills Skills every returned employee has (case-insensitive)
+     * @param cursor nextCursor of the previous page, or null for the first page
+     * @param limit Page size, {@link ScrollRequest#DEFAULT_LIMIT} if null
+     * @return One page of employees (without password hashes)
+     * @throws IllegalArgumentException if no skill is given, or the limit or cursor is invalid
+     */
+    public CursorPageResponse<Employee> getEmployeesWithAllSkills(List<String> skills, String cursor, Integer limit) {
+        if (skills == null || skills.stream().allMatch(skill -> SkillDictionary.normalize(skill) == null)) {
+            throw new IllegalArgumentException("At least one skill is required");
+        }
+        // Same cursor as GET /api/employees?sort=employeeId
+        ScrollRequest request = ScrollRequest.of(new ListQuery(limit, cursor, null, null),
+                Set.of("employeeId"), "employeeId");
+
+        int[] matching = skillIndex.employeesWithAllSkills(skills);
+        int from = 0;
+        if (request.getCursor() != null) {
+            // employeeId is unique, so the sort value alone positions the page
+            if (!(KeysetScroller.decodeCursor(request).get("v") instanceof Integer after)) {
+                throw new IllegalArgumentException("Invalid cursor: " + request.getCursor());
+            }
+            int position = Arrays.binarySearch(matching, after);
+            from = position >= 0 ? position + 1 : -position - 1;
+        }
+        int to = Math.min(from + request.getLimit(), matching.length);
+        List<Integer> pageIds = Arrays.stream(matching, from, to).boxed().toList();
+
+        // The index may be ahead of or behind this node's reads; drop employees that are gone
+        Map<Integer, Employee> employees = employeeRepository.findByEmployeeIdIn(pageIds).stream()
+                .collect(Collectors.toMap(Employee::getEmployeeId, Function.identity(), (first, duplicate) -> first));
+        List<Employee> content = pageIds.stream().map(employees::get).filter(Objects::nonNull).toList();
+        boolean hasNext = to < matching.length;
+        String nextCursor = null;
+        if (hasNext) {
+            int lastEmployeeId = matching[to - 1];
+            Employee last = employees.get(lastEmployeeId);
+            nextCursor = KeysetScroller.encodeCursor(request, last != null ? last.getId() : lastEmployeeId,
+                    lastEmployeeId);
+        }
+        return new CursorPageResponse<>(content, content.size(), hasNext, nextCursor);
+    }
+
     public Optional<Employee> getEmployeeById(String id) {
         return employeeRepository.findById(id);
     }
@@ -275,17 +353,25 @@ public class EmployeeService {
         // Generate sequential employee ID if not provided
         if (employee.getEmployeeId() == null || employee.getEmployeeId() == 0) {
             employee.setEmployeeId(generateNextEmployeeId());
+        } else {
+            advanceEmployeeIdsTo(employee.getEmployeeId());
         }
 
         // Validate and populate supervisor, and validate assigned project
         // validateAndPopulateSupervisor(employee);
         // validateAssignedProject(employee.getAssignedProjectId());
 
-        return employeeRepository.save(employee);
+        Employee saved = employeeRepository.save(employee);
+        employeeCache.invalidate(saved);
+        skillIndex.update(saved);
+        return saved;
     }
 
     public Optional<Employee> updateEmployee(String id, Employee employeeDetails) {
         return employeeRepository.findById(id).map(employee -> {
+            Integer previousEmployeeId = employee.getEmployeeId();
+            String previousUsername = employee.getUsername();
+
             employee.setUsername(employeeDetails.getUsername());
             employee.setFirstName(employeeDetails.getFirstName());
             employee.setLastName(employeeDetails.getLastName());
@@ -318,12 +404,23 @@ public class EmployeeService {
             //validateAndPopulateSupervisor(employee);
             //validateAssignedProject(employee.getAssignedProjectId());
 
-            return employeeRepository.save(employee);
+            if (employee.getEmployeeId() != null && !employee.getEmployeeId().equals(previousEmployeeId)) {
+                advanceEmployeeIdsTo(employee.getEmployeeId());
+            }
+            Employee saved = employeeRepository.save(employee);
+            employeeCache.invalidate(previousEmployeeId, previousUsername);
+            employeeCache.invalidate(saved);
+            skillIndex.remove(previousEmployeeId);
+            skillIndex.update(saved);
+            return saved;
         });
     }
 
     public Optional<Employee> updateEmployeeByEmployeeId(Integer employeeId, Employee employeeDetails) {
         return employeeRepository.findByEmployeeId(employeeId).map(employee -> {
+            Integer previousEmployeeId = employee.getEmployeeId();
+            String previousUsername = employee.getUsername();
+
             employee.setUsername(employeeDetails.getUsername());
             employee.setFirstName(employeeDetails.getFirstName());
             employee.setLastName(employeeDetails.getLastName());
@@ -356,14 +453,50 @@ public class EmployeeService {
             //validateAndPopulateSupervisor(employee);
             //validateAssignedProject(employee.getAssignedProjectId());
 
-            return employeeRepository.save(employee);
+            if (employee.getEmployeeId() != null && !employee.getEmployeeId().equals(previousEmployeeId)) {
+                advanceEmployeeIdsTo(employee.getEmployeeId());
+            }
+            Employee saved = employeeRepository.save(employee);
+            employeeCache.invalidate(previousEmployeeId, previousUsername);
+            employeeCache.invalidate(saved);
+            skillIndex.remove(previousEmployeeId);
+            skillIndex.update(saved);
+            return saved;
         });
     }
 
 
     public Integer generateNextEmployeeId() {
-        Optional<Employee> lastEmployee = employeeRepository.findTopByOrderByEmployeeIdDesc();
-        return lastEmployee.map(emp -> emp.getEmployeeId() + 1).orElse(1);
+        return Math.toIntExact(sequenceGeneratorService.next(EMPLOYEE_ID_SEQUENCE, this::currentMaxEmployeeId));
+    }
+
+    /**
+     * Reserve consecutive employee IDs for a bulk import with a single counter round trip.
+     *
+     * @param count Number of IDs needed
+     * @return First reserved ID; the IDs are [result, result + count - 1]
+     */
+    public int reserveEmployeeIds(int count) {
+        return Math.toIntExact(sequenceGeneratorService.nextBlock(EMPLOYEE_ID_SEQUENCE, count, this::currentMaxEmployeeId));
+    }
+
+    /**
+     * Keep the employeeId sequence from ever handing out an explicitly assigned ID.
+     * Call before inserting employees that bring their own employeeId.
+     *
+     * @param employeeId Highest explicitly assigned employeeId
+     */
+    public void advanceEmployeeIdsTo(int employeeId) {
+        sequenceGeneratorService.advanceTo(EMPLOYEE_ID_SEQUENCE, employeeId, this::currentMaxEmployeeId);
+    }
+
+    /**
+     * Highest employeeId in use; the employeeId sequence starts after it.
+     */
+    private long currentMaxEmployeeId() {
+        return employeeRepository.findTopByOrderByEmployeeIdDesc()
+                .map(Employee::getEmployeeId)
+                .orElse(0);
     }
 
     /**
@@ -407,8 +540,11 @@ public class EmployeeService {
     }
 
     public boolean deleteEmployee(String id) {
-        if (employeeRepository.existsById(id)) {
+        Optional<Employee> employee = employeeRepository.findById(id);
+        if (employee.isPresent()) {
             employeeRepository.deleteById(id);
+            employeeCache.invalidate(employee.get());
+            skillIndex.remove(employee.get().getEmployeeId());
             return true;
         }
         return false;
@@ -418,6 +554,8 @@ public class EmployeeService {
         Optional<Employee> employee = employeeRepository.findByEmployeeId(employeeId);
         if (employee.isPresent()) {
             employeeRepository.deleteById(employee.get().getId());
+            employeeCache.invalidate(employee.get());
+            skillIndex.remove(employee.get().getEmployeeId());
             return true;
         }
         return false;
@@ -0,0 +1,97 @@
+package com.frauas.workforce.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.frauas.workforce.model.Application;
+import com.frauas.workforce.model.ApplicationStatus;
+import com.frauas.workforce.model.Employee;
+import com.frauas.workforce.repository.ApplicationRepository;
+import com.frauas.workforce.repository.EmployeeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Writes applications and employees as newline-delimited JSON (one document per line)
+ * straight from a MongoDB cursor, so memory use does not grow with the export size.
+ * Writes block while the client is slow to read, which in turn pauses the cursor.
+ */
+@Service
+public class ExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportService.class);
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Export applications matching all given filters (each one optional).
+     *
+     * @param department Only applications of employees in this department
+     * @param updatedSince Only applications modified at or after this instant
+     * @return Number of applications written
+     */
+    public long exportApplications(ApplicationStatus status, String projectId, String department,
+                                   Instant updatedSince, OutputStream out) throws IOException {
+        List<Integer> employeeIds = null;
+        if (department != null) {
+            employeeIds = employeeRepository.findEmployeeIdsByDepartment(department).stream()
+                    .map(Employee::getEmployeeId)
+                    .toList();
+        }
+
+        try (Stream<Application> applications =
+                     applicationRepository.streamApplications(status, projectId, employeeIds, updatedSince)) {
+            long written = writeNdjson(applications, Application.class, out);
+            log.info("Exported {} applications (status={}, projectId={}, department={}, updatedSince={})",
+                    written, status, projectId, department, updatedSince);
+            return written;
+        }
+    }
+
+    /**
+     * Export employees matching all given filters (each one optional). Passwords are never exported.
+     *
+     * @param department Only employees of this department
+     * @param updatedSince Only employees modified at or after this instant
+     * @return Number of employees written
+     */
+    public long exportEmployees(String department, Instant updatedSince, OutputStream out) throws IOException {
+        try (Stream<Employee> employees = employeeRepository.streamEmployees(department, updatedSince)) {
+            long written = writeNdjson(employees, Employee.class, out);
+            log.info("Exported {} employees (department={}, updatedSince={})", written, department, updatedSince);
+            return written;
+        }
+    }
+
+    private <T> long writeNdjson(Stream<T> rows, Class<T> type, OutputStream out) throws IOException {
+        // Flushing is left to the buffered generator; flushing per row would cost a packet per document
+        ObjectWriter writer = objectMapper.writerFor(type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long written = 0;
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            for (T row : (Iterable<T>) rows::iterator) {
+                writer.writeValue(generator, row);
+                generator.writeRaw('\n');
+                written++;
+            }
+        }
+        return written;
+    }
+}
@@ -0,0 +1,52 @@
+package com.frauas.workforce.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.frauas.workforce.DTO.CursorPageResponse;
+import com.frauas.workforce.repository.ScrollRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Applies the fields= parameter of the list endpoints to a page of response objects.
+ *
+ * Items are converted with the application ObjectMapper, so Jackson annotations
+ * (e.g. write-only passwords) still apply, and only the requested top-level
+ * properties are kept, in the requested order.
+ */
+@Component
+public class FieldProjector {
+
+    private static final TypeReference<Map<String, Object>> JSON_OBJECT = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+
+    public FieldProjector(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @param page Page of response objects
+     * @param fields Raw fields parameter; if null or blank the page is returned unchanged
+     * @return The page itself, or a page of maps holding only the requested fields
+     */
+    public CursorPageResponse<?> project(CursorPageResponse<?> page, String fields) {
+        Set<String> selected = ScrollRequest.parseFields(fields);
+        if (selected.isEmpty()) {
+            return page;
+        }
+        return page.map(item -> {
+            Map<String, Object> json = objectMapper.convertValue(item, JSON_OBJECT);
+            Map<String, Object> projected = new LinkedHashMap<>();
+            for (String field : selected) {
+                if (json.containsKey(field)) {
+                    projected.put(field, json.get(field));
+                }
+            }
+            return projected;
+        });
+    }
+}
@@ -0,0 +1,15 @@
+package com.frauas.workforce.service;
+
+/**
+ * Generates unique identifiers for business IDs (projectId, applicationId).
+ *
+ * Implementations must be thread-safe, must not block, and must return IDs that are
+ * unique across all application instances. IDs are URL-safe strings.
+ */
+public interface IdGenerator {
+
+    /**
+     * @return A new unique identifier
+     */
+    String nextId();
+}
@@ -0,0 +1,112 @@
+package com.frauas.workforce.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Throttles failed logins per username and per client IP.
+ *
+ * Failures are counted in fixed windows that start with the first failure.
+ * Once a key reaches its limit, further attempts are refused until the window
+ * ends - before any password hashing is done - so guessing attacks and retry
+ * storms cost almost nothing. A successful login clears the username's count.
+ *
+ * Published metric: workforce.auth.throttle.tracked (keys currently counted).
+ */
+@Component
+public class LoginThrottle {
+
+    private final Ticker ticker;
+    private final Duration window;
+    private final int maxFailuresPerUsername;
+    private final int maxFailuresPerIp;
+    private final Cache<String, FailureWindow> failures;
+
+    @Autowired
+    public LoginThrottle(MeterRegistry meterRegistry,
+                         @Value("${workforce.auth.throttle.window:15m}") Duration window,
+                         @Value("${workforce.auth.throttle.max-failures-per-username:5}") int maxFailuresPerUsername,
+                         @Value("${workforce.auth.throttle.max-failures-per-ip:50}") int maxFailuresPerIp,
+                         @Value("${workforce.auth.throttle.max-tracked:100000}") long maxTracked) {
+        this(Ticker.systemTicker(), window, maxFailuresPerUsername, maxFailuresPerIp, maxTracked);
+        meterRegistry.gauge("workforce.auth.throttle.tracked", failures, Cache::estimatedSize);
+    }
+
+    LoginThrottle(Ticker ticker, Duration window, int maxFailuresPerUsername, int maxFailuresPerIp, long maxTracked) {
+        this.ticker = ticker;
+        this.window = window;
+        this.maxFailuresPerUsername = maxFailuresPerUsername;
+        this.maxFailuresPerIp = maxFailuresPerIp;
+        this.failures = Caffeine.newBuilder()
+                .maximumSize(maxTracked)
+                .expireAfterWrite(window)
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * Check whether a login attempt may proceed.
+     *
+     * @param username Username being logged in
+     * @param clientIp Remote address of the client
+     * @return Time until the attempt would be allowed, or empty if it is allowed now
+     */
+    public Optional<Duration> retryAfter(String username, String clientIp) {
+        long now = ticker.read();
+        long waitNanos = Math.max(
+                remaining(usernameKey(username), maxFailuresPerUsername, now),
+                remaining(ipKey(clientIp), maxFailuresPerIp, now));
+        return waitNanos > 0 ? Optional.of(Duration.ofNanos(waitNanos)) : Optional.empty();
+    }
+
+    /**
+     * Record a failed attempt (unknown user or wrong password).
+     */
+    public void recordFailure(String username, String clientIp) {
+        long now = ticker.read();
+        failures.get(usernameKey(username), key -> new FailureWindow(now)).failures.incrementAndGet();
+        failures.get(ipKey(clientIp), key -> new FailureWindow(now)).failures.incrementAndGet();
+    }
+
+    /**
+     * Record a successful login, clearing the username's failures.
+     * The IP count is kept: one valid account must not unlock guessing others.
+     */
+    public void recordSuccess(String username) {
+        failures.invalidate(usernameKey(username));
+    }
+
+    private long remaining(String key, int limit, long now) {
+        FailureWindow failureWindow = failures.getIfPresent(key);
+        if (failureWindow == null || failureWindow.failures.get() < limit) {
+            return 0;
+        }
+        return failureWindow.startNanos + window.toNanos() - now;
+    }
+
+    private static String usernameKey(String username) {
+        return "user:" + username.trim().toLowerCase();
+    }
+
+    private static String ipKey(String clientIp) {
+        return "ip:" + clientIp;
+    }
+
+    private static final class FailureWindow {
+        private final long startNanos;
+        private final AtomicInteger failures = new AtomicInteger();
+
+        private FailureWindow(long startNanos) {
+            this.startNanos = startNanos;
+        }
+    }
+}
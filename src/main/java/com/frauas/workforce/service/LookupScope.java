@@ -0,0 +1,115 @@
+package com.frauas.workforce.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Runs independent reads of one workflow step concurrently, so the step waits for
+ * the slowest lookup instead of the sum of all of them.
+ *
+ * Modelled on StructuredTaskScope.ShutdownOnFailure (still a preview API in JDK 21):
+ * <pre>
+ * try (LookupScope scope = new LookupScope()) {
+ *     Supplier&lt;Optional&lt;Application&gt;&gt; application = scope.fork(() -&gt; applicationRepository.findByApplicationId(id));
+ *     Supplier&lt;Optional&lt;Employee&gt;&gt; head = scope.fork(() -&gt; employeeCache.findByEmployeeId(headId));
+ *     scope.join();
+ *     ...
+ * }
+ * </pre>
+ * Each fork runs on its own virtual thread. join() waits for all of them; the first
+ * failure interrupts the others and is rethrown unchanged (checked exceptions wrapped),
+ * so callers see the same exceptions as with sequential lookups. close() cancels
+ * whatever is still running and waits for it: no lookup outlives the scope.
+ *
+ * Forks run on other threads, so they must not rely on thread-bound state
+ * (security context, MDC). Validate the results after join() in the order the
+ * sequential code did, so error precedence stays the same.
+ */
+final class LookupScope implements AutoCloseable {
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("lookup-", 0).factory());
+    private final CompletionService<Object> completions = new ExecutorCompletionService<>(executor);
+    private final List<Future<Object>> forks = new ArrayList<>();
+    private final Thread owner = Thread.currentThread();
+    private boolean joined;
+
+    /**
+     * Start a lookup.
+     *
+     * @return The result, available once join() has returned
+     */
+    <T> Supplier<T> fork(Supplier<? extends T> lookup) {
+        checkOwner();
+        if (joined) {
+            throw new IllegalStateException("Already joined");
+        }
+        Future<Object> future = completions.submit(lookup::get);
+        forks.add(future);
+        return () -> {
+            if (!joined) {
+                throw new IllegalStateException("Result requested before join()");
+            }
+            @SuppressWarnings("unchecked")
+            T result = (T) future.resultNow();
+            return result;
+        };
+    }
+
+    /**
+     * Wait for all lookups.
+     *
+     * @throws RuntimeException The first lookup failure (the others are cancelled),
+     *         or IllegalStateException if the waiting thread was interrupted
+     */
+    void join() {
+        checkOwner();
+        try {
+            for (int i = 0; i < forks.size(); i++) {
+                Future<Object> done = completions.take();
+                if (done.state() == Future.State.FAILED) {
+                    cancelAll();
+                    throw propagate(done.exceptionNow());
+                }
+            }
+        } catch (InterruptedException e) {
+            cancelAll();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for lookups", e);
+        }
+        joined = true;
+    }
+
+    @Override
+    public void close() {
+        checkOwner();
+        cancelAll();
+        executor.close();
+    }
+
+    private void cancelAll() {
+        forks.forEach(fork -> fork.cancel(true));
+    }
+
+    private void checkOwner() {
+        if (Thread.currentThread() != owner) {
+            throw new IllegalStateException("A LookupScope may only be used by the thread that opened it");
+        }
+    }
+
+    private static RuntimeException propagate(Throwable failure) {
+        if (failure instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException("Lookup failed", failure);
+    }
+}
@@ -0,0 +1,140 @@
+package com.frauas.workforce.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Dedicated pools for CPU-bound password hashing.
+ *
+ * Verification (logins) has one thread per core by default and a bounded queue.
+ * When the queue is full, matches() fails immediately with RejectedExecutionException,
+ * so a login burst is turned away with 503 instead of occupying every request
+ * thread and starving the rest of the API.
+ *
+ * Bulk hashing (employee imports) runs on a separate, smaller pool, half the cores
+ * by default, so an import of thousands of rows neither waits behind logins nor
+ * takes every core from them and from request threads.
+ *
+ * The pool stays on platform threads in the virtual-thread mode: hashing is CPU
+ * bound, and the bounded pool is what keeps it from starving everything else.
+ *
+ * Published metrics: executor.* (name=password-hashing and password-hashing-bulk,
+ * including queued tasks and active threads) and workforce.auth.hashing.rejected.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor bulkExecutor;
+    private final Counter rejected;
+
+    public PasswordHashingExecutor(PasswordEncoder passwordEncoder,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${workforce.auth.hashing.threads:0}") int threads,
+                                   @Value("${workforce.auth.hashing.queue-capacity:256}") int queueCapacity,
+                                   @Value("${workforce.auth.hashing.bulk-threads:0}") int bulkThreads) {
+        this.passwordEncoder = passwordEncoder;
+        int cores = Runtime.getRuntime().availableProcessors();
+        int poolSize = threads > 0 ? threads : cores;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), hashingThreads("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        // Bulk callers wait for their hashes and submit one task per pool thread, so the
+        // queue holds at most one batch per concurrent import
+        int bulkPoolSize = bulkThreads > 0 ? bulkThreads : Math.max(1, cores / 2);
+        this.bulkExecutor = new ThreadPoolExecutor(bulkPoolSize, bulkPoolSize, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), hashingThreads("password-hashing-bulk-"));
+        this.rejected = Counter.builder("workforce.auth.hashing.rejected")
+                .description("Password checks turned away because the hashing queue was full")
+                .register(meterRegistry);
+        new ExecutorServiceMetrics(executor, "password-hashing", null).bindTo(meterRegistry);
+        new ExecutorServiceMetrics(bulkExecutor, "password-hashing-bulk", null).bindTo(meterRegistry);
+    }
+
+    /**
+     * Verify a raw password against its stored hash on the hashing pool.
+     *
+     * @param rawPassword     Password sent by the client
+     * @param encodedPassword Stored BCrypt hash
+     * @return Future completed with the result on a hashing thread
+     * @throws RejectedExecutionException if the hashing queue is full
+     */
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        try {
+            return CompletableFuture.supplyAsync(() -> passwordEncoder.matches(rawPassword, encodedPassword), executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw e;
+        }
+    }
+
+    /**
+     * Hash many passwords on the bulk pool, split into one slice per bulk thread.
+     * Blocks until every password is hashed.
+     *
+     * @param rawPasswords Passwords to hash
+     * @return Hashes in the order of rawPasswords
+     */
+    public List<String> encodeAll(List<String> rawPasswords) {
+        int slices = Math.min(bulkExecutor.getMaximumPoolSize(), rawPasswords.size());
+        List<CompletableFuture<List<String>>> hashed = new ArrayList<>(slices);
+        for (int slice = 0; slice < slices; slice++) {
+            List<String> part = rawPasswords.subList(rawPasswords.size() * slice / slices,
+                    rawPasswords.size() * (slice + 1) / slices);
+            hashed.add(CompletableFuture.supplyAsync(
+                    () -> part.stream().map(passwordEncoder::encode).toList(), bulkExecutor));
+        }
+        List<String> hashes = new ArrayList<>(rawPasswords.size());
+        try {
+            for (CompletableFuture<List<String>> part : hashed) {
+                hashes.addAll(part.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return hashes;
+    }
+
+    /**
+     * Number of password checks waiting for a hashing thread.
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        bulkExecutor.shutdown();
+    }
+
+    private static ThreadFactory hashingThreads(String namePrefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,163 @@
+package com.frauas.workforce.service;
+
+import com.frauas.workforce.model.Project;
+import com.frauas.workforce.repository.ProjectChangeSource;
+import com.frauas.workforce.repository.ProjectManagerRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Per-node near-cache of project documents keyed by business projectId.
+ *
+ * Entries are invalidated as soon as the {@link ProjectChangeSource} reports a write
+ * on any node, so while it is live entries can be kept for a long time. While it is
+ * not live (e.g. change streams unsupported), entries expire after a short TTL
+ * instead; on becoming live again the whole cache is flushed, since changes may
+ * have been missed. Writers on this node also invalidate directly.
+ *
+ * Misses are loaded outside the cache's locks (see {@link CacheLoads}).
+ * Lookups return shallow copies. Use it for reads only: load a project from the
+ * repository when it is going to be modified and saved.
+ */
+@Component
+public class ProjectCatalogCache implements ProjectChangeSource.Listener {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectCatalogCache.class);
+
+    private final ProjectManagerRepository projectRepository;
+    private final AsyncCache<String, Project> projects;
+    private final long liveTtlNanos;
+    private final long fallbackTtlNanos;
+
+    private volatile boolean live;
+
+    @Autowired
+    public ProjectCatalogCache(ProjectManagerRepository projectRepository,
+                               ProjectChangeSource changeSource,
+                               MeterRegistry meterRegistry,
+                               @Value("${workforce.cache.projects.max-size:2000}") long maxSize,
+                               @Value("${workforce.cache.projects.ttl:1h}") Duration liveTtl,
+                               @Value("${workforce.cache.projects.fallback-ttl:30s}") Duration fallbackTtl) {
+        this(projectRepository, changeSource, meterRegistry, maxSize, liveTtl, fallbackTtl, Ticker.systemTicker());
+    }
+
+    ProjectCatalogCache(ProjectManagerRepository projectRepository,
+                        ProjectChangeSource changeSource,
+                        MeterRegistry meterRegistry,
+                        long maxSize,
+                        Duration liveTtl,
+                        Duration fallbackTtl,
+                        Ticker ticker) {
+        this.projectRepository = projectRepository;
+        this.liveTtlNanos = liveTtl.toNanos();
+        this.fallbackTtlNanos = fallbackTtl.toNanos();
+        this.projects = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ModeDependentExpiry())
+                .ticker(ticker)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, projects.synchronous(), "projects");
+        Gauge.builder("workforce.cache.projects.change_stream.live", this, cache -> cache.live ? 1 : 0)
+                .description("1 while project cache invalidation events are being received")
+                .register(meterRegistry);
+        changeSource.subscribe(this);
+    }
+
+    /**
+     * Read-only lookup by business projectId. Unknown projects are not cached.
+     */
+    public Optional<Project> findByProjectId(String projectId) {
+        Project cached = CacheLoads.get(projects, projectId,
+                id -> projectRepository.findByProjectId(id).map(ProjectCatalogCache::copy).orElse(null));
+        return Optional.ofNullable(cached).map(ProjectCatalogCache::copy);
+    }
+
+    /**
+     * Read-only batch lookup; all cache misses are loaded with one query.
+     *
+     * @return Projects by projectId; unknown IDs are absent
+     */
+    public Map<String, Project> findAllByProjectId(Collection<String> projectIds) {
+        Map<String, Project> cached = CacheLoads.getAll(projects, projectIds, missing ->
+                projectRepository.findByProjectIdIn(Set.copyOf(missing)).stream()
+                        .collect(Collectors.toMap(Project::getProjectId, ProjectCatalogCache::copy,
+                                (first, duplicate) -> first)));
+        return cached.values().stream()
+                .collect(Collectors.toMap(Project::getProjectId, ProjectCatalogCache::copy));
+    }
+
+    public void invalidate(String projectId) {
+        if (projectId != null) {
+            projects.synchronous().invalidate(projectId);
+        }
+    }
+
+    @Override
+    public void projectChanged(String projectId) {
+        if (projectId == null) {
+            projects.synchronous().invalidateAll();
+        } else {
+            projects.synchronous().invalidate(projectId);
+        }
+    }
+
+    @Override
+    public void liveStateChanged(boolean live) {
+        if (live != this.live) {
+            log.info("Project cache invalidation is now {}", live ? "event driven" : "TTL based");
+        }
+        this.live = live;
+        // Either events may have been missed, or entries were written with the long TTL
+        projects.synchronous().invalidateAll();
+    }
+
+    private static Project copy(Project project) {
+        Project copy = new Project();
+        BeanUtils.copyProperties(project, copy);
+        return copy;
+    }
+
+    /**
+     * Long TTL while invalidation events arrive, short TTL otherwise.
+     */
+    private class ModeDependentExpiry implements Expiry<String, Project> {
+
+        private long ttl() {
+            return live ? liveTtlNanos : fallbackTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Project value, long currentTime) {
+            return ttl();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Project value, long currentTime, long currentDuration) {
+            return ttl();
+        }
+
+        @Override
+        public long expireAfterRead(String key, Project value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -6,11 +6,15 @@ import com.frauas.workforce.repository.EmployeeRepository;
 import com.frauas.workforce.repository.ProjectManagerRepository;
 import lombok.AllArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * ProjectHistoryService
@@ -31,6 +35,9 @@ public class ProjectHistoryService {
     @Autowired
     private ProjectManagerRepository projectRepository;
 
+    /** Order of history listings (also used by the reactive read module) */
+    public static final Sort MOST_RECENT_FIRST = Sort.by(Sort.Direction.DESC, "employeeProjectEndDate");
+
     /**
      * Get all project history for an employee (completed/past projects)
      * Projects where status = COMPLETED AND projectEnd < today
@@ -39,26 +46,28 @@ public class ProjectHistoryService {
      * @return List of completed project applications with details
      */
     public List<Application> getEmployeeProjectHistory(Integer employeeId) {
-        LocalDate today = LocalDate.now();
+        return getEmployeeProjectHistory(employeeId, null, null, Pageable.unpaged()).getContent();
+    }
 
-        // Get all COMPLETED applications for this employee
-        return applicationRepository.findAll().stream()
-                .filter(app -> app.getEmployeeId().equals(employeeId)
-                        && app.getCurrentStatus() == ApplicationStatus.COMPLETED)
-                .filter(app -> {
-                    // Check if project end date is in the past
-                    LocalDate projectEnd = app.getEmployeeProjectEndDate();
-                    return projectEnd != null && projectEnd.isBefore(today);
-                })
-                .sorted((a, b) -> {
-                    LocalDate dateA = a.getEmployeeProjectEndDate();
-                    LocalDate dateB = b.getEmployeeProjectEndDate();
-                    if (dateA == null && dateB == null) return 0;
-                    if (dateA == null) return 1;
-                    if (dateB == null) return -1;
-                    return dateB.compareTo(dateA); // Most recent first
-                })
-                .collect(Collectors.toList());
+    /**
+     * Get one page of an employee's project history, optionally limited to
+     * projects that ended within [from, to]. Filtering, sorting (most recent
+     * end date first) and paging all happen in MongoDB.
+     *
+     * @param employeeId The employee ID
+     * @param from Earliest end date to include (inclusive), or null for no lower bound
+     * @param to Latest end date to include (inclusive), or null for up to today
+     * @param pageable Page request; its sort is ignored
+     * @return Page of completed project applications
+     */
+    public Page<Application> getEmployeeProjectHistory(Integer employeeId, LocalDate from, LocalDate to,
+                                                       Pageable pageable) {
+        return applicationRepository.findByEmployeeIdAndCurrentStatusAndEmployeeProjectEndDateBetween(
+                employeeId,
+                ApplicationStatus.COMPLETED,
+                pastEndDateRange(from, to),
+                withHistorySort(pageable)
+        );
     }
 
     /**
@@ -69,17 +78,27 @@ public class ProjectHistoryService {
      * @return List of applications for employees who completed work on this project
      */
     public List<Application> getProjectEmployeeHistory(String projectId) {
-        LocalDate today = LocalDate.now();
+        return getProjectEmployeeHistory(projectId, null, null, Pageable.unpaged()).getContent();
+    }
 
-        return applicationRepository.findAll().stream()
-                .filter(app -> app.getProjectId().equals(projectId)
-                        && app.getCurrentStatus() == ApplicationStatus.COMPLETED)
-                .filter(app -> {
-                    // Check if project end date is in the past
-                    LocalDate projectEnd = app.getEmployeeProjectEndDate();
-                    return projectEnd != null && projectEnd.isBefore(today);
-                })
-                .collect(Collectors.toList());
+    /**
+     * Get one page of the employees who worked on a project, optionally limited
+     * to assignments that ended within [from, to].
+     *
+     * @param projectId The project ID
+     * @param from Earliest end date to include (inclusive), or null for no lower bound
+     * @param to Latest end date to include (inclusive), or null for up to today
+     * @param pageable Page request; its sort is ignored
+     * @return Page of applications for employees who completed work on this project
+     */
+    public Page<Application> getProjectEmployeeHistory(String projectId, LocalDate from, LocalDate to,
+                                                       Pageable pageable) {
+        return applicationRepository.findByProjectIdAndCurrentStatusAndEmployeeProjectEndDateBetween(
+                projectId,
+                ApplicationStatus.COMPLETED,
+                pastEndDateRange(from, to),
+                withHistorySort(pageable)
+        );
     }
 
     /**
@@ -99,16 +118,35 @@ public class ProjectHistoryService {
             return null;
         }
 
-        return applicationRepository.findAll().stream()
-                .filter(app -> app.getEmployeeId().equals(employeeId)
-                        && app.getProjectId().equals(employee.getAssignedProjectId())
-                        && app.getCurrentStatus() == ApplicationStatus.COMPLETED)
-                .filter(app -> {
-                    // Check if project is ongoing or future (not yet ended)
-                    LocalDate projectEnd = app.getEmployeeProjectEndDate();
-                    return projectEnd != null && !projectEnd.isBefore(today);
-                })
-                .findFirst()
+        return applicationRepository
+                .findFirstByEmployeeIdAndProjectIdAndCurrentStatusAndEmployeeProjectEndDateGreaterThanEqual(
+                        employeeId,
+                        employee.getAssignedProjectId(),
+                        ApplicationStatus.COMPLETED,
+                        today
+                )
                 .orElse(null);
     }
+
+    /**
+     * History only contains projects that have already ended, so the upper
+     * bound is always capped at today (exclusive).
+     *
+     * @param from Earliest end date to include (inclusive), or null for no lower bound
+     * @param to Latest end date to include (inclusive), or null for up to today
+     */
+    public static Range<LocalDate> pastEndDateRange(LocalDate from, LocalDate to) {
+        LocalDate today = LocalDate.now();
+        LocalDate upper = (to == null || !to.isBefore(today)) ? today : to.plusDays(1);
+
+        Range.Bound<LocalDate> lowerBound = from == null ? Range.Bound.unbounded() : Range.Bound.inclusive(from);
+        return Range.of(lowerBound, Range.Bound.exclusive(upper));
+    }
+
+    private Pageable withHistorySort(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return Pageable.unpaged(MOST_RECENT_FIRST);
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), MOST_RECENT_FIRST);
+    }
 }
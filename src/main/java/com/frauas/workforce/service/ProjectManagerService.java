@@ -6,6 +6,7 @@ import com.frauas.workforce.model.*;
 import com.frauas.workforce.repository.ApplicationRepository;
 import com.frauas.workforce.repository.EmployeeRepository;
 import com.frauas.workforce.repository.ProjectManagerRepository;
+import com.frauas.workforce.repository.ScrollRequest;
 import lombok.RequiredArgsConstructor;
 
 
@@ -13,14 +14,22 @@ import org.slf4j.Logger;
 
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
-import java.security.SecureRandom;
 import java.time.Instant;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * ProjectManagerService Class
@@ -44,10 +53,27 @@ public class ProjectManagerService {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private IdGenerator idGenerator;
+
+    @Autowired
+    private EmployeeCache employeeCache;
+
+    @Autowired
+    private ProjectCatalogCache projectCatalogCache;
+
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private SkillIndex skillIndex;
+
     private static final Logger log = LoggerFactory.getLogger(ProjectManagerService.class);
-    private static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
-    private static final String NUMBERS = "0123456789";
-    private static final SecureRandom random = new SecureRandom();
+    private static final String PROJECT_ID_PREFIX = "PRJ-";
+    private static final Set<String> PROJECT_SORTABLE_FIELDS = Set.of("id", "projectId");
+    private static final Set<String> APPLICATION_SORTABLE_FIELDS = Set.of("id");
+    private static final Sort PUBLISHED_LISTING_ORDER = Sort.by(Sort.Direction.ASC, "id");
+    public static final int MAX_CANDIDATES = 100;
 
     /**
      * Constructor for ProjectManagerService.
@@ -78,7 +104,7 @@ public class ProjectManagerService {
 
         // Create new project entity
         Project project = new Project();
-        project.setProjectId(generateRandomProjectId());
+        project.setProjectId(PROJECT_ID_PREFIX + idGenerator.nextId());
         project.setProjectDescription(request.getProjectDescription());
         project.setProjectStart(request.getProjectStart());
         project.setProjectEnd(request.getProjectEnd());
@@ -110,10 +136,11 @@ public class ProjectManagerService {
         System.out.println("Generated projectId before save: " + project.getProjectId());
         log.info("Saving project with projectId={}", project.getProjectId());
         Project savedProject = projectRepository.save(project);
+        projectCatalogCache.invalidate(savedProject.getProjectId());
         System.out.println("Project created successfully with ID: " + project.getProjectId());
         log.info("Project created successfully with ID: {}", savedProject.getProjectId());
 
-        return mapToResponse(savedProject);
+        return ResponseMapping.projectResponse(savedProject);
     }
 
     /**
@@ -171,14 +198,17 @@ public class ProjectManagerService {
         }
 
         Project savedProject = projectRepository.save(project);
+        projectCatalogCache.invalidate(savedProject.getProjectId());
         log.info("Project updated successfully with ID: {}", savedProject.getId());
 
-        return mapToResponse(savedProject);
+        return ResponseMapping.projectResponse(savedProject);
     }
 
     /**
      * Retrieve a single project by its unique identifier.
      *
+     * Concurrent requests for the same project share one lookup.
+     *
      * @param projectId Unique identifier of the project to retrieve
      * @return ProjectResponseDto containing the project details
      * @throws ResourceNotFoundException if no project exists with the given projectId
@@ -186,27 +216,96 @@ public class ProjectManagerService {
     public ProjectResponseDto getProjectById(String projectId) {
         log.info("Fetching project with ID: {}", projectId);
 
-        Project project = projectRepository.findByProjectId(projectId)
+        return requestCoalescer.execute("getProjectById", projectId, () -> {
+            Project project = projectCatalogCache.findByProjectId(projectId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
+            return ResponseMapping.projectResponse(project);
+        });
+    }
+
+    /**
+     * Rank employees as candidates for one role of a project.
+     *
+     * Scoring uses the in-memory {@link SkillIndex}: the role's required competencies
+     * weigh more than the project's selected skills, and rare skills more than common ones.
+     *
+     * @param projectId Business project ID
+     * @param role Required role of the project (case-insensitive)
+     * @param limit Maximum number of candidates, 1 to {@value #MAX_CANDIDATES}
+     * @return Candidates, best first
+     * @throws ResourceNotFoundException if the project or the role does not exist
+     * @throws IllegalArgumentException if limit is out of range
+     */
+    public List<CandidateResponseDto> getCandidatesForRole(String projectId, String role, int limit) {
+        if (limit < 1 || limit > MAX_CANDIDATES) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_CANDIDATES);
+        }
+        Project project = projectCatalogCache.findByProjectId(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
+        Project.RoleRequirement requirement = Optional.ofNullable(project.getRoles()).orElse(List.of()).stream()
+                .filter(roleReq -> roleReq.getRequiredRole() != null
+                        && roleReq.getRequiredRole().trim().equalsIgnoreCase(role.trim()))
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Role " + role + " not found in project " + projectId));
+
+        List<String> competencies = Optional.ofNullable(requirement.getRequiredCompetencies()).orElse(List.of());
+        List<String> projectSkills = Optional.ofNullable(project.getSelectedSkills()).orElse(List.of());
+        log.info("Ranking candidates for role {} of project {} ({} competencies, {} skills)",
+                role, projectId, competencies.size(), projectSkills.size());
+
+        // Every queried skill once, in its first spelling
+        Map<String, String> querySkills = new LinkedHashMap<>();
+        Stream.concat(competencies.stream(), projectSkills.stream())
+                .forEach(skill -> {
+                    String term = SkillDictionary.normalize(skill);
+                    if (term != null) {
+                        querySkills.putIfAbsent(term, skill.trim());
+                    }
+                });
+
+        List<SkillIndex.Candidate> candidates = skillIndex.topCandidates(competencies, projectSkills, limit);
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        // One query for all candidates instead of a lookup each; keeps the ranking order
+        Map<Integer, Employee> employees = employeeRepository.findByEmployeeIdIn(
+                        candidates.stream().map(SkillIndex.Candidate::employeeId).toList()).stream()
+                .collect(Collectors.toMap(Employee::getEmployeeId, Function.identity(), (first, second) -> first));
+        return candidates.stream()
+                .filter(candidate -> employees.containsKey(candidate.employeeId()))
+                .map(candidate -> candidateResponse(employees.get(candidate.employeeId()), candidate, querySkills))
+                .collect(Collectors.toList());
+    }
 
-        return mapToResponse(project);
+    private static CandidateResponseDto candidateResponse(Employee employee, SkillIndex.Candidate candidate,
+                                                          Map<String, String> querySkills) {
+        Set<String> matched = Set.copyOf(candidate.matchedSkills());
+        List<String> missing = querySkills.values().stream()
+                .filter(skill -> !matched.contains(skill))
+                .collect(Collectors.toList());
+        return new CandidateResponseDto(employee.getEmployeeId(), employee.getFirstName(), employee.getLastName(),
+                employee.getDepartment(), employee.getPosition(), employee.getAvailabilityStatus(),
+                candidate.score(), candidate.matchedSkills(), missing);
     }
 
     /**
-     * Retrieve all projects from the database.
+     * Retrieve one page of all projects from the database.
      *
-     * Fetches all projects regardless of status or publication state.
+     * Fetches projects regardless of status or publication state.
      * Useful for admin views and comprehensive project listings.
+     * Uses keyset pagination on _id (default) or projectId, so every page
+     * costs the same regardless of how deep the client has scrolled.
      *
-     * @return List of ProjectResponseDto containing all projects in the system
+     * @param query Paging, sort and field selection parameters
+     * @return One page of ProjectResponseDto with the cursor for the next page
+     * @throws IllegalArgumentException if the paging parameters are invalid
      */
-    public List<ProjectResponseDto> getAllProjects() {
-        log.info("Fetching all projects");
+    public CursorPageResponse<ProjectResponseDto> getAllProjects(ListQuery query) {
+        log.info("Fetching projects page (sort={}, limit={})", query.getSort(), query.getLimit());
 
-        List<Project> projects = projectRepository.findAll();
-        return projects.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return projectRepository.scrollProjects(ScrollRequest.of(query, PROJECT_SORTABLE_FIELDS, "id"))
+                .map(ResponseMapping::projectResponse);
     }
 
     /**
@@ -214,6 +313,7 @@ public class ProjectManagerService {
      *
      * Useful for displaying projects in specific lifecycle stages,
      * such as showing only ACTIVE projects or COMPLETED projects.
+     * Concurrent requests for the same status share one query.
      *
      * @param status The project status to filter by (PLANNED, OPEN, STAFFING, ACTIVE, COMPLETED)
      * @return List of ProjectResponseDto containing projects with the specified status
@@ -221,10 +321,10 @@ public class ProjectManagerService {
     public List<ProjectResponseDto> getProjectsByStatus(ProjectStatus status) {
         log.info("Fetching projects with status: {}", status);
 
-        List<Project> projects = projectRepository.findByStatus(status);
-        return projects.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return requestCoalescer.execute("getProjectsByStatus", status, () ->
+                projectRepository.findByStatus(status).stream()
+                        .map(ResponseMapping::projectResponse)
+                        .collect(Collectors.toList()));
     }
 
     /**
@@ -241,7 +341,7 @@ public class ProjectManagerService {
 
         List<Project> projects = projectRepository.findByCreatedBy(creatorId);
         return projects.stream()
-                .map(this::mapToResponse)
+                .map(ResponseMapping::projectResponse)
                 .collect(Collectors.toList());
     }
 
@@ -260,7 +360,7 @@ public class ProjectManagerService {
         List<Project> projects = projectRepository.findByAssignedEmployeesContaining(employeeId);
 
         return projects.stream()
-                .map(this::mapToResponse)
+                .map(ResponseMapping::projectResponse)
                 .collect(Collectors.toList());
     }
 
@@ -279,7 +379,7 @@ public class ProjectManagerService {
         List<Project> projects = projectRepository.findProjectsByEmployeeId(employeeId);
 
         return projects.stream()
-                .map(this::mapToResponse)
+                .map(ResponseMapping::projectResponse)
                 .collect(Collectors.toList());
     }
 
@@ -309,9 +409,10 @@ public class ProjectManagerService {
 //        project.setUpdatedBy(currentUserId);
 
         Project savedProject = projectRepository.save(project);
+        projectCatalogCache.invalidate(savedProject.getProjectId());
         log.info("Project published successfully with ID: {}", savedProject.getId());
 
-        return mapToResponse(savedProject);
+        return ResponseMapping.projectResponse(savedProject);
     }
 
     /**
@@ -337,9 +438,10 @@ public class ProjectManagerService {
         project.setUpdatedBy(currentUserId);
 
         Project savedProject = projectRepository.save(project);
+        projectCatalogCache.invalidate(savedProject.getProjectId());
         log.info("Project status updated successfully for ID: {}", savedProject.getId());
 
-        return mapToResponse(savedProject);
+        return ResponseMapping.projectResponse(savedProject);
     }
 
     /**
@@ -369,9 +471,10 @@ public class ProjectManagerService {
         project.setUpdatedBy(projectManagerId);
 
         Project savedProject = projectRepository.save(project);
+        projectCatalogCache.invalidate(savedProject.getProjectId());
         log.info("Project completed successfully with ID: {}", savedProject.getId());
 
-        return mapToResponse(savedProject);
+        return ResponseMapping.projectResponse(savedProject);
     }
 
     /**
@@ -390,78 +493,36 @@ public class ProjectManagerService {
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
 
         projectRepository.delete(project);
+        projectCatalogCache.invalidate(project.getProjectId());
         log.info("Project deleted successfully with ID: {}", projectId);
     }
 
+    public List<ProjectResponseDto> getProjectsByPublished(Boolean isPublished) {
+        return getProjectsByPublished(isPublished, null, Pageable.unpaged()).getContent();
+    }
+
     /**
-     * Map Project entity to ProjectResponseDto.
+     * Retrieve one page of projects by publication status.
      *
-     * Internal helper method to convert a Project entity from the database
-     * into a ProjectResponseDto for API responses. Includes mapping of
-     * nested role requirements to match frontend structure.
+     * Filters in the database using the {isPublished, status} index instead of
+     * loading the whole catalog. Results are ordered by document ID so that
+     * consecutive pages are stable between polls.
      *
-     * @param project Project entity to convert
-     * @return ProjectResponseDto containing all project data for API response
+     * @param isPublished Publication flag to filter on
+     * @param status Optional project status to narrow the listing (null for all)
+     * @param pageable Page request; its sort is ignored
+     * @return Page of ProjectResponseDto objects
      */
-    private ProjectResponseDto mapToResponse(Project project) {
-        ProjectResponseDto response = new ProjectResponseDto();
-        response.setProjectId(project.getProjectId());
-        response.setId(project.getId());
-        response.setProjectDescription(project.getProjectDescription());
-        response.setProjectStart(project.getProjectStart());
-        response.setProjectEnd(project.getProjectEnd());
-        response.setTaskDescription(project.getTaskDescription());
-        response.setRequiredEmployees(project.getRequiredEmployees());
-        response.setLinks(project.getLinks());
-        response.setSelectedSkills(project.getSelectedSkills());
-        response.setSelectedLocations(project.getSelectedLocations());
-        response.setStatus(project.getStatus());
-        response.setIsPublished(project.getIsPublished());
-        response.setIsExternalSearch(project.getIsExternalSearch());
-        response.setIsApplicationsAllowed(project.getIsApplicationsAllowed());
-        response.setCreatedBy(project.getCreatedBy());
-        response.setCreatedAt(project.getCreatedAt());
-        response.setUpdatedAt(project.getUpdatedAt());
-        response.setUpdatedBy(project.getUpdatedBy());
-
-        // Map role requirements to DTOs
-        if (project.getRoles() != null) {
-            List<RoleRequirementDto> roleDtos = project.getRoles().stream()
-                    .map(role -> new RoleRequirementDto(
-                            role.getRequiredRole(),
-                            role.getRequiredCompetencies(),
-                            role.getCapacity(),
-                            role.getNumberOfEmployees(),
-                            role.getRoleInput(),
-                            role.getCompetencyInput(),
-                            role.getShowRoleDropdown(),
-                            role.getShowCompetencyDropdown()
-                    ))
-                    .collect(Collectors.toList());
-            response.setRoles(roleDtos);
-        }
-
-        return response;
-    }
-
-    private String generateRandomProjectId() {
-        int lettersCount = 3; // Number of letters
-        int numbersCount = 3; // Number of digits
-        StringBuilder sb = new StringBuilder("PRJ-");
-
-        for (int i = 0; i < lettersCount; i++) {
-            sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
-        }
-        for (int i = 0; i < numbersCount; i++) {
-            sb.append(NUMBERS.charAt(random.nextInt(NUMBERS.length())));
-        }
-
-        return sb.toString();
-    }
-
-    public List<ProjectResponseDto> getProjectsByPublished(Boolean isPublished) {
-        List<Project> projects = projectRepository.findByIsPublished(isPublished);
-        return projects.stream().map(this::mapToResponse).collect(Collectors.toList());
+    public Page<ProjectResponseDto> getProjectsByPublished(Boolean isPublished, ProjectStatus status,
+                                                           Pageable pageable) {
+        Pageable ordered = pageable.isPaged()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), PUBLISHED_LISTING_ORDER)
+                : Pageable.unpaged(PUBLISHED_LISTING_ORDER);
+
+        Page<Project> projects = status == null
+                ? projectRepository.findByIsPublished(isPublished, ordered)
+                : projectRepository.findByIsPublishedAndStatus(isPublished, status, ordered);
+        return projects.map(ResponseMapping::projectResponse);
     }
 
     public Application requestDepartmentHeadApproval(
@@ -472,7 +533,7 @@ public class ProjectManagerService {
         Application application = applicationRepository.findByApplicationId(applicationId)
                 .orElseThrow(() -> new RuntimeException("Application not found"));
 
-        Employee employee = employeeRepository.findByEmployeeId(Integer.valueOf(projectManagerId))
+        Employee employee = employeeCache.findByEmployeeId(Integer.valueOf(projectManagerId))
                 .orElseThrow(() -> new RuntimeException("Employee not found"));
 
         if (application.getCurrentStatus() != ApplicationStatus.APPLIED) {
@@ -507,7 +568,7 @@ public class ProjectManagerService {
             throw new RuntimeException("Only SUGGESTED applications can be rejected by Project Manager");
         }
 
-        Employee employee = employeeRepository.findByEmployeeId(Integer.valueOf(projectManagerId))
+        Employee employee = employeeCache.findByEmployeeId(Integer.valueOf(projectManagerId))
                 .orElseThrow(() -> new RuntimeException("Employee not found"));
 
         application.setCurrentStatus(ApplicationStatus.REJECTED_BY_PM);
@@ -519,12 +580,14 @@ public class ProjectManagerService {
         return applicationRepository.save(application);
     }
 
-    public List<Application> getAllSuggestedApplications() {
-        return applicationRepository.findByCurrentStatus(ApplicationStatus.SUGGESTED);
+    public CursorPageResponse<Application> getAllSuggestedApplications(ListQuery query) {
+        return applicationRepository.scrollApplications(ApplicationStatus.SUGGESTED,
+                ScrollRequest.of(query, APPLICATION_SORTABLE_FIELDS, "id"));
     }
 
-    public List<Application> getAppliedApplications() {
-        return applicationRepository.findByCurrentStatus(ApplicationStatus.APPLIED);
+    public CursorPageResponse<Application> getAppliedApplications(ListQuery query) {
+        return applicationRepository.scrollApplications(ApplicationStatus.APPLIED,
+                ScrollRequest.of(query, APPLICATION_SORTABLE_FIELDS, "id"));
     }
 
     /**
@@ -545,23 +608,25 @@ public class ProjectManagerService {
         project.setUpdatedBy(projectManagerId);
 
         Project savedProject = projectRepository.save(project);
+        projectCatalogCache.invalidate(savedProject.getProjectId());
         log.info("External search triggered for project ID: {}", savedProject.getProjectId());
 
-        return mapToResponse(savedProject);
+        return ResponseMapping.projectResponse(savedProject);
     }
 
     /**
      * Get all projects marked for external search (isPublished=true AND isExternalSearch=true).
      * Used by external teams to view projects that need external candidates.
+     * Concurrent requests share one query.
      *
      * @return List of projects marked for external search
      */
     public List<ProjectResponseDto> getExternalSearchProjects() {
         log.info("Fetching projects for external search");
 
-        List<Project> projects = projectRepository.findByIsPublishedAndIsExternalSearch(true, true);
-        return projects.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return requestCoalescer.execute("getExternalSearchProjects", null, () ->
+                projectRepository.findByIsPublishedAndIsExternalSearch(true, true).stream()
+                        .map(ResponseMapping::projectResponse)
+                        .collect(Collectors.toList()));
     }
 }
\ No newline at end of file
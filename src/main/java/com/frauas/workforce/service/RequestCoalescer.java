@@ -0,0 +1,102 @@
+package com.frauas.workforce.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight coalescing for hot read paths.
+ *
+ * Concurrent calls for the same operation and argument share one in-flight
+ * CompletableFuture: the first caller (the leader) runs the lookup, every caller
+ * that arrives while it is running waits for the same result. Nothing is cached
+ * once the lookup completes - the next call after that runs a fresh query, so
+ * writes are never hidden for longer than a single query takes.
+ *
+ * Callers that receive a shared result must treat it as read-only.
+ *
+ * Published metric: workforce.coalescing.requests{operation, outcome=leader|collapsed}.
+ */
+@Component
+public class RequestCoalescer {
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public RequestCoalescer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Run the lookup, or join an identical lookup that is already in flight.
+     *
+     * Exceptions thrown by the lookup (e.g. ResourceNotFoundException) are
+     * rethrown unchanged to the leader and to every collapsed caller.
+     *
+     * @param operation Name of the read operation, also used as the metric tag
+     * @param argument  Argument that identifies the lookup within the operation (may be null)
+     * @param lookup    The query to run
+     * @return The lookup result, shared between all coalesced callers
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, Object argument, Supplier<T> lookup) {
+        Key key = new Key(operation, argument);
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, created);
+
+        if (existing != null) {
+            counter(operation, "collapsed").increment();
+            return (T) await(existing);
+        }
+
+        counter(operation, "leader").increment();
+        try {
+            T result = lookup.get();
+            created.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    /**
+     * Number of lookups currently in flight (exposed for tests and diagnostics).
+     */
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private Counter counter(String operation, String outcome) {
+        return Counter.builder("workforce.coalescing.requests")
+                .description("Read requests served by the single-flight coalescer")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record Key(String operation, Object argument) {
+    }
+}
@@ -0,0 +1,257 @@
+package com.frauas.workforce.service;
+
+import com.frauas.workforce.DTO.ApplicationResponseDTO;
+import com.frauas.workforce.DTO.ProjectResponseDto;
+import com.frauas.workforce.DTO.RoleRequirementDto;
+import com.frauas.workforce.DTO.SuggestedProjectResponseDTO;
+import com.frauas.workforce.model.Application;
+import com.frauas.workforce.model.Project;
+import com.frauas.workforce.model.UserAction;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Entity-to-DTO mapping that needs no lookups, shared by the services and the
+ * reactive read module so both return the same JSON.
+ *
+ * Application responses with resolved usernames take the usernames as a map;
+ * ApplicationService loads them.
+ */
+public final class ResponseMapping {
+
+    private ResponseMapping() {
+    }
+
+    /**
+     * Map Project entity to ProjectResponseDto.
+     *
+     * Used by the project endpoints. Includes mapping of nested role
+     * requirements to match frontend structure.
+     *
+     * @param project Project entity to convert
+     * @return ProjectResponseDto containing all project data for API response
+     */
+    public static ProjectResponseDto projectResponse(Project project) {
+        ProjectResponseDto response = new ProjectResponseDto();
+        response.setProjectId(project.getProjectId());
+        response.setId(project.getId());
+        response.setProjectDescription(project.getProjectDescription());
+        response.setProjectStart(project.getProjectStart());
+        response.setProjectEnd(project.getProjectEnd());
+        response.setTaskDescription(project.getTaskDescription());
+        response.setRequiredEmployees(project.getRequiredEmployees());
+        response.setLinks(project.getLinks());
+        response.setSelectedSkills(project.getSelectedSkills());
+        response.setSelectedLocations(project.getSelectedLocations());
+        response.setStatus(project.getStatus());
+        response.setIsPublished(project.getIsPublished());
+        response.setIsExternalSearch(project.getIsExternalSearch());
+        response.setIsApplicationsAllowed(project.getIsApplicationsAllowed());
+        response.setCreatedBy(project.getCreatedBy());
+        response.setCreatedAt(project.getCreatedAt());
+        response.setUpdatedAt(project.getUpdatedAt());
+        response.setUpdatedBy(project.getUpdatedBy());
+
+        // Map role requirements to DTOs
+        if (project.getRoles() != null) {
+            List<RoleRequirementDto> roleDtos = project.getRoles().stream()
+                    .map(role -> new RoleRequirementDto(
+                            role.getRequiredRole(),
+                            role.getRequiredCompetencies(),
+                            role.getCapacity(),
+                            role.getNumberOfEmployees(),
+                            role.getRoleInput(),
+                            role.getCompetencyInput(),
+                            role.getShowRoleDropdown(),
+                            role.getShowCompetencyDropdown()
+                    ))
+                    .collect(Collectors.toList());
+            response.setRoles(roleDtos);
+        }
+
+        return response;
+    }
+
+    /**
+     * Map Application entity to ApplicationResponseDTO, with the usernames of the
+     * users in its UserAction fields.
+     *
+     * @param app Application entity to convert
+     * @param usernames Usernames by employeeId; users not in it are "Unknown User"
+     * @return ApplicationResponseDTO for API response
+     */
+    public static ApplicationResponseDTO applicationResponse(Application app, Map<Integer, String> usernames) {
+        ApplicationResponseDTO dto = new ApplicationResponseDTO();
+        dto.setId(app.getId());
+        dto.setApplicationId(app.getApplicationId());
+        dto.setProjectId(app.getProjectId());
+        dto.setEmployeeId(app.getEmployeeId());
+        dto.setProjectRole(app.getProjectRole());
+        dto.setCurrentStatus(app.getCurrentStatus());
+        dto.setTimestamps(app.getTimestamps());
+
+        dto.setInitiatedBy(userAction(app.getInitiatedBy(), usernames));
+        dto.setSuggestedBy(userAction(app.getSuggestedBy(), usernames));
+        dto.setApprovedByDepartmentHead(userAction(app.getApprovedByDepartmentHead(), usernames));
+        dto.setApprovedByProjectManager(userAction(app.getApprovedByProjectManager(), usernames));
+        dto.setRejectedBy(userAction(app.getRejectedBy(), usernames));
+
+        return dto;
+    }
+
+    /**
+     * employeeId referenced by a UserAction.
+     *
+     * @return The numeric userId, or null if missing or not a number
+     */
+    static Integer userId(UserAction action) {
+        if (action == null || action.getUserId() == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(action.getUserId());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static ApplicationResponseDTO.UserActionDTO userAction(UserAction action, Map<Integer, String> usernames) {
+        if (action == null) return null;
+
+        String username = "Unknown User";
+
+        Integer userId = userId(action);
+        if (userId != null) {
+            username = usernames.getOrDefault(userId, "Unknown User");
+        }
+        return new ApplicationResponseDTO.UserActionDTO(action.getUserId(), username, action.getRole());
+    }
+
+    /**
+     * One entry of GET /api/applications/suggested-projects/{employeeId}.
+     */
+    public static SuggestedProjectResponseDTO suggestedProject(Application application, Project project) {
+        return new SuggestedProjectResponseDTO(
+                suggestedApplicationResponse(application, project),
+                suggestedProjectResponse(project)
+        );
+    }
+
+    /**
+     * Application half of a suggested project, with the requested capacity of its role.
+     */
+    public static ApplicationResponseDTO suggestedApplicationResponse(Application app, Project project) {
+
+        ApplicationResponseDTO dto = new ApplicationResponseDTO();
+
+        dto.setId(app.getId());
+        dto.setApplicationId(app.getApplicationId());
+        dto.setProjectId(app.getProjectId());
+        dto.setEmployeeId(app.getEmployeeId());
+        dto.setProjectRole(app.getProjectRole());
+        dto.setCurrentStatus(app.getCurrentStatus());
+
+        // Map requestedCapacity from Project.roles
+        if (project.getRoles() != null && app.getProjectRole() != null) {
+            for (Project.RoleRequirement roleRequirement : project.getRoles()) {
+                if (app.getProjectRole().equalsIgnoreCase(roleRequirement.getRequiredRole())) {
+                    dto.setRequestedCapacity(Integer.valueOf(roleRequirement.getNumberOfEmployees()));
+                    break;
+                }
+            }
+        }
+
+
+        // Map UserActions → UserActionDTO
+        dto.setInitiatedBy(userAction(app.getInitiatedBy()));
+        dto.setSuggestedBy(userAction(app.getSuggestedBy()));
+        dto.setApprovedByDepartmentHead(userAction(app.getApprovedByDepartmentHead()));
+        dto.setApprovedByProjectManager(userAction(app.getApprovedByProjectManager()));
+        dto.setRejectedBy(userAction(app.getRejectedBy()));
+
+        dto.setTimestamps(app.getTimestamps());
+
+        return dto;
+    }
+
+    private static ApplicationResponseDTO.UserActionDTO userAction(UserAction action) {
+        if (action == null) return null;
+
+        return new ApplicationResponseDTO.UserActionDTO(
+                action.getUserId(),
+                action.getUserName(),
+                action.getRole()
+        );
+    }
+
+
+
+    /**
+     * Project half of a suggested project (without the search and application flags).
+     */
+    public static ProjectResponseDto suggestedProjectResponse(Project project) {
+
+        ProjectResponseDto dto = new ProjectResponseDto();
+        RoleRequirementDto responseDto  = new RoleRequirementDto();
+
+        dto.setId(project.getId());
+        dto.setProjectId(project.getProjectId());
+        dto.setProjectDescription(project.getProjectDescription());
+        dto.setProjectStart(project.getProjectStart());
+        dto.setProjectEnd(project.getProjectEnd());
+        dto.setTaskDescription(project.getTaskDescription());
+        dto.setRequiredEmployees(project.getRequiredEmployees());
+
+        // If you later map managers / owners, do it here
+//        dto.setProjectManager(null);
+
+        dto.setLinks(project.getLinks());
+        dto.setSelectedSkills(project.getSelectedSkills());
+        dto.setSelectedLocations(project.getSelectedLocations());
+
+        // Role mapping (custom because inner class differs)
+        dto.setRoles(roleRequirements(project.getRoles()));
+
+
+        dto.setStatus(project.getStatus());
+        dto.setIsPublished(project.getIsPublished());
+        dto.setCreatedBy(project.getCreatedBy());
+        dto.setCreatedAt(project.getCreatedAt());
+        dto.setUpdatedAt(project.getUpdatedAt());
+        dto.setUpdatedBy(project.getUpdatedBy());
+
+        return dto;
+    }
+
+    public static List<RoleRequirementDto> roleRequirements(
+            List<Project.RoleRequirement> roles
+    ) {
+        if (roles == null) return null;
+
+        return roles.stream()
+                .map(role -> {
+                    RoleRequirementDto dto = new RoleRequirementDto();
+
+                    // Core fields
+                    dto.setRequiredRole(role.getRequiredRole());
+                    dto.setRequiredCompetencies(role.getRequiredCompetencies());
+
+                    // Capacity & count
+                    dto.setCapacity(role.getCapacity());
+                    dto.setNumberOfEmployees(role.getNumberOfEmployees());
+
+                    // Optional UI-only fields (not persisted)
+                    dto.setRoleInput(null);
+                    dto.setCompetencyInput(null);
+
+                    // UI flags (safe defaults)
+                    dto.setShowRoleDropdown(false);
+                    dto.setShowCompetencyDropdown(false);
+
+                    return dto;
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,68 @@
+package com.frauas.workforce.service;
+
+import com.frauas.workforce.model.ApplicationStatus;
+import com.frauas.workforce.model.RoleCapacity;
+import com.frauas.workforce.repository.ApplicationRepository;
+import com.frauas.workforce.repository.RoleCapacityRepository;
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * RoleCapacityService
+ *
+ * Race-free reservation of project role slots for Department Head approvals.
+ * Each project role has a counter document in the "role_capacity" collection
+ * that is only incremented while it is below the required number of employees,
+ * so approvals on any number of nodes never overfill a role and need no global lock.
+ */
+@Service
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoleCapacityService {
+
+    @Autowired
+    private RoleCapacityRepository roleCapacityRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    /**
+     * Claim one slot of a project role.
+     *
+     * @param projectId The business project ID
+     * @param projectRole The role to claim a slot for
+     * @param required Number of employees the role currently requires
+     * @return true if a slot was claimed, false if the role is already full
+     */
+    public boolean reserve(String projectId, String projectRole, int required) {
+        String id = RoleCapacity.idOf(projectId, projectRole);
+
+        if (roleCapacityRepository.tryReserve(id, required)) {
+            return true;
+        }
+
+        // The counter does not exist yet for roles approved before counters were introduced:
+        // start it from the applications that are already assigned, then claim again
+        if (!roleCapacityRepository.existsById(id)) {
+            long assigned = applicationRepository.countByProjectIdAndProjectRoleAndCurrentStatus(
+                    projectId, projectRole, ApplicationStatus.COMPLETED);
+            roleCapacityRepository.insertIfAbsent(new RoleCapacity(id, projectId, projectRole, (int) assigned));
+            return roleCapacityRepository.tryReserve(id, required);
+        }
+
+        return false;
+    }
+
+    /**
+     * Give back a slot claimed with {@link #reserve(String, String, int)},
+     * e.g. when storing the approval failed.
+     *
+     * @param projectId The business project ID
+     * @param projectRole The role the slot was claimed for
+     */
+    public void release(String projectId, String projectRole) {
+        roleCapacityRepository.release(RoleCapacity.idOf(projectId, projectRole));
+    }
+}
@@ -0,0 +1,125 @@
+package com.frauas.workforce.service;
+
+import com.frauas.workforce.repository.DatabaseSequenceRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * SequenceGeneratorService
+ *
+ * Hands out sequential numeric IDs backed by the "counters" collection (hi/lo allocation).
+ * Each node reserves a block of values with one findAndModify $inc and serves IDs from
+ * that block in memory, so most IDs cost no database round trip and IDs never collide
+ * across application instances. Values of a block that is not used up before shutdown
+ * are skipped, so sequences can contain gaps.
+ */
+@Service
+public class SequenceGeneratorService {
+
+    @Autowired
+    private DatabaseSequenceRepository sequenceRepository;
+
+    @Value("${workforce.sequence.block-size:50}")
+    private int blockSize;
+
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    /**
+     * Get the next value of a sequence.
+     *
+     * @param name Sequence name
+     * @param initialValue Supplies the value to start after if the sequence does not exist yet
+     *                     (e.g. the current maximum ID); only called once per sequence and node
+     * @return Next value, unique across all nodes
+     */
+    public long next(String name, LongSupplier initialValue) {
+        Block block = blocks.computeIfAbsent(name, key -> new Block());
+
+        block.lock.lock();
+        try {
+            if (!block.initialized) {
+                sequenceRepository.initializeIfAbsent(name, initialValue.getAsLong());
+                block.initialized = true;
+            }
+            if (block.next > block.last) {
+                long last = sequenceRepository.allocateBlock(name, blockSize);
+                block.next = last - blockSize + 1;
+                block.last = last;
+            }
+            return block.next++;
+        } finally {
+            block.lock.unlock();
+        }
+    }
+
+    /**
+     * Reserve a contiguous range of values for a bulk operation with one round trip.
+     * The range is taken directly from the counter and does not touch this node's block.
+     *
+     * @param name Sequence name
+     * @param count Number of values to reserve (at least 1)
+     * @param initialValue Supplies the value to start after if the sequence does not exist yet
+     * @return First value of the range; the range is [result, result + count - 1]
+     */
+    public long nextBlock(String name, int count, LongSupplier initialValue) {
+        if (count < 1) {
+            throw new IllegalArgumentException("count must be at least 1");
+        }
+        Block block = blocks.computeIfAbsent(name, key -> new Block());
+
+        block.lock.lock();
+        try {
+            if (!block.initialized) {
+                sequenceRepository.initializeIfAbsent(name, initialValue.getAsLong());
+                block.initialized = true;
+            }
+        } finally {
+            block.lock.unlock();
+        }
+        return sequenceRepository.allocateBlock(name, count) - count + 1;
+    }
+
+    /**
+     * Make sure a value that was assigned explicitly (not taken from the sequence) is never
+     * handed out: raises the shared counter to it and skips it in this node's block.
+     * Blocks other nodes reserved before the call may still contain it; the unique index
+     * on the ID rejects such an insert.
+     *
+     * @param name Sequence name
+     * @param value Value now in use
+     * @param initialValue Supplies the value to start after if the sequence does not exist yet
+     */
+    public void advanceTo(String name, long value, LongSupplier initialValue) {
+        Block block = blocks.computeIfAbsent(name, key -> new Block());
+
+        block.lock.lock();
+        try {
+            if (!block.initialized) {
+                sequenceRepository.initializeIfAbsent(name, initialValue.getAsLong());
+                block.initialized = true;
+            }
+            sequenceRepository.advanceTo(name, value);
+            if (block.next <= value) {
+                block.next = value + 1;
+            }
+        } finally {
+            block.lock.unlock();
+        }
+    }
+
+    /**
+     * Values of one sequence reserved by this node: [next, last]
+     */
+    private static final class Block {
+        private final ReentrantLock lock = new ReentrantLock();
+        private boolean initialized;
+        private long next = 1;
+        private long last = 0;
+    }
+}
@@ -0,0 +1,132 @@
+package com.frauas.workforce.service;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Interns skills to dense int IDs, so that skill lists (Employee.skills and interests,
+ * Project.selectedSkills, RoleRequirement.requiredCompetencies) can be held in memory
+ * and compared as compressed bitmaps of IDs instead of lists of strings.
+ *
+ * Skills are matched in normalized form (see {@link #normalize}); each ID keeps the first
+ * spelling seen for display. IDs are assigned in order of first appearance, only grow,
+ * and are local to this process: never persist them.
+ */
+@Component
+public class SkillDictionary {
+
+    private final ConcurrentHashMap<String, Integer> idsByTerm = new ConcurrentHashMap<>();
+    // A lock rather than a monitor: new terms are interned on request threads, and a virtual
+    // thread waiting for a monitor pins its carrier thread
+    private final ReentrantLock lock = new ReentrantLock();
+    // Written under the lock; an ID is only handed out after its spelling has been stored
+    private volatile String[] spellings = new String[64];
+    private int size;
+
+    /**
+     * Canonical form of a skill for matching: trimmed, lower case, inner whitespace collapsed.
+     *
+     * @return Normalized skill, or null for null or blank input
+     */
+    public static String normalize(String skill) {
+        if (skill == null) {
+            return null;
+        }
+        String normalized = skill.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    /**
+     * ID of a skill, assigning the next one if the skill is new.
+     *
+     * @return Skill ID, or -1 for null or blank input
+     */
+    public int intern(String skill) {
+        String term = normalize(skill);
+        if (term == null) {
+            return -1;
+        }
+        Integer id = idsByTerm.get(term);
+        return id != null ? id : add(term, skill.trim());
+    }
+
+    /**
+     * ID of a known skill, without adding unknown ones (for queries).
+     *
+     * @return Skill ID, or -1 if the skill is unknown, null or blank
+     */
+    public int idOf(String skill) {
+        String term = normalize(skill);
+        Integer id = term == null ? null : idsByTerm.get(term);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Interned bitmap of a skill list; duplicates and blanks are dropped.
+     */
+    public RoaringBitmap encode(Collection<String> skills) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        if (skills != null) {
+            for (String skill : skills) {
+                int id = intern(skill);
+                if (id >= 0) {
+                    bitmap.add(id);
+                }
+            }
+        }
+        bitmap.runOptimize();
+        return bitmap;
+    }
+
+    /**
+     * Display spelling of a skill ID.
+     */
+    public String spelling(int id) {
+        return spellings[id];
+    }
+
+    /**
+     * Display spellings of the skills in a bitmap, in ID order.
+     */
+    public List<String> decode(RoaringBitmap skills) {
+        String[] current = spellings;
+        List<String> decoded = new ArrayList<>(skills.getCardinality());
+        skills.forEach((int id) -> decoded.add(current[id]));
+        return decoded;
+    }
+
+    /**
+     * Number of distinct skills seen so far.
+     */
+    public int size() {
+        return idsByTerm.size();
+    }
+
+    private int add(String term, String spelling) {
+        lock.lock();
+        try {
+            Integer existing = idsByTerm.get(term);
+            if (existing != null) {
+                return existing;
+            }
+            String[] current = spellings;
+            if (size == current.length) {
+                current = Arrays.copyOf(current, size * 2);
+            }
+            current[size] = spelling;
+            spellings = current;
+            idsByTerm.put(term, size);
+            return size++;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,445 @@
+package com.frauas.workforce.service;
+
+import com.frauas.workforce.model.Employee;
+import com.frauas.workforce.repository.EmployeeRepository;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * In-memory inverted index from skill to the employees who have it, used to rank
+ * staffing candidates and to find employees with a set of skills without scanning
+ * the employees collection. Skills are interned by the {@link SkillDictionary} and
+ * held as compressed bitmaps, so "employees with all of X, Y and Z" is an intersection
+ * of bitmaps.
+ *
+ * Candidates are scored by the IDF-weighted share of the queried skills they have:
+ * rare skills count more than skills almost everybody has, required skills count
+ * {@link #REQUIRED_WEIGHT} times as much as preferred ones. Scores range from 0 to 1;
+ * employees without any of the skills are not candidates.
+ *
+ * The index is built from {@link EmployeeRepository#streamSkillProfiles()} on first use.
+ * EmployeeService (and any other writer) updates it after each write; writes on other
+ * nodes are picked up by a full rebuild in the background once the index is older than
+ * workforce.skills.index.refresh-interval. Writes made during a rebuild are applied
+ * again to the rebuilt index.
+ */
+@Component
+public class SkillIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(SkillIndex.class);
+
+    static final double REQUIRED_WEIGHT = 2.0;
+    static final double PREFERRED_WEIGHT = 1.0;
+
+    private final EmployeeRepository employeeRepository;
+    private final SkillDictionary dictionary;
+    private final long refreshIntervalNanos;
+    private final LongSupplier nanoTime;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    // Guarded by lock
+    private Postings postings;
+    private long builtAtNanos;
+    // Non-null while a rebuild is running: writes to apply again to the rebuilt index
+    private List<Consumer<Postings>> writesDuringRebuild;
+
+    @Autowired
+    public SkillIndex(EmployeeRepository employeeRepository,
+                      SkillDictionary dictionary,
+                      @Value("${workforce.skills.index.refresh-interval:15m}") Duration refreshInterval) {
+        this(employeeRepository, dictionary, refreshInterval, System::nanoTime);
+    }
+
+    SkillIndex(EmployeeRepository employeeRepository, SkillDictionary dictionary, Duration refreshInterval,
+               LongSupplier nanoTime) {
+        this.employeeRepository = employeeRepository;
+        this.dictionary = dictionary;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * The best matching employees for a set of required and preferred skills.
+     * A skill listed in both counts as required.
+     *
+     * @param requiredSkills Skills the role requires
+     * @param preferredSkills Skills that are nice to have
+     * @param limit Maximum number of candidates
+     * @return Up to limit candidates, best first (ties: lower employeeId first)
+     */
+    public List<Candidate> topCandidates(Collection<String> requiredSkills,
+                                         Collection<String> preferredSkills,
+                                         int limit) {
+        Map<String, Double> weights = new LinkedHashMap<>();
+        Map<String, String> querySpelling = new HashMap<>();
+        addTerms(requiredSkills, REQUIRED_WEIGHT, weights, querySpelling);
+        addTerms(preferredSkills, PREFERRED_WEIGHT, weights, querySpelling);
+        if (weights.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            return current().topCandidates(weights, querySpelling, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Employees who have every one of the given skills (matched like {@link SkillDictionary#normalize}).
+     *
+     * @return employeeIds in ascending order; empty if no skill is given or any skill is unknown
+     */
+    public int[] employeesWithAllSkills(Collection<String> skills) {
+        List<String> terms = skills == null ? List.of() : skills.stream()
+                .map(SkillDictionary::normalize)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (terms.isEmpty()) {
+            return new int[0];
+        }
+
+        lock.readLock().lock();
+        try {
+            return current().employeesWithAll(terms);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Index the current skills of an employee, replacing what was indexed before.
+     * Call after the write has been persisted.
+     */
+    public void update(Employee employee) {
+        if (employee == null || employee.getEmployeeId() == null) {
+            return;
+        }
+        Integer employeeId = employee.getEmployeeId();
+        List<String> skills = employee.getSkills() == null ? List.of() : List.copyOf(employee.getSkills());
+        write(postings -> postings.put(employeeId, skills));
+    }
+
+    /**
+     * Remove an employee from the index. Call after the delete has been persisted.
+     */
+    public void remove(Integer employeeId) {
+        if (employeeId != null) {
+            write(postings -> postings.remove(employeeId));
+        }
+    }
+
+    /**
+     * Rebuild the whole index from the repository, e.g. after a bulk load.
+     * Lookups keep using the previous index until the new one is complete.
+     */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            writesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Postings rebuilt = null;
+        try {
+            rebuilt = load();
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (rebuilt != null) {
+                    for (Consumer<Postings> change : writesDuringRebuild) {
+                        change.accept(rebuilt);
+                    }
+                    postings = rebuilt;
+                    builtAtNanos = nanoTime.getAsLong();
+                }
+                writesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void write(Consumer<Postings> change) {
+        lock.writeLock().lock();
+        try {
+            if (postings != null) {
+                change.accept(postings);
+            }
+            if (writesDuringRebuild != null) {
+                writesDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The index to query, loading it on first use. Called with the read lock held.
+     */
+    private Postings current() {
+        if (postings == null) {
+            // Cannot upgrade the read lock: release it, build, and reacquire
+            lock.readLock().unlock();
+            try {
+                buildIfAbsent();
+            } finally {
+                lock.readLock().lock();
+            }
+        } else if (nanoTime.getAsLong() - builtAtNanos > refreshIntervalNanos
+                && rebuilding.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("skill-index-rebuild").start(() -> {
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    log.warn("Skill index rebuild failed, keeping the previous index", e);
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        }
+        return postings;
+    }
+
+    private void buildIfAbsent() {
+        lock.writeLock().lock();
+        try {
+            if (postings == null) {
+                postings = load();
+                builtAtNanos = nanoTime.getAsLong();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Postings load() {
+        long start = System.nanoTime();
+        Postings loaded = new Postings(dictionary);
+        try (Stream<Employee> profiles = employeeRepository.streamSkillProfiles()) {
+            profiles.filter(employee -> employee.getEmployeeId() != null)
+                    .forEach(employee -> loaded.put(employee.getEmployeeId(),
+                            employee.getSkills() == null ? List.of() : employee.getSkills()));
+        }
+        log.info("Skill index built: {} employees, {} skills in {} ms", loaded.slotByEmployeeId.size(),
+                dictionary.size(), Duration.ofNanos(System.nanoTime() - start).toMillis());
+        return loaded;
+    }
+
+    private static void addTerms(Collection<String> skills, double weight,
+                                 Map<String, Double> weights, Map<String, String> querySpelling) {
+        if (skills == null) {
+            return;
+        }
+        for (String skill : skills) {
+            String term = SkillDictionary.normalize(skill);
+            if (term != null && weights.putIfAbsent(term, weight) == null) {
+                querySpelling.put(term, skill.trim());
+            }
+        }
+    }
+
+    /**
+     * A ranked employee.
+     *
+     * @param employeeId Employee
+     * @param score Weighted share of the queried skills, 0 to 1
+     * @param matchedSkills Queried skills the employee has, in query order and spelling
+     */
+    public record Candidate(int employeeId, double score, List<String> matchedSkills) {
+    }
+
+    /**
+     * The index itself. Employees are addressed by dense slots so that scoring can
+     * accumulate into a plain array; slots of removed employees are reused.
+     * The skill x employee matrix is held by skill only: for each {@link SkillDictionary}
+     * ID a compressed bitmap of slots. With a handful of skills per employee, a bitmap per
+     * employee would cost more than the postings themselves, so an employee's skills are
+     * read back from the postings when needed (matched skills, removal).
+     */
+    private static final class Postings {
+
+        private final SkillDictionary dictionary;
+        private final List<RoaringBitmap> slotsBySkill = new ArrayList<>();
+        private final Map<Integer, Integer> slotByEmployeeId = new HashMap<>();
+        private final RoaringBitmap freeSlots = new RoaringBitmap();
+        private int[] employeeIds = new int[1024];
+        private int slotCount;
+
+        Postings(SkillDictionary dictionary) {
+            this.dictionary = dictionary;
+        }
+
+        void put(int employeeId, Collection<String> employeeSkills) {
+            remove(employeeId);
+            RoaringBitmap profile = dictionary.encode(employeeSkills);
+            if (profile.isEmpty()) {
+                return;
+            }
+            int slot = allocateSlot();
+            employeeIds[slot] = employeeId;
+            slotByEmployeeId.put(employeeId, slot);
+            profile.forEach((int skillId) -> {
+                while (slotsBySkill.size() <= skillId) {
+                    slotsBySkill.add(new RoaringBitmap());
+                }
+                slotsBySkill.get(skillId).add(slot);
+            });
+        }
+
+        void remove(int employeeId) {
+            Integer slot = slotByEmployeeId.remove(employeeId);
+            if (slot == null) {
+                return;
+            }
+            // One lookup per known skill; writes are rare next to reads
+            for (RoaringBitmap slots : slotsBySkill) {
+                slots.remove(slot);
+            }
+            freeSlots.add(slot);
+        }
+
+        /** Employees with the skill, or null if nobody has it */
+        private RoaringBitmap slotsWith(String term) {
+            int skillId = dictionary.idOf(term);
+            RoaringBitmap slots = skillId >= 0 && skillId < slotsBySkill.size() ? slotsBySkill.get(skillId) : null;
+            return slots == null || slots.isEmpty() ? null : slots;
+        }
+
+        List<Candidate> topCandidates(Map<String, Double> weights, Map<String, String> querySpelling, int limit) {
+            int employees = slotByEmployeeId.size();
+            double total = 0;
+            double[] scores = new double[slotCount];
+            IntList scored = new IntList();
+            for (Map.Entry<String, Double> term : weights.entrySet()) {
+                RoaringBitmap employeesWithSkill = slotsWith(term.getKey());
+                int documentFrequency = employeesWithSkill == null ? 0 : employeesWithSkill.getCardinality();
+                double weight = term.getValue() * Math.log(1.0 + (double) employees / (1 + documentFrequency));
+                total += weight;
+                if (employeesWithSkill == null) {
+                    continue;
+                }
+                PeekableIntIterator slots = employeesWithSkill.getIntIterator();
+                while (slots.hasNext()) {
+                    int slot = slots.next();
+                    if (scores[slot] == 0) {
+                        scored.add(slot);
+                    }
+                    scores[slot] += weight;
+                }
+            }
+
+            // Min-heap of the best slots so far; the root is the first to drop out
+            Comparator<Integer> worstFirst = (a, b) -> {
+                int byScore = Double.compare(scores[a], scores[b]);
+                return byScore != 0 ? byScore : Integer.compare(employeeIds[b], employeeIds[a]);
+            };
+            PriorityQueue<Integer> best = new PriorityQueue<>(Math.min(limit, scored.size) + 1, worstFirst);
+            double threshold = 0;
+            for (int i = 0; i < scored.size; i++) {
+                int slot = scored.values[i];
+                if (best.size() < limit) {
+                    best.add(slot);
+                    threshold = scores[best.peek()];
+                } else if (scores[slot] >= threshold && worstFirst.compare(slot, best.peek()) > 0) {
+                    best.poll();
+                    best.add(slot);
+                    threshold = scores[best.peek()];
+                }
+            }
+
+            int[] querySkillIds = weights.keySet().stream().mapToInt(dictionary::idOf).toArray();
+            List<String> queryTerms = List.copyOf(weights.keySet());
+            Candidate[] ranked = new Candidate[best.size()];
+            for (int i = ranked.length - 1; i >= 0; i--) {
+                int slot = best.poll();
+                List<String> matched = new ArrayList<>();
+                for (int q = 0; q < querySkillIds.length; q++) {
+                    if (querySkillIds[q] >= 0 && querySkillIds[q] < slotsBySkill.size()
+                            && slotsBySkill.get(querySkillIds[q]).contains(slot)) {
+                        matched.add(querySpelling.get(queryTerms.get(q)));
+                    }
+                }
+                ranked[i] = new Candidate(employeeIds[slot], total == 0 ? 0 : scores[slot] / total,
+                        List.copyOf(matched));
+            }
+            return List.of(ranked);
+        }
+
+        int[] employeesWithAll(Collection<String> terms) {
+            List<RoaringBitmap> required = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                RoaringBitmap slots = slotsWith(term);
+                if (slots == null) {
+                    return new int[0];
+                }
+                required.add(slots);
+            }
+            RoaringBitmap slots = FastAggregation.and(required.iterator());
+            int[] matching = new int[slots.getCardinality()];
+            int i = 0;
+            PeekableIntIterator iterator = slots.getIntIterator();
+            while (iterator.hasNext()) {
+                matching[i++] = employeeIds[iterator.next()];
+            }
+            Arrays.sort(matching);
+            return matching;
+        }
+
+        private int allocateSlot() {
+            if (!freeSlots.isEmpty()) {
+                int slot = freeSlots.first();
+                freeSlots.remove(slot);
+                return slot;
+            }
+            if (slotCount == employeeIds.length) {
+                employeeIds = Arrays.copyOf(employeeIds, slotCount * 2);
+            }
+            return slotCount++;
+        }
+    }
+
+    /**
+     * Growable int array, for the slots touched while scoring.
+     */
+    private static final class IntList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.frauas.workforce.service;
+
+import com.frauas.workforce.repository.DatabaseSequenceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SnowflakeIdGenerator
+ *
+ * Default {@link IdGenerator}: 64-bit IDs made of
+ * 41 bits milliseconds since 2025-01-01, 10 bits node ID and a 12 bit per-millisecond counter,
+ * encoded as 13 Crockford base32 characters (fixed width, so string order equals time order).
+ *
+ * The generator is lock-free (a single CAS on an AtomicLong) and never waits:
+ * if the counter of a millisecond runs out, or the system clock goes backwards,
+ * it continues with the next logical millisecond, so IDs stay strictly increasing per node.
+ * Uniqueness across nodes requires distinct node IDs: either set workforce.id.node-id (0-1023)
+ * per instance, or leave it at -1 and every instance leases the next node ID from the
+ * "counters" collection at startup (one findAndModify $inc, so concurrent starts never get
+ * the same one). Leases wrap around after 1024 startups; an instance that has been running
+ * for more than 1023 later startups must be restarted or given an explicit node ID.
+ */
+@Component
+public class SnowflakeIdGenerator implements IdGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(SnowflakeIdGenerator.class);
+
+    static final long EPOCH = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final char[] CROCKFORD = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int ENCODED_LENGTH = 13;
+
+    /** Counter the node IDs of instances without workforce.id.node-id are leased from */
+    static final String NODE_ID_SEQUENCE = "snowflakeNodeId";
+
+    private final long nodeId;
+
+    /**
+     * Last issued (timestamp << SEQUENCE_BITS | sequence) of this node
+     */
+    private final AtomicLong lastState = new AtomicLong();
+
+    @Autowired
+    public SnowflakeIdGenerator(@Value("${workforce.id.node-id:-1}") long configuredNodeId,
+                                DatabaseSequenceRepository sequenceRepository) {
+        this(configuredNodeId >= 0 ? configuredNodeId : leaseNodeId(sequenceRepository));
+    }
+
+    /**
+     * @param nodeId Node ID of this instance, 0-1023
+     */
+    public SnowflakeIdGenerator(long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("workforce.id.node-id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+        log.info("ID generator using node ID {}", nodeId);
+    }
+
+    @Override
+    public String nextId() {
+        return encode(nextLong());
+    }
+
+    /**
+     * @return A new strictly increasing (per node) 63-bit ID
+     */
+    public long nextLong() {
+        long now = System.currentTimeMillis() - EPOCH;
+
+        while (true) {
+            long last = lastState.get();
+            long lastTimestamp = last >>> SEQUENCE_BITS;
+
+            // New millisecond: restart the counter. Same millisecond, exhausted counter
+            // or clock moved backwards: last + 1 carries into the next logical millisecond.
+            long next = now > lastTimestamp ? now << SEQUENCE_BITS : last + 1;
+
+            if (lastState.compareAndSet(last, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                long sequence = next & SEQUENCE_MASK;
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+            }
+        }
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    static String encode(long value) {
+        char[] chars = new char[ENCODED_LENGTH];
+        for (int i = ENCODED_LENGTH - 1; i >= 0; i--) {
+            chars[i] = CROCKFORD[(int) (value & 31)];
+            value >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    static long leaseNodeId(DatabaseSequenceRepository sequenceRepository) {
+        long lease = sequenceRepository.allocateBlock(NODE_ID_SEQUENCE, 1);
+        return (lease - 1) & MAX_NODE_ID;
+    }
+}
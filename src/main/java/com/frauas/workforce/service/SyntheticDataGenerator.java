@@ -0,0 +1,178 @@
+package com.frauas.workforce.service;
+
+import com.frauas.workforce.model.Application;
+import com.frauas.workforce.model.DatabaseSequence;
+import com.frauas.workforce.model.Employee;
+import com.frauas.workforce.model.Project;
+import com.frauas.workforce.model.RoleCapacity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * Fills the database with a large synthetic dataset at startup (profile "datagen").
+ *
+ * Replaces the hand-written sample data for benchmarking and index tuning: the
+ * sizes and the seed come from workforce.datagen.*, and the same seed and sizes
+ * always produce the same documents (see SyntheticDataset). Batches are written
+ * with unordered bulk inserts on a small writer pool; indexes are built once after
+ * loading, which is much faster than maintaining them during a million inserts
+ * (the profile turns off spring.data.mongodb.auto-index-creation for this; indexes
+ * left on collections that were not dropped are still maintained).
+ *
+ * All generated accounts share the password workforce.datagen.password; the
+ * admin account is "admin", everyone else is "user{employeeId}".
+ *
+ * With workforce.datagen.drop-existing the generated collections are dropped first,
+ * but only in a database listed in workforce.datagen.droppable-databases or named by
+ * workforce.datagen.confirm-drop-database; otherwise startup fails without touching
+ * anything, so a misconfigured URI cannot wipe a shared database.
+ */
+@Component
+@Profile("datagen")
+public class SyntheticDataGenerator implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    @Value("${workforce.datagen.seed:42}")
+    private long seed;
+
+    @Value("${workforce.datagen.employees:10000}")
+    private int employees;
+
+    @Value("${workforce.datagen.projects:2000}")
+    private int projects;
+
+    @Value("${workforce.datagen.applications:1000000}")
+    private long applications;
+
+    @Value("${workforce.datagen.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${workforce.datagen.writer-threads:4}")
+    private int writerThreads;
+
+    @Value("${workforce.datagen.password:datagen123}")
+    private String password;
+
+    @Value("${workforce.datagen.drop-existing:false}")
+    private boolean dropExisting;
+
+    @Value("${workforce.datagen.droppable-databases:workforce_datagen}")
+    private Set<String> droppableDatabases;
+
+    @Value("${workforce.datagen.confirm-drop-database:}")
+    private String confirmDropDatabase;
+
+    public SyntheticDataGenerator(MongoTemplate mongoTemplate, PasswordEncoder passwordEncoder) {
+        this.mongoTemplate = mongoTemplate;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (dropExisting) {
+            String database = mongoTemplate.getDb().getName();
+            if (!droppableDatabases.contains(database) && !database.equals(confirmDropDatabase)) {
+                throw new IllegalStateException("Refusing to drop collections in database '" + database
+                        + "': it is not in workforce.datagen.droppable-databases and not confirmed by "
+                        + "workforce.datagen.confirm-drop-database");
+            }
+            dropGeneratedCollections();
+        } else if (mongoTemplate.estimatedCount(Employee.class) > 0) {
+            log.warn("Synthetic data not generated: employees exist and workforce.datagen.drop-existing is false");
+            return;
+        }
+
+        // One hash for all accounts: hashing a million-user dataset would take hours
+        SyntheticDataset dataset = new SyntheticDataset(seed, employees, projects, applications, batchSize,
+                passwordEncoder.encode(password), Instant.now());
+        log.info("Generating synthetic data (seed={}): {} employees, {} projects, {} applications",
+                seed, employees, projects, applications);
+
+        ExecutorService writers = Executors.newFixedThreadPool(writerThreads);
+        try {
+            write("employees", Employee.class, dataset.employeeBatches(), dataset::employeeBatch, writers);
+            write("projects", Project.class, dataset.projectBatches(), dataset::projectBatch, writers);
+            write("applications", Application.class, dataset.applicationBatches(), dataset::applicationBatch, writers);
+        } finally {
+            writers.shutdownNow();
+        }
+
+        long started = System.nanoTime();
+        for (Class<?> type : List.of(Employee.class, Project.class, Application.class, RoleCapacity.class)) {
+            ensureIndexes(type);
+        }
+        log.info("Indexes built in {} ms", Duration.ofNanos(System.nanoTime() - started).toMillis());
+    }
+
+    private void dropGeneratedCollections() {
+        log.info("Dropping employees, projects, applications and role capacity counters in {}",
+                mongoTemplate.getDb().getName());
+        mongoTemplate.dropCollection(Employee.class);
+        mongoTemplate.dropCollection(Project.class);
+        mongoTemplate.dropCollection(Application.class);
+        mongoTemplate.dropCollection(RoleCapacity.class);
+        // The employeeId sequence restarts after the highest generated employeeId
+        mongoTemplate.remove(new Query(Criteria.where("id").is(EmployeeService.EMPLOYEE_ID_SEQUENCE)),
+                DatabaseSequence.class);
+    }
+
+    private <T> void write(String name, Class<T> type, int batches, IntFunction<List<T>> batch,
+                           ExecutorService writers) throws Exception {
+        long started = System.nanoTime();
+        AtomicLong written = new AtomicLong();
+        List<Future<?>> pending = new ArrayList<>(batches);
+
+        for (int i = 0; i < batches; i++) {
+            int batchNumber = i;
+            pending.add(writers.submit(() -> {
+                List<T> documents = batch.apply(batchNumber);
+                mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, type).insert(documents).execute();
+                long total = written.addAndGet(documents.size());
+                if ((batchNumber + 1) % 20 == 0) {
+                    log.info("  {}: {} written", name, total);
+                }
+            }));
+        }
+        for (Future<?> future : pending) {
+            future.get();
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+        log.info("{} {} written in {} ms ({} docs/s)", written.get(), name, elapsed.toMillis(),
+                written.get() * 1000 / Math.max(1, elapsed.toMillis()));
+    }
+
+    private void ensureIndexes(Class<?> type) {
+        IndexOperations indexOps = mongoTemplate.indexOps(type);
+        new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(type)
+                .forEach(indexOps::ensureIndex);
+    }
+}
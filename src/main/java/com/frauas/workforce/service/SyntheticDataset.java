@@ -0,0 +1,569 @@
+package com.frauas.workforce.service;
+
+import com.frauas.workforce.model.Application;
+import com.frauas.workforce.model.ApplicationStatus;
+import com.frauas.workforce.model.AvailabilityStatus;
+import com.frauas.workforce.model.ContractType;
+import com.frauas.workforce.model.Employee;
+import com.frauas.workforce.model.Experience;
+import com.frauas.workforce.model.Project;
+import com.frauas.workforce.model.ProjectStatus;
+import com.frauas.workforce.model.Role;
+import com.frauas.workforce.model.Timestamps;
+import com.frauas.workforce.model.UserAction;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Deterministic synthetic dataset: employees, projects and applications.
+ *
+ * Every batch is generated from its own random stream derived from the seed, the
+ * entity type and the batch number, so a batch's content does not depend on which
+ * other batches were generated or in which order. Batches can therefore be built and
+ * written in parallel and the dataset is still identical for the same seed and sizes.
+ *
+ * Layout (employeeId = index + 1):
+ * <ul>
+ *   <li>employee 0 is the admin, employees 1..D are the heads of the D departments</li>
+ *   <li>every 50th employee is a project manager, the next one a resource planner</li>
+ *   <li>everyone else is an EMPLOYEE supervised by their department head</li>
+ * </ul>
+ * Applications pick projects with a skewed distribution (a few projects attract
+ * most applications) and cover all current ApplicationStatus values. Like the real
+ * workflow, every (employeeId, projectId, projectRole) is applied for at most once,
+ * and at most numberOfEmployees applications of a role are COMPLETED (assigned), so
+ * role capacity counters start below their limit.
+ *
+ * To keep batches independent, the application index is mapped to its project, role
+ * and employee without randomness: a fixed permutation of the indexes is split into
+ * consecutive ranges, one per project (sized by popularity); within a project, slot k
+ * is the (k / roles)-th application for role k % roles, and that number is mapped to an
+ * employee by a per-role permutation of the employees.
+ */
+public class SyntheticDataset {
+
+    static final String[] DEPARTMENTS = {
+            "IT", "Engineering", "HR", "Finance", "Marketing", "Sales", "Operations", "Legal"
+    };
+    static final String[] LOCATIONS = {
+            "Frankfurt", "Berlin", "Munich", "Hamburg", "Cologne", "Stuttgart", "Düsseldorf", "Leipzig",
+            "Dresden", "Nuremberg"
+    };
+    static final String[] SKILLS = {
+            "Java", "Spring Boot", "Python", "JavaScript", "TypeScript", "Angular", "React", "SQL", "MongoDB",
+            "Kubernetes", "Docker", "AWS", "Azure", "Terraform", "CI/CD", "Scrum", "Agile", "Kanban",
+            "Project Management", "Risk Management", "Stakeholder Management", "Data Analysis", "Machine Learning",
+            "Power BI", "Excel", "SAP", "Salesforce", "UX Design", "Figma", "Testing", "Selenium", "Security",
+            "Networking", "Linux", "Budgeting", "Recruiting", "Contract Law", "Negotiation", "Marketing Analytics",
+            "Technical Writing"
+    };
+    static final String[] POSITIONS = {
+            "Software Developer", "Senior Software Developer", "DevOps Engineer", "Data Analyst", "Data Scientist",
+            "Business Analyst", "QA Engineer", "UX Designer", "Consultant", "Architect", "HR Specialist",
+            "Financial Analyst", "Marketing Specialist", "Sales Manager", "Legal Counsel"
+    };
+    private static final String[] FIRST_NAMES = {
+            "Anna", "Ben", "Clara", "David", "Emma", "Felix", "Greta", "Hannah", "Jonas", "Lea", "Leon", "Lina",
+            "Lukas", "Marie", "Max", "Mia", "Noah", "Paul", "Sophie", "Tim", "Elias", "Ida", "Finn", "Nora"
+    };
+    private static final String[] LAST_NAMES = {
+            "Müller", "Schmidt", "Schneider", "Fischer", "Weber", "Meyer", "Wagner", "Becker", "Schulz", "Hoffmann",
+            "Koch", "Richter", "Klein", "Wolf", "Neumann", "Schwarz", "Braun", "Zimmermann", "Krüger", "Hartmann"
+    };
+    private static final String[] COMPANIES = {
+            "Tech Corp", "Digital Solutions AG", "Innovation Labs", "Global Enterprise", "Consulting Firm",
+            "StartUp GmbH", "Financial Services Inc", "Engineering Firm"
+    };
+
+    // Weighted status distribution of generated applications (sums to 100)
+    private static final ApplicationStatus[] STATUSES = {
+            ApplicationStatus.DRAFT, ApplicationStatus.APPLIED, ApplicationStatus.SUGGESTED,
+            ApplicationStatus.REQUEST_DH_APPROVAL, ApplicationStatus.REJECTED_BY_PM, ApplicationStatus.REJECTED_BY_DH,
+            ApplicationStatus.COMPLETED, ApplicationStatus.PROJECT_COMPLETED
+    };
+    private static final int[] STATUS_WEIGHTS = {3, 25, 20, 10, 12, 5, 15, 10};
+
+    private static final ProjectStatus[] PROJECT_STATUSES = {
+            ProjectStatus.PLANNED, ProjectStatus.OPEN, ProjectStatus.STAFFING, ProjectStatus.ACTIVE,
+            ProjectStatus.COMPLETED
+    };
+    private static final int[] PROJECT_STATUS_WEIGHTS = {10, 25, 20, 30, 15};
+
+    private static final int MANAGER_INTERVAL = 50;
+    private static final int TYPE_EMPLOYEE = 1;
+    private static final int TYPE_PROJECT = 2;
+    private static final int TYPE_APPLICATION = 3;
+    private static final int TYPE_PROJECT_ROLES = 4;
+    private static final int TYPE_APPLICATION_LAYOUT = 5;
+    private static final LocalDate BASE_DATE = LocalDate.of(2024, 1, 1);
+
+    private final long seed;
+    private final int employees;
+    private final int projects;
+    private final long applications;
+    private final int batchSize;
+    private final String passwordHash;
+    private final Instant generatedAt;
+
+    // Derived from the seed in the constructor, see the class comment
+    private final String[][] roleNamesByProject;
+    private final int[][] neededByProject;
+    private final long[] firstApplicationOfProject;
+    private final long applicationMultiplier;
+    private final long applicationOffset;
+
+    /**
+     * @param passwordHash Encoded password shared by all generated accounts (hashed once, not per employee)
+     * @param generatedAt  Value of lastModifiedAt for every generated document
+     */
+    public SyntheticDataset(long seed, int employees, int projects, long applications, int batchSize,
+                            String passwordHash, Instant generatedAt) {
+        if (employees <= DEPARTMENTS.length + MANAGER_INTERVAL) {
+            throw new IllegalArgumentException("At least " + (DEPARTMENTS.length + MANAGER_INTERVAL + 1)
+                    + " employees are needed to staff every department");
+        }
+        if (projects < 1 || applications < 0 || applications > Integer.MAX_VALUE || batchSize < 1) {
+            throw new IllegalArgumentException("projects and batch size must be positive, applications not negative"
+                    + " and below 2^31");
+        }
+        this.seed = seed;
+        this.employees = employees;
+        this.projects = projects;
+        this.applications = applications;
+        this.batchSize = batchSize;
+        this.passwordHash = passwordHash;
+        this.generatedAt = generatedAt;
+
+        this.roleNamesByProject = new String[projects][];
+        this.neededByProject = new int[projects][];
+        for (int project = 0; project < projects; project++) {
+            List<Project.RoleRequirement> roles = roles(project);
+            roleNamesByProject[project] = roles.stream().map(Project.RoleRequirement::getRequiredRole)
+                    .toArray(String[]::new);
+            neededByProject[project] = roles.stream()
+                    .mapToInt(role -> Integer.parseInt(role.getNumberOfEmployees()))
+                    .toArray();
+        }
+        this.firstApplicationOfProject = applicationRanges();
+        SplittableRandom layout = randomFor(TYPE_APPLICATION_LAYOUT, 0);
+        this.applicationMultiplier = coprimeMultiplier(layout, Math.max(1, applications));
+        this.applicationOffset = layout.nextLong(Math.max(1, applications));
+    }
+
+    public int employeeBatches() {
+        return batchCount(employees);
+    }
+
+    public int projectBatches() {
+        return batchCount(projects);
+    }
+
+    public int applicationBatches() {
+        return batchCount(applications);
+    }
+
+    /**
+     * Employees [batch * batchSize, min((batch + 1) * batchSize, employees)).
+     */
+    public List<Employee> employeeBatch(int batch) {
+        SplittableRandom random = randomFor(TYPE_EMPLOYEE, batch);
+        long from = (long) batch * batchSize;
+        long to = Math.min(from + batchSize, employees);
+        List<Employee> result = new ArrayList<>((int) (to - from));
+        for (long index = from; index < to; index++) {
+            result.add(employee((int) index, random));
+        }
+        return result;
+    }
+
+    /**
+     * Projects [batch * batchSize, min((batch + 1) * batchSize, projects)).
+     */
+    public List<Project> projectBatch(int batch) {
+        SplittableRandom random = randomFor(TYPE_PROJECT, batch);
+        long from = (long) batch * batchSize;
+        long to = Math.min(from + batchSize, projects);
+        List<Project> result = new ArrayList<>((int) (to - from));
+        for (long index = from; index < to; index++) {
+            result.add(project((int) index, random));
+        }
+        return result;
+    }
+
+    /**
+     * Applications [batch * batchSize, min((batch + 1) * batchSize, applications)).
+     */
+    public List<Application> applicationBatch(int batch) {
+        SplittableRandom random = randomFor(TYPE_APPLICATION, batch);
+        long from = (long) batch * batchSize;
+        long to = Math.min(from + batchSize, applications);
+        List<Application> result = new ArrayList<>((int) (to - from));
+        for (long index = from; index < to; index++) {
+            result.add(application(index, random));
+        }
+        return result;
+    }
+
+    private Employee employee(int index, SplittableRandom random) {
+        Role role = roleOf(index);
+        int department = departmentOf(index);
+        String firstName = pick(FIRST_NAMES, random);
+        String lastName = pick(LAST_NAMES, random);
+        String baseLocation = pick(LOCATIONS, random);
+
+        Employee employee = new Employee();
+        employee.setId(objectId(TYPE_EMPLOYEE, index));
+        employee.setEmployeeId(index + 1);
+        employee.setUserId(new UUID(seed, index).toString());
+        employee.setRemoteWorking(random.nextInt(3) == 0);
+        employee.setUsername(usernameOf(index));
+        employee.setPassword(passwordHash);
+        employee.setFirstName(firstName);
+        employee.setLastName(lastName);
+        employee.setEmail(usernameOf(index) + "@workforce.test");
+        employee.setDepartment(DEPARTMENTS[department]);
+        employee.setPosition(positionOf(role, random));
+        employee.setRole(role);
+        employee.setSkills(distinct(SKILLS, 2 + random.nextInt(7), random));
+        employee.setInterests(distinct(SKILLS, 1 + random.nextInt(3), random));
+        employee.setBaseLocation(baseLocation);
+        List<String> preferred = distinct(LOCATIONS, 1 + random.nextInt(3), random);
+        preferred.remove(baseLocation);
+        preferred.add(0, baseLocation);
+        employee.setPreferredLocations(preferred);
+        employee.setEmergencyContact(String.format("+49-%03d-%07d", random.nextInt(1000), random.nextInt(10_000_000)));
+        employee.setAvailabilityStatus(pick(AvailabilityStatus.values(), random));
+        employee.setContractType(random.nextInt(10) < 7 ? ContractType.FULL_TIME : pick(ContractType.values(), random));
+        employee.setCapacity(employee.getContractType() == ContractType.FULL_TIME ? 100 : 20 + 10 * random.nextInt(7));
+        employee.setWorkExperience(experience(random));
+        if (role == Role.EMPLOYEE || role == Role.PROJECT_MANAGER || role == Role.RESOURCE_PLANNER) {
+            int headIndex = 1 + department;
+            employee.setSupervisorId(headIndex + 1);
+            employee.setSupervisor(usernameOf(headIndex));
+        }
+        employee.setLastModifiedAt(generatedAt);
+        return employee;
+    }
+
+    private Project project(int index, SplittableRandom random) {
+        ProjectStatus status = weighted(PROJECT_STATUSES, PROJECT_STATUS_WEIGHTS, random);
+        boolean published = status != ProjectStatus.PLANNED && random.nextInt(10) < 9;
+        LocalDate start = BASE_DATE.plusDays(random.nextInt(900));
+
+        List<Project.RoleRequirement> roles = roles(index);
+        int required = IntStream.of(neededByProject[index]).sum();
+
+        Project project = new Project();
+        project.setId(objectId(TYPE_PROJECT, index));
+        project.setProjectId(projectIdOf(index));
+        project.setProjectDescription("Synthetic project " + (index + 1));
+        project.setProjectStart(start);
+        project.setProjectEnd(start.plusDays(60 + random.nextInt(600)));
+        project.setTaskDescription("Generated workload for benchmarks and index tuning");
+        project.setRequiredEmployees(required);
+        project.setSelectedSkills(roles.stream()
+                .flatMap(role -> role.getRequiredCompetencies().stream())
+                .distinct()
+                .toList());
+        project.setSelectedLocations(distinct(LOCATIONS, 1 + random.nextInt(3), random));
+        project.setRoles(roles);
+        project.setStatus(status);
+        project.setIsPublished(published);
+        project.setIsExternalSearch(published && random.nextInt(10) == 0);
+        project.setIsApplicationsAllowed(status == ProjectStatus.OPEN || status == ProjectStatus.STAFFING);
+        project.setCreatedBy(usernameOf(managerIndex(random)));
+        project.setCreatedAt(start.minusDays(30));
+        project.setUpdatedAt(start);
+        return project;
+    }
+
+    private Application application(long index, SplittableRandom random) {
+        long position = permute(index, applications, applicationMultiplier, applicationOffset);
+        int projectIndex = projectOf(position);
+        long slot = position - firstApplicationOfProject[projectIndex];
+        String[] roles = roleNamesByProject[projectIndex];
+        int role = (int) (slot % roles.length);
+        long applicationOfRole = slot / roles.length;
+        // Distinct applications of a role go to distinct employees
+        SplittableRandom roleLayout = randomFor(TYPE_APPLICATION_LAYOUT, (long) projectIndex * 8 + role + 1);
+        int candidates = applicants();
+        int employeeIndex = 1 + DEPARTMENTS.length + (int) permute(applicationOfRole, candidates,
+                coprimeMultiplier(roleLayout, candidates), roleLayout.nextInt(candidates));
+
+        ApplicationStatus status = weighted(STATUSES, STATUS_WEIGHTS, random);
+        if (status == ApplicationStatus.COMPLETED && applicationOfRole >= neededByProject[projectIndex][role]) {
+            // The role is fully staffed: this assignment has ended instead
+            status = ApplicationStatus.PROJECT_COMPLETED;
+        }
+        Date created = Date.from(BASE_DATE.atStartOfDay().toInstant(ZoneOffset.UTC)
+                .plusSeconds(random.nextLong(900L * 24 * 3600)));
+
+        Application application = new Application();
+        application.setId(objectId(TYPE_APPLICATION, index));
+        application.setApplicationId("App_" + projectIdOf(projectIndex) + "_" + (index + 1));
+        application.setProjectId(projectIdOf(projectIndex));
+        application.setProjectRole(roles[role]);
+        application.setEmployeeId(employeeIndex + 1);
+        application.setCurrentStatus(status);
+
+        Timestamps timestamps = new Timestamps();
+        if (status == ApplicationStatus.SUGGESTED || (status != ApplicationStatus.DRAFT && random.nextInt(4) == 0)) {
+            int planner = plannerIndex(random);
+            application.setSuggestedBy(new UserAction(String.valueOf(planner + 1), usernameOf(planner),
+                    Role.RESOURCE_PLANNER.name()));
+            timestamps.setSuggestedAt(created);
+        }
+        if (status != ApplicationStatus.SUGGESTED) {
+            application.setInitiatedBy(new UserAction(String.valueOf(employeeIndex + 1), usernameOf(employeeIndex),
+                    Role.EMPLOYEE.name()));
+            timestamps.setAppliedAt(created);
+        }
+
+        int manager = managerIndex(random);
+        int head = 1 + departmentOf(employeeIndex);
+        switch (status) {
+            case REQUEST_DH_APPROVAL -> application.setApprovedByProjectManager(action(manager, Role.PROJECT_MANAGER));
+            case REJECTED_BY_PM -> {
+                application.setRejectedBy(action(manager, Role.PROJECT_MANAGER));
+                application.setRejectionReason("Profile does not match the role");
+            }
+            case REJECTED_BY_DH -> {
+                application.setApprovedByProjectManager(action(manager, Role.PROJECT_MANAGER));
+                application.setRejectedBy(action(head, Role.DEPARTMENT_HEAD));
+                application.setRejectionReason("Employee is needed in the department");
+            }
+            case COMPLETED, PROJECT_COMPLETED -> {
+                application.setApprovedByProjectManager(action(manager, Role.PROJECT_MANAGER));
+                application.setApprovedByDepartmentHead(action(head, Role.DEPARTMENT_HEAD));
+                application.setApprovalComments("Approved");
+                Date approved = Date.from(created.toInstant().plusSeconds(86_400L * (1 + random.nextInt(14))));
+                timestamps.setApprovedAt(approved);
+                timestamps.setAssignedAt(approved);
+                LocalDate start = approved.toInstant().atZone(ZoneOffset.UTC).toLocalDate();
+                application.setEmployeeProjectStartDate(start);
+                if (status == ApplicationStatus.PROJECT_COMPLETED) {
+                    application.setEmployeeProjectEndDate(start.plusDays(30 + random.nextInt(400)));
+                }
+            }
+            default -> {
+            }
+        }
+        application.setTimestamps(timestamps);
+        application.setLastModifiedAt(generatedAt);
+        return application;
+    }
+
+    /**
+     * Roles of a project, from the project's own role stream.
+     */
+    private List<Project.RoleRequirement> roles(int projectIndex) {
+        SplittableRandom roleRandom = randomFor(TYPE_PROJECT_ROLES, projectIndex);
+        List<Project.RoleRequirement> roles = new ArrayList<>();
+        for (String position : distinct(POSITIONS, 1 + roleRandom.nextInt(4), roleRandom)) {
+            int needed = 1 + roleRandom.nextInt(3);
+            Project.RoleRequirement role = new Project.RoleRequirement();
+            role.setRequiredRole(position);
+            role.setRequiredCompetencies(distinct(SKILLS, 1 + roleRandom.nextInt(4), roleRandom));
+            role.setCapacity((50 + 10 * roleRandom.nextInt(6)) + "%");
+            role.setNumberOfEmployees(String.valueOf(needed));
+            roles.add(role);
+        }
+        return roles;
+    }
+
+    /**
+     * First application position of every project, plus the total at the end.
+     *
+     * Skewed project popularity: project p gets the share of applications a squared
+     * uniform value would pick, sqrt((p + 1) / P) - sqrt(p / P), which puts about 30%
+     * of all applications on the first 10% of projects. A project takes at most one
+     * application per role and employee; what does not fit goes to the most popular
+     * projects with room left.
+     */
+    private long[] applicationRanges() {
+        long[] counts = new long[projects];
+        long assigned = 0;
+        for (int project = 0; project < projects; project++) {
+            double share = Math.sqrt((project + 1.0) / projects) - Math.sqrt((double) project / projects);
+            counts[project] = Math.min((long) (applications * share), applicationCapacity(project));
+            assigned += counts[project];
+        }
+        for (int project = 0; project < projects && assigned < applications; project++) {
+            long added = Math.min(applications - assigned, applicationCapacity(project) - counts[project]);
+            counts[project] += added;
+            assigned += added;
+        }
+        if (assigned < applications) {
+            throw new IllegalArgumentException("At most " + assigned + " distinct applications fit "
+                    + employees + " employees and " + projects + " projects");
+        }
+
+        long[] first = new long[projects + 1];
+        for (int project = 0; project < projects; project++) {
+            first[project + 1] = first[project] + counts[project];
+        }
+        return first;
+    }
+
+    private long applicationCapacity(int projectIndex) {
+        return (long) roleNamesByProject[projectIndex].length * applicants();
+    }
+
+    /**
+     * Employees who apply: everyone except the admin and the department heads.
+     */
+    private int applicants() {
+        return employees - 1 - DEPARTMENTS.length;
+    }
+
+    private int projectOf(long position) {
+        int found = Arrays.binarySearch(firstApplicationOfProject, position);
+        if (found < 0) {
+            return -found - 2;
+        }
+        // Skip projects without applications, whose range is empty
+        while (firstApplicationOfProject[found + 1] == position) {
+            found++;
+        }
+        return found;
+    }
+
+    /**
+     * Bijection of [0, n): i * multiplier + offset mod n, with multiplier coprime to n.
+     */
+    private static long permute(long i, long n, long multiplier, long offset) {
+        return (i * multiplier + offset) % n;
+    }
+
+    /**
+     * Random multiplier below min(n, 2^31) that is coprime to n, for {@link #permute}.
+     */
+    private static long coprimeMultiplier(SplittableRandom random, long n) {
+        long multiplier = 1 + random.nextLong(Math.min(n, Integer.MAX_VALUE));
+        while (gcd(multiplier, n) != 1) {
+            multiplier = multiplier % Math.min(n, Integer.MAX_VALUE) + 1;
+        }
+        return multiplier;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    private List<Experience> experience(SplittableRandom random) {
+        List<Experience> experience = new ArrayList<>();
+        LocalDate end = BASE_DATE;
+        for (int i = random.nextInt(4); i > 0; i--) {
+            LocalDate start = end.minusMonths(6 + random.nextInt(48));
+            experience.add(new Experience(pick(POSITIONS, random), pick(COMPANIES, random), start, end,
+                    "Generated work experience"));
+            end = start.minusMonths(random.nextInt(6));
+        }
+        return experience;
+    }
+
+    private UserAction action(int employeeIndex, Role role) {
+        return new UserAction(String.valueOf(employeeIndex + 1), usernameOf(employeeIndex), role.name());
+    }
+
+    private String positionOf(Role role, SplittableRandom random) {
+        return switch (role) {
+            case SYSTEM_ADMIN -> "System Administrator";
+            case DEPARTMENT_HEAD -> "Department Head";
+            case PROJECT_MANAGER -> "Project Manager";
+            case RESOURCE_PLANNER -> "Resource Planner";
+            default -> pick(POSITIONS, random);
+        };
+    }
+
+    static Role roleOf(int index) {
+        if (index == 0) {
+            return Role.SYSTEM_ADMIN;
+        }
+        if (index <= DEPARTMENTS.length) {
+            return Role.DEPARTMENT_HEAD;
+        }
+        return switch (index % MANAGER_INTERVAL) {
+            case 0 -> Role.PROJECT_MANAGER;
+            case 1 -> Role.RESOURCE_PLANNER;
+            default -> Role.EMPLOYEE;
+        };
+    }
+
+    static String usernameOf(int index) {
+        return index == 0 ? "admin" : "user" + (index + 1);
+    }
+
+    static String projectIdOf(int index) {
+        return "PRJ-" + (index + 1);
+    }
+
+    private static int departmentOf(int index) {
+        return index >= 1 && index <= DEPARTMENTS.length ? index - 1 : index % DEPARTMENTS.length;
+    }
+
+    private int managerIndex(SplittableRandom random) {
+        int managers = (employees - 1) / MANAGER_INTERVAL;
+        return MANAGER_INTERVAL * (1 + random.nextInt(managers));
+    }
+
+    private int plannerIndex(SplittableRandom random) {
+        int planners = (employees - 2) / MANAGER_INTERVAL;
+        return MANAGER_INTERVAL * (1 + random.nextInt(planners)) + 1;
+    }
+
+    private SplittableRandom randomFor(int type, long stream) {
+        // Mix the stream identity into the seed so streams of different batches and types are independent
+        long mixed = seed * 0x9E3779B97F4A7C15L + type * 0xBF58476D1CE4E5B9L + stream * 0x94D049BB133111EBL;
+        return new SplittableRandom(mixed);
+    }
+
+    private int batchCount(long total) {
+        return (int) ((total + batchSize - 1) / batchSize);
+    }
+
+    /**
+     * Valid 24-hex-digit ObjectId string from the entity type and index.
+     */
+    private static String objectId(int type, long index) {
+        return String.format("%08x%016x", 0x5EED0000 + type, index);
+    }
+
+    private static <T> T pick(T[] values, SplittableRandom random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static <T> T weighted(T[] values, int[] weights, SplittableRandom random) {
+        int roll = random.nextInt(100);
+        for (int i = 0; i < values.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    private static List<String> distinct(String[] values, int count, SplittableRandom random) {
+        LinkedHashSet<String> picked = new LinkedHashSet<>();
+        while (picked.size() < Math.min(count, values.length)) {
+            picked.add(pick(values, random));
+        }
+        return new ArrayList<>(picked);
+    }
+}
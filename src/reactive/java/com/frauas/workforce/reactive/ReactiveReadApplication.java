@@ -0,0 +1,31 @@
+package com.frauas.workforce.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.frauas.workforce.service.FieldProjector;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Reactive read API: the employee-facing read endpoints of the servlet application
+ * (GET /api/projects, /api/applications/suggested-projects/{employeeId} and
+ * /api/project-history/**) on WebFlux and the reactive MongoDB driver.
+ *
+ * Same paths and JSON as the servlet endpoints, so clients can be pointed at either.
+ * With Accept: application/x-ndjson the lists are streamed one element per line,
+ * with backpressure from the client connection down to the MongoDB cursor.
+ * Reads only: it shares the database with the servlet application and never writes
+ * to it (not even indexes).
+ */
+@SpringBootApplication
+public class ReactiveReadApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveReadApplication.class, args);
+    }
+
+    @Bean
+    public FieldProjector fieldProjector(ObjectMapper objectMapper) {
+        return new FieldProjector(objectMapper);
+    }
+}
@@ -0,0 +1,20 @@
+package com.frauas.workforce.reactive.config;
+
+import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Publishes Reactor Netty's server metrics, among them
+ * reactor.netty.http.server.connections.active, the counterpart of the servlet
+ * application's tomcat.connections.current when comparing their footprint under load.
+ */
+@Configuration
+public class NettyMetricsConfig {
+
+    @Bean
+    public NettyServerCustomizer serverMetrics() {
+        // One URI tag for everything: path variables would make the tag unbounded
+        return httpServer -> httpServer.metrics(true, uri -> "/api");
+    }
+}
@@ -0,0 +1,81 @@
+package com.frauas.workforce.reactive.controller;
+
+import com.frauas.workforce.DTO.SuggestedProjectResponseDTO;
+import com.frauas.workforce.model.Application;
+import com.frauas.workforce.model.Project;
+import com.frauas.workforce.reactive.repository.ReactiveApplicationRepository;
+import com.frauas.workforce.reactive.repository.ReactiveProjectRepository;
+import com.frauas.workforce.service.ResponseMapping;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Reactive application reads: GET /api/applications/suggested-projects/{employeeId},
+ * with the same response as ApplicationController.
+ */
+@RestController
+@RequestMapping("/api/applications")
+@CrossOrigin(origins = "*")
+public class ReactiveApplicationController {
+
+    /** Applications whose projects are loaded with one query */
+    static final int PROJECT_BATCH_SIZE = 256;
+
+    private final ReactiveApplicationRepository applicationRepository;
+    private final ReactiveProjectRepository projectRepository;
+
+    public ReactiveApplicationController(ReactiveApplicationRepository applicationRepository,
+                                         ReactiveProjectRepository projectRepository) {
+        this.applicationRepository = applicationRepository;
+        this.projectRepository = projectRepository;
+    }
+
+    /**
+     * All applications of an employee with their projects. A JSON array by default,
+     * or one entry per line with Accept: application/x-ndjson.
+     *
+     * Applications are read in batches of PROJECT_BATCH_SIZE and each batch's
+     * projects are loaded with one query, in order, so only one batch is held
+     * in memory at a time.
+     *
+     * @throws RuntimeException (500) if an application refers to a missing project
+     */
+    @GetMapping(path = "/suggested-projects/{employeeId}",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<SuggestedProjectResponseDTO> getSuggestedProjects(@PathVariable Integer employeeId) {
+        return applicationRepository.findByEmployeeId(employeeId)
+                .buffer(PROJECT_BATCH_SIZE)
+                .concatMap(batch -> projectRepository.findByProjectIdIn(projectIds(batch))
+                        .collectMap(Project::getProjectId)
+                        .flatMapIterable(projectsById -> toResponses(batch, projectsById)));
+    }
+
+    private static Set<String> projectIds(List<Application> applications) {
+        return applications.stream()
+                .map(Application::getProjectId)
+                .collect(Collectors.toSet());
+    }
+
+    private static List<SuggestedProjectResponseDTO> toResponses(List<Application> applications,
+                                                                 Map<String, Project> projectsById) {
+        return applications.stream().map(application -> {
+            Project project = projectsById.get(application.getProjectId());
+            if (project == null) {
+                throw new RuntimeException(
+                        "Project not found for projectId: " + application.getProjectId()
+                );
+            }
+            return ResponseMapping.suggestedProject(application, project);
+        }).toList();
+    }
+}
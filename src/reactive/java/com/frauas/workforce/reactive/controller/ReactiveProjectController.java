@@ -0,0 +1,111 @@
+package com.frauas.workforce.reactive.controller;
+
+import com.frauas.workforce.DTO.CursorPageResponse;
+import com.frauas.workforce.DTO.ListQuery;
+import com.frauas.workforce.DTO.ProjectResponseDto;
+import com.frauas.workforce.ExceptionHandling.ResourceNotFoundException;
+import com.frauas.workforce.reactive.repository.ReactiveProjectRepository;
+import com.frauas.workforce.repository.ScrollRequest;
+import com.frauas.workforce.service.ApiResponse;
+import com.frauas.workforce.service.FieldProjector;
+import com.frauas.workforce.service.ResponseMapping;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+/**
+ * Reactive project reads: GET /api/projects and /api/projects/{projectId}, with
+ * the same responses as ProjectManagerController.
+ */
+@RestController
+@RequestMapping("/api/projects")
+@CrossOrigin(origins = "*")
+public class ReactiveProjectController {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveProjectController.class);
+
+    /** Same as the servlet listing: both indexed */
+    private static final Set<String> PROJECT_SORTABLE_FIELDS = Set.of("id", "projectId");
+
+    private final ReactiveProjectRepository projectRepository;
+    private final FieldProjector fieldProjector;
+
+    public ReactiveProjectController(ReactiveProjectRepository projectRepository, FieldProjector fieldProjector) {
+        this.projectRepository = projectRepository;
+        this.fieldProjector = fieldProjector;
+    }
+
+    /**
+     * One page of projects.
+     *
+     * Endpoint: GET /api/projects?limit=50&cursor=...&sort=projectId,asc&fields=projectId,status
+     *
+     * @param query Paging parameters: limit, cursor, sort (id or projectId) and fields
+     * @return HTTP 200 (OK) and one page of projects on success
+     *         HTTP 400 (BAD_REQUEST) for invalid paging parameters
+     *         HTTP 500 (INTERNAL_SERVER_ERROR) for unexpected errors
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<ApiResponse<CursorPageResponse<?>>>> getAllProjects(ListQuery query) {
+        return Mono.fromCallable(() -> ScrollRequest.of(query, PROJECT_SORTABLE_FIELDS, "id"))
+                .flatMap(projectRepository::scrollProjects)
+                .map(page -> {
+                    CursorPageResponse<?> response = fieldProjector.project(
+                            page.map(ResponseMapping::projectResponse), query.getFields());
+                    return ResponseEntity.ok(ApiResponse.<CursorPageResponse<?>>success(response,
+                            "Projects fetched successfully"));
+                })
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity
+                        .status(HttpStatus.BAD_REQUEST)
+                        .body(ApiResponse.error("Invalid list parameters", e.getMessage()))))
+                .onErrorResume(e -> {
+                    log.error("Error fetching projects: ", e);
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(ApiResponse.error("Failed to fetch projects", e.getMessage())));
+                });
+    }
+
+    /**
+     * The whole catalog as a stream, one project per line, in document ID order.
+     *
+     * Endpoint: GET /api/projects with Accept: application/x-ndjson
+     *
+     * Rows are read from the MongoDB cursor only as fast as the client takes them.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ProjectResponseDto> streamAllProjects() {
+        return projectRepository.findAll(Sort.by(Sort.Direction.ASC, "id"))
+                .map(ResponseMapping::projectResponse);
+    }
+
+    /**
+     * Endpoint: GET /api/projects/{projectId}
+     *
+     * @return HTTP 200 (OK) and project details on success
+     *         HTTP 404 (NOT_FOUND) if the project doesn't exist or cannot be loaded
+     */
+    @GetMapping("/{projectId}")
+    public Mono<ResponseEntity<ApiResponse<ProjectResponseDto>>> getProjectById(@PathVariable String projectId) {
+        return projectRepository.findByProjectId(projectId)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Project not found with id: " + projectId)))
+                .map(project -> ResponseEntity.ok(ApiResponse.success(ResponseMapping.projectResponse(project),
+                        "Project fetched successfully")))
+                .onErrorResume(e -> {
+                    log.error("Error fetching project: ", e);
+                    return Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                            .body(ApiResponse.error("Project not found", e.getMessage())));
+                });
+    }
+}
@@ -0,0 +1,135 @@
+package com.frauas.workforce.reactive.controller;
+
+import com.frauas.workforce.DTO.ErrorResponse;
+import com.frauas.workforce.model.Application;
+import com.frauas.workforce.model.ApplicationStatus;
+import com.frauas.workforce.reactive.repository.ReactiveApplicationRepository;
+import com.frauas.workforce.reactive.repository.ReactiveEmployeeRepository;
+import com.frauas.workforce.service.ProjectHistoryService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Range;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reactive project history reads: GET /api/project-history/**, with the same
+ * responses as ProjectHistoryController.
+ *
+ * The X-Total-Count header has to be sent before the body, so the count query
+ * runs first and the rows are then streamed.
+ */
+@RestController
+@RequestMapping("/api/project-history")
+@CrossOrigin(origins = "*")
+public class ReactiveProjectHistoryController {
+
+    private final ReactiveApplicationRepository applicationRepository;
+    private final ReactiveEmployeeRepository employeeRepository;
+
+    public ReactiveProjectHistoryController(ReactiveApplicationRepository applicationRepository,
+                                            ReactiveEmployeeRepository employeeRepository) {
+        this.applicationRepository = applicationRepository;
+        this.employeeRepository = employeeRepository;
+    }
+
+    /**
+     * Past projects of an employee, most recent end date first.
+     */
+    @GetMapping(path = "/employee/{employeeId}",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Mono<ResponseEntity<Flux<Application>>> getEmployeeProjectHistory(
+            @PathVariable Integer employeeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Integer size
+    ) {
+        Pageable pageable = toPageable(page, size);
+        Range<LocalDate> endDates = ProjectHistoryService.pastEndDateRange(from, to);
+        return applicationRepository.countByEmployeeIdAndCurrentStatusAndEmployeeProjectEndDateBetween(
+                        employeeId, ApplicationStatus.COMPLETED, endDates)
+                .map(total -> toPagedResponse(total, applicationRepository
+                        .findByEmployeeIdAndCurrentStatusAndEmployeeProjectEndDateBetween(
+                                employeeId, ApplicationStatus.COMPLETED, endDates, pageable)));
+    }
+
+    /**
+     * Employees who worked on a project (past assignments only), most recent end date first.
+     */
+    @GetMapping(path = "/project/{projectId}",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Mono<ResponseEntity<Flux<Application>>> getProjectEmployeeHistory(
+            @PathVariable String projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Integer size
+    ) {
+        Pageable pageable = toPageable(page, size);
+        Range<LocalDate> endDates = ProjectHistoryService.pastEndDateRange(from, to);
+        return applicationRepository.countByProjectIdAndCurrentStatusAndEmployeeProjectEndDateBetween(
+                        projectId, ApplicationStatus.COMPLETED, endDates)
+                .map(total -> toPagedResponse(total, applicationRepository
+                        .findByProjectIdAndCurrentStatusAndEmployeeProjectEndDateBetween(
+                                projectId, ApplicationStatus.COMPLETED, endDates, pageable)));
+    }
+
+    /**
+     * The employee's current assignment, if its project has not ended yet.
+     */
+    @GetMapping("/employee/{employeeId}/current")
+    public Mono<ResponseEntity<?>> getCurrentActiveProject(@PathVariable Integer employeeId) {
+        return employeeRepository.findByEmployeeId(employeeId)
+                .<ResponseEntity<?>>flatMap(employee -> {
+                    if (employee.getAssignedProjectId() == null) {
+                        return Mono.just(notAssigned());
+                    }
+                    return applicationRepository
+                            .findFirstByEmployeeIdAndProjectIdAndCurrentStatusAndEmployeeProjectEndDateGreaterThanEqual(
+                                    employeeId, employee.getAssignedProjectId(), ApplicationStatus.COMPLETED,
+                                    LocalDate.now())
+                            .<ResponseEntity<?>>map(ResponseEntity::ok)
+                            .defaultIfEmpty(notAssigned());
+                })
+                .defaultIfEmpty(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new ErrorResponse("Employee not found", HttpStatus.NOT_FOUND.value())));
+    }
+
+    private static ResponseEntity<?> notAssigned() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Employee is not currently assigned to any project");
+        response.put("application", null);
+        return ResponseEntity.ok(response);
+    }
+
+    private static Pageable toPageable(int page, Integer size) {
+        if (size == null) {
+            return Pageable.unpaged(ProjectHistoryService.MOST_RECENT_FIRST);
+        }
+        if (page < 0 || size < 1) {
+            throw new IllegalArgumentException("page must be >= 0 and size must be >= 1");
+        }
+        return PageRequest.of(page, size, ProjectHistoryService.MOST_RECENT_FIRST);
+    }
+
+    private static ResponseEntity<Flux<Application>> toPagedResponse(long total, Flux<Application> history) {
+        return ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(total))
+                .body(history);
+    }
+}
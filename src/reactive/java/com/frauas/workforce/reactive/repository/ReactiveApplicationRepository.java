@@ -0,0 +1,37 @@
+package com.frauas.workforce.reactive.repository;
+
+import com.frauas.workforce.model.Application;
+import com.frauas.workforce.model.ApplicationStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Range;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Reactive counterpart of ApplicationRepository, limited to the reads the
+ * reactive module serves. Uses the same indexes as the servlet queries.
+ */
+@Repository
+public interface ReactiveApplicationRepository extends ReactiveMongoRepository<Application, String> {
+
+    Flux<Application> findByEmployeeId(Integer employeeId);
+
+    Flux<Application> findByEmployeeIdAndCurrentStatusAndEmployeeProjectEndDateBetween(
+            Integer employeeId, ApplicationStatus status, Range<LocalDate> endDateRange, Pageable pageable);
+
+    Mono<Long> countByEmployeeIdAndCurrentStatusAndEmployeeProjectEndDateBetween(
+            Integer employeeId, ApplicationStatus status, Range<LocalDate> endDateRange);
+
+    Flux<Application> findByProjectIdAndCurrentStatusAndEmployeeProjectEndDateBetween(
+            String projectId, ApplicationStatus status, Range<LocalDate> endDateRange, Pageable pageable);
+
+    Mono<Long> countByProjectIdAndCurrentStatusAndEmployeeProjectEndDateBetween(
+            String projectId, ApplicationStatus status, Range<LocalDate> endDateRange);
+
+    Mono<Application> findFirstByEmployeeIdAndProjectIdAndCurrentStatusAndEmployeeProjectEndDateGreaterThanEqual(
+            Integer employeeId, String projectId, ApplicationStatus status, LocalDate date);
+}
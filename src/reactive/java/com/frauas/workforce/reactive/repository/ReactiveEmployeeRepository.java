@@ -0,0 +1,15 @@
+package com.frauas.workforce.reactive.repository;
+
+import com.frauas.workforce.model.Employee;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive employee lookups of the reactive module.
+ */
+@Repository
+public interface ReactiveEmployeeRepository extends ReactiveMongoRepository<Employee, String> {
+
+    Mono<Employee> findByEmployeeId(Integer employeeId);
+}
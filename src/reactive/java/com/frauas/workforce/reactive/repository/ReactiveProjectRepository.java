@@ -0,0 +1,22 @@
+package com.frauas.workforce.reactive.repository;
+
+import com.frauas.workforce.model.Project;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Reactive counterpart of ProjectManagerRepository, limited to the reads the
+ * reactive module serves.
+ */
+@Repository
+public interface ReactiveProjectRepository extends ReactiveMongoRepository<Project, String>,
+        ReactiveProjectRepositoryCustom {
+
+    Mono<Project> findByProjectId(String projectId);
+
+    Flux<Project> findByProjectIdIn(Collection<String> projectIds);
+}
@@ -0,0 +1,22 @@
+package com.frauas.workforce.reactive.repository;
+
+import com.frauas.workforce.DTO.CursorPageResponse;
+import com.frauas.workforce.model.Project;
+import com.frauas.workforce.repository.ScrollRequest;
+import reactor.core.publisher.Mono;
+
+/**
+ * Custom project queries of {@link ReactiveProjectRepository}, implemented by
+ * {@link ReactiveProjectRepositoryCustomImpl}.
+ */
+public interface ReactiveProjectRepositoryCustom {
+
+    /**
+     * Load one keyset-paginated page of projects (same pages and cursors as the
+     * servlet GET /api/projects).
+     *
+     * @param request Validated sort, cursor, limit and fields
+     * @return Page of projects with a cursor for the next page
+     */
+    Mono<CursorPageResponse<Project>> scrollProjects(ScrollRequest request);
+}
@@ -0,0 +1,31 @@
+package com.frauas.workforce.reactive.repository;
+
+import com.frauas.workforce.DTO.CursorPageResponse;
+import com.frauas.workforce.model.Project;
+import com.frauas.workforce.repository.KeysetScroller;
+import com.frauas.workforce.repository.ScrollRequest;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Mono;
+
+/**
+ * ReactiveMongoTemplate based implementation of {@link ReactiveProjectRepositoryCustom}.
+ */
+public class ReactiveProjectRepositoryCustomImpl implements ReactiveProjectRepositoryCustom {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final KeysetScroller scroller;
+
+    public ReactiveProjectRepositoryCustomImpl(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        this.scroller = new KeysetScroller(mongoTemplate.getConverter());
+    }
+
+    @Override
+    public Mono<CursorPageResponse<Project>> scrollProjects(ScrollRequest request) {
+        return Mono.fromCallable(() -> scroller.query(Project.class, new Criteria(), request))
+                .flatMap((Query query) -> mongoTemplate.find(query, Project.class).collectList())
+                .map(rows -> scroller.page(Project.class, rows, request));
+    }
+}
@@ -0,0 +1,116 @@
+package com.frauas.workforce.reactive.controller;
+
+import com.frauas.workforce.DTO.SuggestedProjectResponseDTO;
+import com.frauas.workforce.model.Application;
+import com.frauas.workforce.model.ApplicationStatus;
+import com.frauas.workforce.model.Project;
+import com.frauas.workforce.reactive.config.ReactiveExceptionHandler;
+import com.frauas.workforce.reactive.repository.ReactiveApplicationRepository;
+import com.frauas.workforce.reactive.repository.ReactiveProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReactiveApplicationControllerTest {
+
+    private ReactiveApplicationRepository applicationRepository;
+    private ReactiveProjectRepository projectRepository;
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        applicationRepository = mock(ReactiveApplicationRepository.class);
+        projectRepository = mock(ReactiveProjectRepository.class);
+        client = WebTestClient.bindToController(new ReactiveApplicationController(applicationRepository,
+                        projectRepository))
+                .controllerAdvice(new ReactiveExceptionHandler())
+                .build();
+        when(projectRepository.findByProjectIdIn(any())).thenAnswer(invocation -> {
+            Collection<String> projectIds = invocation.getArgument(0);
+            return Flux.fromIterable(projectIds).map(ReactiveApplicationControllerTest::project);
+        });
+    }
+
+    @Test
+    void suggestedProjectsAreAJsonArrayByDefault() {
+        when(applicationRepository.findByEmployeeId(7))
+                .thenReturn(Flux.just(application("A1", "PRJ-1"), application("A2", "PRJ-2")));
+
+        client.get().uri("/api/applications/suggested-projects/7")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].application.applicationId").isEqualTo("A1")
+                .jsonPath("$[0].application.requestedCapacity").isEqualTo(2)
+                .jsonPath("$[1].project.projectId").isEqualTo("PRJ-2");
+    }
+
+    @Test
+    void ndjsonStreamsInOrderLoadingProjectsPerBatch() {
+        int count = ReactiveApplicationController.PROJECT_BATCH_SIZE + 10;
+        when(applicationRepository.findByEmployeeId(7)).thenReturn(Flux.fromStream(IntStream.range(0, count)
+                .mapToObj(i -> application("A" + i, "PRJ-" + (i % 5)))));
+
+        List<SuggestedProjectResponseDTO> streamed = client.get().uri("/api/applications/suggested-projects/7")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(SuggestedProjectResponseDTO.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertEquals(count, streamed.size());
+        assertEquals("A" + (count - 1), streamed.get(count - 1).getApplication().getApplicationId());
+        assertEquals("PRJ-" + ((count - 1) % 5), streamed.get(count - 1).getProject().getProjectId());
+        verify(projectRepository, times(2)).findByProjectIdIn(any());
+    }
+
+    @Test
+    void missingProjectFailsTheRequest() {
+        when(applicationRepository.findByEmployeeId(7)).thenReturn(Flux.just(application("A1", "PRJ-1")));
+        doReturn(Flux.empty()).when(projectRepository).findByProjectIdIn(any());
+
+        client.get().uri("/api/applications/suggested-projects/7")
+                .exchange()
+                .expectStatus().is5xxServerError()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("An unexpected error occurred");
+    }
+
+    private static Application application(String applicationId, String projectId) {
+        Application application = new Application();
+        application.setApplicationId(applicationId);
+        application.setProjectId(projectId);
+        application.setEmployeeId(7);
+        application.setProjectRole("Developer");
+        application.setCurrentStatus(ApplicationStatus.SUGGESTED);
+        return application;
+    }
+
+    private static Project project(String projectId) {
+        Project.RoleRequirement role = new Project.RoleRequirement();
+        role.setRequiredRole("Developer");
+        role.setNumberOfEmployees("2");
+        Project project = new Project();
+        project.setProjectId(projectId);
+        project.setRoles(List.of(role));
+        return project;
+    }
+}
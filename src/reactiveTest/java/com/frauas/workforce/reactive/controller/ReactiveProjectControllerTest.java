@@ -0,0 +1,116 @@
+package com.frauas.workforce.reactive.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.frauas.workforce.DTO.CursorPageResponse;
+import com.frauas.workforce.DTO.ProjectResponseDto;
+import com.frauas.workforce.model.Project;
+import com.frauas.workforce.model.ProjectStatus;
+import com.frauas.workforce.reactive.config.ReactiveExceptionHandler;
+import com.frauas.workforce.reactive.repository.ReactiveProjectRepository;
+import com.frauas.workforce.repository.ScrollRequest;
+import com.frauas.workforce.service.FieldProjector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReactiveProjectControllerTest {
+
+    private ReactiveProjectRepository projectRepository;
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        projectRepository = mock(ReactiveProjectRepository.class);
+        client = WebTestClient.bindToController(new ReactiveProjectController(projectRepository,
+                        new FieldProjector(new ObjectMapper())))
+                .controllerAdvice(new ReactiveExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void listReturnsOnePageWithRequestedFieldsByDefault() {
+        when(projectRepository.scrollProjects(any()))
+                .thenReturn(Mono.just(new CursorPageResponse<>(List.of(project("PRJ-1")), 1, true, "next")));
+
+        client.get().uri("/api/projects?limit=1&sort=projectId,desc&fields=projectId,status")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Projects fetched successfully")
+                .jsonPath("$.data.content[0].projectId").isEqualTo("PRJ-1")
+                .jsonPath("$.data.content[0].status").isEqualTo("OPEN")
+                .jsonPath("$.data.content[0].projectDescription").doesNotExist()
+                .jsonPath("$.data.nextCursor").isEqualTo("next");
+
+        ArgumentCaptor<ScrollRequest> request = ArgumentCaptor.forClass(ScrollRequest.class);
+        verify(projectRepository).scrollProjects(request.capture());
+        assertEquals("projectId", request.getValue().getSortProperty());
+        assertEquals(Sort.Direction.DESC, request.getValue().getDirection());
+        assertEquals(1, request.getValue().getLimit());
+    }
+
+    @Test
+    void invalidListParametersAreRejected() {
+        client.get().uri("/api/projects?sort=projectDescription")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Invalid list parameters");
+
+        verify(projectRepository, never()).scrollProjects(any());
+    }
+
+    @Test
+    void ndjsonStreamsTheWholeCatalog() {
+        when(projectRepository.findAll(any(Sort.class)))
+                .thenReturn(Flux.just(project("PRJ-1"), project("PRJ-2"), project("PRJ-3")));
+
+        List<ProjectResponseDto> streamed = client.get().uri("/api/projects")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(ProjectResponseDto.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertEquals(List.of("PRJ-1", "PRJ-2", "PRJ-3"),
+                streamed.stream().map(ProjectResponseDto::getProjectId).toList());
+    }
+
+    @Test
+    void unknownProjectIsNotFound() {
+        when(projectRepository.findByProjectId("PRJ-9")).thenReturn(Mono.empty());
+
+        client.get().uri("/api/projects/PRJ-9")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Project not found")
+                .jsonPath("$.data").doesNotExist();
+    }
+
+    private static Project project(String projectId) {
+        Project project = new Project();
+        project.setProjectId(projectId);
+        project.setProjectDescription("Migration");
+        project.setStatus(ProjectStatus.OPEN);
+        return project;
+    }
+}
@@ -0,0 +1,90 @@
+package com.frauas.workforce.reactive.controller;
+
+import com.frauas.workforce.model.Application;
+import com.frauas.workforce.model.ApplicationStatus;
+import com.frauas.workforce.model.Employee;
+import com.frauas.workforce.reactive.config.ReactiveExceptionHandler;
+import com.frauas.workforce.reactive.repository.ReactiveApplicationRepository;
+import com.frauas.workforce.reactive.repository.ReactiveEmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReactiveProjectHistoryControllerTest {
+
+    private ReactiveApplicationRepository applicationRepository;
+    private ReactiveEmployeeRepository employeeRepository;
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        applicationRepository = mock(ReactiveApplicationRepository.class);
+        employeeRepository = mock(ReactiveEmployeeRepository.class);
+        client = WebTestClient.bindToController(new ReactiveProjectHistoryController(applicationRepository,
+                        employeeRepository))
+                .controllerAdvice(new ReactiveExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void historyPageReportsTheTotalInAHeader() {
+        Application past = new Application();
+        past.setApplicationId("A1");
+        when(applicationRepository.countByEmployeeIdAndCurrentStatusAndEmployeeProjectEndDateBetween(
+                eq(7), eq(ApplicationStatus.COMPLETED), any())).thenReturn(Mono.just(12L));
+        when(applicationRepository.findByEmployeeIdAndCurrentStatusAndEmployeeProjectEndDateBetween(
+                eq(7), eq(ApplicationStatus.COMPLETED), any(), any())).thenReturn(Flux.just(past));
+
+        client.get().uri("/api/project-history/employee/7?page=2&size=5")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Total-Count", "12")
+                .expectBody()
+                .jsonPath("$[0].applicationId").isEqualTo("A1");
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(applicationRepository).findByEmployeeIdAndCurrentStatusAndEmployeeProjectEndDateBetween(
+                eq(7), eq(ApplicationStatus.COMPLETED), any(), pageable.capture());
+        assertEquals(10, pageable.getValue().getOffset());
+    }
+
+    @Test
+    void invalidPageIsRejected() {
+        client.get().uri("/api/project-history/project/PRJ-1?size=0")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void currentProjectOfUnknownEmployeeIsNotFound() {
+        when(employeeRepository.findByEmployeeId(7)).thenReturn(Mono.empty());
+
+        client.get().uri("/api/project-history/employee/7/current")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Employee not found");
+    }
+
+    @Test
+    void unassignedEmployeeHasNoCurrentProject() {
+        when(employeeRepository.findByEmployeeId(7)).thenReturn(Mono.just(new Employee()));
+
+        client.get().uri("/api/project-history/employee/7/current")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Employee is not currently assigned to any project");
+    }
+}
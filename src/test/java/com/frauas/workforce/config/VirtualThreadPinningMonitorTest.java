@@ -0,0 +1,62 @@
+package com.frauas.workforce.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final Object monitor = new Object();
+    private SimpleMeterRegistry meterRegistry;
+    private VirtualThreadPinningMonitor pinningMonitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pinningMonitor = new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(10));
+        pinningMonitor.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pinningMonitor.stop();
+    }
+
+    @Test
+    void blockingInsideSynchronizedIsReportedWithTheApplicationFrame() throws Exception {
+        Thread.ofVirtual().start(this::sleepWhileHoldingMonitor).join();
+
+        // JFR delivers events to the stream about once a second
+        Collection<Timer> timers = meterRegistry.find("workforce.virtual_threads.pinned").timers();
+        for (int attempt = 0; attempt < 100 && timers.isEmpty(); attempt++) {
+            Thread.sleep(100);
+            timers = meterRegistry.find("workforce.virtual_threads.pinned").timers();
+        }
+
+        assertEquals(1, timers.size());
+        Timer pinned = timers.iterator().next();
+        assertEquals("VirtualThreadPinningMonitorTest.sleepWhileHoldingMonitor", pinned.getId().getTag("site"));
+        assertEquals(1, pinned.count());
+        // JFR measures the park itself, which can be shorter than the requested sleep
+        assertTrue(pinned.totalTime(TimeUnit.MILLISECONDS) >= 10);
+    }
+
+    private void sleepWhileHoldingMonitor() {
+        synchronized (monitor) {
+            try {
+                Thread.sleep(60);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.frauas.workforce.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.frauas.workforce.DTO.CandidateResponseDto;
+import com.frauas.workforce.DTO.CursorPageResponse;
+import com.frauas.workforce.DTO.ProjectResponseDto;
+import com.frauas.workforce.ExceptionHandling.ResourceNotFoundException;
+import com.frauas.workforce.model.ProjectStatus;
+import com.frauas.workforce.service.FieldProjector;
+import com.frauas.workforce.service.ProjectManagerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ProjectManagerControllerTest {
+
+    private ProjectManagerService projectService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        projectService = mock(ProjectManagerService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new ProjectManagerController(projectService,
+                new FieldProjector(new ObjectMapper()))).build();
+    }
+
+    @Test
+    void publishedListingReturns304WhenEtagMatches() throws Exception {
+        ProjectResponseDto project = new ProjectResponseDto();
+        project.setProjectId("PRJ-1");
+        project.setIsPublished(true);
+        project.setStatus(ProjectStatus.OPEN);
+        when(projectService.getProjectsByPublished(eq(true), eq(ProjectStatus.OPEN), any()))
+                .thenReturn(new PageImpl<>(List.of(project), PageRequest.of(0, 20), 1));
+
+        MvcResult first = mockMvc.perform(get("/api/projects/published/true").accept(MediaType.APPLICATION_JSON)
+                        .param("status", "OPEN").param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "1"))
+                .andExpect(jsonPath("$.data[0].projectId").value("PRJ-1"))
+                .andReturn();
+        String etag = first.getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/projects/published/true").accept(MediaType.APPLICATION_JSON)
+                        .param("status", "OPEN").param("size", "20")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        // A changed listing produces a different ETag and a full response
+        project.setStatus(ProjectStatus.STAFFING);
+        mockMvc.perform(get("/api/projects/published/true").accept(MediaType.APPLICATION_JSON)
+                        .param("status", "OPEN").param("size", "20")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void projectListReturnsOnlyRequestedFields() throws Exception {
+        ProjectResponseDto project = new ProjectResponseDto();
+        project.setProjectId("PRJ-1");
+        project.setProjectDescription("Migration");
+        project.setStatus(ProjectStatus.OPEN);
+        when(projectService.getAllProjects(any()))
+                .thenReturn(new CursorPageResponse<>(List.of(project), 1, true, "next"));
+
+        mockMvc.perform(get("/api/projects").accept(MediaType.APPLICATION_JSON)
+                        .param("limit", "1").param("fields", "projectId,status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].projectId").value("PRJ-1"))
+                .andExpect(jsonPath("$.data.content[0].status").value("OPEN"))
+                .andExpect(jsonPath("$.data.content[0].projectDescription").doesNotExist())
+                .andExpect(jsonPath("$.data.nextCursor").value("next"));
+    }
+
+    @Test
+    void candidatesAreRankedAndUnknownRolesAreNotFound() throws Exception {
+        CandidateResponseDto candidate = new CandidateResponseDto();
+        candidate.setEmployeeId(7);
+        candidate.setScore(0.75);
+        candidate.setMatchedSkills(List.of("Java"));
+        when(projectService.getCandidatesForRole("PRJ-1", "Backend Developer", 5)).thenReturn(List.of(candidate));
+        when(projectService.getCandidatesForRole(eq("PRJ-1"), eq("Designer"), anyInt()))
+                .thenThrow(new ResourceNotFoundException("Role Designer not found in project PRJ-1"));
+
+        mockMvc.perform(get("/api/projects/{projectId}/roles/{role}/candidates", "PRJ-1", "Backend Developer")
+                        .accept(MediaType.APPLICATION_JSON).param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].employeeId").value(7))
+                .andExpect(jsonPath("$.data[0].score").value(0.75))
+                .andExpect(jsonPath("$.data[0].matchedSkills[0]").value("Java"));
+
+        mockMvc.perform(get("/api/projects/PRJ-1/roles/Designer/candidates").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Project or role not found"));
+    }
+}
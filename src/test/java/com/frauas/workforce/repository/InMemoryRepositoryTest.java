@@ -0,0 +1,196 @@
+package com.frauas.workforce.repository;
+
+import com.frauas.workforce.DTO.CursorPageResponse;
+import com.frauas.workforce.DTO.ListQuery;
+import com.frauas.workforce.model.Application;
+import com.frauas.workforce.model.ApplicationStatus;
+import com.frauas.workforce.model.Employee;
+import com.frauas.workforce.model.RoleCapacity;
+import com.frauas.workforce.model.UserAction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryRepositoryTest {
+
+    @TempDir
+    Path snapshotDir;
+
+    private InMemoryStore store;
+    private InMemoryEmployeeRepository employees;
+    private InMemoryApplicationRepository applications;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryStore(snapshotDir);
+        employees = new InMemoryEmployeeRepository(store);
+        applications = new InMemoryApplicationRepository(store, employees);
+    }
+
+    @Test
+    void saveAssignsIdAuditsAndReturnsIndependentCopies() {
+        Employee saved = employees.save(employee(1, "alice", "Engineering"));
+
+        assertNotNull(saved.getId());
+        assertNotNull(saved.getLastModifiedAt());
+
+        Employee loaded = employees.findByEmployeeId(1).orElseThrow();
+        loaded.setDepartment("HR");
+        assertEquals("Engineering", employees.findByUsername("alice").orElseThrow().getDepartment());
+    }
+
+    @Test
+    void indexesFollowUpdates() {
+        Application application = applications.save(application("A1", 7, "PRJ-1", "Dev", ApplicationStatus.APPLIED));
+
+        application.setCurrentStatus(ApplicationStatus.COMPLETED);
+        applications.save(application);
+
+        assertTrue(applications.findByCurrentStatus(ApplicationStatus.APPLIED).isEmpty());
+        assertEquals(0, applications.countByProjectIdAndProjectRoleAndCurrentStatus("PRJ-1", "Dev", ApplicationStatus.APPLIED));
+        assertEquals(1, applications.countByProjectIdAndProjectRoleAndCurrentStatus("PRJ-1", "Dev", ApplicationStatus.COMPLETED));
+        assertEquals(Map.of("Dev", 1L), applications.countByProjectRole("PRJ-1", ApplicationStatus.COMPLETED));
+    }
+
+    @Test
+    void uniqueIndexesRejectDuplicatesAndImportReportsThem() {
+        employees.save(employee(1, "alice", "Engineering"));
+
+        assertThrows(DuplicateKeyException.class, () -> employees.save(employee(2, "alice", "HR")));
+
+        Map<Integer, String> errors = employees.insertUnordered(List.of(
+                employee(3, "bob", "HR"), employee(4, "alice", "HR"), employee(5, "carol", "HR")));
+        assertEquals(Set.of(1), errors.keySet());
+        assertEquals(3, employees.count());
+        assertTrue(employees.findByEmployeeId(4).isEmpty());
+    }
+
+    @Test
+    void rejectsOpenApplicationsOfEmployeeExceptExcluded() {
+        Application kept = applications.save(application("A1", 7, "PRJ-1", "Dev", ApplicationStatus.APPLIED));
+        applications.save(application("A2", 7, "PRJ-2", "Dev", ApplicationStatus.APPLIED));
+        applications.save(application("A3", 7, "PRJ-3", "Dev", ApplicationStatus.COMPLETED));
+        applications.save(application("A4", 8, "PRJ-1", "Dev", ApplicationStatus.APPLIED));
+
+        long rejected = applications.rejectOpenApplicationsOfEmployee(7, kept.getId(),
+                List.of(ApplicationStatus.APPLIED), ApplicationStatus.REJECTED_BY_DH, "Assigned elsewhere",
+                new UserAction());
+
+        assertEquals(1, rejected);
+        assertEquals(ApplicationStatus.REJECTED_BY_DH,
+                applications.findByApplicationId("A2").orElseThrow().getCurrentStatus());
+        assertEquals(ApplicationStatus.APPLIED, applications.findByApplicationId("A1").orElseThrow().getCurrentStatus());
+        assertEquals(ApplicationStatus.APPLIED, applications.findByApplicationId("A4").orElseThrow().getCurrentStatus());
+    }
+
+    @Test
+    void savesOnlyWhileTheStoredStatusIsExpected() {
+        Application first = applications.save(
+                application("A1", 7, "PRJ-1", "Dev", ApplicationStatus.REQUEST_DH_APPROVAL));
+        Application second = applications.findByApplicationId("A1").orElseThrow();
+
+        first.setCurrentStatus(ApplicationStatus.COMPLETED);
+        assertTrue(applications.saveIfStatus(first, ApplicationStatus.REQUEST_DH_APPROVAL).isPresent());
+        second.setCurrentStatus(ApplicationStatus.REJECTED_BY_DH);
+        assertTrue(applications.saveIfStatus(second, ApplicationStatus.REQUEST_DH_APPROVAL).isEmpty());
+
+        assertEquals(ApplicationStatus.COMPLETED, applications.findByApplicationId("A1").orElseThrow().getCurrentStatus());
+    }
+
+    @Test
+    void scrollsInKeysetOrderWithNullsLowest() {
+        for (int i = 1; i <= 5; i++) {
+            employees.save(employee(i, i == 3 ? null : "user" + i, "HR"));
+        }
+        ScrollRequest first = ScrollRequest.of(new ListQuery(2, null, "username,desc", "employeeId"),
+                Set.of("id", "username"), "id");
+
+        CursorPageResponse<Employee> page = employees.scrollEmployees(first);
+        List<Integer> seen = new ArrayList<>(page.getContent().stream().map(Employee::getEmployeeId).toList());
+        assertNull(page.getContent().get(0).getDepartment());
+        while (page.isHasNext()) {
+            page = employees.scrollEmployees(ScrollRequest.of(
+                    new ListQuery(2, page.getNextCursor(), "username,desc", null), Set.of("id", "username"), "id"));
+            page.getContent().forEach(employee -> seen.add(employee.getEmployeeId()));
+        }
+
+        assertEquals(List.of(5, 4, 2, 1, 3), seen);
+    }
+
+    @Test
+    void roleCapacityNeverExceedsRequiredUnderContention() throws Exception {
+        InMemoryRoleCapacityRepository capacities = new InMemoryRoleCapacityRepository(store);
+        String id = RoleCapacity.idOf("PRJ-1", "Dev");
+        capacities.insertIfAbsent(new RoleCapacity(id, "PRJ-1", "Dev", 0));
+        capacities.insertIfAbsent(new RoleCapacity(id, "PRJ-1", "Dev", 5));
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> attempts = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            attempts.add(pool.submit(() -> capacities.tryReserve(id, 3)));
+        }
+        int reserved = 0;
+        for (Future<Boolean> attempt : attempts) {
+            reserved += attempt.get() ? 1 : 0;
+        }
+        pool.shutdown();
+
+        assertEquals(3, reserved);
+        assertEquals(3, capacities.findById(id).orElseThrow().getFilled());
+    }
+
+    @Test
+    void snapshotRoundTripRestoresDocumentsAndIndexes() {
+        employees.save(employee(1, "alice", "Engineering"));
+        applications.save(application("A1", 1, "PRJ-1", "Dev", ApplicationStatus.APPLIED));
+        new InMemoryDatabaseSequenceRepository(store).allocateBlock("employeeId", 50);
+
+        store.snapshot();
+
+        InMemoryStore restored = new InMemoryStore(snapshotDir);
+        InMemoryEmployeeRepository restoredEmployees = new InMemoryEmployeeRepository(restored);
+        InMemoryApplicationRepository restoredApplications = new InMemoryApplicationRepository(restored, restoredEmployees);
+        assertEquals("alice", restoredEmployees.findByEmployeeId(1).orElseThrow().getUsername());
+        assertEquals(1, restoredApplications.findDepartmentApplications("Engineering", null, null, 10).size());
+        assertEquals(100, new InMemoryDatabaseSequenceRepository(restored).allocateBlock("employeeId", 50));
+        assertFalse(restoredApplications.findByProjectIdAndProjectRoleAndCurrentStatus(
+                "PRJ-1", "Dev", ApplicationStatus.APPLIED).isEmpty());
+    }
+
+    private static Employee employee(int employeeId, String username, String department) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(employeeId);
+        employee.setUsername(username);
+        employee.setEmail(username != null ? username + "@example.com" : null);
+        employee.setDepartment(department);
+        return employee;
+    }
+
+    private static Application application(String applicationId, int employeeId, String projectId, String role,
+                                           ApplicationStatus status) {
+        Application application = new Application();
+        application.setApplicationId(applicationId);
+        application.setEmployeeId(employeeId);
+        application.setProjectId(projectId);
+        application.setProjectRole(role);
+        application.setCurrentStatus(status);
+        return application;
+    }
+}
@@ -0,0 +1,117 @@
+package com.frauas.workforce.repository;
+
+import com.frauas.workforce.DTO.CursorPageResponse;
+import com.frauas.workforce.DTO.ListQuery;
+import com.frauas.workforce.model.Employee;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KeysetScrollerTest {
+
+    private static final Set<String> SORTABLE = Set.of("id", "employeeId", "username");
+
+    private MongoTemplate mongoTemplate;
+    private KeysetScroller scroller;
+
+    @BeforeEach
+    void setUp() {
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(new MongoCustomConversions(List.of()).getSimpleTypeHolder());
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.afterPropertiesSet();
+
+        mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.getConverter()).thenReturn(converter);
+        scroller = new KeysetScroller(mongoTemplate);
+    }
+
+    @Test
+    void firstPageFetchesOneExtraRowAndIssuesCursorForTheNextPage() {
+        when(mongoTemplate.find(any(Query.class), eq(Employee.class))).thenReturn(employees(1, 4));
+
+        CursorPageResponse<Employee> page = scroller.scroll(Employee.class, new Criteria(),
+                ScrollRequest.of(new ListQuery(3, null, "employeeId,desc", "username"), SORTABLE, "id"));
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(Employee.class));
+        assertEquals(4, query.getValue().getLimit());
+        assertEquals(Document.parse("{ 'employeeId': -1, 'id': -1 }"), query.getValue().getSortObject());
+        assertEquals(Document.parse("{ 'username': 1, 'employeeId': 1 }"), query.getValue().getFieldsObject());
+
+        assertEquals(3, page.getSize());
+        assertTrue(page.isHasNext());
+
+        // The cursor resumes after the last returned row (employeeId 3) in the same order
+        ScrollRequest next = ScrollRequest.of(new ListQuery(3, page.getNextCursor(), "employeeId,desc", null), SORTABLE, "id");
+        Document after = KeysetScroller.after(KeysetScroller.decodeCursor(next), next).getCriteriaObject();
+        assertEquals(Document.parse("{ $or: [ { 'employeeId': { $lt: 3 } }, "
+                + "{ 'employeeId': 3, 'id': { $lt: '65a000000000000000000003' } }, "
+                + "{ 'employeeId': null } ] }"), after);
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        when(mongoTemplate.find(any(Query.class), eq(Employee.class))).thenReturn(employees(1, 2));
+
+        CursorPageResponse<Employee> page = scroller.scroll(Employee.class, new Criteria(),
+                ScrollRequest.of(new ListQuery(), SORTABLE, "id"));
+
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+        assertEquals(2, page.getContent().size());
+    }
+
+    @Test
+    void rejectsCursorIssuedForAnotherSortAndUnknownFields() {
+        when(mongoTemplate.find(any(Query.class), eq(Employee.class))).thenReturn(employees(1, 3));
+        String cursor = scroller.scroll(Employee.class, new Criteria(),
+                ScrollRequest.of(new ListQuery(2, null, "username", null), SORTABLE, "id")).getNextCursor();
+
+        ScrollRequest otherSort = ScrollRequest.of(new ListQuery(2, cursor, "employeeId", null), SORTABLE, "id");
+        assertThrows(IllegalArgumentException.class, () -> KeysetScroller.decodeCursor(otherSort));
+
+        ScrollRequest unknownField = ScrollRequest.of(new ListQuery(2, null, null, "salary"), SORTABLE, "id");
+        assertThrows(IllegalArgumentException.class,
+                () -> scroller.scroll(Employee.class, new Criteria(), unknownField));
+        assertThrows(IllegalArgumentException.class,
+                () -> ScrollRequest.of(new ListQuery(501, null, null, null), SORTABLE, "id"));
+        assertThrows(IllegalArgumentException.class,
+                () -> ScrollRequest.of(new ListQuery(null, null, "lastName", null), SORTABLE, "id"));
+    }
+
+    private static List<Employee> employees(int from, int to) {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = from; i <= to; i++) {
+            Employee employee = new Employee();
+            employee.setId(String.format("65a%021d", i));
+            employee.setEmployeeId(i);
+            employee.setUsername("user" + i);
+            employees.add(employee);
+        }
+        return employees;
+    }
+}
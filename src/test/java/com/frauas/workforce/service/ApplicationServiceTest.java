@@ -0,0 +1,162 @@
+package com.frauas.workforce.service;
+
+import com.frauas.workforce.DTO.ApplicationResponseDTO;
+import com.frauas.workforce.DTO.SuggestedProjectResponseDTO;
+import com.frauas.workforce.model.Application;
+import com.frauas.workforce.model.ApplicationStatus;
+import com.frauas.workforce.model.Employee;
+import com.frauas.workforce.model.Project;
+import com.frauas.workforce.model.Timestamps;
+import com.frauas.workforce.model.UserAction;
+import com.frauas.workforce.repository.ApplicationRepository;
+import com.frauas.workforce.repository.EmployeeRepository;
+import com.frauas.workforce.repository.ProjectManagerRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationServiceTest {
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private ProjectManagerRepository projectRepo;
+
+    @InjectMocks
+    private ApplicationService applicationService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(applicationService, "employeeCache",
+                new EmployeeCache(employeeRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(10)));
+        ReflectionTestUtils.setField(applicationService, "projectCatalogCache",
+                new ProjectCatalogCache(projectRepo, listener -> { }, new SimpleMeterRegistry(),
+                        100, Duration.ofHours(1), Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void suggestedProjectsUseConstantNumberOfQueries() {
+        when(projectRepo.findByProjectIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> ids = invocation.getArgument(0);
+            return ids.stream().map(this::project).collect(Collectors.toList());
+        });
+
+        when(applicationRepository.findByEmployeeId(7)).thenReturn(applications(1));
+        applicationService.getSuggestedProjectsForEmployee(7);
+        int queriesForOne = queryCount();
+
+        clearInvocations(applicationRepository);
+        clearInvocations(employeeRepository);
+        clearInvocations(projectRepo);
+
+        when(applicationRepository.findByEmployeeId(7)).thenReturn(applications(40));
+        List<SuggestedProjectResponseDTO> result = applicationService.getSuggestedProjectsForEmployee(7);
+
+        assertEquals(40, result.size());
+        assertEquals(queriesForOne, queryCount());
+        verify(projectRepo, times(1)).findByProjectIdIn(anyCollection());
+        verify(projectRepo, never()).findByProjectId(anyString());
+        verify(employeeRepository, never()).findByEmployeeId(anyInt());
+    }
+
+    @Test
+    void suggestedProjectsFailWhenProjectIsMissing() {
+        when(applicationRepository.findByEmployeeId(7)).thenReturn(applications(2));
+        when(projectRepo.findByProjectIdIn(anyCollection())).thenReturn(List.of(project("PRJ-0")));
+
+        RuntimeException ex = assertThrows(RuntimeException.class,
+                () -> applicationService.getSuggestedProjectsForEmployee(7));
+        assertEquals("Project not found for projectId: PRJ-1", ex.getMessage());
+    }
+
+    @Test
+    void responseMappingResolvesAllUsernamesInOneQuery() {
+        Application application = applications(1).get(0);
+        application.setCurrentStatus(ApplicationStatus.SUGGESTED);
+        application.setTimestamps(new Timestamps());
+        application.setSuggestedBy(new UserAction("11", "Planner", "RESOURCE_PLANNER"));
+        application.setApprovedByProjectManager(new UserAction("12", "PM", "PROJECT_MANAGER"));
+        application.setRejectedBy(new UserAction("not-a-number", "?", "PROJECT_MANAGER"));
+
+        when(applicationRepository.findByApplicationId("App_1")).thenReturn(Optional.of(application));
+        when(employeeRepository.findByEmployeeId(7)).thenReturn(Optional.of(employee(7, "applicant")));
+        when(applicationRepository.save(any(Application.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(employeeRepository.findUsernamesByEmployeeIdIn(anyCollection()))
+                .thenReturn(List.of(employee(7, "applicant"), employee(11, "planner"), employee(12, "pm")));
+
+        ApplicationResponseDTO dto = applicationService.applyToSuggestedProject("App_1", 7);
+
+        assertEquals("applicant", dto.getInitiatedBy().getUsername());
+        assertEquals("planner", dto.getSuggestedBy().getUsername());
+        assertEquals("pm", dto.getApprovedByProjectManager().getUsername());
+        assertEquals("Unknown User", dto.getRejectedBy().getUsername());
+        verify(employeeRepository, times(1)).findUsernamesByEmployeeIdIn(anyCollection());
+        // Only the applicant lookup done by the workflow itself
+        verify(employeeRepository, times(1)).findByEmployeeId(anyInt());
+    }
+
+    private int queryCount() {
+        return mockingDetails(applicationRepository).getInvocations().size()
+                + mockingDetails(employeeRepository).getInvocations().size()
+                + mockingDetails(projectRepo).getInvocations().size();
+    }
+
+    private List<Application> applications(int count) {
+        List<Application> applications = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Application application = new Application();
+            application.setId("id" + i);
+            application.setApplicationId("App_" + i);
+            application.setProjectId("PRJ-" + i);
+            application.setEmployeeId(7);
+            application.setProjectRole("Developer");
+            applications.add(application);
+        }
+        return applications;
+    }
+
+    private Project project(String projectId) {
+        Project project = new Project();
+        project.setProjectId(projectId);
+        return project;
+    }
+
+    private Employee employee(Integer employeeId, String username) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(employeeId);
+        employee.setUsername(username);
+        employee.setFirstName(username);
+        employee.setLastName(username);
+        return employee;
+    }
+}
@@ -0,0 +1,140 @@
+package com.frauas.workforce.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.frauas.workforce.DTO.AuthClaims;
+import com.frauas.workforce.model.Employee;
+import com.frauas.workforce.model.Role;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuthTokenServiceTest {
+
+    private static final byte[] SECRET = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-12-01T08:00:00Z"));
+    private final AuthTokenService tokens =
+            new AuthTokenService(new ObjectMapper(), SECRET, Duration.ofHours(8), clock);
+
+    @Test
+    void issuedTokenVerifiesOnAnyNodeWithTheSameKey() {
+        String token = tokens.issue(employee());
+        AuthTokenService otherNode = new AuthTokenService(new ObjectMapper(), SECRET, Duration.ofHours(8), clock);
+
+        AuthClaims claims = otherNode.verify(token).orElseThrow();
+
+        assertEquals("emp-1", claims.getId());
+        assertEquals(17, claims.getEmployeeId());
+        assertEquals("alice", claims.getUsername());
+        assertEquals("IT", claims.getDepartment());
+        assertEquals("DEPARTMENT_HEAD", claims.getRole());
+        assertEquals(clock.instant().plus(Duration.ofHours(8)).getEpochSecond(), claims.getExpiresAt());
+    }
+
+    @Test
+    void rejectsTamperedForeignAndMalformedTokens() {
+        String token = tokens.issue(employee());
+        String payload = token.substring(0, token.indexOf('.'));
+        String signature = token.substring(token.indexOf('.') + 1);
+
+        String elevated = new String(Base64.getUrlDecoder().decode(payload), StandardCharsets.UTF_8)
+                .replace("DEPARTMENT_HEAD", "SYSTEM_ADMIN");
+        String forged = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(elevated.getBytes(StandardCharsets.UTF_8)) + "." + signature;
+        byte[] otherKey = Arrays.copyOf(SECRET, SECRET.length);
+        otherKey[0] ^= 1;
+        AuthTokenService foreign = new AuthTokenService(new ObjectMapper(), otherKey, Duration.ofHours(8), clock);
+
+        assertFalse(tokens.verify(forged).isPresent());
+        assertFalse(tokens.verify(foreign.issue(employee())).isPresent());
+        assertFalse(tokens.verify(null).isPresent());
+        assertFalse(tokens.verify("not-a-token").isPresent());
+        assertFalse(tokens.verify(payload + ".%%%").isPresent());
+        assertFalse(tokens.verify(token + ".extra").isPresent());
+    }
+
+    @Test
+    void expiredAndRevokedTokensAreRejected() {
+        String token = tokens.issue(employee());
+        String other = tokens.issue(employee());
+
+        tokens.revoke(tokens.verify(token).orElseThrow());
+        assertFalse(tokens.verify(token).isPresent());
+        assertTrue(tokens.verify(other).isPresent());
+
+        clock.advance(Duration.ofHours(8));
+        assertFalse(tokens.verify(other).isPresent());
+    }
+
+    @Test
+    void shortSecretsAreRefused() {
+        assertThrows(IllegalStateException.class, () ->
+                new AuthTokenService(new ObjectMapper(), new byte[16], Duration.ofHours(8), clock));
+    }
+
+    @Test
+    void missingSecretOnlyFallsBackToARandomKeyOutsideProductionTokenMode() {
+        MockEnvironment production = new MockEnvironment();
+        MockEnvironment development = new MockEnvironment();
+        development.setActiveProfiles("inmemory");
+
+        assertThrows(IllegalStateException.class, () ->
+                new AuthTokenService(new ObjectMapper(), "", Duration.ofHours(8), "token", production));
+        AuthTokenService local = new AuthTokenService(new ObjectMapper(), "", Duration.ofHours(8), "token", development);
+        AuthTokenService sessionMode = new AuthTokenService(new ObjectMapper(), " ", Duration.ofHours(8), "session",
+                production);
+
+        assertTrue(local.verify(local.issue(employee())).isPresent());
+        assertFalse(sessionMode.verify(local.issue(employee())).isPresent());
+    }
+
+    private static Employee employee() {
+        Employee employee = new Employee();
+        employee.setId("emp-1");
+        employee.setEmployeeId(17);
+        employee.setUsername("alice");
+        employee.setDepartment("IT");
+        employee.setRole(Role.DEPARTMENT_HEAD);
+        return employee;
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
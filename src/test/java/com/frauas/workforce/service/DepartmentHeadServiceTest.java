@@ -0,0 +1,258 @@
+package com.frauas.workforce.service;
+
+import com.frauas.workforce.model.Application;
+import com.frauas.workforce.model.ApplicationStatus;
+import com.frauas.workforce.model.Employee;
+import com.frauas.workforce.model.Project;
+import com.frauas.workforce.model.Role;
+import com.frauas.workforce.repository.ApplicationRepository;
+import com.frauas.workforce.repository.EmployeeRepository;
+import com.frauas.workforce.repository.ProjectManagerRepository;
+import com.frauas.workforce.repository.RoleCapacityRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DepartmentHeadServiceTest {
+
+    private static final int DEPARTMENT_HEAD_ID = 1000;
+    private static final int REQUIRED = 3;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private ProjectManagerRepository projectRepository;
+
+    @Mock
+    private RoleCapacityRepository roleCapacityRepository;
+
+    private DepartmentHeadService departmentHeadService;
+
+    /**
+     * Stand-in for the role_capacity document: the conditional increment is atomic like findAndModify
+     */
+    private final AtomicInteger filled = new AtomicInteger();
+    private final AtomicBoolean counterExists = new AtomicBoolean();
+    /**
+     * Stand-in for the stored application statuses: reads are stale (always REQUEST_DH_APPROVAL),
+     * the conditional save is atomic like findAndReplace
+     */
+    private final Map<String, ApplicationStatus> storedStatus = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        RoleCapacityService roleCapacityService = new RoleCapacityService();
+        ReflectionTestUtils.setField(roleCapacityService, "roleCapacityRepository", roleCapacityRepository);
+        ReflectionTestUtils.setField(roleCapacityService, "applicationRepository", applicationRepository);
+
+        departmentHeadService = new DepartmentHeadService();
+        ReflectionTestUtils.setField(departmentHeadService, "applicationRepository", applicationRepository);
+        ReflectionTestUtils.setField(departmentHeadService, "employeeRepository", employeeRepository);
+        ReflectionTestUtils.setField(departmentHeadService, "projectRepository", projectRepository);
+        ReflectionTestUtils.setField(departmentHeadService, "roleCapacityService", roleCapacityService);
+        ReflectionTestUtils.setField(departmentHeadService, "employeeCache",
+                new EmployeeCache(employeeRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(10)));
+        ReflectionTestUtils.setField(departmentHeadService, "projectCatalogCache",
+                new ProjectCatalogCache(projectRepository, listener -> { }, new SimpleMeterRegistry(),
+                        100, Duration.ofHours(1), Duration.ofSeconds(30)));
+
+        when(roleCapacityRepository.tryReserve(anyString(), anyInt())).thenAnswer(invocation -> {
+            int required = invocation.getArgument(1);
+            if (!counterExists.get()) {
+                return false;
+            }
+            int current;
+            do {
+                current = filled.get();
+                if (current >= required) {
+                    return false;
+                }
+            } while (!filled.compareAndSet(current, current + 1));
+            return true;
+        });
+        when(roleCapacityRepository.existsById(anyString())).thenAnswer(invocation -> counterExists.get());
+        doAnswer(invocation -> {
+            counterExists.set(true);
+            return null;
+        }).when(roleCapacityRepository).insertIfAbsent(any());
+        doAnswer(invocation -> {
+            filled.updateAndGet(value -> Math.max(0, value - 1));
+            return null;
+        }).when(roleCapacityRepository).release(anyString());
+
+        when(applicationRepository.findByApplicationId(anyString())).thenAnswer(invocation -> {
+            String applicationId = invocation.getArgument(0);
+            return Optional.of(application(applicationId));
+        });
+        when(applicationRepository.saveIfStatus(any(Application.class), any(ApplicationStatus.class)))
+                .thenAnswer(invocation -> {
+                    Application application = invocation.getArgument(0);
+                    ApplicationStatus expected = invocation.getArgument(1);
+                    storedStatus.putIfAbsent(application.getId(), ApplicationStatus.REQUEST_DH_APPROVAL);
+                    return storedStatus.replace(application.getId(), expected, application.getCurrentStatus())
+                            ? Optional.of(application)
+                            : Optional.empty();
+                });
+        when(applicationRepository.countByProjectIdAndProjectRoleAndCurrentStatus(
+                anyString(), anyString(), eq(ApplicationStatus.COMPLETED))).thenReturn(0L);
+        when(applicationRepository.countByProjectRole(anyString(), eq(ApplicationStatus.COMPLETED)))
+                .thenAnswer(invocation -> Map.of("Developer", (long) filled.get()));
+
+        when(employeeRepository.findByEmployeeId(anyInt())).thenAnswer(invocation -> {
+            int employeeId = invocation.getArgument(0);
+            Employee employee = new Employee();
+            employee.setEmployeeId(employeeId);
+            employee.setFirstName("First" + employeeId);
+            employee.setLastName("Last" + employeeId);
+            employee.setDepartment("IT");
+            employee.setRole(employeeId == DEPARTMENT_HEAD_ID ? Role.DEPARTMENT_HEAD : Role.EMPLOYEE);
+            return Optional.of(employee);
+        });
+        Employee projectManager = new Employee();
+        projectManager.setFirstName("Project");
+        projectManager.setLastName("Manager");
+        when(employeeRepository.findByUsername("pm")).thenReturn(Optional.of(projectManager));
+
+        Project.RoleRequirement developer = new Project.RoleRequirement();
+        developer.setRequiredRole("Developer");
+        developer.setNumberOfEmployees(String.valueOf(REQUIRED));
+        Project project = new Project();
+        project.setProjectId("PRJ-1");
+        project.setCreatedBy("pm");
+        project.setRoles(List.of(developer));
+        when(projectRepository.findByProjectId("PRJ-1")).thenReturn(Optional.of(project));
+    }
+
+    @Test
+    void concurrentApprovalsNeverOverfillARole() throws Exception {
+        int approvals = 32;
+        ExecutorService executor = Executors.newFixedThreadPool(approvals);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < approvals; i++) {
+                String applicationId = "App_" + i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        departmentHeadService.approveApplication(applicationId, DEPARTMENT_HEAD_ID, null);
+                        return true;
+                    } catch (RuntimeException e) {
+                        assertTrue(e.getMessage().startsWith("Cannot approve"), e.getMessage());
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int approved = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(10, TimeUnit.SECONDS)) {
+                    approved++;
+                }
+            }
+
+            assertEquals(REQUIRED, approved);
+            assertEquals(REQUIRED, filled.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentApprovalsOfTheSameApplicationReserveOneSlot() throws Exception {
+        int approvals = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(approvals);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < approvals; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        departmentHeadService.approveApplication("App_1", DEPARTMENT_HEAD_ID, null);
+                        return true;
+                    } catch (RuntimeException e) {
+                        // Losers fail on the status, or on the capacity while other slots are still held
+                        assertTrue(e.getMessage().startsWith("Only applications with REQUEST_DH_APPROVAL")
+                                || e.getMessage().startsWith("Cannot approve"), e.getMessage());
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int approved = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(10, TimeUnit.SECONDS)) {
+                    approved++;
+                }
+            }
+
+            assertEquals(1, approved);
+            assertEquals(1, filled.get());
+            assertEquals(ApplicationStatus.COMPLETED, storedStatus.get("App_1"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void failedSaveReleasesTheReservedSlot() {
+        when(applicationRepository.saveIfStatus(any(Application.class), any(ApplicationStatus.class)))
+                .thenThrow(new RuntimeException("write failed"));
+
+        RuntimeException ex = assertThrows(RuntimeException.class,
+                () -> departmentHeadService.approveApplication("App_1", DEPARTMENT_HEAD_ID, null));
+
+        assertEquals("write failed", ex.getMessage());
+        assertEquals(0, filled.get());
+    }
+
+    private Application application(String applicationId) {
+        Application application = new Application();
+        application.setId(applicationId);
+        application.setApplicationId(applicationId);
+        application.setProjectId("PRJ-1");
+        application.setProjectRole("Developer");
+        application.setEmployeeId(Integer.parseInt(applicationId.substring(4)));
+        application.setCurrentStatus(ApplicationStatus.REQUEST_DH_APPROVAL);
+        return application;
+    }
+}
@@ -0,0 +1,120 @@
+package com.frauas.workforce.service;
+
+import com.frauas.workforce.model.Employee;
+import com.frauas.workforce.model.Experience;
+import com.frauas.workforce.repository.EmployeeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeCacheTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EmployeeCache employeeCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        employeeCache = new EmployeeCache(employeeRepository, meterRegistry, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void repeatedLookupsHitTheCacheAndNeverExposeThePassword() {
+        when(employeeRepository.findByEmployeeId(1000)).thenReturn(Optional.of(employee(1000, "dh_anna")));
+
+        Employee first = employeeCache.findByEmployeeId(1000).orElseThrow();
+        first.setFirstName("changed by caller");
+        Employee second = employeeCache.findByEmployeeId(1000).orElseThrow();
+
+        verify(employeeRepository, times(1)).findByEmployeeId(1000);
+        assertNull(second.getPassword());
+        assertEquals("Anna", second.getFirstName());
+        assertNotSame(first, second);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "employees.byEmployeeId")
+                .tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "employees.byEmployeeId")
+                .tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void callersCannotChangeCachedListsOrWorkExperience() {
+        Employee stored = employee(1000, "dh_anna");
+        stored.setSkills(new ArrayList<>(List.of("Java")));
+        stored.setWorkExperience(new ArrayList<>(List.of(
+                new Experience("Developer", "ACME", LocalDate.of(2020, 1, 1), null, "Backend"))));
+        when(employeeRepository.findByEmployeeId(1000)).thenReturn(Optional.of(stored));
+
+        Employee first = employeeCache.findByEmployeeId(1000).orElseThrow();
+        first.getSkills().add("Go");
+        first.getWorkExperience().get(0).setCompany("changed by caller");
+        Employee second = employeeCache.findByEmployeeId(1000).orElseThrow();
+
+        assertEquals(List.of("Java"), second.getSkills());
+        assertEquals("ACME", second.getWorkExperience().get(0).getCompany());
+        assertEquals(List.of("Java"), stored.getSkills());
+    }
+
+    @Test
+    void invalidationDropsBothKeysAndUnknownEmployeesAreNotCached() {
+        when(employeeRepository.findByUsername("dh_anna")).thenReturn(Optional.of(employee(1000, "dh_anna")));
+        when(employeeRepository.findByEmployeeId(1000)).thenReturn(Optional.of(employee(1000, "dh_anna")));
+        when(employeeRepository.findByEmployeeId(42)).thenReturn(Optional.empty());
+
+        employeeCache.findByUsername("dh_anna");
+        employeeCache.findByEmployeeId(1000);
+        employeeCache.invalidate(employee(1000, "dh_anna"));
+        employeeCache.findByUsername("dh_anna");
+        employeeCache.findByEmployeeId(1000);
+
+        assertFalse(employeeCache.findByEmployeeId(42).isPresent());
+        assertFalse(employeeCache.findByEmployeeId(42).isPresent());
+
+        verify(employeeRepository, times(2)).findByUsername("dh_anna");
+        verify(employeeRepository, times(2)).findByEmployeeId(1000);
+        verify(employeeRepository, times(2)).findByEmployeeId(42);
+    }
+
+    @Test
+    void entryInvalidatedWhileLoadingIsNotCached() {
+        // A writer invalidates while the lookup is still reading the old state
+        when(employeeRepository.findByEmployeeId(1000)).thenAnswer(invocation -> {
+            employeeCache.invalidate(1000, null);
+            return Optional.of(employee(1000, "dh_anna"));
+        });
+
+        assertEquals("Anna", employeeCache.findByEmployeeId(1000).orElseThrow().getFirstName());
+        employeeCache.findByEmployeeId(1000);
+
+        verify(employeeRepository, times(2)).findByEmployeeId(1000);
+    }
+
+    private static Employee employee(int employeeId, String username) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(employeeId);
+        employee.setUsername(username);
+        employee.setFirstName("Anna");
+        employee.setPassword("$2a$10$hash");
+        return employee;
+    }
+}
@@ -0,0 +1,182 @@
+package com.frauas.workforce.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.frauas.workforce.DTO.BulkImportResult;
+import com.frauas.workforce.DTO.BulkImportRowResult;
+import com.frauas.workforce.model.Employee;
+import com.frauas.workforce.repository.EmployeeRepository;
+import com.frauas.workforce.repository.InMemoryDatabaseSequenceRepository;
+import com.frauas.workforce.repository.InMemoryStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeImportServiceTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @Mock
+    private EmployeeCache employeeCache;
+
+    @Mock
+    private SkillIndex skillIndex;
+
+    private final PasswordHashingExecutor hashingExecutor =
+            new PasswordHashingExecutor(new PrefixEncoder(), new SimpleMeterRegistry(), 1, 16, 2);
+
+    private EmployeeImportService importService;
+
+    @AfterEach
+    void tearDown() {
+        hashingExecutor.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        importService = new EmployeeImportService();
+        ReflectionTestUtils.setField(importService, "employeeRepository", employeeRepository);
+        ReflectionTestUtils.setField(importService, "employeeService", employeeService);
+        ReflectionTestUtils.setField(importService, "passwordHashingExecutor", hashingExecutor);
+        ReflectionTestUtils.setField(importService, "employeeCache", employeeCache);
+        ReflectionTestUtils.setField(importService, "skillIndex", skillIndex);
+        ReflectionTestUtils.setField(importService, "objectMapper", new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(importService, "batchSize", 1000);
+    }
+
+    @Test
+    void jsonArrayIsValidatedInMemoryAndInsertedInOneBulkWrite() throws Exception {
+        Employee existing = new Employee();
+        existing.setEmail("taken@workforce.com");
+        when(employeeRepository.findIdentityConflicts(anyCollection(), anyCollection(), anyCollection()))
+                .thenReturn(List.of(existing));
+        when(employeeService.reserveEmployeeIds(1)).thenReturn(41);
+        when(employeeRepository.insertUnordered(any())).thenReturn(Map.of());
+
+        BulkImportResult result = importService.importEmployees(body("""
+                [
+                  {"username": "anna", "email": "anna@workforce.com", "password": "pw1"},
+                  {"username": "ben", "email": "ben@workforce.com", "password": "pw2", "employeeId": 500},
+                  {"username": "anna", "email": "anna2@workforce.com"},
+                  {"username": "carl", "email": "taken@workforce.com"},
+                  {"email": "nobody@workforce.com"}
+                ]
+                """));
+
+        assertEquals(5, result.getTotal());
+        assertEquals(2, result.getCreated());
+        assertEquals(3, result.getFailed());
+        List<BulkImportRowResult> rows = result.getRows();
+        assertTrue(rows.get(0).isCreated());
+        assertEquals(41, rows.get(0).getEmployeeId());
+        assertEquals(500, rows.get(1).getEmployeeId());
+        assertEquals("Username already exists: anna in this import", rows.get(2).getError());
+        assertEquals("Email already exists: taken@workforce.com", rows.get(3).getError());
+        assertEquals("Username is required", rows.get(4).getError());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Employee>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(employeeRepository, times(1)).insertUnordered(inserted.capture());
+        assertEquals(2, inserted.getValue().size());
+        verify(employeeService).advanceEmployeeIdsTo(500);
+        assertEquals("hashed:pw1", inserted.getValue().get(0).getPassword());
+        assertNotNull(inserted.getValue().get(0).getId());
+        assertNotNull(inserted.getValue().get(0).getUserId());
+        verify(employeeRepository, times(1)).findIdentityConflicts(anyCollection(), anyCollection(), anyCollection());
+    }
+
+    @Test
+    void ndjsonRowFailuresDoNotAbortTheImport() throws Exception {
+        when(employeeRepository.findIdentityConflicts(anyCollection(), anyCollection(), anyCollection()))
+                .thenReturn(List.of());
+        when(employeeService.reserveEmployeeIds(2)).thenReturn(10);
+        // The unique index rejects the second document, e.g. a concurrent insert
+        when(employeeRepository.insertUnordered(any())).thenReturn(Map.of(1, "Duplicate username, email or employeeId"));
+
+        BulkImportResult result = importService.importEmployees(body("""
+                {"username": "dora", "email": "dora@workforce.com"}
+                {"username": "emil", "email": "emil@workforce.com", "employeeId": "not-a-number"}
+                {"username": "fred", "email": "fred@workforce.com"}
+                {"username": "gina", "email": 
+                """));
+
+        List<BulkImportRowResult> rows = result.getRows();
+        assertEquals(4, result.getTotal());
+        assertEquals(1, result.getCreated());
+        assertTrue(rows.get(0).isCreated());
+        assertEquals(10, rows.get(0).getEmployeeId());
+        assertTrue(rows.get(1).getError().startsWith("Invalid row"));
+        assertFalse(rows.get(2).isCreated());
+        assertEquals("Duplicate username, email or employeeId", rows.get(2).getError());
+        assertTrue(rows.get(3).getError().startsWith("Malformed JSON"));
+        verify(employeeCache).invalidate(any(Employee.class));
+    }
+
+    @Test
+    void generatedEmployeeIdsSkipImportedOnes() throws Exception {
+        SequenceGeneratorService sequenceGeneratorService = new SequenceGeneratorService();
+        ReflectionTestUtils.setField(sequenceGeneratorService, "sequenceRepository",
+                new InMemoryDatabaseSequenceRepository(new InMemoryStore("")));
+        ReflectionTestUtils.setField(sequenceGeneratorService, "blockSize", 50);
+        EmployeeService realEmployeeService = new EmployeeService();
+        ReflectionTestUtils.setField(realEmployeeService, "employeeRepository", employeeRepository);
+        ReflectionTestUtils.setField(realEmployeeService, "sequenceGeneratorService", sequenceGeneratorService);
+        ReflectionTestUtils.setField(importService, "employeeService", realEmployeeService);
+        when(employeeRepository.findTopByOrderByEmployeeIdDesc()).thenReturn(Optional.empty());
+        when(employeeRepository.findIdentityConflicts(anyCollection(), anyCollection(), anyCollection()))
+                .thenReturn(List.of());
+        when(employeeRepository.insertUnordered(any())).thenReturn(Map.of());
+
+        // This node already holds the block [1, 50]
+        assertEquals(1, realEmployeeService.generateNextEmployeeId());
+        importService.importEmployees(body("""
+                {"username": "hans", "email": "hans@workforce.com", "employeeId": 30}
+                {"username": "ida", "email": "ida@workforce.com", "employeeId": 500}
+                """));
+
+        assertEquals(501, realEmployeeService.generateNextEmployeeId());
+    }
+
+    private static ByteArrayInputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static class PrefixEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
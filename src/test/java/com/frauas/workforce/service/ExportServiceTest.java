@@ -0,0 +1,91 @@
+package com.frauas.workforce.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.frauas.workforce.model.Application;
+import com.frauas.workforce.model.ApplicationStatus;
+import com.frauas.workforce.model.Employee;
+import com.frauas.workforce.repository.ApplicationRepository;
+import com.frauas.workforce.repository.EmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExportServiceTest {
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @InjectMocks
+    private ExportService exportService;
+
+    @Test
+    void writesOneApplicationPerLineAndClosesTheCursor() throws Exception {
+        Instant since = Instant.parse("2025-01-01T00:00:00Z");
+        Employee member = new Employee();
+        member.setEmployeeId(7);
+        when(employeeRepository.findEmployeeIdsByDepartment("IT")).thenReturn(List.of(member));
+
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Application> cursor = Stream.of(application("A-1"), application("A-2"), application("A-3"))
+                .onClose(() -> closed.set(true));
+        when(applicationRepository.streamApplications(ApplicationStatus.APPLIED, null, List.of(7), since))
+                .thenReturn(cursor);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = exportService.exportApplications(ApplicationStatus.APPLIED, null, "IT", since, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertEquals(3, written);
+        assertEquals(4, lines.length);
+        assertEquals("", lines[3]);
+        assertEquals("A-2", objectMapper.readTree(lines[1]).get("applicationId").asText());
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void neverWritesPasswords() throws Exception {
+        Employee employee = new Employee();
+        employee.setEmployeeId(1);
+        employee.setUsername("admin");
+        employee.setPassword("secret-hash");
+        when(employeeRepository.streamEmployees(null, null)).thenReturn(Stream.of(employee));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportEmployees(null, null, out);
+
+        JsonNode line = objectMapper.readTree(out.toString(StandardCharsets.UTF_8).trim());
+        assertEquals("admin", line.get("username").asText());
+        assertFalse(line.has("password"));
+    }
+
+    private static Application application(String applicationId) {
+        Application application = new Application();
+        application.setApplicationId(applicationId);
+        application.setCurrentStatus(ApplicationStatus.APPLIED);
+        return application;
+    }
+}
@@ -0,0 +1,54 @@
+package com.frauas.workforce.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoginThrottleTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final LoginThrottle throttle = new LoginThrottle(nanos::get, Duration.ofMinutes(15), 3, 5, 1000);
+
+    @Test
+    void usernameIsThrottledAfterRepeatedFailuresUntilTheWindowEnds() {
+        for (int i = 0; i < 3; i++) {
+            assertFalse(throttle.retryAfter("Alice", "10.0.0.1").isPresent());
+            throttle.recordFailure("alice", "10.0.0.1");
+        }
+
+        nanos.addAndGet(Duration.ofMinutes(5).toNanos());
+        assertEquals(Duration.ofMinutes(10), throttle.retryAfter("alice", "10.0.0.2").orElseThrow());
+        assertFalse(throttle.retryAfter("bob", "10.0.0.2").isPresent());
+
+        nanos.addAndGet(Duration.ofMinutes(10).toNanos());
+        assertFalse(throttle.retryAfter("alice", "10.0.0.2").isPresent());
+    }
+
+    @Test
+    void ipIsThrottledAcrossUsernames() {
+        for (int i = 0; i < 5; i++) {
+            throttle.recordFailure("user" + i, "10.0.0.9");
+        }
+
+        assertTrue(throttle.retryAfter("someone-else", "10.0.0.9").isPresent());
+        assertFalse(throttle.retryAfter("someone-else", "10.0.0.10").isPresent());
+    }
+
+    @Test
+    void successClearsUsernameButNotIpFailures() {
+        for (int i = 0; i < 3; i++) {
+            throttle.recordFailure("alice", "10.0.0.1");
+        }
+        throttle.recordSuccess("alice");
+        assertFalse(throttle.retryAfter("alice", "10.0.0.3").isPresent());
+
+        throttle.recordFailure("mallory", "10.0.0.1");
+        throttle.recordFailure("mallory", "10.0.0.1");
+        assertTrue(throttle.retryAfter("anyone", "10.0.0.1").isPresent());
+    }
+}
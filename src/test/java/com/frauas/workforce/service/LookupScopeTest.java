@@ -0,0 +1,78 @@
+package com.frauas.workforce.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LookupScopeTest {
+
+    @Test
+    void forksRunConcurrently() {
+        // Each lookup waits for the other one: only completes if both run at the same time
+        CyclicBarrier bothStarted = new CyclicBarrier(2);
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            try (LookupScope scope = new LookupScope()) {
+                Supplier<String> first = scope.fork(() -> await(bothStarted, "first"));
+                Supplier<Integer> second = scope.fork(() -> await(bothStarted, 2));
+                scope.join();
+
+                assertEquals("first", first.get());
+                assertEquals(2, second.get());
+            }
+        });
+    }
+
+    @Test
+    void firstFailureIsRethrownAndCancelsTheOtherLookups() throws Exception {
+        RuntimeException failure = new RuntimeException("Employee not found");
+        CountDownLatch slowInterrupted = new CountDownLatch(1);
+
+        try (LookupScope scope = new LookupScope()) {
+            scope.fork(() -> {
+                try {
+                    Thread.sleep(60_000);
+                } catch (InterruptedException e) {
+                    slowInterrupted.countDown();
+                }
+                return null;
+            });
+            scope.fork(() -> {
+                throw failure;
+            });
+
+            assertSame(failure, assertThrows(RuntimeException.class, scope::join));
+        }
+        assertTrue(slowInterrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void resultsAreOnlyAvailableAfterJoin() {
+        try (LookupScope scope = new LookupScope()) {
+            Supplier<String> result = scope.fork(() -> "value");
+
+            assertThrows(IllegalStateException.class, result::get);
+            scope.join();
+            assertEquals("value", result.get());
+            assertThrows(IllegalStateException.class, () -> scope.fork(() -> "late"));
+        }
+    }
+
+    private static <T> T await(CyclicBarrier barrier, T result) {
+        try {
+            barrier.await();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return result;
+    }
+}
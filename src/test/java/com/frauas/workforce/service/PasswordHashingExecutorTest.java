@@ -0,0 +1,86 @@
+package com.frauas.workforce.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PasswordHashingExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordHashingExecutor executor =
+            new PasswordHashingExecutor(new BlockingEncoder(release), meterRegistry, 1, 2, 1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void rejectsImmediatelyWhenTheQueueIsFull() throws Exception {
+        CompletableFuture<Boolean> running = executor.matches("secret", "secret");
+        CompletableFuture<Boolean> queued1 = executor.matches("secret", "secret");
+        CompletableFuture<Boolean> queued2 = executor.matches("wrong", "secret");
+        waitForQueueDepth(2);
+
+        assertThrows(RejectedExecutionException.class, () -> executor.matches("secret", "secret"));
+        assertEquals(1.0, meterRegistry.get("workforce.auth.hashing.rejected").counter().count());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued1.get(5, TimeUnit.SECONDS));
+        assertFalse(queued2.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void bulkHashingKeepsOrderAndDoesNotWaitForLogins() throws Exception {
+        // Occupies the only verification thread until released
+        CompletableFuture<Boolean> login = executor.matches("secret", "secret");
+        List<String> passwords = IntStream.range(0, 50).mapToObj(i -> "pw" + i).toList();
+
+        assertEquals(passwords, executor.encodeAll(passwords));
+        assertFalse(login.isDone());
+
+        release.countDown();
+        assertTrue(login.get(5, TimeUnit.SECONDS));
+    }
+
+    private void waitForQueueDepth(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.getQueueDepth() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    /** Plain-text encoder whose checks block until released, standing in for slow BCrypt. */
+    private record BlockingEncoder(CountDownLatch release) implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.frauas.workforce.service;
+
+import com.frauas.workforce.model.Project;
+import com.frauas.workforce.repository.ProjectChangeSource;
+import com.frauas.workforce.repository.ProjectManagerRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ProjectCatalogCacheTest {
+
+    @Mock
+    private ProjectManagerRepository projectRepository;
+
+    /** Local stand-in for the change stream: the test fires the events. */
+    private final StandInChangeSource changeSource = new StandInChangeSource();
+    private final AtomicLong nanos = new AtomicLong();
+    private ProjectCatalogCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(projectRepository.findByProjectId("PRJ-1")).thenAnswer(invocation -> Optional.of(project("PRJ-1")));
+        when(projectRepository.findByProjectId("PRJ-2")).thenAnswer(invocation -> Optional.of(project("PRJ-2")));
+        cache = new ProjectCatalogCache(projectRepository, changeSource, new SimpleMeterRegistry(),
+                100, Duration.ofHours(1), Duration.ofSeconds(30), nanos::get);
+    }
+
+    @Test
+    void changeEventsFromAnyNodeInvalidateEntries() {
+        changeSource.listener.liveStateChanged(true);
+
+        cache.findByProjectId("PRJ-1");
+        cache.findByProjectId("PRJ-2");
+        cache.findByProjectId("PRJ-1");
+        verify(projectRepository, times(1)).findByProjectId("PRJ-1");
+
+        // A write on another node
+        changeSource.listener.projectChanged("PRJ-1");
+        cache.findByProjectId("PRJ-1");
+        cache.findByProjectId("PRJ-2");
+        verify(projectRepository, times(2)).findByProjectId("PRJ-1");
+        verify(projectRepository, times(1)).findByProjectId("PRJ-2");
+
+        // While live, entries outlive the fallback TTL
+        nanos.addAndGet(Duration.ofMinutes(5).toNanos());
+        cache.findByProjectId("PRJ-2");
+        verify(projectRepository, times(1)).findByProjectId("PRJ-2");
+
+        // A delete cannot be attributed to a projectId: everything is dropped
+        changeSource.listener.projectChanged(null);
+        cache.findByProjectId("PRJ-2");
+        verify(projectRepository, times(2)).findByProjectId("PRJ-2");
+    }
+
+    @Test
+    void fallsBackToShortTtlWhileTheStreamIsDown() {
+        changeSource.listener.liveStateChanged(false);
+
+        cache.findByProjectId("PRJ-1");
+        nanos.addAndGet(Duration.ofSeconds(20).toNanos());
+        cache.findByProjectId("PRJ-1");
+        verify(projectRepository, times(1)).findByProjectId("PRJ-1");
+
+        nanos.addAndGet(Duration.ofSeconds(20).toNanos());
+        cache.findByProjectId("PRJ-1");
+        verify(projectRepository, times(2)).findByProjectId("PRJ-1");
+
+        // Coming back live flushes entries that may have missed events
+        changeSource.listener.liveStateChanged(true);
+        cache.findByProjectId("PRJ-1");
+        verify(projectRepository, times(3)).findByProjectId("PRJ-1");
+    }
+
+    @Test
+    void batchLookupLoadsOnlyMissesAndReturnsCopies() {
+        when(projectRepository.findByProjectIdIn(anyCollection())).thenAnswer(invocation ->
+                invocation.<Collection<String>>getArgument(0).stream().map(this::project).toList());
+        changeSource.listener.liveStateChanged(true);
+
+        cache.findByProjectId("PRJ-1");
+        clearInvocations(projectRepository);
+        Map<String, Project> projects = cache.findAllByProjectId(List.of("PRJ-1", "PRJ-3"));
+
+        assertEquals(2, projects.size());
+        verify(projectRepository).findByProjectIdIn(Set.of("PRJ-3"));
+
+        projects.get("PRJ-1").setProjectDescription("changed by caller");
+        assertEquals("PRJ-1 description", cache.findByProjectId("PRJ-1").orElseThrow().getProjectDescription());
+    }
+
+    private Project project(String projectId) {
+        Project project = new Project();
+        project.setProjectId(projectId);
+        project.setProjectDescription(projectId + " description");
+        return project;
+    }
+
+    private static class StandInChangeSource implements ProjectChangeSource {
+        private Listener listener;
+
+        @Override
+        public void subscribe(Listener listener) {
+            this.listener = listener;
+        }
+    }
+}
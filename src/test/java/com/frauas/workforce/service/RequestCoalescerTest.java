@@ -0,0 +1,116 @@
+package com.frauas.workforce.service;
+
+import com.frauas.workforce.ExceptionHandling.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestCoalescerTest {
+
+    private static final int CALLERS = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestCoalescer coalescer = new RequestCoalescer(meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentIdenticalLookupsShareOneQuery() throws Exception {
+        AtomicInteger queries = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Object result = new Object();
+
+        List<Future<Object>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            futures.add(executor.submit(() -> coalescer.execute("getProjectById", "PRJ-1", () -> {
+                queries.incrementAndGet();
+                await(release);
+                return result;
+            })));
+        }
+        awaitCollapsed("getProjectById", CALLERS - 1);
+        release.countDown();
+
+        for (Future<Object> future : futures) {
+            assertSame(result, future.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, queries.get());
+        assertEquals(1.0, count("getProjectById", "leader"));
+        assertEquals(CALLERS - 1.0, count("getProjectById", "collapsed"));
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    @Test
+    void lookupsAreNotCachedAfterCompletion() {
+        AtomicInteger queries = new AtomicInteger();
+
+        coalescer.execute("getProjectsByStatus", "OPEN", queries::incrementAndGet);
+        coalescer.execute("getProjectsByStatus", "OPEN", queries::incrementAndGet);
+        coalescer.execute("getProjectsByStatus", "ACTIVE", queries::incrementAndGet);
+
+        assertEquals(3, queries.get());
+        assertEquals(0.0, count("getProjectsByStatus", "collapsed"));
+    }
+
+    @Test
+    void failuresAreRethrownToEveryCollapsedCaller() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<Object>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            futures.add(executor.submit(() -> coalescer.execute("getProjectById", "PRJ-404", () -> {
+                await(release);
+                throw new ResourceNotFoundException("Project not found with id: PRJ-404");
+            })));
+        }
+        awaitCollapsed("getProjectById", CALLERS - 1);
+        release.countDown();
+
+        for (Future<Object> future : futures) {
+            Exception e = assertThrows(Exception.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof ResourceNotFoundException);
+        }
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    private void awaitCollapsed(String operation, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count(operation, "collapsed") < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private double count(String operation, String outcome) {
+        var counter = meterRegistry.find("workforce.coalescing.requests")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .counter();
+        return counter == null ? 0.0 : counter.count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.frauas.workforce.service;
+
+import com.frauas.workforce.repository.DatabaseSequenceRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SequenceGeneratorServiceTest {
+
+    @Test
+    void nodesShareOneCounterWithoutCollisions() throws Exception {
+        // Stand-in for the counters document shared by all nodes
+        AtomicLong counter = new AtomicLong(-1);
+        AtomicInteger roundTrips = new AtomicInteger();
+        DatabaseSequenceRepository repository = mock(DatabaseSequenceRepository.class);
+        doAnswer(invocation -> {
+            counter.compareAndSet(-1, invocation.getArgument(1));
+            return null;
+        }).when(repository).initializeIfAbsent(eq("employeeId"), anyLong());
+        when(repository.allocateBlock(eq("employeeId"), anyInt())).thenAnswer(invocation -> {
+            roundTrips.incrementAndGet();
+            return counter.addAndGet(invocation.<Integer>getArgument(1));
+        });
+
+        SequenceGeneratorService nodeA = node(repository);
+        SequenceGeneratorService nodeB = node(repository);
+
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 2000; i++) {
+            SequenceGeneratorService node = i % 2 == 0 ? nodeA : nodeB;
+            executor.submit(() -> ids.add(node.next("employeeId", () -> 13)));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(2000, ids.size());
+        assertTrue(ids.stream().allMatch(id -> id > 13));
+        // 1000 IDs per node in blocks of 50
+        assertEquals(40, roundTrips.get());
+    }
+
+    @Test
+    void bulkRangesDoNotOverlapWithPerNodeBlocks() {
+        AtomicLong counter = new AtomicLong(-1);
+        DatabaseSequenceRepository repository = mock(DatabaseSequenceRepository.class);
+        doAnswer(invocation -> {
+            counter.compareAndSet(-1, invocation.getArgument(1));
+            return null;
+        }).when(repository).initializeIfAbsent(eq("employeeId"), anyLong());
+        when(repository.allocateBlock(eq("employeeId"), anyInt()))
+                .thenAnswer(invocation -> counter.addAndGet(invocation.<Integer>getArgument(1)));
+        SequenceGeneratorService service = node(repository);
+
+        assertEquals(14, service.next("employeeId", () -> 13));
+        assertEquals(64, service.nextBlock("employeeId", 1000, () -> 13));
+        assertEquals(15, service.next("employeeId", () -> 13));
+        assertEquals(1064, service.nextBlock("employeeId", 1, () -> 13));
+    }
+
+    private SequenceGeneratorService node(DatabaseSequenceRepository repository) {
+        SequenceGeneratorService service = new SequenceGeneratorService();
+        ReflectionTestUtils.setField(service, "sequenceRepository", repository);
+        ReflectionTestUtils.setField(service, "blockSize", 50);
+        return service;
+    }
+}
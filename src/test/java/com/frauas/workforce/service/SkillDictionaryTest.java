@@ -0,0 +1,47 @@
+package com.frauas.workforce.service;
+
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SkillDictionaryTest {
+
+    private final SkillDictionary dictionary = new SkillDictionary();
+
+    @Test
+    void skillsAreInternedInNormalizedFormKeepingTheFirstSpelling() {
+        int java = dictionary.intern(" Java ");
+        int springBoot = dictionary.intern("Spring Boot");
+
+        assertEquals(java, dictionary.intern("JAVA"));
+        assertEquals(springBoot, dictionary.intern("spring   boot"));
+        assertEquals(List.of(0, 1), List.of(java, springBoot));
+        assertEquals("Java", dictionary.spelling(java));
+        assertEquals(-1, dictionary.intern("  "));
+        assertNull(SkillDictionary.normalize(null));
+    }
+
+    @Test
+    void lookupsDoNotAddSkills() {
+        dictionary.intern("SQL");
+
+        assertEquals(0, dictionary.idOf("sql"));
+        assertEquals(-1, dictionary.idOf("Cobol"));
+        assertEquals(1, dictionary.size());
+    }
+
+    @Test
+    void skillListsAreEncodedAsBitmapsOfIds() {
+        RoaringBitmap employee = dictionary.encode(Arrays.asList("Docker", "Java", "docker", null, ""));
+        RoaringBitmap role = dictionary.encode(List.of("Java", "Kubernetes"));
+
+        assertEquals(2, employee.getCardinality());
+        assertEquals(List.of("Docker", "Java"), dictionary.decode(employee));
+        assertEquals(List.of("Java"), dictionary.decode(RoaringBitmap.and(employee, role)));
+    }
+}
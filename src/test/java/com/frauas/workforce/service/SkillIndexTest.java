@@ -0,0 +1,136 @@
+package com.frauas.workforce.service;
+
+import com.frauas.workforce.model.Employee;
+import com.frauas.workforce.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SkillIndexTest {
+
+    private EmployeeRepository employeeRepository;
+    private AtomicLong now;
+    private SkillIndex skillIndex;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository = mock(EmployeeRepository.class);
+        now = new AtomicLong();
+        skillIndex = new SkillIndex(employeeRepository, new SkillDictionary(), Duration.ofMinutes(15), now::get);
+    }
+
+    @Test
+    void rareAndRequiredSkillsRankHigher() {
+        when(employeeRepository.streamSkillProfiles()).thenAnswer(invocation -> Stream.of(
+                employee(1, "Java", "Spring Boot"),
+                employee(2, "java", "Kubernetes"),
+                employee(3, "Java"),
+                employee(4, "Excel")));
+
+        List<SkillIndex.Candidate> candidates =
+                skillIndex.topCandidates(List.of("Kubernetes"), List.of("JAVA", " spring  boot "), 10);
+
+        assertEquals(List.of(2, 1, 3), candidates.stream().map(SkillIndex.Candidate::employeeId).toList());
+        assertEquals(List.of("Kubernetes", "JAVA"), candidates.get(0).matchedSkills());
+        assertEquals(List.of("JAVA", "spring  boot"), candidates.get(1).matchedSkills());
+        assertTrue(candidates.get(0).score() > candidates.get(1).score());
+        assertTrue(candidates.get(2).score() > 0 && candidates.get(0).score() < 1);
+    }
+
+    @Test
+    void limitKeepsTheBestAndBreaksTiesByEmployeeId() {
+        when(employeeRepository.streamSkillProfiles()).thenAnswer(invocation -> Stream.of(
+                employee(5, "SQL"), employee(3, "SQL"), employee(4, "SQL", "Docker"), employee(1, "SQL")));
+
+        List<SkillIndex.Candidate> candidates = skillIndex.topCandidates(List.of("SQL", "Docker"), List.of(), 3);
+
+        assertEquals(List.of(4, 1, 3), candidates.stream().map(SkillIndex.Candidate::employeeId).toList());
+        assertEquals(1.0, candidates.get(0).score(), 1e-9);
+    }
+
+    @Test
+    void employeesWithAllSkillsAreTheIntersection() {
+        when(employeeRepository.streamSkillProfiles()).thenAnswer(invocation -> Stream.of(
+                employee(9, "AWS", "Terraform", "Linux"), employee(2, "aws", "Linux"),
+                employee(5, "Terraform", "AWS"), employee(7, "Linux")));
+
+        assertArrayEquals(new int[]{5, 9}, skillIndex.employeesWithAllSkills(List.of("AWS", " terraform")));
+        assertArrayEquals(new int[]{2, 9}, skillIndex.employeesWithAllSkills(List.of("Linux", "AWS", "linux")));
+        assertArrayEquals(new int[0], skillIndex.employeesWithAllSkills(List.of("AWS", "Cobol")));
+        assertArrayEquals(new int[0], skillIndex.employeesWithAllSkills(List.of()));
+    }
+
+    @Test
+    void writesReplaceAndRemoveIndexedSkills() {
+        when(employeeRepository.streamSkillProfiles()).thenAnswer(invocation -> Stream.of(
+                employee(1, "Python"), employee(2, "Python")));
+        skillIndex.topCandidates(List.of("Python"), List.of(), 10);
+
+        skillIndex.update(employee(1, "Figma"));
+        skillIndex.remove(2);
+        skillIndex.update(employee(3, "Python"));
+
+        assertEquals(List.of(3), ids(skillIndex.topCandidates(List.of("Python"), List.of(), 10)));
+        assertEquals(List.of(1), ids(skillIndex.topCandidates(List.of("figma"), List.of(), 10)));
+        verify(employeeRepository, times(1)).streamSkillProfiles();
+    }
+
+    @Test
+    void writesDuringARebuildAreKept() {
+        when(employeeRepository.streamSkillProfiles()).thenAnswer(invocation -> Stream.of(
+                employee(1, "Scrum"), employee(2, "Scrum")).peek(employee -> {
+                    if (employee.getEmployeeId() == 2) {
+                        // Persisted after the cursor has passed employee 1
+                        skillIndex.update(employee(1, "Kanban"));
+                    }
+                }));
+
+        skillIndex.rebuild();
+
+        assertEquals(List.of(2), ids(skillIndex.topCandidates(List.of("Scrum"), List.of(), 10)));
+        assertEquals(List.of(1), ids(skillIndex.topCandidates(List.of("Kanban"), List.of(), 10)));
+    }
+
+    @Test
+    void staleIndexIsRebuiltInTheBackground() throws Exception {
+        when(employeeRepository.streamSkillProfiles())
+                .thenAnswer(invocation -> Stream.of(employee(1, "SAP")))
+                .thenAnswer(invocation -> Stream.of(employee(1, "SAP"), employee(2, "SAP")));
+        assertEquals(List.of(1), ids(skillIndex.topCandidates(List.of("SAP"), List.of(), 10)));
+
+        now.addAndGet(Duration.ofMinutes(16).toNanos());
+        // Served from the previous index while the rebuild runs
+        skillIndex.topCandidates(List.of("SAP"), List.of(), 10);
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (ids(skillIndex.topCandidates(List.of("SAP"), List.of(), 10)).size() < 2
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(List.of(1, 2), ids(skillIndex.topCandidates(List.of("SAP"), List.of(), 10)));
+        verify(employeeRepository, times(2)).streamSkillProfiles();
+    }
+
+    private static List<Integer> ids(List<SkillIndex.Candidate> candidates) {
+        return candidates.stream().map(SkillIndex.Candidate::employeeId).toList();
+    }
+
+    private static Employee employee(int employeeId, String... skills) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(employeeId);
+        employee.setSkills(List.of(skills));
+        return employee;
+    }
+}
@@ -0,0 +1,75 @@
+package com.frauas.workforce.service;
+
+import com.frauas.workforce.repository.InMemoryDatabaseSequenceRepository;
+import com.frauas.workforce.repository.InMemoryStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    void idsAreUniqueAcrossThreadsAndNodes() throws Exception {
+        SnowflakeIdGenerator nodeA = new SnowflakeIdGenerator(1);
+        SnowflakeIdGenerator nodeB = new SnowflakeIdGenerator(2);
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            SnowflakeIdGenerator generator = t % 2 == 0 ? nodeA : nodeB;
+            executor.submit(() -> {
+                for (int i = 0; i < 25_000; i++) {
+                    ids.add(generator.nextId());
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(200_000, ids.size());
+    }
+
+    @Test
+    void idsAreStrictlyIncreasingAndSortAsStrings() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7);
+        List<Long> values = new ArrayList<>();
+        // More than one millisecond worth of sequence values forces the counter to carry over
+        for (int i = 0; i < 10_000; i++) {
+            values.add(generator.nextLong());
+        }
+
+        for (int i = 1; i < values.size(); i++) {
+            assertTrue(values.get(i) > values.get(i - 1));
+            String previous = SnowflakeIdGenerator.encode(values.get(i - 1));
+            String current = SnowflakeIdGenerator.encode(values.get(i));
+            assertEquals(13, current.length());
+            assertTrue(current.compareTo(previous) > 0);
+        }
+        assertEquals(7, (values.get(0) >>> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_NODE_ID);
+    }
+
+    @Test
+    void instancesWithoutANodeIdLeaseDistinctOnes() {
+        InMemoryDatabaseSequenceRepository counters = new InMemoryDatabaseSequenceRepository(new InMemoryStore(""));
+
+        assertEquals(0, new SnowflakeIdGenerator(-1, counters).getNodeId());
+        assertEquals(1, new SnowflakeIdGenerator(-1, counters).getNodeId());
+        assertEquals(5, new SnowflakeIdGenerator(5, counters).getNodeId());
+        assertEquals(2, new SnowflakeIdGenerator(-1, counters).getNodeId());
+    }
+
+    @Test
+    void rejectsNodeIdOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(1024));
+    }
+}
@@ -0,0 +1,124 @@
+package com.frauas.workforce.service;
+
+import com.frauas.workforce.model.Application;
+import com.frauas.workforce.model.ApplicationStatus;
+import com.frauas.workforce.model.Employee;
+import com.frauas.workforce.model.Project;
+import com.frauas.workforce.model.Role;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SyntheticDatasetTest {
+
+    private static final Instant GENERATED_AT = Instant.parse("2025-12-01T00:00:00Z");
+
+    @Test
+    void sameSeedProducesTheSameDatasetInAnyBatchOrder() {
+        SyntheticDataset first = dataset(7);
+        SyntheticDataset second = dataset(7);
+
+        // Generate in reverse order on the second instance
+        assertEquals(first.applicationBatch(3), second.applicationBatch(3));
+        assertEquals(first.applicationBatch(0), second.applicationBatch(0));
+        assertEquals(first.employeeBatch(1), second.employeeBatch(1));
+        assertEquals(first.projectBatch(0), second.projectBatch(0));
+
+        assertNotEquals(first.applicationBatch(0), dataset(8).applicationBatch(0));
+    }
+
+    @Test
+    void generatedDataIsConsistent() {
+        SyntheticDataset dataset = dataset(42);
+        List<Employee> employees = all(dataset.employeeBatches(), dataset::employeeBatch);
+        List<Project> projects = all(dataset.projectBatches(), dataset::projectBatch);
+        List<Application> applications = all(dataset.applicationBatches(), dataset::applicationBatch);
+
+        assertEquals(300, employees.size());
+        assertEquals(40, projects.size());
+        assertEquals(2000, applications.size());
+        assertEquals(300, employees.stream().map(Employee::getUsername).distinct().count());
+        assertEquals(300, employees.stream().map(Employee::getEmail).distinct().count());
+        assertEquals(2000, applications.stream().map(Application::getApplicationId).distinct().count());
+        assertEquals(2000, applications.stream().map(Application::getId).distinct().count());
+
+        // Every supervisor is a department head of the employee's department
+        Map<Integer, Employee> byEmployeeId = employees.stream()
+                .collect(Collectors.toMap(Employee::getEmployeeId, employee -> employee));
+        employees.stream().filter(employee -> employee.getSupervisorId() != null).forEach(employee -> {
+            Employee head = byEmployeeId.get(employee.getSupervisorId());
+            assertEquals(Role.DEPARTMENT_HEAD, head.getRole());
+            assertEquals(employee.getDepartment(), head.getDepartment());
+        });
+
+        // Applications reference existing employees and roles their project really has
+        Map<String, Set<String>> rolesByProject = new HashMap<>();
+        projects.forEach(project -> rolesByProject.put(project.getProjectId(), project.getRoles().stream()
+                .map(Project.RoleRequirement::getRequiredRole)
+                .collect(Collectors.toSet())));
+        Set<ApplicationStatus> statuses = EnumSet.noneOf(ApplicationStatus.class);
+        for (Application application : applications) {
+            assertTrue(byEmployeeId.containsKey(application.getEmployeeId()));
+            assertTrue(rolesByProject.get(application.getProjectId()).contains(application.getProjectRole()));
+            statuses.add(application.getCurrentStatus());
+        }
+        assertEquals(8, statuses.size());
+
+        // One application per employee, project and role, like the apply and suggest workflow
+        assertEquals(2000, applications.stream()
+                .map(application -> application.getEmployeeId() + "/" + application.getProjectId() + "/"
+                        + application.getProjectRole())
+                .distinct()
+                .count());
+
+        // No role has more COMPLETED (assigned) applications than employees it needs
+        Map<String, Long> completedByRole = applications.stream()
+                .filter(application -> application.getCurrentStatus() == ApplicationStatus.COMPLETED)
+                .collect(Collectors.groupingBy(
+                        application -> application.getProjectId() + "/" + application.getProjectRole(),
+                        Collectors.counting()));
+        projects.forEach(project -> project.getRoles().forEach(role -> assertTrue(
+                completedByRole.getOrDefault(project.getProjectId() + "/" + role.getRequiredRole(), 0L)
+                        <= Integer.parseInt(role.getNumberOfEmployees()))));
+
+        // Popular projects still attract most applications
+        Map<String, Long> perProject = applications.stream()
+                .collect(Collectors.groupingBy(Application::getProjectId, Collectors.counting()));
+        assertTrue(perProject.get(SyntheticDataset.projectIdOf(0)) > perProject.get(SyntheticDataset.projectIdOf(39)));
+    }
+
+    @Test
+    void applicationsAreUniqueWhenProjectsAreCrowded() {
+        // 291 applicants, 1 project with 1-4 roles: the project is filled up role by role
+        SyntheticDataset dataset = new SyntheticDataset(3, 300, 1, 250, 64, "{noop}datagen123", GENERATED_AT);
+        List<Application> applications = all(dataset.applicationBatches(), dataset::applicationBatch);
+
+        assertEquals(250, applications.stream()
+                .map(application -> application.getEmployeeId() + "/" + application.getProjectRole())
+                .distinct()
+                .count());
+    }
+
+    private static SyntheticDataset dataset(long seed) {
+        return new SyntheticDataset(seed, 300, 40, 2000, 128, "{noop}datagen123", GENERATED_AT);
+    }
+
+    private static <T> List<T> all(int batches, IntFunction<List<T>> batch) {
+        List<T> result = new ArrayList<>();
+        IntStream.range(0, batches).forEach(i -> result.addAll(batch.apply(i)));
+        return result;
+    }
+}